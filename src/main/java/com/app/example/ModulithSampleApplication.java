@@ -28,7 +28,7 @@ import org.springframework.scheduling.annotation.EnableAsync;
 @EnableAsync
 @Modulithic(systemName = "Sellers")
 @SpringBootApplication
-//@ConfigurationPropertiesScan
+@ConfigurationPropertiesScan
 public class ModulithSampleApplication {
 
     /**
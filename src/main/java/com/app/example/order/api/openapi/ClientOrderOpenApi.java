@@ -0,0 +1,48 @@
+package com.app.example.order.api.openapi;
+
+import com.app.example.order.domain.dto.ListClientOrdersDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import reactor.core.publisher.Flux;
+
+import java.util.UUID;
+
+@Tag(
+        name = "Pedido API",
+        description = "Operações relacionadas a pedidos"
+)
+public interface ClientOrderOpenApi {
+
+    @Operation(
+            summary = "Listar o histórico de pedidos de um cliente",
+            description = "Lista os pedidos do cliente do mais recente para o mais antigo. Cada pedido traz um cursor; "
+                    + "para obter a página seguinte, informe em 'after' o cursor do último pedido recebido",
+            operationId = "listClientOrders",
+            tags = {"Pedido API"},
+            parameters = {
+                    @Parameter(name = "clientId", description = "ID do cliente", required = true),
+                    @Parameter(name = "after", description = "Cursor do último pedido recebido; ausente na primeira página"),
+                    @Parameter(name = "limit", description = "Quantidade máxima de pedidos da página (padrão 20, máximo 100)")
+            },
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Pedidos da página",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    array = @ArraySchema(schema = @Schema(implementation = ListClientOrdersDTO.Response.class))
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Cursor inválido"
+                    )
+            }
+    )
+    Flux<ListClientOrdersDTO.Response> list(UUID clientId, String after, int limit);
+}
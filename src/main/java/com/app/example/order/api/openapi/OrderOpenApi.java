@@ -1,17 +1,23 @@
 package com.app.example.order.api.openapi;
 
+import com.app.example.order.domain.dto.BulkOrderStatusDTO;
 import com.app.example.order.domain.dto.CancelOrderDTO;
 import com.app.example.order.domain.dto.CreateOrderDTO;
+import com.app.example.order.domain.dto.FindOrderDetailDTO;
 import com.app.example.order.domain.dto.MarkOrderAsPaidDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.UUID;
+
 @Tag(
         name = "Pedido API",
         description = "Operações relacionadas a pedidos"
@@ -48,6 +54,35 @@ public interface OrderOpenApi {
     )
     Mono<CreateOrderDTO.Response> create(CreateOrderDTO.Request request);
 
+    @Operation(
+            summary = "Consultar um pedido",
+            description = "Retorna o pedido com os seus itens, lidos em uma única consulta",
+            operationId = "findOrderDetail",
+            tags = {"Pedido API"},
+            parameters = {
+                    @Parameter(
+                            name = "id",
+                            description = "ID do pedido",
+                            required = true
+                    )
+            },
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Pedido encontrado",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = FindOrderDetailDTO.Response.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "404",
+                            description = "Pedido não encontrado"
+                    )
+            }
+    )
+    Mono<FindOrderDetailDTO.Response> findDetail(UUID id);
+
     @Operation(
             summary = "Cancelar um pedido",
             description = "Cancela um pedido com base no ID fornecido",
@@ -72,6 +107,10 @@ public interface OrderOpenApi {
                     @ApiResponse(
                             responseCode = "404",
                             description = "Pedido não encontrado"
+                    ),
+                    @ApiResponse(
+                            responseCode = "409",
+                            description = "O status atual do pedido não permite a operação"
                     )
             }
     )
@@ -101,8 +140,96 @@ public interface OrderOpenApi {
                     @ApiResponse(
                             responseCode = "404",
                             description = "Pedido não encontrado"
+                    ),
+                    @ApiResponse(
+                            responseCode = "409",
+                            description = "O status atual do pedido não permite a operação"
                     )
             }
     )
     Mono<MarkOrderAsPaidDTO.Response> markAsPaid(String id);
-}
\ No newline at end of file
+
+    @Operation(
+            summary = "Enviar pedidos em lote",
+            description = "Marca como enviados todos os pedidos informados que estejam pagos, processando os IDs em lotes",
+            operationId = "shipOrders",
+            tags = {"Pedido API"},
+            requestBody = @RequestBody(
+                    description = "IDs dos pedidos, como array JSON ou NDJSON (um ID por linha)",
+                    required = true,
+                    content = {
+                            @Content(
+                                    mediaType = "application/json",
+                                    array = @ArraySchema(schema = @Schema(implementation = UUID.class))
+                            ),
+                            @Content(
+                                    mediaType = "application/x-ndjson",
+                                    schema = @Schema(implementation = UUID.class)
+                            )
+                    }
+            ),
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Resultado de cada pedido: TRANSITIONED, WRONG_STATE ou NOT_FOUND",
+                            content = {
+                                    @Content(
+                                            mediaType = "application/json",
+                                            array = @ArraySchema(schema = @Schema(implementation = BulkOrderStatusDTO.Response.class))
+                                    ),
+                                    @Content(
+                                            mediaType = "application/x-ndjson",
+                                            schema = @Schema(implementation = BulkOrderStatusDTO.Response.class)
+                                    )
+                            }
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Algum dos IDs informados não é um UUID válido"
+                    )
+            }
+    )
+    Flux<BulkOrderStatusDTO.Response> shipAll(Flux<UUID> orderIds);
+
+    @Operation(
+            summary = "Cancelar pedidos em lote",
+            description = "Cancela todos os pedidos informados que estejam pendentes ou pagos, processando os IDs em lotes",
+            operationId = "cancelOrders",
+            tags = {"Pedido API"},
+            requestBody = @RequestBody(
+                    description = "IDs dos pedidos, como array JSON ou NDJSON (um ID por linha)",
+                    required = true,
+                    content = {
+                            @Content(
+                                    mediaType = "application/json",
+                                    array = @ArraySchema(schema = @Schema(implementation = UUID.class))
+                            ),
+                            @Content(
+                                    mediaType = "application/x-ndjson",
+                                    schema = @Schema(implementation = UUID.class)
+                            )
+                    }
+            ),
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Resultado de cada pedido: TRANSITIONED, WRONG_STATE ou NOT_FOUND",
+                            content = {
+                                    @Content(
+                                            mediaType = "application/json",
+                                            array = @ArraySchema(schema = @Schema(implementation = BulkOrderStatusDTO.Response.class))
+                                    ),
+                                    @Content(
+                                            mediaType = "application/x-ndjson",
+                                            schema = @Schema(implementation = BulkOrderStatusDTO.Response.class)
+                                    )
+                            }
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Algum dos IDs informados não é um UUID válido"
+                    )
+            }
+    )
+    Flux<BulkOrderStatusDTO.Response> cancelAll(Flux<UUID> orderIds);
+}
@@ -0,0 +1,41 @@
+package com.app.example.order.api.resource;
+
+import com.app.example.order.api.openapi.ClientOrderOpenApi;
+import com.app.example.order.application.ppi.OrderPort;
+import com.app.example.order.domain.dto.ListClientOrdersDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+
+import java.util.UUID;
+
+/**
+ * Controlador REST para a consulta dos pedidos de um cliente.
+ * <p>
+ * Expõe o histórico de pedidos do cliente com paginação por cursor.
+ * </p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@RestController
+@RequestMapping("/api/clients/{clientId}/orders")
+@RequiredArgsConstructor
+public class ClientOrderResource implements ClientOrderOpenApi {
+
+    private final OrderPort orderPort;
+
+    /**
+     * Lista uma página do histórico de pedidos do cliente, do mais recente para o mais antigo.
+     *
+     * @param clientId identificador do cliente
+     * @param after    cursor do último pedido recebido; ausente na primeira página
+     * @param limit    quantidade máxima de pedidos da página
+     * @return pedidos da página, cada um com o seu cursor
+     */
+    @GetMapping
+    public Flux<ListClientOrdersDTO.Response> list(@PathVariable UUID clientId,
+                                                   @RequestParam(required = false) String after,
+                                                   @RequestParam(defaultValue = "20") int limit) {
+        return orderPort.listClientOrders(new ListClientOrdersDTO.Request(clientId, after, limit));
+    }
+}
@@ -2,19 +2,26 @@ package com.app.example.order.api.resource;
 
 import com.app.example.order.api.openapi.OrderOpenApi;
 import com.app.example.order.application.ppi.OrderPort;
+import com.app.example.order.domain.dto.BulkOrderStatusDTO;
 import com.app.example.order.domain.dto.CancelOrderDTO;
 import com.app.example.order.domain.dto.CreateOrderDTO;
+import com.app.example.order.domain.dto.FindOrderDetailDTO;
 import com.app.example.order.domain.dto.MarkOrderAsPaidDTO;
 import com.app.example.order.domain.dto.ShipOrderDTO;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.UUID;
+
 /**
  * Controlador REST para operações relacionadas a pedidos (orders).
  * <p>
- * Expõe endpoints para criação, cancelamento, pagamento e envio de pedidos.
+ * Expõe endpoints para criação, consulta, cancelamento, pagamento e envio de pedidos, além do envio
+ * e do cancelamento de pedidos em lote.
  * </p>
  *
  * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
@@ -37,6 +44,17 @@ public class OrderResource implements OrderOpenApi {
         return orderPort.createOrder(request);
     }
 
+    /**
+     * Consulta um pedido com os seus itens.
+     *
+     * @param id identificador único do pedido
+     * @return pedido com os seus itens
+     */
+    @GetMapping("/{id}")
+    public Mono<FindOrderDetailDTO.Response> findDetail(@PathVariable UUID id) {
+        return orderPort.findDetailById(new FindOrderDetailDTO.Request(id));
+    }
+
     /**
      * Cancela um pedido existente com base no ID fornecido.
      *
@@ -69,4 +87,38 @@ public class OrderResource implements OrderOpenApi {
     public Mono<ShipOrderDTO.Response> ship(@PathVariable String id) {
         return orderPort.shipOrder(id);
     }
+
+    /**
+     * Marca como enviados todos os pedidos informados.
+     * <p>
+     * Os IDs podem ser enviados como array JSON ou como NDJSON (um ID por linha). A resposta contém um resultado
+     * por pedido e, com {@code Accept: application/x-ndjson}, é transmitida à medida que cada lote é processado.
+     * </p>
+     *
+     * @param orderIds identificadores dos pedidos
+     * @return resultado de cada pedido
+     */
+    @PostMapping(value = "/bulk/ship",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE},
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<BulkOrderStatusDTO.Response> shipAll(@RequestBody Flux<UUID> orderIds) {
+        return orderPort.shipOrders(orderIds);
+    }
+
+    /**
+     * Cancela todos os pedidos informados.
+     * <p>
+     * Os IDs podem ser enviados como array JSON ou como NDJSON (um ID por linha). A resposta contém um resultado
+     * por pedido e, com {@code Accept: application/x-ndjson}, é transmitida à medida que cada lote é processado.
+     * </p>
+     *
+     * @param orderIds identificadores dos pedidos
+     * @return resultado de cada pedido
+     */
+    @PostMapping(value = "/bulk/cancel",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE},
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<BulkOrderStatusDTO.Response> cancelAll(@RequestBody Flux<UUID> orderIds) {
+        return orderPort.cancelOrders(orderIds);
+    }
 }
@@ -0,0 +1,44 @@
+package com.app.example.order.application.command;
+
+import com.app.example.order.domain.enums.OrderStatusEnum;
+import com.app.example.order.domain.enums.OrderTransitionOutcomeEnum;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Comando de entrada e saída para o caso de uso de transição de status de pedidos em lote.
+ * <p>
+ * A entrada ({@link Input}) corresponde a um lote de IDs que será processado em uma única instrução;
+ * a saída ({@link Output}) é o resultado de um dos pedidos do lote.
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+public sealed interface BulkOrderStatusCommand extends Serializable
+        permits BulkOrderStatusCommand.Input, BulkOrderStatusCommand.Output {
+
+    /**
+     * Dados de entrada para a transição de status em lote.
+     *
+     * @param orderIds     Identificadores dos pedidos do lote.
+     * @param targetStatus Status para o qual os pedidos devem passar.
+     */
+    record Input(
+            List<UUID> orderIds,
+            OrderStatusEnum targetStatus
+    ) implements BulkOrderStatusCommand {}
+
+    /**
+     * Resultado da transição de status de um pedido.
+     *
+     * @param orderId Identificador do pedido.
+     * @param outcome Resultado da transição.
+     * @param status  Status do pedido após a operação; nulo se o pedido não existir.
+     */
+    record Output(
+            UUID orderId,
+            OrderTransitionOutcomeEnum outcome,
+            String status
+    ) implements BulkOrderStatusCommand {}
+}
@@ -0,0 +1,62 @@
+package com.app.example.order.application.command;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Comando de entrada e saída para o caso de uso de consulta do detalhe de um pedido, com os seus itens.
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+public sealed interface FindOrderDetailCommand extends Serializable
+        permits FindOrderDetailCommand.Input, FindOrderDetailCommand.Output {
+
+    /**
+     * Dados de entrada para a consulta do detalhe do pedido.
+     *
+     * @param orderId Identificador do pedido.
+     */
+    record Input(
+            UUID orderId
+    ) implements FindOrderDetailCommand {}
+
+    /**
+     * Detalhe do pedido.
+     *
+     * @param id          Identificador do pedido.
+     * @param clientId    Identificador do cliente.
+     * @param totalAmount Valor total do pedido.
+     * @param status      Status atual do pedido.
+     * @param createdAt   Data e hora de criação do pedido.
+     * @param items       Itens do pedido.
+     */
+    record Output(
+            UUID id,
+            UUID clientId,
+            BigDecimal totalAmount,
+            String status,
+            LocalDateTime createdAt,
+            List<Item> items
+    ) implements FindOrderDetailCommand {
+
+        /**
+         * Item do pedido.
+         *
+         * @param productId   Identificador do produto.
+         * @param productName Nome do produto no momento da compra.
+         * @param quantity    Quantidade comprada.
+         * @param unitPrice   Preço unitário no momento da compra.
+         * @param totalPrice  Valor total do item.
+         */
+        public record Item(
+                UUID productId,
+                String productName,
+                Integer quantity,
+                BigDecimal unitPrice,
+                BigDecimal totalPrice
+        ) {}
+    }
+}
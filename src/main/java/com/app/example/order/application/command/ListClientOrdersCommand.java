@@ -0,0 +1,48 @@
+package com.app.example.order.application.command;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Comando de entrada e saída para o caso de uso de listagem do histórico de pedidos de um cliente.
+ * <p>
+ * Define os dados de entrada ({@link Input}) de uma página do histórico e os dados de saída ({@link Output})
+ * de cada pedido da página.
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+public sealed interface ListClientOrdersCommand extends Serializable
+        permits ListClientOrdersCommand.Input, ListClientOrdersCommand.Output {
+
+    /**
+     * Dados de entrada para a listagem de uma página do histórico.
+     *
+     * @param clientId Identificador do cliente.
+     * @param after    Cursor do último pedido da página anterior; nulo para a primeira página.
+     * @param limit    Quantidade máxima de pedidos da página.
+     */
+    record Input(
+            UUID clientId,
+            String after,
+            int limit
+    ) implements ListClientOrdersCommand {}
+
+    /**
+     * Pedido do histórico do cliente.
+     *
+     * @param id          Identificador do pedido.
+     * @param totalAmount Valor total do pedido.
+     * @param status      Status atual do pedido.
+     * @param createdAt   Data e hora de criação do pedido.
+     * @param cursor      Cursor a ser informado para obter os pedidos seguintes a este.
+     */
+    record Output(
+            UUID id,
+            BigDecimal totalAmount,
+            String status,
+            LocalDateTime createdAt,
+            String cursor
+    ) implements ListClientOrdersCommand {}
+}
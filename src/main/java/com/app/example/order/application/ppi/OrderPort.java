@@ -1,8 +1,11 @@
 package com.app.example.order.application.ppi;
 
 import com.app.example.order.domain.dto.*;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.UUID;
+
 /**
  * Porta de saída (interface de driver) para operações relacionadas a pedidos.
  * <p>
@@ -57,4 +60,36 @@ public interface OrderPort {
      * @return Um {@link Mono} contendo os dados do pedido, se encontrado.
      */
     Mono<FindByIdDTO.Response> findById(FindByIdDTO.Request request);
+
+    /**
+     * Recupera um pedido com os seus itens.
+     *
+     * @param request Objeto contendo o identificador do pedido a ser recuperado.
+     * @return Um {@link Mono} contendo o pedido e os seus itens, se encontrado.
+     */
+    Mono<FindOrderDetailDTO.Response> findDetailById(FindOrderDetailDTO.Request request);
+
+    /**
+     * Expede todos os pedidos informados, processando os IDs em lotes à medida que chegam.
+     *
+     * @param orderIds Identificadores dos pedidos a serem expedidos.
+     * @return Um {@link Flux} com o resultado de cada pedido.
+     */
+    Flux<BulkOrderStatusDTO.Response> shipOrders(Flux<UUID> orderIds);
+
+    /**
+     * Cancela todos os pedidos informados, processando os IDs em lotes à medida que chegam.
+     *
+     * @param orderIds Identificadores dos pedidos a serem cancelados.
+     * @return Um {@link Flux} com o resultado de cada pedido.
+     */
+    Flux<BulkOrderStatusDTO.Response> cancelOrders(Flux<UUID> orderIds);
+
+    /**
+     * Lista uma página do histórico de pedidos de um cliente, do mais recente para o mais antigo.
+     *
+     * @param request Objeto contendo o cliente, o cursor da página anterior e o tamanho da página.
+     * @return Um {@link Flux} com os pedidos da página.
+     */
+    Flux<ListClientOrdersDTO.Response> listClientOrders(ListClientOrdersDTO.Request request);
 }
\ No newline at end of file
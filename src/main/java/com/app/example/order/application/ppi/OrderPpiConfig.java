@@ -2,14 +2,19 @@ package com.app.example.order.application.ppi;
 
 import com.app.example.order.application.command.*;
 import com.app.example.order.domain.dto.*;
+import com.app.example.order.domain.enums.OrderStatusEnum;
+import com.app.example.order.infra.config.OrderBulkProperties;
 import com.app.example.order.mapper.*;
 import com.app.example.shared.usecase.IUseCase;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.UUID;
+
 /**
  * Configuração do PPI (Primary Port Interface) para o processamento de pedidos.
  * <p>
@@ -34,7 +39,7 @@ public class OrderPpiConfig {
      * Este método mapeia os dados de entrada do DTO para o formato de entrada de comando adequado, executa o caso de uso correspondente e mapeia
      * a saída de volta para o formato de DTO para a resposta.
      *
-     * @param createOrderuseCase Caso de uso para criar um pedido.
+     * @param createOrderuseCase Caso de uso para criar um pedido (estágio de entrada, que agrupa os pedidos em lote quando habilitado).
      * @param createOrderMapper Mapper para converter entre DTO e comandos de criação de pedido.
      * @param cancelOrderUseCase Caso de uso para cancelar um pedido.
      * @param cancelOrderMapper Mapper para converter entre DTO e comandos de cancelamento de pedido.
@@ -42,10 +47,17 @@ public class OrderPpiConfig {
      * @param markOrderAsPaidMapper Mapper para converter entre DTO e comandos de pagamento de pedido.
      * @param shipOrderUseCase Caso de uso para enviar um pedido.
      * @param shipOrderMapper Mapper para converter entre DTO e comandos de envio de pedido.
+     * @param bulkOrderStatusUseCase Caso de uso para alterar o status de um lote de pedidos.
+     * @param bulkOrderStatusMapper Mapper para converter entre DTO e comandos das operações em lote.
+     * @param orderBulkProperties Propriedades das operações em lote, como o tamanho de cada lote.
+     * @param listClientOrdersUseCase Caso de uso para listar o histórico de pedidos de um cliente.
+     * @param listClientOrdersMapper Mapper para converter entre DTO e comandos da listagem do histórico.
+     * @param findOrderDetailUseCase Caso de uso para consultar um pedido com os seus itens.
+     * @param findOrderDetailMapper Mapper para converter entre DTO e comandos da consulta do detalhe do pedido.
      * @return A implementação do {@link OrderPort} com a execução dos casos de uso.
      */
     @Bean("orderPort")
-    public OrderPort orderPort(@Qualifier("createOrderUseCase") IUseCase<CreateOrderCommand.Input, Mono<CreateOrderCommand.Output>> createOrderuseCase,
+    public OrderPort orderPort(@Qualifier("orderIntakeUseCase") IUseCase<CreateOrderCommand.Input, Mono<CreateOrderCommand.Output>> createOrderuseCase,
                               CreateOrderMapper createOrderMapper,
                               @Qualifier("cancelOrderUseCase") IUseCase<CancelOrderCommand.Input, Mono<CancelOrderCommand.Output>> cancelOrderUseCase,
                               CancelOrderMapper cancelOrderMapper,
@@ -54,7 +66,14 @@ public class OrderPpiConfig {
                               @Qualifier("shipOrderUseCase") IUseCase<ShipOrderCommand.Input, Mono<ShipOrderCommand.Output>> shipOrderUseCase,
                               ShipOrderMapper shipOrderMapper,
                               @Qualifier("findByIdUseCase") IUseCase<FindByIdCommand.Input, Mono<FindByIdCommand.Output>> findByIdUseCase,
-                              FindByIdMapper findByIdMapper) {
+                              FindByIdMapper findByIdMapper,
+                              @Qualifier("bulkOrderStatusUseCase") IUseCase<BulkOrderStatusCommand.Input, Flux<BulkOrderStatusCommand.Output>> bulkOrderStatusUseCase,
+                              BulkOrderStatusMapper bulkOrderStatusMapper,
+                              OrderBulkProperties orderBulkProperties,
+                              @Qualifier("listClientOrdersUseCase") IUseCase<ListClientOrdersCommand.Input, Flux<ListClientOrdersCommand.Output>> listClientOrdersUseCase,
+                              ListClientOrdersMapper listClientOrdersMapper,
+                              @Qualifier("findOrderDetailUseCase") IUseCase<FindOrderDetailCommand.Input, Mono<FindOrderDetailCommand.Output>> findOrderDetailUseCase,
+                              FindOrderDetailMapper findOrderDetailMapper) {
 
         return new OrderPort() {
 
@@ -129,6 +148,71 @@ public class OrderPpiConfig {
                 FindByIdCommand.Input input = findByIdMapper.toInput(request);
                 return findByIdUseCase.execute(input).map(findByIdMapper::toResponse);
             }
+
+            /**
+             * Recupera um pedido com os seus itens.
+             *
+             * @param request Objeto contendo o identificador do pedido a ser recuperado.
+             * @return Um {@link Mono} contendo o pedido e os seus itens, se encontrado.
+             */
+            @Override
+            public Mono<FindOrderDetailDTO.Response> findDetailById(FindOrderDetailDTO.Request request) {
+                FindOrderDetailCommand.Input input = findOrderDetailMapper.toInput(request);
+                return findOrderDetailUseCase.execute(input).map(findOrderDetailMapper::toResponse);
+            }
+
+            /**
+             * Envia um lote de pedidos.
+             *
+             * Os IDs são agrupados em lotes de {@code app.order.bulk.chunk-size} à medida que chegam, e cada lote
+             * é enviado em uma única instrução.
+             *
+             * @param orderIds Identificadores dos pedidos a serem enviados.
+             * @return Resultado de cada pedido.
+             */
+            @Override
+            public Flux<BulkOrderStatusDTO.Response> shipOrders(Flux<UUID> orderIds) {
+                return changeStatus(orderIds, OrderStatusEnum.SHIPPED);
+            }
+
+            /**
+             * Cancela um lote de pedidos.
+             *
+             * Os IDs são agrupados em lotes de {@code app.order.bulk.chunk-size} à medida que chegam, e cada lote
+             * é cancelado em uma única instrução.
+             *
+             * @param orderIds Identificadores dos pedidos a serem cancelados.
+             * @return Resultado de cada pedido.
+             */
+            @Override
+            public Flux<BulkOrderStatusDTO.Response> cancelOrders(Flux<UUID> orderIds) {
+                return changeStatus(orderIds, OrderStatusEnum.CANCELED);
+            }
+
+            /**
+             * Lista uma página do histórico de pedidos de um cliente.
+             *
+             * @param request Objeto contendo o cliente, o cursor da página anterior e o tamanho da página.
+             * @return Pedidos da página.
+             */
+            @Override
+            public Flux<ListClientOrdersDTO.Response> listClientOrders(ListClientOrdersDTO.Request request) {
+                ListClientOrdersCommand.Input input = listClientOrdersMapper.toInput(request);
+                return listClientOrdersUseCase.execute(input).map(listClientOrdersMapper::toResponse);
+            }
+
+            /**
+             * Aplica a transição de status aos pedidos, um lote de cada vez, na ordem de chegada.
+             *
+             * @param orderIds     Identificadores dos pedidos.
+             * @param targetStatus Status de destino.
+             * @return Resultado de cada pedido.
+             */
+            private Flux<BulkOrderStatusDTO.Response> changeStatus(Flux<UUID> orderIds, OrderStatusEnum targetStatus) {
+                return orderIds.buffer(orderBulkProperties.chunkSize())
+                        .concatMap(chunk -> bulkOrderStatusUseCase.execute(bulkOrderStatusMapper.toInput(chunk, targetStatus)))
+                        .map(bulkOrderStatusMapper::toResponse);
+            }
         };
     }
 }
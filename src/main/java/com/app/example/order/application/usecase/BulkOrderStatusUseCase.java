@@ -0,0 +1,102 @@
+package com.app.example.order.application.usecase;
+
+import com.app.example.order.application.command.BulkOrderStatusCommand;
+import com.app.example.order.domain.enums.OrderStatusEnum;
+import com.app.example.order.domain.enums.OrderTransitionOutcomeEnum;
+import com.app.example.order.domain.event.OrderShipped;
+import com.app.example.order.infra.cache.OrderSummaryCache;
+import com.app.example.order.infra.repository.OrderRepository;
+import com.app.example.order.mapper.BulkOrderStatusMapper;
+import com.app.example.product.application.ppi.ProductPort;
+import com.app.example.product.domain.dto.RestoreStockDTO;
+import com.app.example.shared.usecase.IUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Caso de uso responsável pela transição de status de um lote de pedidos.
+ * <p>
+ * Todos os pedidos do lote são alterados por uma única instrução
+ * ({@link OrderRepository#transitionStatusAll(List, String, String[])}), respeitando a tabela de transições de
+ * {@link OrderStatusEnum}. Cada pedido recebe o seu próprio resultado: {@code TRANSITIONED}, {@code WRONG_STATE}
+ * ou {@code NOT_FOUND}. Um pedido com status inválido não impede a transição dos demais.
+ * </p>
+ * <p>
+ * No envio, o evento {@link OrderShipped} é publicado para cada pedido enviado. No cancelamento, os itens de
+ * todos os pedidos cancelados do lote são devolvidos ao estoque com uma única chamada a
+ * {@link ProductPort#restoreStock(RestoreStockDTO.Request)}, na mesma transação da alteração de status.
+ * Após a confirmação, os pedidos alterados são removidos do {@link OrderSummaryCache}.
+ * </p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Qualifier("bulkOrderStatusUseCase")
+public class BulkOrderStatusUseCase implements IUseCase<BulkOrderStatusCommand.Input, Flux<BulkOrderStatusCommand.Output>> {
+
+    private final OrderRepository orderRepository;
+    private final OrderSummaryCache orderSummaryCache;
+    private final BulkOrderStatusMapper bulkOrderStatusMapper;
+    private final ApplicationEventPublisher publisher;
+    private final ProductPort productPort;
+    private final TransactionalOperator transactionalOperator;
+
+    /**
+     * Executa a transição de status para todos os pedidos do lote.
+     *
+     * @param input IDs dos pedidos do lote e status de destino.
+     * @return Fluxo com o resultado de cada pedido distinto do lote, na ordem em que foram informados.
+     */
+    @Override
+    public Flux<BulkOrderStatusCommand.Output> execute(BulkOrderStatusCommand.Input input) {
+        OrderStatusEnum target = input.targetStatus();
+        log.info("Iniciando transição de {} pedidos para o status {}", input.orderIds().size(), target);
+
+        return orderRepository.transitionStatusAll(input.orderIds(), target.name(), target.allowedFromNames())
+                .map(bulkOrderStatusMapper::toOutput)
+                .collectList()
+                .flatMap(outputs -> {
+                    List<UUID> transitioned = transitioned(outputs);
+                    if (target == OrderStatusEnum.SHIPPED) {
+                        transitioned.forEach(orderId -> publisher.publishEvent(new OrderShipped(orderId)));
+                    }
+                    if (target != OrderStatusEnum.CANCELED || transitioned.isEmpty()) {
+                        return Mono.just(outputs);
+                    }
+                    // Devolve ao estoque os itens de todos os pedidos cancelados do lote em uma única instrução
+                    return productPort.restoreStock(new RestoreStockDTO.Request(transitioned.stream().map(UUID::toString).toList()))
+                            .thenReturn(outputs);
+                })
+                .as(transactionalOperator::transactional)
+                .doOnNext(outputs -> {
+                    List<UUID> transitioned = transitioned(outputs);
+                    orderSummaryCache.evictAll(transitioned);
+                    log.info("Lote concluído: {} de {} pedidos passaram para o status {}", transitioned.size(), outputs.size(), target);
+                })
+                .flatMapIterable(outputs -> outputs);
+    }
+
+    /**
+     * Seleciona os pedidos do lote cujo status foi alterado.
+     *
+     * @param outputs resultados do lote.
+     * @return IDs dos pedidos com resultado {@code TRANSITIONED}.
+     */
+    private static List<UUID> transitioned(List<BulkOrderStatusCommand.Output> outputs) {
+        return outputs.stream()
+                .filter(output -> output.outcome() == OrderTransitionOutcomeEnum.TRANSITIONED)
+                .map(BulkOrderStatusCommand.Output::orderId)
+                .toList();
+    }
+}
@@ -1,9 +1,11 @@
 package com.app.example.order.application.usecase;
 
 import com.app.example.order.application.command.CancelOrderCommand;
+import com.app.example.order.application.usecase.helper.OrderStatusTransitionEngine;
 import com.app.example.order.domain.enums.OrderStatusEnum;
-import com.app.example.order.infra.repository.OrderRepository;
-import com.app.example.shared.exception.ProductNotFoundException;
+import com.app.example.product.application.ppi.ProductPort;
+import com.app.example.product.domain.dto.RestoreStockDTO;
+import com.app.example.shared.aop.ReactiveTransactional;
 import com.app.example.shared.usecase.IUseCase;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -11,6 +13,7 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -22,6 +25,10 @@ import java.util.UUID;
  * <p>
  * O método {@link #execute(CancelOrderCommand.Input)} é responsável por realizar a execução do processo
  * de cancelamento de um pedido, retornando a saída necessária para o fluxo do sistema.
+ * O cancelamento é permitido a partir de {@code PENDING} ou {@code PAID} e é aplicado pelo
+ * {@link OrderStatusTransitionEngine} em uma única instrução. Na mesma transação, os itens do pedido são
+ * devolvidos ao estoque por {@link ProductPort#restoreStock(RestoreStockDTO.Request)}, apenas se o status
+ * tiver sido de fato alterado.
  *
  * <p><b>Exemplo de uso:</b></p>
  * <pre>{@code
@@ -37,7 +44,8 @@ import java.util.UUID;
 @Qualifier("cancelOrderUseCase")
 public class CancelOrderUseCase implements IUseCase<CancelOrderCommand.Input, Mono<CancelOrderCommand.Output>> {
 
-    private final OrderRepository orderRepository;
+    private final OrderStatusTransitionEngine orderStatusTransitionEngine;
+    private final ProductPort productPort;
 
     /**
      * Executa o caso de uso de cancelamento de pedido.
@@ -50,16 +58,13 @@ public class CancelOrderUseCase implements IUseCase<CancelOrderCommand.Input, Mo
      * @return Retorna um Mono com a saída do comando de cancelamento do pedido.
      */
     @Override
+    @ReactiveTransactional
     public Mono<CancelOrderCommand.Output> execute(CancelOrderCommand.Input input) {
-        return orderRepository.findById(UUID.fromString(input.orderId()))
-                .switchIfEmpty(Mono.defer(() -> {
-                    log.warn("Pedido com ID {} não encontrado", input.orderId());
-                    return Mono.error(new ProductNotFoundException("Pedido não encontrado com o id: " + input.orderId()));
-                }))
-                .map(orderCancel -> {
-                    orderCancel.setStatus(OrderStatusEnum.CANCELED.name());
-                    return orderRepository.save(orderCancel);
-                })
+        UUID orderId = UUID.fromString(input.orderId());
+
+        return orderStatusTransitionEngine.transition(orderId, OrderStatusEnum.CANCELED)
+                .flatMap(canceled -> productPort.restoreStock(new RestoreStockDTO.Request(List.of(input.orderId()))))
+                .doOnNext(restored -> log.info("Pedido {} cancelado. Estoque devolvido para {} produtos", orderId, restored.products().size()))
                 .thenReturn(new CancelOrderCommand.Output(input.orderId(), "Pedido cancelado com sucesso"));
     }
 }
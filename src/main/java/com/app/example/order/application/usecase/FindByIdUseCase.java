@@ -1,6 +1,7 @@
 package com.app.example.order.application.usecase;
 
 import com.app.example.order.application.command.FindByIdCommand;
+import com.app.example.order.infra.cache.OrderSummaryCache;
 import com.app.example.order.infra.repository.OrderRepository;
 import com.app.example.order.mapper.FindByIdMapper;
 import com.app.example.shared.exception.OrderNotFoundException;
@@ -17,15 +18,20 @@ import reactor.core.publisher.Mono;
  * Executa a lógica de recuperação de um pedido a partir do repositório
  * e transforma os dados para a saída esperada pelo cliente.
  * </p>
+ * <p>
+ * A leitura passa pelo {@link OrderSummaryCache}: apenas a primeira consulta de cada pedido, ou a primeira
+ * após a expiração da entrada, vai ao banco de dados.
+ * </p>
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
-@Qualifier("cancelOrderUseCase")
+@Qualifier("findByIdUseCase")
 public class FindByIdUseCase implements IUseCase<FindByIdCommand.Input, Mono<FindByIdCommand.Output>> {
 
     private final OrderRepository orderRepository;
     private final FindByIdMapper findByIdMapper;
+    private final OrderSummaryCache orderSummaryCache;
 
     /**
      * Executa a busca de um pedido pelo seu ID.
@@ -37,9 +43,9 @@ public class FindByIdUseCase implements IUseCase<FindByIdCommand.Input, Mono<Fin
     public Mono<FindByIdCommand.Output> execute(FindByIdCommand.Input input) {
         log.info("Iniciando busca de pedido com ID: {}", input.orderId());
 
-        return orderRepository.findById(input.orderId())
-                .doOnNext(order -> log.debug("Pedido encontrado: {}", order))
-                .map(findByIdMapper::toOutput)
+        return orderSummaryCache.get(input.orderId(), orderId -> orderRepository.findById(orderId)
+                        .doOnNext(order -> log.debug("Pedido carregado do banco de dados: {}", order.getId()))
+                        .map(findByIdMapper::toOutput))
                 .doOnNext(output -> log.info("Pedido mapeado para saída: {}", output))
                 .switchIfEmpty(Mono.defer(() -> {
                     log.warn("Pedido não encontrado com ID: {}", input.orderId());
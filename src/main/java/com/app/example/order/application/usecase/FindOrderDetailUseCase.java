@@ -0,0 +1,50 @@
+package com.app.example.order.application.usecase;
+
+import com.app.example.order.application.command.FindOrderDetailCommand;
+import com.app.example.order.infra.repository.OrderRepository;
+import com.app.example.order.mapper.FindOrderDetailMapper;
+import com.app.example.shared.exception.OrderNotFoundException;
+import com.app.example.shared.usecase.IUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Caso de uso para consultar o detalhe de um pedido, com os seus itens.
+ * <p>
+ * O pedido e os itens são lidos em uma única consulta com junção
+ * ({@link OrderRepository#findDetailById(java.util.UUID)}).
+ * </p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Qualifier("findOrderDetailUseCase")
+public class FindOrderDetailUseCase implements IUseCase<FindOrderDetailCommand.Input, Mono<FindOrderDetailCommand.Output>> {
+
+    private final OrderRepository orderRepository;
+    private final FindOrderDetailMapper findOrderDetailMapper;
+
+    /**
+     * Executa a consulta do detalhe do pedido.
+     *
+     * @param input objeto contendo o ID do pedido.
+     * @return {@link Mono} com o pedido e os seus itens, ou erro se o pedido não for encontrado.
+     */
+    @Override
+    public Mono<FindOrderDetailCommand.Output> execute(FindOrderDetailCommand.Input input) {
+        log.info("Iniciando consulta do detalhe do pedido com ID: {}", input.orderId());
+
+        return orderRepository.findDetailById(input.orderId())
+                .doOnNext(order -> log.debug("Pedido {} lido com {} itens", order.getId(), order.getItems().size()))
+                .map(findOrderDetailMapper::toOutput)
+                .switchIfEmpty(Mono.defer(() -> {
+                    log.warn("Pedido não encontrado com ID: {}", input.orderId());
+                    return Mono.error(new OrderNotFoundException(input.orderId()));
+                }));
+    }
+}
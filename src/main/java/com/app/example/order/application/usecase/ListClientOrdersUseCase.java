@@ -0,0 +1,57 @@
+package com.app.example.order.application.usecase;
+
+import com.app.example.order.application.command.ListClientOrdersCommand;
+import com.app.example.order.application.usecase.helper.OrderHistoryCursor;
+import com.app.example.order.infra.repository.OrderRepository;
+import com.app.example.order.mapper.ListClientOrdersMapper;
+import com.app.example.shared.usecase.IUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+/**
+ * Caso de uso para listar o histórico de pedidos de um cliente, do mais recente para o mais antigo.
+ * <p>
+ * A paginação é feita por chave ("keyset"): cada pedido retornado traz um cursor opaco, e a página seguinte
+ * é obtida informando o cursor do último pedido recebido. O tamanho da página é limitado a
+ * {@value #MAX_PAGE_SIZE} pedidos.
+ * </p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Qualifier("listClientOrdersUseCase")
+public class ListClientOrdersUseCase implements IUseCase<ListClientOrdersCommand.Input, Flux<ListClientOrdersCommand.Output>> {
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private final OrderRepository orderRepository;
+    private final ListClientOrdersMapper listClientOrdersMapper;
+
+    /**
+     * Executa a listagem de uma página do histórico de pedidos do cliente.
+     *
+     * @param input Cliente, cursor da página anterior e tamanho da página.
+     * @return Fluxo com os pedidos da página.
+     * @throws com.app.example.shared.exception.InvalidCursorException se o cursor informado não for válido.
+     */
+    @Override
+    public Flux<ListClientOrdersCommand.Output> execute(ListClientOrdersCommand.Input input) {
+        int limit = input.limit() <= 0 ? DEFAULT_PAGE_SIZE : Math.min(input.limit(), MAX_PAGE_SIZE);
+        log.info("Listando até {} pedidos do cliente {}", limit, input.clientId());
+
+        return Flux.defer(() -> {
+                    if (input.after() == null || input.after().isBlank()) {
+                        return orderRepository.findFirstPageByClientId(input.clientId(), limit);
+                    }
+                    OrderHistoryCursor cursor = OrderHistoryCursor.decode(input.after());
+                    return orderRepository.findPageByClientIdAfter(input.clientId(), cursor.createdAt(), cursor.orderId(), limit);
+                })
+                .map(listClientOrdersMapper::toOutput);
+    }
+}
@@ -1,13 +1,12 @@
 package com.app.example.order.application.usecase;
 
 import com.app.example.order.application.command.MarkOrderAsPaidCommand;
+import com.app.example.order.application.usecase.helper.OrderStatusTransitionEngine;
 import com.app.example.order.domain.enums.OrderStatusEnum;
-import com.app.example.order.infra.repository.OrderRepository;
 import com.app.example.payment.application.ppi.PaymentPort;
 import com.app.example.payment.domain.dto.GetPaymentDTO;
 import com.app.example.payment.domain.enums.PaymentStatusEnum;
 import com.app.example.shared.exception.PaymentNotApprovedException;
-import com.app.example.shared.exception.ProductNotFoundException;
 import com.app.example.shared.usecase.IUseCase;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -26,6 +25,8 @@ import java.util.UUID;
  * <p>
  * O método {@link #execute(MarkOrderAsPaidCommand.Input)} é responsável por realizar a execução do processo
  * de marcação de pagamento do pedido, retornando a saída necessária para o fluxo do sistema.
+ * O pedido só é marcado como pago se o pagamento estiver aprovado e o pedido estiver {@code PENDING};
+ * a alteração é aplicada pelo {@link OrderStatusTransitionEngine} em uma única instrução.
  *
  * <p><b>Exemplo de uso:</b></p>
  * <pre>{@code
@@ -41,8 +42,8 @@ import java.util.UUID;
 @Qualifier("markOrderAsPaidUseCase")
 public class MarkOrderAsPaidUseCase implements IUseCase<MarkOrderAsPaidCommand.Input, Mono<MarkOrderAsPaidCommand.Output>> {
 
-    private final OrderRepository orderRepository;
     private final PaymentPort paymentPort;
+    private final OrderStatusTransitionEngine orderStatusTransitionEngine;
 
     /**
      * Executa o caso de uso de marcação de pedido como pago.
@@ -59,22 +60,13 @@ public class MarkOrderAsPaidUseCase implements IUseCase<MarkOrderAsPaidCommand.I
         return paymentPort.getPaymentByOrderId(new GetPaymentDTO.Request(input.orderId()))
                 .flatMap(paymentResponse -> {
                     // Verifica se o status do pagamento é "APPROVED"
-                    if (paymentResponse.status().equals(PaymentStatusEnum.APPROVED.name())) {
+                    if (!PaymentStatusEnum.APPROVED.name().equals(paymentResponse.status())) {
                         // Lança uma exceção se o pagamento não foi aprovado
                         return Mono.error(new PaymentNotApprovedException("Pagamento não foi aprovado para o pedido: " + input.orderId()));
                     }
 
-                    // Se o pagamento foi aprovado, continua com o processamento do pedido
-                    return orderRepository.findById(UUID.fromString(input.orderId()))
-                            .switchIfEmpty(Mono.defer(() -> {
-                                log.warn("Pedido com ID {} não encontrado", input.orderId());
-                                return Mono.error(new ProductNotFoundException("Pedido não encontrado com o id: " + input.orderId()));
-                            }))
-                            .map(order -> {
-                                // Atualiza o status do pedido para "PAID"
-                                order.setStatus(OrderStatusEnum.PAID.name());
-                                return orderRepository.save(order);
-                            })
+                    // Se o pagamento foi aprovado, atualiza o status do pedido para "PAID"
+                    return orderStatusTransitionEngine.transition(UUID.fromString(input.orderId()), OrderStatusEnum.PAID)
                             .thenReturn(new MarkOrderAsPaidCommand.Output(input.orderId(), "Pedido pago com sucesso"));
                 });
     }
@@ -0,0 +1,336 @@
+package com.app.example.order.application.usecase;
+
+import com.app.example.order.application.command.CreateOrderCommand;
+import com.app.example.order.application.usecase.helper.CreateOrderHelper;
+import com.app.example.order.application.usecase.helper.CreateOrderHelper.ValidatedProduct;
+import com.app.example.order.domain.event.OrderCreated;
+import com.app.example.order.domain.po.OrderPO;
+import com.app.example.order.infra.config.OrderIntakeProperties;
+import com.app.example.order.infra.repository.OrderPersistenceAdapter;
+import com.app.example.product.application.ppi.ProductPort;
+import com.app.example.product.domain.dto.GetStocksDTO;
+import com.app.example.shared.usecase.IUseCase;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.function.Tuples;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Estágio de entrada de pedidos que agrupa criações concorrentes em lotes ("group commit").
+ * <p>
+ * Quando {@code app.order.intake.enabled=true}, os pedidos que chegam dentro de uma janela curta
+ * ({@code max-wait}) ou até o limite de {@code max-batch-size} são processados juntos:
+ * <ul>
+ *   <li>o estoque de todos os produtos do lote é consultado com uma única chamada a {@code getStocks};</li>
+ *   <li>o estoque de todas as linhas de todos os pedidos válidos é reservado com uma única chamada a {@code reserveStock};</li>
+ *   <li>os pedidos são gravados e a reserva é confirmada em uma única transação.</li>
+ * </ul>
+ * Cada chamador recebe o resultado do seu próprio pedido. Se a reserva conjunta for rejeitada, os pedidos do lote
+ * são reprocessados individualmente, na ordem de chegada, pelo {@link CreateOrderUseCase}, de modo que apenas os
+ * pedidos sem estoque falham.
+ * </p>
+ * <p>
+ * Os pedidos são enfileirados por um {@link FluxSink} serializado, que aceita chamadores concorrentes sem espera
+ * ativa. No máximo {@code queue-size} pedidos aguardam resultado ao mesmo tempo; os excedentes são rejeitados. Um
+ * pedido cujo lote não começou a ser processado em {@code queue-timeout} é retirado da fila e falha, e ao encerrar a
+ * aplicação todos os pedidos ainda sem resultado falham, de modo que nenhum chamador espera indefinidamente.
+ * </p>
+ * <p>
+ * Quando desabilitado, este caso de uso apenas delega para o {@link CreateOrderUseCase}.
+ * </p>
+ * <p>
+ * Métricas publicadas:
+ * <ul>
+ *   <li>{@code orders.intake.batch.size}: quantidade de pedidos por lote;</li>
+ *   <li>{@code orders.intake.wait}: tempo entre a chegada do pedido e o início do processamento do seu lote.</li>
+ * </ul>
+ * </p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@Slf4j
+@Component
+@Qualifier("orderIntakeUseCase")
+public class OrderIntakeUseCase implements IUseCase<CreateOrderCommand.Input, Mono<CreateOrderCommand.Output>> {
+
+    private final IUseCase<CreateOrderCommand.Input, Mono<CreateOrderCommand.Output>> createOrderUseCase;
+    private final OrderPersistenceAdapter orderPersistenceAdapter;
+    private final ProductPort productPort;
+    private final ApplicationEventPublisher publisher;
+    private final TransactionalOperator transactionalOperator;
+    private final OrderIntakeProperties properties;
+    private final DistributionSummary batchSize;
+    private final Timer waitTime;
+    private final Set<PendingOrder> outstanding = ConcurrentHashMap.newKeySet();
+    private volatile FluxSink<PendingOrder> queue;
+    private Disposable subscription;
+
+    public OrderIntakeUseCase(@Qualifier("createOrderUseCase") IUseCase<CreateOrderCommand.Input, Mono<CreateOrderCommand.Output>> createOrderUseCase,
+                              OrderPersistenceAdapter orderPersistenceAdapter,
+                              ProductPort productPort,
+                              ApplicationEventPublisher publisher,
+                              TransactionalOperator transactionalOperator,
+                              OrderIntakeProperties properties,
+                              MeterRegistry meterRegistry) {
+        this.createOrderUseCase = createOrderUseCase;
+        this.orderPersistenceAdapter = orderPersistenceAdapter;
+        this.productPort = productPort;
+        this.publisher = publisher;
+        this.transactionalOperator = transactionalOperator;
+        this.properties = properties;
+        this.batchSize = DistributionSummary.builder("orders.intake.batch.size")
+                .description("Quantidade de pedidos por lote de entrada")
+                .register(meterRegistry);
+        this.waitTime = Timer.builder("orders.intake.wait")
+                .description("Tempo de espera de um pedido até o processamento do seu lote")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Inicia o processamento dos lotes, caso o agrupamento esteja habilitado.
+     */
+    @PostConstruct
+    void start() {
+        if (!properties.enabled()) {
+            return;
+        }
+        log.info("Entrada de pedidos em lote habilitada: até {} pedidos ou {} por lote", properties.maxBatchSize(), properties.maxWait());
+        subscription = Flux.<PendingOrder>create(sink -> queue = sink)
+                .bufferTimeout(properties.maxBatchSize(), properties.maxWait(), true)
+                .flatMap(this::processBatch, properties.concurrency())
+                .subscribe();
+    }
+
+    /**
+     * Interrompe o processamento dos lotes e entrega um erro a todos os pedidos ainda sem resultado.
+     */
+    @PreDestroy
+    void stop() {
+        queue = null;
+        if (subscription != null) {
+            subscription.dispose();
+        }
+        IllegalStateException error = new IllegalStateException("Entrada de pedidos encerrada");
+        outstanding.forEach(pending -> fail(pending, error));
+    }
+
+    /**
+     * Enfileira o pedido para o próximo lote, ou o cria diretamente se o agrupamento estiver desabilitado.
+     *
+     * @param input Dados de entrada do pedido.
+     * @return Um {@link Mono} com a saída do comando de criação deste pedido.
+     */
+    @Override
+    public Mono<CreateOrderCommand.Output> execute(CreateOrderCommand.Input input) {
+        if (!properties.enabled()) {
+            return createOrderUseCase.execute(input);
+        }
+        return Mono.defer(() -> {
+            FluxSink<PendingOrder> sink = queue;
+            if (sink == null) {
+                return Mono.error(new IllegalStateException("Entrada de pedidos encerrada"));
+            }
+            if (outstanding.size() >= properties.queueSize()) {
+                log.warn("Pedido do cliente {} rejeitado: fila de entrada cheia", input.clientId());
+                return Mono.error(new IllegalStateException("Fila de entrada de pedidos cheia"));
+            }
+            PendingOrder pending = new PendingOrder(input, Sinks.one(), new AtomicBoolean(), System.nanoTime());
+            outstanding.add(pending);
+            sink.next(pending);
+            return pending.result().asMono()
+                    .timeout(properties.queueTimeout(), Mono.defer(() -> {
+                        if (!pending.claim()) {
+                            // O lote do pedido já está em processamento: aguarda o resultado
+                            return pending.result().asMono();
+                        }
+                        log.warn("Pedido do cliente {} rejeitado: tempo de espera na fila esgotado", input.clientId());
+                        IllegalStateException error = new IllegalStateException("Tempo de espera na fila de entrada de pedidos esgotado");
+                        fail(pending, error);
+                        return Mono.error(error);
+                    }));
+        });
+    }
+
+    /**
+     * Processa um lote de pedidos. Nunca termina com erro: falhas são entregues a cada chamador.
+     *
+     * @param arrived pedidos do lote, na ordem de chegada; os que já expiraram na fila são descartados.
+     * @return Mono que completa quando todos os pedidos do lote tiverem um resultado.
+     */
+    private Mono<Void> processBatch(List<PendingOrder> arrived) {
+        List<PendingOrder> batch = arrived.stream().filter(PendingOrder::claim).toList();
+        if (batch.isEmpty()) {
+            return Mono.empty();
+        }
+        long startedAt = System.nanoTime();
+        batch.forEach(pending -> waitTime.record(startedAt - pending.enqueuedAt(), TimeUnit.NANOSECONDS));
+        batchSize.record(batch.size());
+        log.debug("Processando lote com {} pedidos", batch.size());
+
+        // 1. Validar o estoque de todos os produtos do lote com uma única consulta
+        List<String> productIds = batch.stream()
+                .flatMap(pending -> pending.input().products().stream())
+                .map(product -> product.productId().toString())
+                .distinct()
+                .toList();
+        return productPort.getStocks(new GetStocksDTO.Request(productIds))
+                .collectMap(GetStocksDTO.Response::productId)
+                .flatMap(stocks -> {
+                    List<ValidatedOrder> validOrders = new ArrayList<>();
+                    for (PendingOrder pending : batch) {
+                        try {
+                            validOrders.add(new ValidatedOrder(pending, CreateOrderHelper.validate(pending.input(), stocks)));
+                        } catch (IllegalStateException e) {
+                            log.warn("Pedido do cliente {} rejeitado na validação: {}", pending.input().clientId(), e.getMessage());
+                            fail(pending, e);
+                        }
+                    }
+                    if (validOrders.isEmpty()) {
+                        return Mono.<Void>empty();
+                    }
+                    return commit(validOrders)
+                            .onErrorResume(error -> {
+                                log.warn("Lote de {} pedidos rejeitado ({}). Reprocessando individualmente.", validOrders.size(), error.getMessage());
+                                return createIndividually(validOrders.stream().map(ValidatedOrder::pending).toList());
+                            });
+                })
+                .onErrorResume(error -> {
+                    log.warn("Falha ao validar o lote ({}). Reprocessando individualmente.", error.getMessage());
+                    return createIndividually(batch);
+                });
+    }
+
+    /**
+     * Reserva o estoque e grava todos os pedidos validados em uma única transação.
+     *
+     * @param validOrders pedidos validados do lote.
+     * @return Mono que completa após a confirmação da transação e a entrega dos resultados.
+     */
+    private Mono<Void> commit(List<ValidatedOrder> validOrders) {
+        // 2. Reservar o estoque de todas as linhas de todos os pedidos em uma única operação
+        List<ValidatedProduct> allLines = validOrders.stream()
+                .flatMap(order -> order.products().stream())
+                .toList();
+        return productPort.reserveStock(CreateOrderHelper.buildReservation(allLines))
+                // 3. Gravar todos os pedidos na mesma transação da reserva
+                .thenMany(Flux.fromIterable(validOrders)
+                        .concatMap(order -> orderPersistenceAdapter.insertWithItems(
+                                        CreateOrderHelper.buildOrder(order.pending().input().clientId(),
+                                                CreateOrderHelper.totalAmount(order.products())),
+                                        CreateOrderHelper.buildItems(order.products()))
+                                .map(saved -> Tuples.of(order.pending(), saved))))
+                .collectList()
+                .as(transactionalOperator::transactional)
+                .doOnNext(saved -> saved.forEach(tuple -> complete(tuple.getT1(), tuple.getT2())))
+                .doOnNext(saved -> log.info("Lote de {} pedidos gravado em uma única transação", saved.size()))
+                .then();
+    }
+
+    /**
+     * Cria os pedidos um a um, na ordem de chegada, entregando o resultado de cada um ao seu chamador.
+     *
+     * @param pendingOrders pedidos a serem criados individualmente.
+     * @return Mono que completa quando todos os pedidos tiverem um resultado.
+     */
+    private Mono<Void> createIndividually(List<PendingOrder> pendingOrders) {
+        return Flux.fromIterable(pendingOrders)
+                .concatMap(pending -> createOrderUseCase.execute(pending.input())
+                        .doOnNext(output -> succeed(pending, output))
+                        .doOnError(error -> fail(pending, error))
+                        .onErrorResume(error -> Mono.empty()))
+                .then();
+    }
+
+    /**
+     * Publica o evento de criação e entrega o resultado ao chamador.
+     *
+     * @param pending    pedido aguardando resultado.
+     * @param savedOrder pedido gravado.
+     */
+    private void complete(PendingOrder pending, OrderPO savedOrder) {
+        publisher.publishEvent(new OrderCreated(savedOrder.getClientId(), savedOrder.getId(), savedOrder.getTotalAmount()));
+        log.info("Evento OrderCreated publicado para o pedido {}", savedOrder.getId());
+        succeed(pending, CreateOrderHelper.toOutput(savedOrder));
+    }
+
+    /**
+     * Entrega o pedido criado ao chamador.
+     */
+    private void succeed(PendingOrder pending, CreateOrderCommand.Output output) {
+        outstanding.remove(pending);
+        pending.result().tryEmitValue(output);
+    }
+
+    /**
+     * Entrega a falha do pedido ao chamador.
+     */
+    private void fail(PendingOrder pending, Throwable error) {
+        outstanding.remove(pending);
+        pending.result().tryEmitError(error);
+    }
+
+    /**
+     * Pedido aguardando processamento em lote.
+     *
+     * @param input      dados de entrada do pedido
+     * @param result     destino do resultado entregue ao chamador
+     * @param claimed    indica se o pedido já foi assumido por um lote ou retirado da fila por tempo esgotado
+     * @param enqueuedAt instante de chegada, em nanossegundos
+     */
+    private record PendingOrder(
+            CreateOrderCommand.Input input,
+            Sinks.One<CreateOrderCommand.Output> result,
+            AtomicBoolean claimed,
+            long enqueuedAt
+    ) {
+
+        /**
+         * Assume o pedido, uma única vez: pelo lote que vai processá-lo ou pela expiração na fila.
+         *
+         * @return {@code true} se o pedido ainda não tinha sido assumido.
+         */
+        boolean claim() {
+            return claimed.compareAndSet(false, true);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return this == other;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this);
+        }
+    }
+
+    /**
+     * Pedido do lote que passou pela validação de estoque.
+     *
+     * @param pending  pedido aguardando resultado
+     * @param products produtos validados do pedido
+     */
+    private record ValidatedOrder(
+            PendingOrder pending,
+            List<ValidatedProduct> products
+    ) {}
+}
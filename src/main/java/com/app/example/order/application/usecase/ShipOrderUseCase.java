@@ -1,10 +1,9 @@
 package com.app.example.order.application.usecase;
 
 import com.app.example.order.application.command.ShipOrderCommand;
+import com.app.example.order.application.usecase.helper.OrderStatusTransitionEngine;
 import com.app.example.order.domain.enums.OrderStatusEnum;
 import com.app.example.order.domain.event.OrderShipped;
-import com.app.example.order.infra.repository.OrderRepository;
-import com.app.example.shared.exception.ProductNotFoundException;
 import com.app.example.shared.usecase.IUseCase;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,6 +16,10 @@ import java.util.UUID;
 
 /**
  * Caso de uso responsável pelo envio de um pedido.
+ * <p>
+ * O envio é permitido apenas para pedidos {@code PAID} e é aplicado pelo {@link OrderStatusTransitionEngine}
+ * em uma única instrução. Após a alteração, o evento {@link OrderShipped} é publicado.
+ * </p>
  *
  * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
  */
@@ -26,7 +29,7 @@ import java.util.UUID;
 @Qualifier("shipOrderUseCase")
 public class ShipOrderUseCase implements IUseCase<ShipOrderCommand.Input, Mono<ShipOrderCommand.Output>> {
 
-    private final OrderRepository orderRepository;
+    private final OrderStatusTransitionEngine orderStatusTransitionEngine;
     private final ApplicationEventPublisher publisher;
 
     /**
@@ -39,18 +42,10 @@ public class ShipOrderUseCase implements IUseCase<ShipOrderCommand.Input, Mono<S
     public Mono<ShipOrderCommand.Output> execute(ShipOrderCommand.Input input) {
         UUID orderId = UUID.fromString(input.orderId());
 
-        return orderRepository.findById(orderId)
-                .switchIfEmpty(Mono.defer(() -> {
-                    log.warn("Pedido com ID {} não encontrado", input.orderId());
-                    return Mono.error(new ProductNotFoundException("Pedido não encontrado com o id: " + input.orderId()));
-                }))
-                .flatMap(order -> {
-                    order.setStatus(OrderStatusEnum.SHIPPED.name());
-                    return orderRepository.save(order)
-                            .doOnSuccess(saved -> {
-                                log.info("Pedido {} enviado com sucesso. Publicando evento OrderShipped...", input.orderId());
-                                publisher.publishEvent(new OrderShipped(orderId));
-                            });
+        return orderStatusTransitionEngine.transition(orderId, OrderStatusEnum.SHIPPED)
+                .doOnNext(shipped -> {
+                    log.info("Pedido {} enviado com sucesso. Publicando evento OrderShipped...", input.orderId());
+                    publisher.publishEvent(new OrderShipped(orderId));
                 })
                 .thenReturn(new ShipOrderCommand.Output(input.orderId(), "Pedido enviado com sucesso"));
     }
@@ -0,0 +1,146 @@
+package com.app.example.order.application.usecase.helper;
+
+import com.app.example.order.application.command.CreateOrderCommand;
+import com.app.example.order.domain.enums.OrderStatusEnum;
+import com.app.example.order.domain.po.OrderItemPO;
+import com.app.example.order.domain.po.OrderPO;
+import com.app.example.product.domain.dto.GetStocksDTO;
+import com.app.example.product.domain.dto.ReserveStockDTO;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Classe utilitária com as etapas de montagem de um pedido compartilhadas entre a criação
+ * individual ({@code CreateOrderUseCase}) e a criação em lote ({@code OrderIntakeUseCase}).
+ * <p>
+ * Contém a validação das linhas contra o estoque consultado, o cálculo do valor total e a
+ * construção dos objetos {@link OrderPO} e {@link OrderItemPO} a serem persistidos.
+ * </p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+public class CreateOrderHelper {
+
+    /**
+     * Produto validado contra o estoque, com a quantidade solicitada no pedido.
+     *
+     * @param productId         ID do produto
+     * @param name              Nome do produto
+     * @param description       Descrição do produto
+     * @param price             Preço unitário do produto
+     * @param quantitySolicited Quantidade solicitada no pedido
+     */
+    public record ValidatedProduct(
+            String productId,
+            String name,
+            String description,
+            BigDecimal price,
+            int quantitySolicited
+    ) {}
+
+    /**
+     * Valida as linhas de um pedido contra o estoque consultado.
+     *
+     * @param input  Dados de entrada do pedido.
+     * @param stocks Estoque dos produtos, indexado pelo ID do produto.
+     * @return Lista de produtos validados, na ordem das linhas do pedido.
+     * @throws IllegalStateException se algum produto estiver sem estoque.
+     */
+    public static List<ValidatedProduct> validate(CreateOrderCommand.Input input, Map<String, GetStocksDTO.Response> stocks) {
+        return input.products().stream()
+                .map(product -> {
+                    GetStocksDTO.Response stock = stocks.get(product.productId().toString());
+                    if (stock.quantity() <= 0) {
+                        throw new IllegalStateException("Produto " + stock.productId() + " sem estoque");
+                    }
+                    // Mantém a quantidade solicitada original
+                    return new ValidatedProduct(
+                            stock.productId(),
+                            stock.name(),
+                            stock.description(),
+                            stock.price(),
+                            product.quantity()
+                    );
+                })
+                .toList();
+    }
+
+    /**
+     * Calcula o valor total de um pedido.
+     *
+     * @param validProducts Produtos validados do pedido.
+     * @return Soma de preço unitário multiplicado pela quantidade de cada linha.
+     */
+    public static BigDecimal totalAmount(List<ValidatedProduct> validProducts) {
+        return validProducts.stream()
+                .map(p -> p.price().multiply(BigDecimal.valueOf(p.quantitySolicited())))
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    /**
+     * Monta a requisição de reserva de estoque para as linhas informadas.
+     *
+     * @param validProducts Produtos validados de um ou mais pedidos.
+     * @return Requisição com uma linha por produto validado.
+     */
+    public static ReserveStockDTO.Request buildReservation(Collection<ValidatedProduct> validProducts) {
+        return new ReserveStockDTO.Request(validProducts.stream()
+                .map(p -> new ReserveStockDTO.Request.ProductQuantity(p.productId(), p.quantitySolicited()))
+                .toList());
+    }
+
+    /**
+     * Constrói um novo pedido pendente, ainda sem ID.
+     *
+     * @param clientId    ID do cliente.
+     * @param totalAmount Valor total do pedido.
+     * @return Pedido a ser persistido.
+     */
+    public static OrderPO buildOrder(UUID clientId, BigDecimal totalAmount) {
+        OrderPO orderPO = new OrderPO();
+        orderPO.setClientId(clientId);
+        orderPO.setTotalAmount(totalAmount);
+        orderPO.setStatus(OrderStatusEnum.PENDING.name());
+        return orderPO;
+    }
+
+    /**
+     * Constrói os itens de um pedido a partir dos produtos validados.
+     *
+     * @param validProducts Produtos validados do pedido.
+     * @return Itens a serem persistidos, ainda sem o ID do pedido.
+     */
+    public static List<OrderItemPO> buildItems(List<ValidatedProduct> validProducts) {
+        return validProducts.stream()
+                .map(p -> {
+                    OrderItemPO item = new OrderItemPO();
+                    item.setProductName(p.name());
+                    item.setProductId(UUID.fromString(p.productId()));
+                    item.setQuantity(p.quantitySolicited());
+                    item.setUnitPrice(p.price());
+                    item.setTotalPrice(p.price().multiply(BigDecimal.valueOf(p.quantitySolicited())));
+                    return item;
+                })
+                .toList();
+    }
+
+    /**
+     * Converte um pedido persistido na saída do comando de criação.
+     *
+     * @param savedOrder Pedido persistido.
+     * @return Saída do comando de criação de pedido.
+     */
+    public static CreateOrderCommand.Output toOutput(OrderPO savedOrder) {
+        return new CreateOrderCommand.Output(
+                savedOrder.getId(),
+                savedOrder.getClientId(),
+                savedOrder.getTotalAmount(),
+                savedOrder.getStatus(),
+                savedOrder.getCreatedAt()
+        );
+    }
+}
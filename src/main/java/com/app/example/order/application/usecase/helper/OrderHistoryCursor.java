@@ -0,0 +1,59 @@
+package com.app.example.order.application.usecase.helper;
+
+import com.app.example.shared.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Posição de um pedido no histórico de pedidos de um cliente, usada como cursor da paginação por chave.
+ * <p>
+ * O histórico é ordenado por {@code created_at DESC, id DESC}; o cursor guarda esses dois valores do último
+ * pedido entregue, e a página seguinte começa no primeiro pedido estritamente anterior a ele. Para o cliente da
+ * API, o cursor é um texto opaco (Base64 URL-safe de {@code createdAt|id}).
+ * </p>
+ *
+ * @param createdAt data de criação do pedido
+ * @param orderId   ID do pedido, que desempata pedidos criados no mesmo instante
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+public record OrderHistoryCursor(LocalDateTime createdAt, UUID orderId) {
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * Codifica o cursor no formato opaco entregue ao cliente.
+     *
+     * @return cursor codificado.
+     */
+    public String encode() {
+        String raw = createdAt + SEPARATOR + orderId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica um cursor recebido do cliente.
+     *
+     * @param cursor cursor codificado por {@link #encode()}.
+     * @return o cursor decodificado.
+     * @throws InvalidCursorException se o cursor não estiver no formato esperado.
+     */
+    public static OrderHistoryCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new InvalidCursorException(cursor);
+            }
+            return new OrderHistoryCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.app.example.order.application.usecase.helper;
+
+import com.app.example.order.domain.enums.OrderStatusEnum;
+import com.app.example.order.domain.po.OrderPO;
+import com.app.example.order.infra.cache.OrderSummaryCache;
+import com.app.example.order.infra.repository.OrderRepository;
+import com.app.example.order.mapper.FindByIdMapper;
+import com.app.example.shared.exception.InvalidOrderStatusTransitionException;
+import com.app.example.shared.exception.OrderNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Aplica as transições de status de pedidos definidas em {@link OrderStatusEnum}.
+ * <p>
+ * Cada transição é uma única instrução {@code UPDATE ... WHERE status = ANY(:allowedFrom) RETURNING *}
+ * (ver {@link OrderRepository#transitionStatus(UUID, String, String[])}), de modo que o pedido não precisa
+ * ser lido antes da alteração e transições concorrentes não se sobrescrevem. O pedido só é lido novamente
+ * quando a instrução não altera nenhuma linha, para distinguir um pedido inexistente de um status inválido.
+ * </p>
+ * <p>
+ * O pedido é atualizado no {@link OrderSummaryCache} após a confirmação da transação
+ * (ver {@link OrderSummaryCache#putOnCompletion}).
+ * </p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderStatusTransitionEngine {
+
+    private final OrderRepository orderRepository;
+    private final OrderSummaryCache orderSummaryCache;
+    private final FindByIdMapper findByIdMapper;
+
+    /**
+     * Passa o pedido para o status informado, se o status atual permitir.
+     *
+     * @param orderId ID do pedido.
+     * @param target  status de destino.
+     * @return Mono com o pedido atualizado.
+     * @throws OrderNotFoundException                se o pedido não existir.
+     * @throws InvalidOrderStatusTransitionException se o status atual do pedido não permitir a transição.
+     */
+    public Mono<OrderPO> transition(UUID orderId, OrderStatusEnum target) {
+        return orderRepository.transitionStatus(orderId, target.name(), target.allowedFromNames())
+                .doOnNext(updated -> log.info("Pedido {} passou para o status {}", orderId, target))
+                .flatMap(updated -> orderSummaryCache.putOnCompletion(findByIdMapper.toOutput(updated))
+                        .thenReturn(updated))
+                .switchIfEmpty(Mono.defer(() -> rejected(orderId, target)));
+    }
+
+    /**
+     * Identifica o motivo pelo qual a transição não alterou o pedido.
+     *
+     * @param orderId ID do pedido.
+     * @param target  status de destino.
+     * @return Mono com o erro correspondente.
+     */
+    private Mono<OrderPO> rejected(UUID orderId, OrderStatusEnum target) {
+        return orderRepository.findById(orderId)
+                .switchIfEmpty(Mono.defer(() -> {
+                    log.warn("Pedido com ID {} não encontrado", orderId);
+                    return Mono.error(new OrderNotFoundException(orderId));
+                }))
+                .flatMap(current -> {
+                    log.warn("Transição do pedido {} de {} para {} não permitida", orderId, current.getStatus(), target);
+                    return orderSummaryCache.putOnCompletion(findByIdMapper.toOutput(current))
+                            .then(Mono.error(new InvalidOrderStatusTransitionException(
+                                    orderId, current.getStatus(), target.name())));
+                });
+    }
+}
@@ -0,0 +1,39 @@
+package com.app.example.order.domain.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+/**
+ * DTO de saída para as operações de status de pedidos em lote.
+ * <p>
+ * A requisição é a própria lista de IDs de pedidos, enviada como array JSON ou como NDJSON
+ * (um ID por linha); a resposta contém um {@link Response} por ID distinto.
+ * Alinhado com o contrato do caso de uso {@code BulkOrderStatusCommand}.
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@Schema(description = "DTO de saída para operações de status de pedidos em lote")
+public sealed interface BulkOrderStatusDTO extends Serializable
+        permits BulkOrderStatusDTO.Response {
+
+    /**
+     * Resultado da operação para um pedido.
+     *
+     * @param orderId Identificador do pedido.
+     * @param outcome Resultado da transição: TRANSITIONED, WRONG_STATE ou NOT_FOUND.
+     * @param status  Status do pedido após a operação.
+     */
+    @Schema(description = "Resultado da operação em lote para um pedido")
+    record Response(
+            @Schema(description = "Identificador do pedido", example = "ddddddd2-dddd-dddd-dddd-dddddddddddd")
+            UUID orderId,
+
+            @Schema(description = "Resultado da transição", example = "TRANSITIONED", allowableValues = {"TRANSITIONED", "WRONG_STATE", "NOT_FOUND"})
+            String outcome,
+
+            @Schema(description = "Status do pedido após a operação; ausente se o pedido não existir", example = "SHIPPED")
+            String status
+    ) implements BulkOrderStatusDTO {}
+}
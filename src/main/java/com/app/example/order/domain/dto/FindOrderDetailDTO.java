@@ -0,0 +1,93 @@
+package com.app.example.order.domain.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO para a consulta do detalhe de um pedido, com os seus itens.
+ * <p>
+ * Alinhado com o contrato do caso de uso {@code FindOrderDetailCommand}.
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@Schema(description = "DTO para consultar o detalhe de um pedido")
+public sealed interface FindOrderDetailDTO extends Serializable
+        permits FindOrderDetailDTO.Request, FindOrderDetailDTO.Response {
+
+    /**
+     * Dados de requisição para consulta do detalhe de um pedido.
+     *
+     * @param orderId Identificador do pedido.
+     */
+    @Schema(description = "Dados para consultar o detalhe de um pedido")
+    record Request(
+            @NotNull(message = "{pedido.id.obrigatorio}")
+            @Schema(description = "Identificador único do pedido", example = "ddddddd1-dddd-dddd-dddd-dddddddddddd")
+            UUID orderId
+    ) implements FindOrderDetailDTO {}
+
+    /**
+     * Detalhe do pedido, com os seus itens.
+     *
+     * @param id          Identificador do pedido.
+     * @param clientId    Identificador do cliente.
+     * @param totalAmount Valor total do pedido.
+     * @param status      Status atual do pedido.
+     * @param createdAt   Data e hora de criação do pedido.
+     * @param items       Itens do pedido.
+     */
+    @Schema(description = "Detalhe do pedido com os seus itens")
+    record Response(
+            @Schema(description = "Identificador único do pedido", example = "ddddddd1-dddd-dddd-dddd-dddddddddddd")
+            UUID id,
+
+            @Schema(description = "Identificador do cliente", example = "11111111-1111-1111-1111-111111111111")
+            UUID clientId,
+
+            @Schema(description = "Valor total do pedido", example = "4320.00")
+            BigDecimal totalAmount,
+
+            @Schema(description = "Status atual do pedido", example = "PAID")
+            String status,
+
+            @Schema(description = "Data e hora em que o pedido foi criado", example = "2025-05-15T10:20:30")
+            LocalDateTime createdAt,
+
+            @Schema(description = "Itens do pedido")
+            List<Item> items
+    ) implements FindOrderDetailDTO {
+
+        /**
+         * Item do pedido.
+         *
+         * @param productId   Identificador do produto.
+         * @param productName Nome do produto no momento da compra.
+         * @param quantity    Quantidade comprada.
+         * @param unitPrice   Preço unitário no momento da compra.
+         * @param totalPrice  Valor total do item.
+         */
+        @Schema(description = "Item do pedido")
+        public record Item(
+                @Schema(description = "Identificador do produto", example = "aaaaaaa1-aaaa-aaaa-aaaa-aaaaaaaaaaaa")
+                UUID productId,
+
+                @Schema(description = "Nome do produto", example = "Notebook Dell")
+                String productName,
+
+                @Schema(description = "Quantidade comprada", example = "1")
+                Integer quantity,
+
+                @Schema(description = "Preço unitário", example = "4000.00")
+                BigDecimal unitPrice,
+
+                @Schema(description = "Valor total do item", example = "4000.00")
+                BigDecimal totalPrice
+        ) {}
+    }
+}
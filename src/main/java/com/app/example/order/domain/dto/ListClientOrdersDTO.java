@@ -0,0 +1,68 @@
+package com.app.example.order.domain.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * DTO de entrada e saída para a listagem do histórico de pedidos de um cliente.
+ * <p>
+ * Alinhado com o contrato do caso de uso {@code ListClientOrdersCommand}.
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@Schema(description = "DTO para listagem do histórico de pedidos de um cliente")
+public sealed interface ListClientOrdersDTO extends Serializable
+        permits ListClientOrdersDTO.Request, ListClientOrdersDTO.Response {
+
+    /**
+     * Dados de requisição de uma página do histórico.
+     *
+     * @param clientId Identificador do cliente.
+     * @param after    Cursor do último pedido da página anterior; nulo para a primeira página.
+     * @param limit    Quantidade máxima de pedidos da página.
+     */
+    @Schema(description = "Dados para listar uma página do histórico de pedidos")
+    record Request(
+            @NotNull(message = "{list.client.orders.request.clientId.notNull}")
+            @Schema(description = "Identificador do cliente", example = "11111111-1111-1111-1111-111111111111")
+            UUID clientId,
+
+            @Schema(description = "Cursor do último pedido recebido; ausente na primeira página")
+            String after,
+
+            @Schema(description = "Quantidade máxima de pedidos da página (de 1 a 100)", example = "20")
+            int limit
+    ) implements ListClientOrdersDTO {}
+
+    /**
+     * Pedido do histórico do cliente.
+     *
+     * @param id          Identificador do pedido.
+     * @param totalAmount Valor total do pedido.
+     * @param status      Status atual do pedido.
+     * @param createdAt   Data e hora de criação do pedido.
+     * @param cursor      Cursor a ser informado em {@code after} para obter os pedidos seguintes a este.
+     */
+    @Schema(description = "Pedido do histórico do cliente")
+    record Response(
+            @Schema(description = "Identificador único do pedido", example = "ddddddd1-dddd-dddd-dddd-dddddddddddd")
+            UUID id,
+
+            @Schema(description = "Valor total do pedido", example = "4320.00")
+            BigDecimal totalAmount,
+
+            @Schema(description = "Status atual do pedido", example = "PAID")
+            String status,
+
+            @Schema(description = "Data e hora em que o pedido foi criado", example = "2025-05-15T10:20:30")
+            LocalDateTime createdAt,
+
+            @Schema(description = "Cursor para obter os pedidos seguintes a este", example = "MjAyNS0wNS0xNVQxMDoyMDozMHxkZGRkZGRkMS1kZGRk")
+            String cursor
+    ) implements ListClientOrdersDTO {}
+}
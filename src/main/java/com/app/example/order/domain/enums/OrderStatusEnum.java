@@ -1,5 +1,46 @@
 package com.app.example.order.domain.enums;
 
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Status de um pedido e as transições permitidas entre eles.
+ * <p>
+ * Tabela de transições:
+ * <ul>
+ *   <li>{@code PENDING} → {@code PAID}, {@code CANCELED}</li>
+ *   <li>{@code PAID} → {@code SHIPPED}, {@code CANCELED}</li>
+ *   <li>{@code CANCELED} e {@code SHIPPED} são finais</li>
+ * </ul>
+ * </p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
 public enum OrderStatusEnum {
-    PENDING, PAID, CANCELED, SHIPPED
+    PENDING, PAID, CANCELED, SHIPPED;
+
+    /**
+     * Retorna os status a partir dos quais um pedido pode passar para este status.
+     *
+     * @return conjunto de status de origem permitidos; vazio para {@code PENDING}, que é apenas inicial.
+     */
+    public Set<OrderStatusEnum> allowedFrom() {
+        return switch (this) {
+            case PENDING -> EnumSet.noneOf(OrderStatusEnum.class);
+            case PAID -> EnumSet.of(PENDING);
+            case CANCELED -> EnumSet.of(PENDING, PAID);
+            case SHIPPED -> EnumSet.of(PAID);
+        };
+    }
+
+    /**
+     * Retorna os nomes dos status de origem permitidos, no formato usado na coluna {@code orders.status}.
+     *
+     * @return nomes dos status a partir dos quais um pedido pode passar para este status.
+     */
+    public String[] allowedFromNames() {
+        return allowedFrom().stream()
+                .map(Enum::name)
+                .toArray(String[]::new);
+    }
 }
@@ -0,0 +1,15 @@
+package com.app.example.order.domain.enums;
+
+/**
+ * Resultado da transição de status de um pedido em uma operação em lote.
+ * <ul>
+ *   <li>{@code TRANSITIONED}: o pedido passou para o status solicitado;</li>
+ *   <li>{@code WRONG_STATE}: o status atual do pedido não permite a transição;</li>
+ *   <li>{@code NOT_FOUND}: não existe pedido com o ID informado.</li>
+ * </ul>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+public enum OrderTransitionOutcomeEnum {
+    TRANSITIONED, WRONG_STATE, NOT_FOUND
+}
@@ -0,0 +1,21 @@
+package com.app.example.order.domain.po;
+
+import com.app.example.order.domain.enums.OrderTransitionOutcomeEnum;
+
+import java.util.UUID;
+
+/**
+ * Linha de resultado da transição de status em lote, lida da instrução executada por
+ * {@code OrderStatusBatchRepository}.
+ *
+ * @param orderId ID do pedido solicitado
+ * @param outcome resultado da transição
+ * @param status  status do pedido após a instrução; {@code null} se o pedido não existir
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+public record OrderStatusTransitionPO(
+        UUID orderId,
+        OrderTransitionOutcomeEnum outcome,
+        String status
+) {}
@@ -0,0 +1,27 @@
+package com.app.example.order.domain.po;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Agregado de leitura de um pedido com os seus itens, montado a partir de uma única consulta
+ * com junção entre {@code orders} e {@code order_items}.
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@Getter
+@Setter
+public class OrderWithItemsPO {
+    private UUID id;
+    private UUID clientId;
+    private BigDecimal totalAmount;
+    private String status;
+    private LocalDateTime createdAt;
+    private List<OrderItemPO> items = new ArrayList<>();
+}
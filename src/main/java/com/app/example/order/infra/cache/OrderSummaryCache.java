@@ -0,0 +1,122 @@
+package com.app.example.order.infra.cache;
+
+import com.app.example.order.application.command.FindByIdCommand;
+import com.app.example.order.infra.config.OrderCacheProperties;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.NoTransactionException;
+import org.springframework.transaction.reactive.TransactionSynchronization;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Cache de leitura ("read-through") dos resumos de pedidos.
+ * <p>
+ * Atende as consultas de pedido por ID feitas pelos módulos de pagamento e de faturamento logo após a
+ * criação do pedido, evitando uma consulta à tabela {@code orders} a cada chamada. Cargas concorrentes
+ * da mesma chave compartilham uma única consulta ao banco de dados, e pedidos inexistentes não são armazenados.
+ * </p>
+ * <p>
+ * Os casos de uso que alteram o status do pedido atualizam (ou, nas operações em lote, removem) a entrada após a
+ * confirmação da transação, de modo que a leitura seguinte nesta instância já reflete o novo status e nenhuma leitura
+ * devolve um status que ainda pode ser desfeito. Alterações feitas por outras instâncias são refletidas após a
+ * expiração da entrada ({@code app.order.cache.ttl}).
+ * </p>
+ * <p>
+ * As métricas de acertos, falhas, tamanho e remoções são publicadas com o nome {@code orders.summary}
+ * (por exemplo, {@code cache.gets{cache=orders.summary,result=hit}}).
+ * </p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@Slf4j
+@Component
+public class OrderSummaryCache {
+
+    public static final String CACHE_NAME = "orders.summary";
+
+    private final OrderCacheProperties properties;
+    private final AsyncCache<UUID, FindByIdCommand.Output> cache;
+
+    public OrderSummaryCache(OrderCacheProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.cache = CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.ttl())
+                .recordStats()
+                .<UUID, FindByIdCommand.Output>buildAsync(), CACHE_NAME);
+    }
+
+    /**
+     * Busca o resumo do pedido no cache, carregando-o com a função informada em caso de falha.
+     *
+     * @param orderId ID do pedido.
+     * @param loader  função que carrega o pedido do banco de dados; pode terminar vazia se o pedido não existir.
+     * @return Mono com o resumo do pedido, ou vazio se o pedido não existir.
+     */
+    public Mono<FindByIdCommand.Output> get(UUID orderId, Function<UUID, Mono<FindByIdCommand.Output>> loader) {
+        if (!properties.enabled()) {
+            return loader.apply(orderId);
+        }
+        return Mono.fromFuture(() -> cache.get(orderId, (key, executor) -> loader.apply(key).toFuture()));
+    }
+
+    /**
+     * Armazena o resumo atualizado de um pedido, substituindo a entrada existente ou uma carga em andamento.
+     *
+     * @param order resumo do pedido após a alteração.
+     */
+    public void put(FindByIdCommand.Output order) {
+        if (!properties.enabled()) {
+            return;
+        }
+        log.debug("Atualizando o pedido {} no cache com o status {}", order.id(), order.status());
+        cache.put(order.id(), CompletableFuture.completedFuture(order));
+    }
+
+    /**
+     * Armazena o resumo atualizado de um pedido quando a transação corrente for confirmada, ou o remove do cache se
+     * ela for desfeita. Fora de uma transação, o resumo é armazenado imediatamente.
+     *
+     * @param order resumo do pedido após a alteração.
+     * @return Mono que completa após o registro (ou, fora de uma transação, após o armazenamento).
+     */
+    public Mono<Void> putOnCompletion(FindByIdCommand.Output order) {
+        return TransactionSynchronizationManager.forCurrentTransaction()
+                .filter(TransactionSynchronizationManager::isSynchronizationActive)
+                .doOnNext(manager -> manager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public Mono<Void> afterCompletion(int status) {
+                        return Mono.fromRunnable(() -> {
+                            if (status == STATUS_COMMITTED) {
+                                put(order);
+                            } else {
+                                evictAll(List.of(order.id()));
+                            }
+                        });
+                    }
+                }))
+                .switchIfEmpty(Mono.fromRunnable(() -> put(order)))
+                .onErrorResume(NoTransactionException.class, error -> Mono.fromRunnable(() -> put(order)))
+                .then();
+    }
+
+    /**
+     * Remove do cache os resumos dos pedidos informados.
+     *
+     * @param orderIds IDs dos pedidos.
+     */
+    public void evictAll(Collection<UUID> orderIds) {
+        cache.synchronous().invalidateAll(orderIds);
+    }
+}
@@ -0,0 +1,24 @@
+package com.app.example.order.infra.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Propriedades das operações de status de pedidos em lote.
+ *
+ * <pre>{@code
+ * app:
+ *   order:
+ *     bulk:
+ *       chunk-size: 500
+ * }</pre>
+ *
+ * @param chunkSize quantidade de IDs processados por instrução; os IDs recebidos são agrupados
+ *                  nesse tamanho à medida que chegam
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@ConfigurationProperties(prefix = "app.order.bulk")
+public record OrderBulkProperties(
+        @DefaultValue("500") int chunkSize
+) {}
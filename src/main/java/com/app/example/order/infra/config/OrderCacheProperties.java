@@ -0,0 +1,31 @@
+package com.app.example.order.infra.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Propriedades do cache de leitura dos resumos de pedidos.
+ *
+ * <pre>{@code
+ * app:
+ *   order:
+ *     cache:
+ *       enabled: true
+ *       maximum-size: 10000
+ *       ttl: 5m
+ * }</pre>
+ *
+ * @param enabled     habilita o cache; quando desabilitado toda leitura vai ao banco de dados
+ * @param maximumSize quantidade máxima de pedidos mantidos em memória
+ * @param ttl         tempo máximo de permanência de um pedido no cache após ser carregado ou atualizado
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@ConfigurationProperties(prefix = "app.order.cache")
+public record OrderCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("10000") long maximumSize,
+        @DefaultValue("5m") Duration ttl
+) {}
@@ -0,0 +1,43 @@
+package com.app.example.order.infra.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Propriedades do estágio de entrada de pedidos em lote ("group commit").
+ * <p>
+ * Quando habilitado, os pedidos que chegam dentro de uma janela curta são agrupados e
+ * processados juntos, com validação e reserva de estoque em lote e uma única transação.
+ * </p>
+ *
+ * <pre>{@code
+ * app:
+ *   order:
+ *     intake:
+ *       enabled: true
+ *       max-batch-size: 64
+ *       max-wait: 5ms
+ *       queue-timeout: 10s
+ * }</pre>
+ *
+ * @param enabled      habilita o agrupamento de pedidos; quando desabilitado cada pedido é processado individualmente
+ * @param maxBatchSize quantidade máxima de pedidos por lote
+ * @param maxWait      tempo máximo de espera para completar um lote
+ * @param queueSize    quantidade máxima de pedidos aguardando processamento
+ * @param concurrency  quantidade de lotes processados simultaneamente
+ * @param queueTimeout tempo máximo de espera de um pedido até o início do processamento do seu lote; após esse
+ *                     tempo o pedido é retirado da fila e falha
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@ConfigurationProperties(prefix = "app.order.intake")
+public record OrderIntakeProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("64") int maxBatchSize,
+        @DefaultValue("5ms") Duration maxWait,
+        @DefaultValue("4096") int queueSize,
+        @DefaultValue("2") int concurrency,
+        @DefaultValue("10s") Duration queueTimeout
+) {}
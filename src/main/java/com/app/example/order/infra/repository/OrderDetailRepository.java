@@ -0,0 +1,26 @@
+package com.app.example.order.infra.repository;
+
+import com.app.example.order.domain.po.OrderWithItemsPO;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Fragmento de repositório para a leitura de um pedido com os seus itens.
+ * <p>
+ * Complementa o {@link OrderRepository} com uma consulta que lê o pedido e os itens em uma única ida ao banco
+ * de dados, em vez de uma consulta ao {@link OrderRepository} seguida de outra ao {@link OrderItemRepository}.
+ * </p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+public interface OrderDetailRepository {
+
+    /**
+     * Busca o pedido e todos os seus itens.
+     *
+     * @param orderId ID do pedido.
+     * @return Mono com o pedido e os seus itens, ou vazio se o pedido não existir.
+     */
+    Mono<OrderWithItemsPO> findDetailById(UUID orderId);
+}
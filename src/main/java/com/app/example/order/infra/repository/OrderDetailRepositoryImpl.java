@@ -0,0 +1,78 @@
+package com.app.example.order.infra.repository;
+
+import com.app.example.order.domain.po.OrderItemPO;
+import com.app.example.order.domain.po.OrderWithItemsPO;
+import io.r2dbc.spi.Row;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Implementação do fragmento {@link OrderDetailRepository} baseada no {@link DatabaseClient}.
+ * <p>
+ * A consulta faz um {@code LEFT JOIN} entre {@code orders} e {@code order_items}, retornando uma linha por item
+ * (ou uma única linha sem item, para pedidos sem itens). As linhas são acumuladas diretamente no agregado à medida
+ * que chegam: os dados do pedido são lidos da primeira linha e cada linha acrescenta o seu item.
+ * </p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@RequiredArgsConstructor
+public class OrderDetailRepositoryImpl implements OrderDetailRepository {
+
+    private static final String DETAIL_SQL = """
+            SELECT o.id, o.client_id, o.total_amount, o.status, o.created_at,
+                   i.product_id, i.product_name, i.quantity, i.unit_price, i.total_price
+            FROM orders o
+            LEFT JOIN order_items i ON i.order_id = o.id
+            WHERE o.id = :orderId
+            ORDER BY i.product_name, i.product_id
+            """;
+
+    private final DatabaseClient databaseClient;
+
+    @Override
+    public Mono<OrderWithItemsPO> findDetailById(UUID orderId) {
+        return Mono.defer(() -> {
+            OrderWithItemsPO order = new OrderWithItemsPO();
+            return databaseClient.sql(DETAIL_SQL)
+                    .bind("orderId", orderId)
+                    .map((row, metadata) -> accumulate(order, row))
+                    .all()
+                    .then(Mono.fromSupplier(() -> order.getId() != null ? order : null));
+        });
+    }
+
+    /**
+     * Acrescenta ao agregado os dados de uma linha da consulta.
+     *
+     * @param order agregado em construção.
+     * @param row   linha da consulta.
+     * @return o próprio agregado.
+     */
+    private static OrderWithItemsPO accumulate(OrderWithItemsPO order, Row row) {
+        if (order.getId() == null) {
+            order.setId(row.get("id", UUID.class));
+            order.setClientId(row.get("client_id", UUID.class));
+            order.setTotalAmount(row.get("total_amount", BigDecimal.class));
+            order.setStatus(row.get("status", String.class));
+            order.setCreatedAt(row.get("created_at", LocalDateTime.class));
+        }
+        UUID productId = row.get("product_id", UUID.class);
+        if (productId != null) {
+            OrderItemPO item = new OrderItemPO();
+            item.setOrderId(order.getId());
+            item.setProductId(productId);
+            item.setProductName(row.get("product_name", String.class));
+            item.setQuantity(row.get("quantity", Integer.class));
+            item.setUnitPrice(row.get("unit_price", BigDecimal.class));
+            item.setTotalPrice(row.get("total_price", BigDecimal.class));
+            order.getItems().add(item);
+        }
+        return order;
+    }
+}
@@ -18,6 +18,11 @@ import java.util.UUID;
  * As implementações dos métodos são geradas automaticamente pelo Spring Data com base na
  * assinatura dos métodos e no tipo da entidade.
  * </p>
+ * <p>
+ * A tabela possui chave primária composta ({@code order_id}, {@code product_id}), que o Spring Data R2DBC
+ * não consegue mapear com {@code @Id}. Por isso os itens não são gravados por este repositório: são inseridos junto
+ * com o pedido, em uma única instrução, por {@link OrderPersistenceAdapter#insertWithItems}.
+ * </p>
  *
  * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
  */
@@ -0,0 +1,80 @@
+package com.app.example.order.infra.repository;
+
+import com.app.example.order.domain.po.OrderItemPO;
+import com.app.example.order.domain.po.OrderPO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Adaptador de persistência que grava um pedido e todos os seus itens em uma única instrução SQL.
+ * <p>
+ * Utiliza uma CTE de escrita ({@code WITH ... INSERT ... RETURNING}) para inserir a linha em {@code orders}
+ * e, na mesma instrução, todas as linhas de {@code order_items} a partir de arrays desaninhados com
+ * {@code unnest}. O texto da instrução é fixo e o número de parâmetros não depende do tamanho do carrinho,
+ * de modo que cada pedido custa exatamente uma ida ao banco de dados.
+ * </p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class OrderPersistenceAdapter {
+
+    private static final String INSERT_ORDER_WITH_ITEMS = """
+            WITH new_order AS (
+                INSERT INTO orders (client_id, total_amount, status)
+                VALUES (:clientId, :totalAmount, :status)
+                RETURNING id, created_at
+            ), new_items AS (
+                INSERT INTO order_items (order_id, product_id, product_name, quantity, unit_price, total_price)
+                SELECT o.id, i.product_id, i.product_name, i.quantity, i.unit_price, i.total_price
+                FROM new_order o,
+                     unnest(CAST(:productIds AS uuid[]), CAST(:productNames AS text[]), CAST(:quantities AS int[]),
+                            CAST(:unitPrices AS numeric[]), CAST(:totalPrices AS numeric[]))
+                         AS i(product_id, product_name, quantity, unit_price, total_price)
+            )
+            SELECT id, created_at FROM new_order
+            """;
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Insere o pedido e seus itens em uma única instrução.
+     * <p>
+     * O ID e a data de criação são gerados pelo banco de dados e preenchidos no pedido informado,
+     * assim como o ID do pedido em cada item.
+     * </p>
+     *
+     * @param order pedido a ser inserido (sem ID).
+     * @param items itens do pedido.
+     * @return Mono com o pedido preenchido com o ID e a data de criação gerados.
+     */
+    public Mono<OrderPO> insertWithItems(OrderPO order, List<OrderItemPO> items) {
+        return databaseClient.sql(INSERT_ORDER_WITH_ITEMS)
+                .bind("clientId", order.getClientId())
+                .bind("totalAmount", order.getTotalAmount())
+                .bind("status", order.getStatus())
+                .bind("productIds", items.stream().map(OrderItemPO::getProductId).toArray(UUID[]::new))
+                .bind("productNames", items.stream().map(OrderItemPO::getProductName).toArray(String[]::new))
+                .bind("quantities", items.stream().map(OrderItemPO::getQuantity).toArray(Integer[]::new))
+                .bind("unitPrices", items.stream().map(OrderItemPO::getUnitPrice).toArray(BigDecimal[]::new))
+                .bind("totalPrices", items.stream().map(OrderItemPO::getTotalPrice).toArray(BigDecimal[]::new))
+                .map((row, metadata) -> {
+                    order.setId(row.get("id", UUID.class));
+                    order.setCreatedAt(row.get("created_at", LocalDateTime.class));
+                    items.forEach(item -> item.setOrderId(order.getId()));
+                    return order;
+                })
+                .one()
+                .doOnNext(saved -> log.debug("Pedido {} gravado com {} itens em uma única instrução", saved.getId(), items.size()));
+    }
+}
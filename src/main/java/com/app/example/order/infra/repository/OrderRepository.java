@@ -1,9 +1,13 @@
 package com.app.example.order.infra.repository;
 
 import com.app.example.order.domain.po.OrderPO;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 /**
@@ -15,10 +19,63 @@ import java.util.UUID;
  *
  * <p>
  * O Spring Data cria automaticamente a implementação desta interface com base na assinatura dos métodos.
+ * As transições de status em lote são fornecidas pelo fragmento {@link OrderStatusBatchRepository}, e a leitura
+ * do pedido com os seus itens pelo fragmento {@link OrderDetailRepository}.
  * </p>
  *
  * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
  */
 @Repository
-public interface OrderRepository extends ReactiveCrudRepository<OrderPO, UUID> {
-}
\ No newline at end of file
+public interface OrderRepository extends ReactiveCrudRepository<OrderPO, UUID>, OrderStatusBatchRepository, OrderDetailRepository {
+
+    /**
+     * Altera o status do pedido apenas se o status atual estiver entre os status de origem permitidos
+     * ("compare-and-set"), em uma única instrução.
+     * <p>
+     * Como a condição é avaliada pelo próprio {@code UPDATE}, duas transições concorrentes do mesmo pedido
+     * não sobrescrevem uma à outra: apenas a primeira encontra o status de origem esperado.
+     * </p>
+     *
+     * @param id          ID do pedido.
+     * @param to          status de destino.
+     * @param allowedFrom status de origem permitidos para a transição.
+     * @return Mono com o pedido atualizado, ou vazio se o pedido não existir ou o status atual não permitir a transição.
+     */
+    @Query("UPDATE orders SET status = :to " +
+            "WHERE id = :id AND status = ANY(CAST(:allowedFrom AS text[])) " +
+            "RETURNING *")
+    Mono<OrderPO> transitionStatus(UUID id, String to, String[] allowedFrom);
+
+    /**
+     * Lista a primeira página do histórico de pedidos de um cliente, do mais recente para o mais antigo.
+     * <p>
+     * Atendida pelo índice {@code idx_orders_client_created_at}, que cobre todas as colunas da tabela.
+     * </p>
+     *
+     * @param clientId ID do cliente.
+     * @param limit    quantidade máxima de pedidos.
+     * @return Fluxo com os pedidos da página.
+     */
+    @Query("SELECT * FROM orders WHERE client_id = :clientId " +
+            "ORDER BY created_at DESC, id DESC LIMIT :limit")
+    Flux<OrderPO> findFirstPageByClientId(UUID clientId, int limit);
+
+    /**
+     * Lista a página do histórico de pedidos de um cliente que começa após o pedido informado ("keyset").
+     * <p>
+     * Em vez de descartar as linhas anteriores com {@code OFFSET}, a consulta posiciona o índice diretamente
+     * na chave {@code (created_at, id)} do último pedido entregue, de modo que o custo de uma página não cresce
+     * com a sua posição no histórico.
+     * </p>
+     *
+     * @param clientId  ID do cliente.
+     * @param createdAt data de criação do último pedido da página anterior.
+     * @param orderId   ID do último pedido da página anterior.
+     * @param limit     quantidade máxima de pedidos.
+     * @return Fluxo com os pedidos da página.
+     */
+    @Query("SELECT * FROM orders WHERE client_id = :clientId " +
+            "AND (created_at, id) < (:createdAt, :orderId) " +
+            "ORDER BY created_at DESC, id DESC LIMIT :limit")
+    Flux<OrderPO> findPageByClientIdAfter(UUID clientId, LocalDateTime createdAt, UUID orderId, int limit);
+}
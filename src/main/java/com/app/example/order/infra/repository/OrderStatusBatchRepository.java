@@ -0,0 +1,30 @@
+package com.app.example.order.infra.repository;
+
+import com.app.example.order.domain.po.OrderStatusTransitionPO;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Fragmento de repositório para a transição de status de vários pedidos em uma única instrução.
+ * <p>
+ * Complementa o {@link OrderRepository} com a versão em lote de
+ * {@link OrderRepository#transitionStatus(UUID, String, String[])}: todos os pedidos informados
+ * são atualizados por um único {@code UPDATE}, e cada ID recebe o seu próprio resultado.
+ * </p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+public interface OrderStatusBatchRepository {
+
+    /**
+     * Altera para {@code to} o status dos pedidos cujo status atual esteja em {@code allowedFrom}.
+     *
+     * @param orderIds    IDs dos pedidos; IDs repetidos são considerados uma única vez.
+     * @param to          status de destino.
+     * @param allowedFrom status de origem permitidos para a transição.
+     * @return Fluxo com um resultado por ID distinto, na ordem da primeira ocorrência de cada ID.
+     */
+    Flux<OrderStatusTransitionPO> transitionStatusAll(List<UUID> orderIds, String to, String[] allowedFrom);
+}
@@ -0,0 +1,73 @@
+package com.app.example.order.infra.repository;
+
+import com.app.example.order.domain.enums.OrderTransitionOutcomeEnum;
+import com.app.example.order.domain.po.OrderStatusTransitionPO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Implementação do fragmento {@link OrderStatusBatchRepository} baseada no {@link DatabaseClient}.
+ * <p>
+ * Os IDs são enviados como um único parâmetro {@code uuid[]}. Os pedidos encontrados são bloqueados em ordem de ID
+ * antes do {@code UPDATE}, para que lotes concorrentes com pedidos em comum não entrem em deadlock. Como as
+ * consultas de uma mesma instrução enxergam os dados anteriores ao {@code UPDATE}, a junção final com
+ * {@code orders} diferencia os pedidos com status inválido dos pedidos inexistentes sem uma segunda ida ao banco.
+ * </p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@RequiredArgsConstructor
+public class OrderStatusBatchRepositoryImpl implements OrderStatusBatchRepository {
+
+    private static final String TRANSITION_SQL = """
+            WITH requested AS (
+                SELECT r.id, min(r.ord) AS ord
+                FROM unnest(CAST(:ids AS uuid[])) WITH ORDINALITY AS r(id, ord)
+                GROUP BY r.id
+            ), locked AS (
+                SELECT o.id
+                FROM orders o
+                JOIN requested r ON r.id = o.id
+                ORDER BY o.id
+                FOR UPDATE OF o
+            ), updated AS (
+                UPDATE orders o
+                SET status = :to
+                FROM locked l
+                WHERE o.id = l.id
+                  AND o.status = ANY(CAST(:allowedFrom AS text[]))
+                RETURNING o.id, o.status
+            )
+            SELECT r.id,
+                   CASE WHEN u.id IS NOT NULL THEN 'TRANSITIONED'
+                        WHEN o.id IS NOT NULL THEN 'WRONG_STATE'
+                        ELSE 'NOT_FOUND' END AS outcome,
+                   COALESCE(u.status, o.status) AS status
+            FROM requested r
+            LEFT JOIN updated u ON u.id = r.id
+            LEFT JOIN orders o ON o.id = r.id
+            ORDER BY r.ord
+            """;
+
+    private final DatabaseClient databaseClient;
+
+    @Override
+    public Flux<OrderStatusTransitionPO> transitionStatusAll(List<UUID> orderIds, String to, String[] allowedFrom) {
+        if (orderIds.isEmpty()) {
+            return Flux.empty();
+        }
+        return databaseClient.sql(TRANSITION_SQL)
+                .bind("ids", orderIds.toArray(UUID[]::new))
+                .bind("to", to)
+                .bind("allowedFrom", allowedFrom)
+                .map((row, metadata) -> new OrderStatusTransitionPO(
+                        row.get("id", UUID.class),
+                        OrderTransitionOutcomeEnum.valueOf(row.get("outcome", String.class)),
+                        row.get("status", String.class)))
+                .all();
+    }
+}
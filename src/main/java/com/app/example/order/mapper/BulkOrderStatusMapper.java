@@ -0,0 +1,51 @@
+package com.app.example.order.mapper;
+
+import com.app.example.order.application.command.BulkOrderStatusCommand;
+import com.app.example.order.domain.dto.BulkOrderStatusDTO;
+import com.app.example.order.domain.enums.OrderStatusEnum;
+import com.app.example.order.domain.po.OrderStatusTransitionPO;
+import org.mapstruct.Mapper;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Mapper responsável pelas conversões das operações de status de pedidos em lote.
+ * <p>
+ * Converte um lote de IDs para o {@link BulkOrderStatusCommand.Input}, as linhas
+ * {@link OrderStatusTransitionPO} lidas do banco de dados para o {@link BulkOrderStatusCommand.Output},
+ * e a saída do comando para o {@link BulkOrderStatusDTO.Response}.
+ * </p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@Mapper(componentModel = "spring")
+public interface BulkOrderStatusMapper {
+
+    /**
+     * Converte um lote de IDs de pedidos para o objeto de entrada do comando.
+     *
+     * @param orderIds     Identificadores dos pedidos do lote.
+     * @param targetStatus Status de destino.
+     * @return Objeto de entrada {@link BulkOrderStatusCommand.Input}.
+     */
+    default BulkOrderStatusCommand.Input toInput(List<UUID> orderIds, OrderStatusEnum targetStatus) {
+        return new BulkOrderStatusCommand.Input(orderIds, targetStatus);
+    }
+
+    /**
+     * Converte uma linha de resultado da transição em lote para a saída do comando.
+     *
+     * @param transition Linha de resultado lida do banco de dados.
+     * @return Objeto de saída {@link BulkOrderStatusCommand.Output}.
+     */
+    BulkOrderStatusCommand.Output toOutput(OrderStatusTransitionPO transition);
+
+    /**
+     * Converte a saída do comando para o DTO de resposta.
+     *
+     * @param output Objeto de saída do comando.
+     * @return DTO de resposta {@link BulkOrderStatusDTO.Response}.
+     */
+    BulkOrderStatusDTO.Response toResponse(BulkOrderStatusCommand.Output output);
+}
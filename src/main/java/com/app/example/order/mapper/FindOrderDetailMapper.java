@@ -0,0 +1,53 @@
+package com.app.example.order.mapper;
+
+import com.app.example.order.application.command.FindOrderDetailCommand;
+import com.app.example.order.domain.dto.FindOrderDetailDTO;
+import com.app.example.order.domain.po.OrderItemPO;
+import com.app.example.order.domain.po.OrderWithItemsPO;
+import org.mapstruct.Mapper;
+
+/**
+ * Mapper responsável pelas conversões do caso de uso de consulta do detalhe de um pedido.
+ * <p>
+ * Converte a requisição {@link FindOrderDetailDTO.Request} para o {@link FindOrderDetailCommand.Input},
+ * o agregado {@link OrderWithItemsPO} lido do banco de dados para o {@link FindOrderDetailCommand.Output},
+ * e a saída do comando para o {@link FindOrderDetailDTO.Response}.
+ * </p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@Mapper(componentModel = "spring")
+public interface FindOrderDetailMapper {
+
+    /**
+     * Converte a requisição para o objeto de entrada do comando.
+     *
+     * @param request Requisição de consulta do detalhe do pedido.
+     * @return Objeto de entrada {@link FindOrderDetailCommand.Input}.
+     */
+    FindOrderDetailCommand.Input toInput(FindOrderDetailDTO.Request request);
+
+    /**
+     * Converte o agregado lido do banco de dados para a saída do comando.
+     *
+     * @param order Pedido com os seus itens.
+     * @return Objeto de saída {@link FindOrderDetailCommand.Output}.
+     */
+    FindOrderDetailCommand.Output toOutput(OrderWithItemsPO order);
+
+    /**
+     * Converte um item do pedido para o item da saída do comando.
+     *
+     * @param item Item do pedido.
+     * @return Item da saída do comando.
+     */
+    FindOrderDetailCommand.Output.Item toOutputItem(OrderItemPO item);
+
+    /**
+     * Converte a saída do comando para o DTO de resposta.
+     *
+     * @param output Objeto de saída do comando.
+     * @return DTO de resposta {@link FindOrderDetailDTO.Response}.
+     */
+    FindOrderDetailDTO.Response toResponse(FindOrderDetailCommand.Output output);
+}
@@ -0,0 +1,53 @@
+package com.app.example.order.mapper;
+
+import com.app.example.order.application.command.ListClientOrdersCommand;
+import com.app.example.order.application.usecase.helper.OrderHistoryCursor;
+import com.app.example.order.domain.dto.ListClientOrdersDTO;
+import com.app.example.order.domain.po.OrderPO;
+import org.mapstruct.Mapper;
+
+/**
+ * Mapper responsável pelas conversões do caso de uso de listagem do histórico de pedidos de um cliente.
+ * <p>
+ * Converte a requisição {@link ListClientOrdersDTO.Request} para o {@link ListClientOrdersCommand.Input},
+ * os registros {@link OrderPO} para o {@link ListClientOrdersCommand.Output}, já com o cursor de cada pedido,
+ * e a saída do comando para o {@link ListClientOrdersDTO.Response}.
+ * </p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@Mapper(componentModel = "spring")
+public interface ListClientOrdersMapper {
+
+    /**
+     * Converte a requisição para o objeto de entrada do comando.
+     *
+     * @param request Requisição de uma página do histórico.
+     * @return Objeto de entrada {@link ListClientOrdersCommand.Input}.
+     */
+    ListClientOrdersCommand.Input toInput(ListClientOrdersDTO.Request request);
+
+    /**
+     * Converte um pedido lido do banco de dados para a saída do comando.
+     *
+     * @param order Pedido lido do banco de dados.
+     * @return Objeto de saída {@link ListClientOrdersCommand.Output}.
+     */
+    default ListClientOrdersCommand.Output toOutput(OrderPO order) {
+        return new ListClientOrdersCommand.Output(
+                order.getId(),
+                order.getTotalAmount(),
+                order.getStatus(),
+                order.getCreatedAt(),
+                new OrderHistoryCursor(order.getCreatedAt(), order.getId()).encode()
+        );
+    }
+
+    /**
+     * Converte a saída do comando para o DTO de resposta.
+     *
+     * @param output Objeto de saída do comando.
+     * @return DTO de resposta {@link ListClientOrdersDTO.Response}.
+     */
+    ListClientOrdersDTO.Response toResponse(ListClientOrdersCommand.Output output);
+}
@@ -1,17 +1,29 @@
 package com.app.example.product.api.openapi;
 
+import com.app.example.product.domain.dto.AdjustStockBatchDTO;
 import com.app.example.product.domain.dto.CreateProductDTO;
+import com.app.example.product.domain.dto.ImportProductsDTO;
 import com.app.example.product.domain.dto.ListByCategoryProductDTO;
+import com.app.example.product.domain.dto.SearchProductDTO;
+import com.app.example.product.domain.dto.SuggestProductDTO;
+import com.app.example.product.domain.dto.SplitStockDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.math.BigDecimal;
+import java.util.UUID;
+
 @Tag(
         name = "Produto API",
         description = "Operações relacionadas aos produtos"
@@ -50,7 +62,10 @@ public interface ProductOpenapi {
 
     @Operation(
             summary = "Listar produtos por categoria",
-            description = "Retorna uma lista de produtos pertencentes à categoria especificada",
+            description = "Retorna uma página dos produtos pertencentes à categoria especificada, em ordem de ID. "
+                    + "Para obter a página seguinte, informe em 'after' o ID do último produto recebido. "
+                    + "As páginas ficam em memória já convertidas para JSON e são atualizadas quando um produto da categoria é "
+                    + "criado ou tem o estoque alterado",
             operationId = "listProductsByCategory",
             tags = {"Produto API"},
             parameters = {
@@ -58,7 +73,9 @@ public interface ProductOpenapi {
                             name = "category",
                             description = "Categoria dos produtos a serem listados",
                             required = true
-                    )
+                    ),
+                    @Parameter(name = "after", description = "ID do último produto recebido; ausente na primeira página"),
+                    @Parameter(name = "limit", description = "Quantidade máxima de produtos da página (padrão 100, máximo 500)")
             },
             responses = {
                     @ApiResponse(
@@ -66,7 +83,7 @@ public interface ProductOpenapi {
                             description = "Lista de produtos retornada com sucesso",
                             content = @Content(
                                     mediaType = "application/json",
-                                    schema = @Schema(implementation = ListByCategoryProductDTO.Response.class)
+                                    array = @ArraySchema(schema = @Schema(implementation = ListByCategoryProductDTO.Response.class))
                             )
                     ),
                     @ApiResponse(
@@ -75,5 +92,186 @@ public interface ProductOpenapi {
                     )
             }
     )
-    Flux<ListByCategoryProductDTO.Response> listByCategory(String category);
+    Mono<DataBuffer> listByCategory(String category, UUID after, int limit, ServerHttpResponse response);
+
+    @Operation(
+            summary = "Transmitir todos os produtos de uma categoria",
+            description = "Transmite, como NDJSON (um produto por linha), todos os produtos da categoria em ordem de ID. "
+                    + "Os produtos são lidos do banco de dados à medida que o cliente os consome",
+            operationId = "streamProductsByCategory",
+            tags = {"Produto API"},
+            parameters = {
+                    @Parameter(
+                            name = "category",
+                            description = "Categoria dos produtos a serem transmitidos",
+                            required = true
+                    ),
+                    @Parameter(name = "after", description = "ID do último produto já recebido, para retomar uma transmissão")
+            },
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Produtos da categoria",
+                            content = @Content(
+                                    mediaType = "application/x-ndjson",
+                                    schema = @Schema(implementation = ListByCategoryProductDTO.Response.class)
+                            )
+                    )
+            }
+    )
+    Flux<ListByCategoryProductDTO.Response> streamByCategory(String category, UUID after);
+
+    @Operation(
+            summary = "Buscar produtos",
+            description = "Busca produtos pelo nome e pela descrição, do mais para o menos relevante. Cada produto traz um cursor; "
+                    + "para obter a página seguinte, informe em 'after' o cursor do último produto recebido, com os mesmos termos e filtros",
+            operationId = "searchProducts",
+            tags = {"Produto API"},
+            parameters = {
+                    @Parameter(name = "q", description = "Termos buscados; aspas para frases e '-' para excluir termos", required = true),
+                    @Parameter(name = "category", description = "Categoria dos produtos; ausente para todas"),
+                    @Parameter(name = "minPrice", description = "Preço mínimo"),
+                    @Parameter(name = "maxPrice", description = "Preço máximo"),
+                    @Parameter(name = "inStock", description = "Retornar apenas produtos com estoque (padrão false)"),
+                    @Parameter(name = "after", description = "Cursor do último produto recebido; ausente na primeira página"),
+                    @Parameter(name = "limit", description = "Quantidade máxima de produtos da página (padrão 20, máximo 100)")
+            },
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Produtos encontrados",
+                            content = {
+                                    @Content(
+                                            mediaType = "application/json",
+                                            array = @ArraySchema(schema = @Schema(implementation = SearchProductDTO.Response.class))
+                                    ),
+                                    @Content(
+                                            mediaType = "application/x-ndjson",
+                                            schema = @Schema(implementation = SearchProductDTO.Response.class)
+                                    )
+                            }
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Cursor inválido"
+                    )
+            }
+    )
+    Flux<SearchProductDTO.Response> search(String query, String category, BigDecimal minPrice, BigDecimal maxPrice,
+                                           boolean inStock, String after, int limit);
+
+    @Operation(
+            summary = "Sugerir produtos (autocompletar)",
+            description = "Retorna os produtos com alguma palavra do nome começando pelo texto informado, ignorando maiúsculas e acentos. "
+                    + "As sugestões vêm de um índice em memória, sem consultar o banco de dados",
+            operationId = "suggestProducts",
+            tags = {"Produto API"},
+            parameters = {
+                    @Parameter(name = "q", description = "Texto digitado", required = true),
+                    @Parameter(name = "limit", description = "Quantidade máxima de sugestões (padrão 10, máximo 20)")
+            },
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Produtos sugeridos",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    array = @ArraySchema(schema = @Schema(implementation = SuggestProductDTO.Response.class))
+                            )
+                    )
+            }
+    )
+    Flux<SuggestProductDTO.Response> suggest(String prefix, int limit);
+
+    @Operation(
+            summary = "Importar produtos em lote",
+            description = "Importa produtos de um arquivo NDJSON (um objeto por linha, com os campos da criação de produto) "
+                    + "ou CSV (cabeçalho com as colunas name, description, price, stockQuantity e category). Cada linha é validada "
+                    + "com as regras da criação de produto; linhas inválidas são rejeitadas sem interromper a importação. "
+                    + "O arquivo é lido à medida que os produtos são gravados, em lotes",
+            operationId = "importProducts",
+            tags = {"Produto API"},
+            requestBody = @RequestBody(
+                    description = "Arquivo com os produtos",
+                    required = true,
+                    content = {
+                            @Content(mediaType = "application/x-ndjson", schema = @Schema(implementation = CreateProductDTO.Request.class)),
+                            @Content(mediaType = "text/csv", schema = @Schema(type = "string"))
+                    }
+            ),
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Relatório da importação",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ImportProductsDTO.Response.class)
+                            )
+                    )
+            }
+    )
+    Mono<ImportProductsDTO.Response> importProducts(MediaType contentType, Flux<String> lines);
+
+    @Operation(
+            summary = "Dividir o estoque de um produto em buckets",
+            description = "Redistribui todo o estoque do produto entre a quantidade de linhas informada, para que "
+                    + "reservas concorrentes do mesmo produto não disputem uma única linha",
+            operationId = "splitProductStock",
+            tags = {"Produto API"},
+            requestBody = @RequestBody(
+                    description = "Produto e quantidade de buckets",
+                    required = true,
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = SplitStockDTO.Request.class)
+                    )
+            ),
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Estoque dividido com sucesso",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = SplitStockDTO.Response.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Dados inválidos"
+                    ),
+                    @ApiResponse(
+                            responseCode = "404",
+                            description = "Produto não encontrado"
+                    )
+            }
+    )
+    Mono<SplitStockDTO.Response> splitStock(SplitStockDTO.Request request);
+
+    @Operation(
+            summary = "Ajustar o estoque de vários produtos em lote",
+            description = "Aplica variações de estoque (positivas para entrada, negativas para saída) a vários produtos, "
+                    + "por exemplo no recebimento de um pedido de compra. Os ajustes são lidos à medida que são aplicados, em lotes; "
+                    + "produtos inexistentes ou sem saldo suficiente são informados no resultado sem interromper os demais",
+            operationId = "adjustProductStockBatch",
+            tags = {"Produto API"},
+            requestBody = @RequestBody(
+                    description = "Ajustes de estoque, um por produto e variação",
+                    required = true,
+                    content = {
+                            @Content(mediaType = "application/x-ndjson", schema = @Schema(implementation = AdjustStockBatchDTO.Item.class)),
+                            @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = AdjustStockBatchDTO.Item.class)))
+                    }
+            ),
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Resultado do ajuste",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = AdjustStockBatchDTO.Response.class)
+                            )
+                    )
+            }
+    )
+    Mono<AdjustStockBatchDTO.Response> adjustStockBatch(Flux<AdjustStockBatchDTO.Item> items);
 }
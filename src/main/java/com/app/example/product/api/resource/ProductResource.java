@@ -2,14 +2,27 @@ package com.app.example.product.api.resource;
 
 import com.app.example.product.api.openapi.ProductOpenapi;
 import com.app.example.product.application.ppi.ProductPort;
+import com.app.example.product.domain.dto.AdjustStockBatchDTO;
 import com.app.example.product.domain.dto.CreateProductDTO;
+import com.app.example.product.domain.dto.ImportProductsDTO;
 import com.app.example.product.domain.dto.ListByCategoryProductDTO;
+import com.app.example.product.domain.dto.SearchProductDTO;
+import com.app.example.product.domain.dto.SuggestProductDTO;
+import com.app.example.product.domain.enums.ProductImportFormatEnum;
+import com.app.example.product.domain.dto.SplitStockDTO;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.math.BigDecimal;
+import java.util.UUID;
+
 /**
  * Controlador REST para gerenciamento de produtos.
  * <p>
@@ -40,15 +53,127 @@ public class ProductResource implements ProductOpenapi {
     }
 
     /**
-     * Lista os produtos de uma categoria específica.
+     * Importa produtos em lote a partir de um arquivo NDJSON (um produto por linha) ou CSV (com cabeçalho).
+     * <p>
+     * O corpo da requisição é lido linha a linha, à medida que os produtos são gravados, sem carregar o arquivo
+     * em memória.
+     * </p>
+     *
+     * @param contentType formato do arquivo: {@code application/x-ndjson} ou {@code text/csv}
+     * @param lines       linhas do corpo da requisição
+     * @return {@link Mono<ImportProductsDTO.Response>} com o relatório da importação
+     */
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_NDJSON_VALUE, "text/csv"})
+    public Mono<ImportProductsDTO.Response> importProducts(@RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+                                                           @RequestBody Flux<String> lines) {
+        ProductImportFormatEnum format = MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType)
+                ? ProductImportFormatEnum.NDJSON
+                : ProductImportFormatEnum.CSV;
+        return productPort.importProducts(new ImportProductsDTO.Request(format, lines));
+    }
+
+    /**
+     * Lista uma página dos produtos de uma categoria específica, em ordem de ID.
+     * <p>
+     * A página é escrita na resposta com os bytes JSON devolvidos por {@link ProductPort#listByCategory}, mantidos em
+     * cache, sem consultar o banco nem converter os produtos novamente enquanto a página estiver em memória.
+     * </p>
+     *
+     * @param category Categoria pela qual os produtos serão filtrados.
+     * @param after    ID do último produto recebido; ausente na primeira página.
+     * @param limit    Quantidade máxima de produtos da página.
+     * @param response Resposta HTTP, cujo {@code DataBufferFactory} envolve os bytes da página sem copiá-los.
+     * @return {@link Mono<DataBuffer>} com o array JSON da página de produtos pertencentes à categoria informada.
+     */
+    @GetMapping(value = "/category/{category}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<DataBuffer> listByCategory(@PathVariable String category,
+                                           @RequestParam(required = false) UUID after,
+                                           @RequestParam(defaultValue = "100") int limit,
+                                           ServerHttpResponse response) {
+        return productPort.listByCategory(new ListByCategoryProductDTO.Request(category, after, limit))
+                .map(response.bufferFactory()::wrap);
+    }
+
+    /**
+     * Transmite todos os produtos de uma categoria específica, em ordem de ID, como NDJSON (um produto por linha).
+     * <p>
+     * Os produtos são lidos do banco à medida que o cliente os consome.
+     * </p>
      *
      * @param category Categoria pela qual os produtos serão filtrados.
-     * @return {@link Flux<ListByCategoryProductDTO.Response>} representando a lista de produtos
-     *         pertencentes à categoria informada.
+     * @param after    ID do último produto já recebido, para retomar uma transmissão; ausente para começar do início.
+     * @return {@link Flux<ListByCategoryProductDTO.Response>} com todos os produtos da categoria.
+     */
+    @GetMapping(value = "/category/{category}/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<ListByCategoryProductDTO.Response> streamByCategory(@PathVariable String category,
+                                                                    @RequestParam(required = false) UUID after) {
+        return productPort.streamByCategory(new ListByCategoryProductDTO.Request(category, after, 0));
+    }
+
+    /**
+     * Busca uma página de produtos pelo nome e pela descrição, do mais para o menos relevante.
+     * <p>
+     * Os produtos são enviados à medida que são lidos do banco: como lista JSON ou, com
+     * {@code Accept: application/x-ndjson}, um produto por linha.
+     * </p>
+     *
+     * @param query    termos buscados
+     * @param category categoria dos produtos; ausente para todas
+     * @param minPrice preço mínimo; ausente para não limitar
+     * @param maxPrice preço máximo; ausente para não limitar
+     * @param inStock  {@code true} para retornar apenas produtos com estoque
+     * @param after    cursor do último produto recebido; ausente na primeira página
+     * @param limit    quantidade máxima de produtos da página
+     * @return produtos da página, cada um com o seu cursor
+     */
+    @GetMapping(value = "/search", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<SearchProductDTO.Response> search(@RequestParam("q") String query,
+                                                  @RequestParam(required = false) String category,
+                                                  @RequestParam(required = false) BigDecimal minPrice,
+                                                  @RequestParam(required = false) BigDecimal maxPrice,
+                                                  @RequestParam(defaultValue = "false") boolean inStock,
+                                                  @RequestParam(required = false) String after,
+                                                  @RequestParam(defaultValue = "20") int limit) {
+        return productPort.search(new SearchProductDTO.Request(query, category, minPrice, maxPrice, inStock, after, limit));
+    }
+
+    /**
+     * Sugere produtos enquanto o cliente digita: produtos com alguma palavra do nome começando pelo texto informado.
+     * As sugestões vêm de um índice em memória, sem consultar o banco de dados.
+     *
+     * @param prefix texto digitado
+     * @param limit  quantidade máxima de sugestões
+     * @return produtos sugeridos
+     */
+    @GetMapping("/suggest")
+    public Flux<SuggestProductDTO.Response> suggest(@RequestParam("q") String prefix,
+                                                    @RequestParam(defaultValue = "10") int limit) {
+        return productPort.suggest(new SuggestProductDTO.Request(prefix, limit));
+    }
+
+    /**
+     * Divide o estoque de um produto em várias linhas (buckets).
+     *
+     * @param request Objeto contendo o ID do produto e a quantidade de buckets.
+     * @return {@link Mono<SplitStockDTO.Response>} com o estoque total e a quantidade de cada bucket criado.
+     */
+    @PostMapping("/stock/buckets")
+    public Mono<SplitStockDTO.Response> splitStock(@Valid @RequestBody SplitStockDTO.Request request) {
+        return productPort.splitStock(request);
+    }
+
+    /**
+     * Ajusta o estoque de vários produtos em lote (por exemplo, o recebimento de um pedido de compra).
+     * <p>
+     * Os ajustes são lidos à medida que são aplicados, sem carregar a requisição inteira em memória.
+     * </p>
+     *
+     * @param items Ajustes (produto e variação do estoque), em NDJSON ou em um array JSON.
+     * @return {@link Mono<AdjustStockBatchDTO.Response>} com o resultado do ajuste.
      */
-    @GetMapping("/category/{category}")
-    public Flux<ListByCategoryProductDTO.Response> listByCategory(@PathVariable String category) {
-        return productPort.listByCategory(new ListByCategoryProductDTO.Request(category));
+    @PostMapping(value = "/stock/batch", consumes = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public Mono<AdjustStockBatchDTO.Response> adjustStockBatch(@RequestBody Flux<AdjustStockBatchDTO.Item> items) {
+        return productPort.adjustStockBatch(new AdjustStockBatchDTO.Request(items));
     }
 
 }
\ No newline at end of file
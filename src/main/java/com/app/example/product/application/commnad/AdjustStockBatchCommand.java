@@ -0,0 +1,55 @@
+package com.app.example.product.application.commnad;
+
+import reactor.core.publisher.Flux;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Comando para o ajuste de estoque de vários produtos em lote (por exemplo, o recebimento de um pedido de compra).
+ * <p>
+ * Define os dados de entrada ({@link Input}), com os ajustes ainda sendo recebidos, e o resultado do ajuste
+ * ({@link Output}).
+ * </p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+public sealed interface AdjustStockBatchCommand extends Serializable
+        permits AdjustStockBatchCommand.Input, AdjustStockBatchCommand.Item, AdjustStockBatchCommand.Output {
+
+    /**
+     * Dados de entrada do ajuste em lote.
+     *
+     * @param items Ajustes, emitidos conforme a demanda da gravação.
+     */
+    record Input(Flux<Item> items) implements AdjustStockBatchCommand {}
+
+    /**
+     * Ajuste de estoque de um produto.
+     *
+     * @param productId ID do produto.
+     * @param delta     Variação do estoque: positiva para entrada, negativa para saída.
+     */
+    record Item(UUID productId,
+                int delta) implements AdjustStockBatchCommand {}
+
+    /**
+     * Resultado do ajuste em lote.
+     *
+     * @param totalItems                  Quantidade de ajustes recebidos.
+     * @param adjustedProducts            Quantidade de produtos ajustados, contada uma vez por lote.
+     * @param unknownProductIds           Produtos informados que não existem.
+     * @param insufficientStockProductIds Produtos cuja saída não foi aplicada por falta de saldo.
+     * @param rejectedProductIds          Produtos cuja soma das variações em um lote excede os limites do estoque.
+     * @param failedProductIds            Produtos de lotes cuja gravação falhou.
+     * @param elapsedMillis               Duração do ajuste, em milissegundos.
+     */
+    record Output(long totalItems,
+                  long adjustedProducts,
+                  List<UUID> unknownProductIds,
+                  List<UUID> insufficientStockProductIds,
+                  List<UUID> rejectedProductIds,
+                  List<UUID> failedProductIds,
+                  long elapsedMillis) implements AdjustStockBatchCommand {}
+}
@@ -20,14 +20,14 @@ public sealed interface ChangeStockCommand extends Serializable
      * Dados de entrada para alteração de estoque.
      *
      * @param productId Identificador do produto.
-     * @param quantity Quantidade a ser ajustada no estoque (positiva ou negativa).
+     * @param quantity Quantidade a ser baixada do estoque (negativa para reposição).
      */
     @Schema(description = "Entrada para alteração de estoque")
     record Input(
             @Schema(description = "ID do produto", example = "a1b2c3d4-e5f6-7890-abcd-1234567890ef")
             String productId,
 
-            @Schema(description = "Quantidade a ser ajustada (positiva ou negativa)", example = "-3")
+            @Schema(description = "Quantidade a ser baixada (negativa para reposição)", example = "3")
             int quantity
     ) implements ChangeStockCommand {}
 
@@ -0,0 +1,83 @@
+package com.app.example.product.application.commnad;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Comando para a consulta de estoque de vários produtos em uma única operação.
+ * <p>
+ * Define os dados de entrada ({@link Input}) e de saída ({@link Output})
+ * para o processo de obtenção de estoque em lote, utilizado principalmente
+ * na validação dos itens de um pedido.
+ * </p>
+ *
+ * Exemplo de uso:
+ * <pre>{@code
+ *     GetStocksCommand.Input input = new GetStocksCommand.Input(List.of("a1b2c3...", "d4e5f6..."));
+ *     Flux<GetStocksCommand.Output> outputs = getStocksUseCase.execute(input);
+ * }</pre>
+ *
+ * @see Input
+ * @see Output
+ * @see com.app.example.product.application.usecase.GetStocksUseCase
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+public sealed interface GetStocksCommand extends Serializable
+        permits GetStocksCommand.Input, GetStocksCommand.Output {
+
+    /**
+     * Dados de entrada para o comando de obtenção de estoque em lote.
+     *
+     * @param productIds Identificadores dos produtos a serem consultados.
+     */
+    record Input(
+            /**
+             * Identificadores únicos dos produtos a serem consultados.
+             */
+            List<String> productIds
+    ) implements GetStocksCommand {}
+
+    /**
+     * Dados de saída do comando, um para cada produto consultado.
+     *
+     * @param productId   ID do produto consultado
+     * @param price       Preço unitário do produto
+     * @param name        Nome do produto
+     * @param description Descrição do produto
+     * @param quantity    Quantidade disponível em estoque
+     * @param message     Mensagem descritiva da operação realizada
+     */
+    record Output(
+            /**
+             * Identificador único do produto consultado.
+             */
+            String productId,
+
+            /**
+             * Preço unitário atual do produto.
+             */
+            BigDecimal price,
+
+            /**
+             * Nome do produto.
+             */
+            String name,
+
+            /**
+             * Descrição detalhada do produto.
+             */
+            String description,
+
+            /**
+             * Quantidade disponível no estoque.
+             */
+            int quantity,
+
+            /**
+             * Mensagem descritiva da operação realizada.
+             */
+            String message
+    ) implements GetStocksCommand {}
+}
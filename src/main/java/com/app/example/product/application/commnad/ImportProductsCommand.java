@@ -0,0 +1,57 @@
+package com.app.example.product.application.commnad;
+
+import com.app.example.product.domain.enums.ProductImportFormatEnum;
+import reactor.core.publisher.Flux;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Comando para a importação de produtos em lote.
+ * <p>
+ * Define os dados de entrada ({@link Input}), com as linhas do arquivo ainda sendo recebidas, e o relatório
+ * da importação ({@link Output}).
+ * </p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+public sealed interface ImportProductsCommand extends Serializable
+        permits ImportProductsCommand.Input, ImportProductsCommand.Output {
+
+    /**
+     * Dados de entrada da importação.
+     *
+     * @param format Formato do arquivo.
+     * @param lines  Linhas do arquivo, na ordem, emitidas conforme a demanda da gravação.
+     */
+    record Input(ProductImportFormatEnum format,
+                 Flux<String> lines) implements ImportProductsCommand {}
+
+    /**
+     * Relatório da importação.
+     *
+     * @param totalRows       Quantidade de produtos lidos do arquivo.
+     * @param importedRows    Quantidade de produtos gravados.
+     * @param rejectedRows    Quantidade de produtos rejeitados.
+     * @param elapsedMillis   Duração da importação, em milissegundos.
+     * @param rowsPerSecond   Produtos lidos por segundo.
+     * @param errors          Linhas rejeitadas, até o limite configurado.
+     * @param errorsTruncated {@code true} se houve mais linhas rejeitadas do que as detalhadas em {@code errors}.
+     */
+    record Output(long totalRows,
+                  long importedRows,
+                  long rejectedRows,
+                  long elapsedMillis,
+                  double rowsPerSecond,
+                  List<RowError> errors,
+                  boolean errorsTruncated) implements ImportProductsCommand {}
+
+    /**
+     * Linha rejeitada na importação.
+     *
+     * @param line     Número da linha no arquivo, a partir de 1.
+     * @param messages Motivos da rejeição.
+     */
+    record RowError(long line,
+                    List<String> messages) implements Serializable {}
+}
@@ -24,8 +24,12 @@ public sealed interface ListByCategoryProductCommand extends Serializable
      * Dados de entrada para o comando de listagem por categoria.
      *
      * @param category Categoria dos produtos que se deseja listar.
+     * @param after    ID do último produto da página anterior; nulo para a primeira página.
+     * @param limit    Quantidade máxima de produtos da página.
      */
-    record Input(String category) implements ListByCategoryProductCommand {}
+    record Input(String category,
+                 UUID after,
+                 int limit) implements ListByCategoryProductCommand {}
 
     /**
      * Dados de saída do comando contendo a lista de produtos da categoria.
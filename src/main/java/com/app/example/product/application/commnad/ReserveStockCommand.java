@@ -0,0 +1,72 @@
+package com.app.example.product.application.commnad;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Comando que encapsula os dados da reserva de estoque de todas as linhas de um pedido.
+ * <p>
+ * A reserva é atômica: ou todas as linhas são baixadas do estoque, ou nenhuma é.
+ * </p>
+ *
+ * @see com.app.example.product.application.usecase.ReserveStockUseCase
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+public sealed interface ReserveStockCommand extends Serializable
+        permits ReserveStockCommand.Input, ReserveStockCommand.Output {
+
+    /**
+     * Dados de entrada da reserva de estoque.
+     *
+     * @param products Produtos e quantidades a serem reservados.
+     */
+    record Input(
+            /**
+             * Lista de produtos e respectivas quantidades a serem baixadas do estoque.
+             */
+            List<ProductQuantity> products
+    ) implements ReserveStockCommand {
+
+        /**
+         * Produto e quantidade a ser reservada.
+         *
+         * @param productId ID do produto.
+         * @param quantity  Quantidade a ser reservada.
+         */
+        public record ProductQuantity(
+                String productId,
+                int quantity
+        ) {}
+    }
+
+    /**
+     * Resultado da reserva de estoque.
+     *
+     * @param products Estoque resultante de cada produto reservado.
+     * @param message  Mensagem de confirmação.
+     */
+    record Output(
+            /**
+             * Estoque de cada produto após a reserva.
+             */
+            List<ReservedProduct> products,
+
+            /**
+             * Mensagem descritiva da operação realizada.
+             */
+            String message
+    ) implements ReserveStockCommand {
+
+        /**
+         * Estoque resultante de um produto após a reserva.
+         *
+         * @param productId ID do produto.
+         * @param newStock  Quantidade em estoque após a reserva.
+         */
+        public record ReservedProduct(
+                String productId,
+                int newStock
+        ) {}
+    }
+}
@@ -0,0 +1,49 @@
+package com.app.example.product.application.commnad;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Comando que encapsula os dados da devolução ao estoque dos itens de um ou mais pedidos cancelados.
+ *
+ * @see com.app.example.product.application.usecase.RestoreStockUseCase
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+public sealed interface RestoreStockCommand extends Serializable
+        permits RestoreStockCommand.Input, RestoreStockCommand.Output {
+
+    /**
+     * Dados de entrada da devolução de estoque.
+     *
+     * @param orderIds IDs dos pedidos cujos itens devem voltar ao estoque.
+     */
+    record Input(
+            List<String> orderIds
+    ) implements RestoreStockCommand {}
+
+    /**
+     * Resultado da devolução de estoque.
+     *
+     * @param products Quantidade devolvida e estoque resultante de cada produto.
+     * @param message  Mensagem de confirmação.
+     */
+    record Output(
+            List<RestoredProduct> products,
+            String message
+    ) implements RestoreStockCommand {
+
+        /**
+         * Quantidade devolvida e estoque resultante de um produto.
+         *
+         * @param productId ID do produto.
+         * @param quantity  Quantidade devolvida ao estoque.
+         * @param newStock  Quantidade em estoque após a devolução.
+         */
+        public record RestoredProduct(
+                String productId,
+                int quantity,
+                int newStock
+        ) {}
+    }
+}
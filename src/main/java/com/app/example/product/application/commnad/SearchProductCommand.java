@@ -0,0 +1,58 @@
+package com.app.example.product.application.commnad;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Comando para a busca textual de produtos.
+ * <p>
+ * Define os dados de entrada ({@link Input}) de uma página da busca e os dados de saída ({@link Output})
+ * de cada produto encontrado.
+ * </p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+public sealed interface SearchProductCommand extends Serializable
+        permits SearchProductCommand.Input, SearchProductCommand.Output {
+
+    /**
+     * Dados de entrada para a busca de uma página de produtos.
+     *
+     * @param query    Termos buscados no nome e na descrição dos produtos.
+     * @param category Categoria dos produtos; nula para todas.
+     * @param minPrice Preço mínimo; nulo para não limitar.
+     * @param maxPrice Preço máximo; nulo para não limitar.
+     * @param inStock  {@code true} para retornar apenas produtos com estoque.
+     * @param after    Cursor do último produto da página anterior; nulo para a primeira página.
+     * @param limit    Quantidade máxima de produtos da página.
+     */
+    record Input(String query,
+                 String category,
+                 BigDecimal minPrice,
+                 BigDecimal maxPrice,
+                 boolean inStock,
+                 String after,
+                 int limit) implements SearchProductCommand {}
+
+    /**
+     * Produto encontrado pela busca.
+     *
+     * @param id            Identificador do produto.
+     * @param name          Nome do produto.
+     * @param description   Descrição do produto.
+     * @param price         Preço do produto.
+     * @param stockQuantity Quantidade em estoque.
+     * @param category      Categoria do produto.
+     * @param rank          Relevância do produto para os termos buscados.
+     * @param cursor        Cursor a ser informado para obter os produtos seguintes a este.
+     */
+    record Output(UUID id,
+                  String name,
+                  String description,
+                  BigDecimal price,
+                  Integer stockQuantity,
+                  String category,
+                  Float rank,
+                  String cursor) implements SearchProductCommand {}
+}
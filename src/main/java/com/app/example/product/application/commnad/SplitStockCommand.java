@@ -0,0 +1,53 @@
+package com.app.example.product.application.commnad;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Comando que encapsula os dados da divisão do estoque de um produto em buckets.
+ *
+ * @see com.app.example.product.application.usecase.SplitStockUseCase
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+public sealed interface SplitStockCommand extends Serializable
+        permits SplitStockCommand.Input, SplitStockCommand.Output {
+
+    /**
+     * Dados de entrada da divisão de estoque.
+     *
+     * @param productId ID do produto.
+     * @param buckets   Quantidade de buckets em que o estoque será dividido.
+     */
+    record Input(
+            String productId,
+            int buckets
+    ) implements SplitStockCommand {}
+
+    /**
+     * Resultado da divisão de estoque.
+     *
+     * @param productId  ID do produto.
+     * @param totalStock Estoque total do produto, distribuído entre os buckets.
+     * @param buckets    Quantidade de cada bucket.
+     * @param message    Mensagem de confirmação.
+     */
+    record Output(
+            String productId,
+            int totalStock,
+            List<Bucket> buckets,
+            String message
+    ) implements SplitStockCommand {
+
+        /**
+         * Bucket de estoque criado.
+         *
+         * @param bucket   Número do bucket, a partir de zero.
+         * @param quantity Quantidade em estoque no bucket.
+         */
+        public record Bucket(
+                int bucket,
+                int quantity
+        ) {}
+    }
+}
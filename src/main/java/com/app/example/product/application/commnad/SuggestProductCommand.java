@@ -0,0 +1,35 @@
+package com.app.example.product.application.commnad;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+/**
+ * Comando para sugerir nomes de produtos a partir do que foi digitado (autocompletar).
+ * <p>
+ * Define os dados de entrada ({@link Input}) da sugestão e os dados de saída ({@link Output})
+ * de cada produto sugerido.
+ * </p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+public sealed interface SuggestProductCommand extends Serializable
+        permits SuggestProductCommand.Input, SuggestProductCommand.Output {
+
+    /**
+     * Dados de entrada para a sugestão de produtos.
+     *
+     * @param prefix Início de alguma palavra do nome do produto.
+     * @param limit  Quantidade máxima de produtos sugeridos.
+     */
+    record Input(String prefix,
+                 int limit) implements SuggestProductCommand {}
+
+    /**
+     * Produto sugerido.
+     *
+     * @param id   Identificador do produto.
+     * @param name Nome do produto.
+     */
+    record Output(UUID id,
+                  String name) implements SuggestProductCommand {}
+}
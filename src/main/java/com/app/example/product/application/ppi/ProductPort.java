@@ -30,12 +30,47 @@ public interface ProductPort {
     Mono<CreateProductDTO.Response> create(@RequestBody CreateProductDTO.Request request);
 
     /**
-     * Lista os produtos com base na categoria informada no request.
+     * Lista uma página dos produtos com base na categoria informada no request, já convertida para JSON.
      *
-     * @param request Objeto contendo a categoria para filtragem dos produtos.
-     * @return {@link Flux} contendo a lista de produtos pertencentes à categoria especificada.
+     * @param request Objeto contendo a categoria, o último produto da página anterior e o tamanho da página.
+     * @return {@link Mono} contendo o array JSON de {@link ListByCategoryProductDTO.Response} com uma página dos
+     *         produtos pertencentes à categoria especificada. Os bytes podem ser compartilhados e não devem ser
+     *         alterados.
      */
-    Flux<ListByCategoryProductDTO.Response> listByCategory(ListByCategoryProductDTO.Request request);
+    Mono<byte[]> listByCategory(ListByCategoryProductDTO.Request request);
+
+    /**
+     * Transmite todos os produtos da categoria informada, conforme a demanda do consumidor.
+     *
+     * @param request Objeto contendo a categoria e, opcionalmente, o ID do último produto já recebido.
+     * @return {@link Flux} contendo os produtos da categoria, em ordem de ID.
+     */
+    Flux<ListByCategoryProductDTO.Response> streamByCategory(ListByCategoryProductDTO.Request request);
+
+    /**
+     * Busca uma página de produtos pelos termos informados, do mais para o menos relevante.
+     *
+     * @param request Objeto contendo os termos, os filtros opcionais, o cursor da página anterior e o tamanho da
+     *                página.
+     * @return {@link Flux} contendo os produtos encontrados, cada um com o seu cursor.
+     */
+    Flux<SearchProductDTO.Response> search(SearchProductDTO.Request request);
+
+    /**
+     * Sugere produtos com alguma palavra do nome começando pelo texto informado, sem consultar o banco de dados.
+     *
+     * @param request Objeto contendo o texto digitado e a quantidade máxima de sugestões.
+     * @return {@link Flux} contendo os produtos sugeridos.
+     */
+    Flux<SuggestProductDTO.Response> suggest(SuggestProductDTO.Request request);
+
+    /**
+     * Importa produtos em lote a partir das linhas de um arquivo NDJSON ou CSV.
+     *
+     * @param request Objeto contendo o formato e as linhas do arquivo.
+     * @return {@link Mono} contendo o relatório da importação.
+     */
+    Mono<ImportProductsDTO.Response> importProducts(ImportProductsDTO.Request request);
 
     /**
      * Altera a quantidade de estoque de um produto com base nos dados fornecidos no request.
@@ -49,6 +84,51 @@ public interface ProductPort {
      */
     Mono<ChangeStockDTO.Response> changeStock(ChangeStockDTO.Request request);
 
+    /**
+     * Ajusta o estoque de vários produtos em lote, à medida que os ajustes são recebidos.
+     * <p>
+     * Os ajustes são aplicados em lotes, cada um em uma única operação; produtos inexistentes, sem saldo
+     * suficiente ou com variações que excedem os limites do estoque são informados no resultado sem interromper o
+     * ajuste dos demais.
+     * </p>
+     *
+     * @param request Objeto contendo os ajustes (produto e variação do estoque).
+     * @return {@link Mono} contendo o resultado do ajuste.
+     */
+    Mono<AdjustStockBatchDTO.Response> adjustStockBatch(AdjustStockBatchDTO.Request request);
+
+    /**
+     * Reserva, em uma única operação atômica, o estoque de todas as linhas de um pedido.
+     * <p>
+     * Se qualquer linha não tiver estoque suficiente, a reserva inteira é rejeitada e nenhum
+     * estoque é alterado.
+     * </p>
+     *
+     * @param request Objeto contendo os produtos e as quantidades a serem reservadas.
+     * @return {@link Mono} contendo o estoque resultante de cada produto reservado.
+     */
+    Mono<ReserveStockDTO.Response> reserveStock(ReserveStockDTO.Request request);
+
+    /**
+     * Devolve ao estoque, em uma única operação, os itens dos pedidos informados.
+     * <p>
+     * Deve ser chamado na mesma transação que cancela os pedidos.
+     * </p>
+     *
+     * @param request Objeto contendo os IDs dos pedidos cancelados.
+     * @return {@link Mono} contendo a quantidade devolvida e o estoque resultante de cada produto.
+     */
+    Mono<RestoreStockDTO.Response> restoreStock(RestoreStockDTO.Request request);
+
+    /**
+     * Divide o estoque de um produto em várias linhas (buckets), para que reservas concorrentes do mesmo
+     * produto não disputem uma única linha.
+     *
+     * @param request Objeto contendo o ID do produto e a quantidade de buckets.
+     * @return {@link Mono} contendo o estoque total e a quantidade de cada bucket criado.
+     */
+    Mono<SplitStockDTO.Response> splitStock(SplitStockDTO.Request request);
+
     /**
      * Consulta a quantidade de estoque de um produto com base nos dados fornecidos no request.
      *
@@ -57,6 +137,14 @@ public interface ProductPort {
      */
     Mono<GetStockDTO.Response> getStock(GetStockDTO.Request request);
 
+    /**
+     * Consulta, em uma única operação, o estoque de vários produtos.
+     *
+     * @param request Objeto contendo os identificadores dos produtos para consulta de estoque.
+     * @return {@link Flux} contendo o estoque de cada produto, na ordem dos IDs informados.
+     */
+    Flux<GetStocksDTO.Response> getStocks(GetStocksDTO.Request request);
+
     /**
      * Verifica se existe um produto com o ID especificado.
      *
@@ -1,7 +1,9 @@
 package com.app.example.product.application.ppi;
 
 import com.app.example.product.application.commnad.*;
+import com.app.example.product.application.usecase.ListByCategoryProductUseCase;
 import com.app.example.product.domain.dto.*;
+import com.app.example.product.infra.cache.CategoryListingResponseCache;
 import com.app.example.product.mapper.*;
 import com.app.example.shared.usecase.IUseCase;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -35,10 +37,28 @@ public class ProductPpiConfig {
      * @param createProductMapper                Mapeador para conversão entre DTO e comando de criação.
      * @param listByCategoryProductUseCase       Caso de uso para listagem de produtos por categoria.
      * @param listByCategoryProductMapper        Mapeador para conversão entre DTO e comando de listagem.
+     * @param categoryListingResponseCache       Cache das páginas de produtos por categoria, já convertidas para JSON.
+     * @param streamByCategoryProductUseCase     Caso de uso para transmissão de todos os produtos de uma categoria.
+     * @param searchProductUseCase               Caso de uso para busca textual de produtos.
+     * @param searchProductMapper                Mapeador para conversão entre DTO e comando de busca.
+     * @param suggestProductUseCase              Caso de uso para sugestão de nomes de produtos.
+     * @param suggestProductMapper               Mapeador para conversão entre DTO e comando de sugestão.
+     * @param importProductsUseCase              Caso de uso para importação de produtos em lote.
+     * @param importProductsMapper               Mapeador para conversão entre DTO e comando de importação.
      * @param changeStockUseCase                 Caso de uso para alterar o estoque de produtos.
      * @param changeStockMapper                  Mapeador para conversão entre DTO e comando de alteração de estoque.
+     * @param adjustStockBatchUseCase            Caso de uso para ajustar o estoque de vários produtos em lote.
+     * @param adjustStockBatchMapper             Mapeador para conversão entre DTO e comando de ajuste de estoque em lote.
+     * @param reserveStockUseCase                Caso de uso para reservar o estoque de várias linhas de um pedido.
+     * @param reserveStockMapper                 Mapeador para conversão entre DTO e comando de reserva de estoque.
+     * @param restoreStockUseCase                Caso de uso para devolver ao estoque os itens de pedidos cancelados.
+     * @param restoreStockMapper                 Mapeador para conversão entre DTO e comando de devolução de estoque.
+     * @param splitStockUseCase                  Caso de uso para dividir o estoque de um produto em buckets.
+     * @param splitStockMapper                   Mapeador para conversão entre DTO e comando de divisão de estoque.
      * @param getStockUseCase                    Caso de uso para obter o estoque de um produto.
      * @param getStockMapper                     Mapeador para conversão entre DTO e comando de obtenção de estoque.
+     * @param getStocksUseCase                   Caso de uso para obter o estoque de vários produtos.
+     * @param getStocksMapper                    Mapeador para conversão entre DTO e comando de obtenção de estoque em lote.
      * @param existsByIdUseCase                  Caso de uso para verificação da existência de um produto.
      * @param existsByIdMapper                   Mapeador para conversão entre DTO e comando de verificação de existência.
      * @return Implementação anônima de {@link ProductPort}.
@@ -49,10 +69,28 @@ public class ProductPpiConfig {
             CreateProductMapper createProductMapper,
             @Qualifier("listByCategoryProductUseCase") IUseCase<ListByCategoryProductCommand.Input, Flux<ListByCategoryProductCommand.Output>> listByCategoryProductUseCase,
             ListByCategoryProductMapper listByCategoryProductMapper,
+            CategoryListingResponseCache categoryListingResponseCache,
+            @Qualifier("streamByCategoryProductUseCase") IUseCase<ListByCategoryProductCommand.Input, Flux<ListByCategoryProductCommand.Output>> streamByCategoryProductUseCase,
+            @Qualifier("searchProductUseCase") IUseCase<SearchProductCommand.Input, Flux<SearchProductCommand.Output>> searchProductUseCase,
+            SearchProductMapper searchProductMapper,
+            @Qualifier("suggestProductUseCase") IUseCase<SuggestProductCommand.Input, Flux<SuggestProductCommand.Output>> suggestProductUseCase,
+            SuggestProductMapper suggestProductMapper,
+            @Qualifier("importProductsUseCase") IUseCase<ImportProductsCommand.Input, Mono<ImportProductsCommand.Output>> importProductsUseCase,
+            ImportProductsMapper importProductsMapper,
             @Qualifier("changeStockUseCase") IUseCase<ChangeStockCommand.Input, Mono<ChangeStockCommand.Output>> changeStockUseCase,
             ChangeStockMapper changeStockMapper,
+            @Qualifier("adjustStockBatchUseCase") IUseCase<AdjustStockBatchCommand.Input, Mono<AdjustStockBatchCommand.Output>> adjustStockBatchUseCase,
+            AdjustStockBatchMapper adjustStockBatchMapper,
+            @Qualifier("reserveStockUseCase") IUseCase<ReserveStockCommand.Input, Mono<ReserveStockCommand.Output>> reserveStockUseCase,
+            ReserveStockMapper reserveStockMapper,
+            @Qualifier("restoreStockUseCase") IUseCase<RestoreStockCommand.Input, Mono<RestoreStockCommand.Output>> restoreStockUseCase,
+            RestoreStockMapper restoreStockMapper,
+            @Qualifier("splitStockUseCase") IUseCase<SplitStockCommand.Input, Mono<SplitStockCommand.Output>> splitStockUseCase,
+            SplitStockMapper splitStockMapper,
             @Qualifier("getStockUseCase") IUseCase<GetStockCommand.Input, Mono<GetStockCommand.Output>> getStockUseCase,
             GetStockMapper getStockMapper,
+            @Qualifier("getStocksUseCase") IUseCase<GetStocksCommand.Input, Flux<GetStocksCommand.Output>> getStocksUseCase,
+            GetStocksMapper getStocksMapper,
             @Qualifier("existsByIdUseCase") IUseCase<ExistsByIdCommand.Input, Mono<ExistsByIdCommand.Output>> existsByIdUseCase,
             ExistsByIdMapper existsByIdMapper
     ) {
@@ -71,15 +109,68 @@ public class ProductPpiConfig {
             }
 
             /**
-             * Lista produtos com base em uma categoria.
+             * Lista uma página de produtos com base em uma categoria, a partir do cache de páginas em JSON. O tamanho
+             * da página é limitado antes de compor a chave do cache, para que tamanhos equivalentes compartilhem a
+             * mesma página.
              *
-             * @param request Dados da requisição com a categoria.
-             * @return Fluxo de produtos encontrados.
+             * @param request Dados da requisição com a categoria, o último produto da página anterior e o tamanho da página.
+             * @return Mono com o array JSON dos produtos encontrados.
              */
             @Override
-            public Flux<ListByCategoryProductDTO.Response> listByCategory(ListByCategoryProductDTO.Request request) {
+            public Mono<byte[]> listByCategory(ListByCategoryProductDTO.Request request) {
+                ListByCategoryProductDTO.Request page = new ListByCategoryProductDTO.Request(
+                        request.category(), request.after(), ListByCategoryProductUseCase.pageSize(request.limit()));
+                return categoryListingResponseCache.get(page, key -> listByCategoryProductUseCase
+                        .execute(listByCategoryProductMapper.toInput(key))
+                        .map(listByCategoryProductMapper::toResponse));
+            }
+
+            /**
+             * Transmite todos os produtos de uma categoria.
+             *
+             * @param request Dados da requisição com a categoria e o último produto já recebido.
+             * @return Fluxo de produtos da categoria, emitidos conforme a demanda.
+             */
+            @Override
+            public Flux<ListByCategoryProductDTO.Response> streamByCategory(ListByCategoryProductDTO.Request request) {
                 ListByCategoryProductCommand.Input input = listByCategoryProductMapper.toInput(request);
-                return listByCategoryProductUseCase.execute(input).map(listByCategoryProductMapper::toResponse);
+                return streamByCategoryProductUseCase.execute(input).map(listByCategoryProductMapper::toResponse);
+            }
+
+            /**
+             * Busca uma página de produtos pelo nome e pela descrição.
+             *
+             * @param request Dados da requisição com os termos, os filtros e o cursor da página anterior.
+             * @return Fluxo de produtos encontrados, do mais para o menos relevante.
+             */
+            @Override
+            public Flux<SearchProductDTO.Response> search(SearchProductDTO.Request request) {
+                SearchProductCommand.Input input = searchProductMapper.toInput(request);
+                return searchProductUseCase.execute(input).map(searchProductMapper::toResponse);
+            }
+
+            /**
+             * Sugere produtos pelo início de uma palavra do nome.
+             *
+             * @param request Dados da requisição com o texto digitado e a quantidade de sugestões.
+             * @return Fluxo de produtos sugeridos.
+             */
+            @Override
+            public Flux<SuggestProductDTO.Response> suggest(SuggestProductDTO.Request request) {
+                SuggestProductCommand.Input input = suggestProductMapper.toInput(request);
+                return suggestProductUseCase.execute(input).map(suggestProductMapper::toResponse);
+            }
+
+            /**
+             * Importa produtos em lote.
+             *
+             * @param request Dados da requisição com o formato e as linhas do arquivo.
+             * @return Relatório da importação.
+             */
+            @Override
+            public Mono<ImportProductsDTO.Response> importProducts(ImportProductsDTO.Request request) {
+                ImportProductsCommand.Input input = importProductsMapper.toInput(request);
+                return importProductsUseCase.execute(input).map(importProductsMapper::toResponse);
             }
 
             /**
@@ -98,6 +189,54 @@ public class ProductPpiConfig {
                 return changeStockUseCase.execute(input).map(changeStockMapper::toResponse);
             }
 
+            /**
+             * Ajusta o estoque de vários produtos em lote.
+             *
+             * @param request Objeto contendo os ajustes (produto e variação do estoque).
+             * @return {@link Mono} contendo o resultado do ajuste.
+             */
+            @Override
+            public Mono<AdjustStockBatchDTO.Response> adjustStockBatch(AdjustStockBatchDTO.Request request) {
+                AdjustStockBatchCommand.Input input = adjustStockBatchMapper.toInput(request);
+                return adjustStockBatchUseCase.execute(input).map(adjustStockBatchMapper::toResponse);
+            }
+
+            /**
+             * Reserva o estoque de todas as linhas de um pedido em uma única operação.
+             *
+             * @param request Objeto contendo os produtos e as quantidades a serem reservadas.
+             * @return {@link Mono} contendo o estoque resultante de cada produto.
+             */
+            @Override
+            public Mono<ReserveStockDTO.Response> reserveStock(ReserveStockDTO.Request request) {
+                ReserveStockCommand.Input input = reserveStockMapper.toInput(request);
+                return reserveStockUseCase.execute(input).map(reserveStockMapper::toResponse);
+            }
+
+            /**
+             * Devolve ao estoque os itens dos pedidos informados.
+             *
+             * @param request Dados contendo os IDs dos pedidos cancelados.
+             * @return {@link Mono} com a quantidade devolvida e o estoque resultante de cada produto.
+             */
+            @Override
+            public Mono<RestoreStockDTO.Response> restoreStock(RestoreStockDTO.Request request) {
+                RestoreStockCommand.Input input = restoreStockMapper.toInput(request);
+                return restoreStockUseCase.execute(input).map(restoreStockMapper::toResponse);
+            }
+
+            /**
+             * Divide o estoque de um produto em buckets.
+             *
+             * @param request Dados contendo o ID do produto e a quantidade de buckets.
+             * @return {@link Mono} com o estoque total e a quantidade de cada bucket criado.
+             */
+            @Override
+            public Mono<SplitStockDTO.Response> splitStock(SplitStockDTO.Request request) {
+                SplitStockCommand.Input input = splitStockMapper.toInput(request);
+                return splitStockUseCase.execute(input).map(splitStockMapper::toResponse);
+            }
+
             /**
              * Obtém a quantidade de estoque de um produto.
              * <p>
@@ -114,6 +253,18 @@ public class ProductPpiConfig {
                 return getStockUseCase.execute(input).map(getStockMapper::toResponse);
             }
 
+            /**
+             * Obtém a quantidade de estoque de vários produtos em uma única consulta.
+             *
+             * @param request Dados contendo os IDs dos produtos a serem consultados.
+             * @return {@link Flux} com o estoque de cada produto.
+             */
+            @Override
+            public Flux<GetStocksDTO.Response> getStocks(GetStocksDTO.Request request) {
+                GetStocksCommand.Input input = getStocksMapper.toInput(request);
+                return getStocksUseCase.execute(input).map(getStocksMapper::toResponse);
+            }
+
             /**
              * Verifica se um produto existe a partir do seu ID.
              * <p>
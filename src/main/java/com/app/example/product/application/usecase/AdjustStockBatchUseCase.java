@@ -0,0 +1,286 @@
+package com.app.example.product.application.usecase;
+
+import com.app.example.product.application.commnad.AdjustStockBatchCommand;
+import com.app.example.product.application.usecase.helper.FlashSaleStockEngine;
+import com.app.example.product.application.usecase.helper.InventoryLedger;
+import com.app.example.product.application.usecase.helper.StockBucketReservation;
+import com.app.example.product.domain.enums.InventoryMovementReasonEnum;
+import com.app.example.product.domain.event.StocksAdjusted;
+import com.app.example.product.infra.cache.ProductCache;
+import com.app.example.product.infra.config.ProductStockBatchProperties;
+import com.app.example.product.infra.repository.ProductRepository;
+import com.app.example.shared.exception.InsufficientStockException;
+import com.app.example.shared.usecase.IUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Caso de uso para ajustar o estoque de vários produtos em lote (por exemplo, o recebimento de um pedido de compra).
+ * <p>
+ * Os ajustes são lidos à medida que chegam e aplicados em lotes de {@code app.product.stock-batch.chunk-size}. Em
+ * cada lote, as variações do mesmo produto são somadas e todos os produtos são atualizados com uma única instrução
+ * {@code UPDATE ... FROM unnest(...)} ({@link ProductRepository#applyStockDeltas}), em vez de um {@code UPDATE} por
+ * ajuste. Somente os produtos não atualizados são consultados novamente, para separar os inexistentes dos que não
+ * têm saldo suficiente. Um produto cuja soma das variações no lote excede os limites do estoque não é ajustado e é
+ * informado como rejeitado.
+ * </p>
+ * <p>
+ * Produtos em modo flash sale têm o estoque alterado em memória pelo {@link FlashSaleStockEngine}. Nos produtos com o
+ * estoque dividido em buckets, as saídas são baixadas pelo {@link StockBucketReservation} e as entradas somadas ao
+ * bucket {@code 0}, como na consolidação das movimentações pendentes, para que a reposição possa ser reservada. As
+ * variações aplicadas são registradas no {@link InventoryLedger} e publicadas em um único evento
+ * {@link StocksAdjusted} por lote.
+ * </p>
+ * <p>
+ * Cada lote é gravado em uma transação própria: se a gravação de um lote falhar, todos os seus produtos são
+ * informados como falhos e o ajuste continua com o lote seguinte; os lotes já gravados são mantidos.
+ * </p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Qualifier("adjustStockBatchUseCase")
+public class AdjustStockBatchUseCase implements IUseCase<AdjustStockBatchCommand.Input, Mono<AdjustStockBatchCommand.Output>> {
+
+    private final ProductRepository productRepository;
+    private final ApplicationEventPublisher publisher;
+    private final FlashSaleStockEngine flashSaleStockEngine;
+    private final StockBucketReservation stockBucketReservation;
+    private final InventoryLedger inventoryLedger;
+    private final ProductCache productCache;
+    private final TransactionalOperator transactionalOperator;
+    private final ProductStockBatchProperties properties;
+
+    /**
+     * Executa o ajuste em lote.
+     *
+     * @param input Ajustes a serem aplicados.
+     * @return Mono com o resultado do ajuste, emitido depois da gravação do último lote.
+     */
+    @Override
+    public Mono<AdjustStockBatchCommand.Output> execute(AdjustStockBatchCommand.Input input) {
+        return Mono.defer(() -> {
+            log.info("Iniciando ajuste de estoque em lote");
+            long start = System.nanoTime();
+            long[] totalItems = {0};
+            ChunkOutcome total = new ChunkOutcome();
+            return input.items()
+                    .doOnNext(item -> totalItems[0]++)
+                    .filter(item -> item.productId() != null && item.delta() != 0)
+                    .buffer(properties.chunkSize())
+                    .concatMap(this::applyChunk, 1)
+                    .doOnNext(total::merge)
+                    .then(Mono.fromCallable(() -> new AdjustStockBatchCommand.Output(
+                            totalItems[0],
+                            total.adjustedProducts,
+                            total.unknown,
+                            total.insufficient,
+                            total.rejected,
+                            total.failed,
+                            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start))))
+                    .doOnNext(output -> log.info("Ajuste de estoque em lote finalizado: {} ajustes, {} produtos "
+                                    + "ajustados, {} inexistentes, {} sem saldo, {} rejeitados e {} com falha em {} ms",
+                            output.totalItems(), output.adjustedProducts(), output.unknownProductIds().size(),
+                            output.insufficientStockProductIds().size(), output.rejectedProductIds().size(),
+                            output.failedProductIds().size(), output.elapsedMillis()));
+        });
+    }
+
+    /**
+     * Aplica um lote em uma única transação. Em caso de falha, todos os produtos do lote são informados como falhos.
+     */
+    private Mono<ChunkOutcome> applyChunk(List<AdjustStockBatchCommand.Item> chunk) {
+        Map<UUID, Integer> deltas = new TreeMap<>();
+        Set<UUID> overflowed = new TreeSet<>();
+        chunk.forEach(item -> {
+            if (overflowed.contains(item.productId())) {
+                return;
+            }
+            try {
+                deltas.merge(item.productId(), item.delta(), Math::addExact);
+            } catch (ArithmeticException e) {
+                deltas.remove(item.productId());
+                overflowed.add(item.productId());
+            }
+        });
+        deltas.values().removeIf(delta -> delta == 0);
+        if (!overflowed.isEmpty()) {
+            log.warn("Ajustes rejeitados: a soma das variações excede os limites do estoque dos produtos {}",
+                    overflowed);
+        }
+
+        Map<UUID, Integer> inMemory = new TreeMap<>();
+        Map<UUID, Integer> inBuckets = new TreeMap<>();
+        Map<UUID, Integer> inRows = new TreeMap<>();
+        deltas.forEach((id, delta) -> (flashSaleStockEngine.handles(id) ? inMemory
+                : delta < 0 && stockBucketReservation.handles(id) ? inBuckets
+                : inRows).put(id, delta));
+
+        ChunkOutcome outcome = new ChunkOutcome();
+        outcome.rejected.addAll(overflowed);
+        return restockBuckets(inRows, outcome)
+                .then(Mono.defer(() -> applyToRows(inRows, outcome)))
+                .then(Mono.defer(() -> applyToBuckets(inBuckets, outcome)))
+                .then(Mono.defer(() -> applyInMemory(inMemory, outcome)))
+                .then(Mono.defer(() -> record(outcome)))
+                .then(Mono.defer(() -> {
+                    if (outcome.adjustments.isEmpty()) {
+                        return Mono.<Void>empty();
+                    }
+                    log.info("Publicando evento StocksAdjusted com {} produtos", outcome.adjustments.size());
+                    publisher.publishEvent(new StocksAdjusted(List.copyOf(outcome.adjustments)));
+                    return productCache.evictStocksOnCompletion(outcome.adjustments.stream()
+                            .map(adjustment -> UUID.fromString(adjustment.productId()))
+                            .toList());
+                }))
+                .as(transactionalOperator::transactional)
+                .thenReturn(outcome)
+                .onErrorResume(error -> {
+                    log.error("Falha ao ajustar o estoque de um lote de {} produtos", deltas.size(), error);
+                    ChunkOutcome failed = new ChunkOutcome();
+                    failed.rejected.addAll(overflowed);
+                    failed.failed.addAll(deltas.keySet());
+                    return Mono.just(failed);
+                });
+    }
+
+    /**
+     * Soma as entradas dos produtos com buckets ao bucket {@code 0}, com uma única instrução, e as retira das variações
+     * a serem aplicadas às linhas dos produtos.
+     */
+    private Mono<Void> restockBuckets(Map<UUID, Integer> deltas, ChunkOutcome outcome) {
+        Map<UUID, Integer> restocks = new TreeMap<>(deltas);
+        restocks.values().removeIf(delta -> delta < 0);
+        if (restocks.isEmpty()) {
+            return Mono.empty();
+        }
+        return stockBucketReservation.restock(restocks)
+                .doOnNext(restocked -> {
+                    deltas.remove(restocked.getProductId());
+                    outcome.adjusted(restocked.getProductId(), restocked.getQuantity(), restocked.getStockQuantity());
+                })
+                .then();
+    }
+
+    /**
+     * Aplica as variações com uma única instrução e classifica os produtos não atualizados: inexistentes, com o
+     * estoque dividido em buckets (por exemplo, por outra instância) ou sem saldo suficiente.
+     */
+    private Mono<Void> applyToRows(Map<UUID, Integer> deltas, ChunkOutcome outcome) {
+        if (deltas.isEmpty()) {
+            return Mono.empty();
+        }
+        // A instrução recebe a quantidade a ser baixada, o oposto da variação
+        Integer[] quantities = deltas.values().stream().map(delta -> -delta).toArray(Integer[]::new);
+        Set<UUID> missing = new TreeSet<>(deltas.keySet());
+        return productRepository.applyStockDeltas(deltas.keySet().toArray(UUID[]::new), quantities)
+                .doOnNext(updated -> {
+                    missing.remove(updated.getProductId());
+                    outcome.adjusted(updated.getProductId(), -updated.getQuantity(), updated.getStockQuantity());
+                })
+                .then(Mono.defer(() -> missing.isEmpty()
+                        ? Mono.empty()
+                        : productRepository.findExistingIds(missing.toArray(UUID[]::new))
+                        .collect(Collectors.toSet())
+                        .flatMap(existing -> {
+                            Map<UUID, Integer> withdrawals = new TreeMap<>();
+                            missing.forEach(id -> {
+                                if (existing.contains(id)) {
+                                    withdrawals.put(id, deltas.get(id));
+                                } else {
+                                    outcome.unknown.add(id);
+                                }
+                            });
+                            return withdrawals.isEmpty()
+                                    ? Mono.<Void>empty()
+                                    : stockBucketReservation.discover(withdrawals.keySet())
+                                    .flatMap(bucketed -> bucketed
+                                            ? applyToBuckets(withdrawals, outcome)
+                                            : Mono.fromRunnable(() -> outcome.insufficient.addAll(withdrawals.keySet())));
+                        })));
+    }
+
+    /**
+     * Baixa as saídas dos buckets de cada produto; produtos sem buckets ou sem saldo suficiente não são ajustados.
+     */
+    private Mono<Void> applyToBuckets(Map<UUID, Integer> deltas, ChunkOutcome outcome) {
+        return Flux.fromIterable(deltas.entrySet())
+                .concatMap(entry -> stockBucketReservation.reserve(entry.getKey(), -entry.getValue())
+                        .doOnNext(newStock -> outcome.adjusted(entry.getKey(), entry.getValue(), newStock))
+                        .switchIfEmpty(Mono.fromRunnable(() -> outcome.insufficient.add(entry.getKey()))))
+                .then();
+    }
+
+    /**
+     * Altera o estoque em memória de cada produto em modo flash sale, um a um, para que a falta de saldo de um
+     * produto não impeça o ajuste dos demais.
+     */
+    private Mono<Void> applyInMemory(Map<UUID, Integer> deltas, ChunkOutcome outcome) {
+        return Flux.fromIterable(deltas.entrySet())
+                .concatMap(entry -> flashSaleStockEngine.reserve(Map.of(entry.getKey(), -entry.getValue()))
+                        .doOnNext(remaining -> outcome.adjusted(entry.getKey(), entry.getValue(),
+                                Math.toIntExact(remaining.get(entry.getKey()))))
+                        .onErrorResume(InsufficientStockException.class, error -> {
+                            outcome.insufficient.add(entry.getKey());
+                            return Mono.empty();
+                        }))
+                .then();
+    }
+
+    /**
+     * Registra as variações aplicadas como histórico: entradas como reposição e saídas como ajuste.
+     */
+    private Mono<Void> record(ChunkOutcome outcome) {
+        Map<UUID, Integer> restocks = new TreeMap<>();
+        Map<UUID, Integer> adjustments = new TreeMap<>();
+        outcome.adjustments.forEach(adjustment -> (adjustment.delta() > 0 ? restocks : adjustments)
+                .put(UUID.fromString(adjustment.productId()), adjustment.delta()));
+        return inventoryLedger.record(restocks, InventoryMovementReasonEnum.RESTOCK, null)
+                .then(inventoryLedger.record(adjustments, InventoryMovementReasonEnum.ADJUSTMENT, null));
+    }
+
+    /**
+     * Resultado de um lote, ou a soma dos lotes já aplicados, sem os ajustes de cada produto. Os lotes são
+     * aplicados um de cada vez.
+     */
+    private static final class ChunkOutcome {
+
+        private final List<StocksAdjusted.Adjustment> adjustments = new ArrayList<>();
+        private final List<UUID> unknown = new ArrayList<>();
+        private final List<UUID> insufficient = new ArrayList<>();
+        private final List<UUID> rejected = new ArrayList<>();
+        private final List<UUID> failed = new ArrayList<>();
+        private long adjustedProducts;
+
+        void adjusted(UUID productId, int delta, int stockQuantity) {
+            adjustments.add(new StocksAdjusted.Adjustment(productId.toString(), delta, stockQuantity));
+            adjustedProducts++;
+        }
+
+        void merge(ChunkOutcome other) {
+            adjustedProducts += other.adjustedProducts;
+            unknown.addAll(other.unknown);
+            insufficient.addAll(other.insufficient);
+            rejected.addAll(other.rejected);
+            failed.addAll(other.failed);
+        }
+    }
+}
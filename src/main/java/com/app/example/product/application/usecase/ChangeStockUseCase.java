@@ -1,8 +1,15 @@
 package com.app.example.product.application.usecase;
 
 import com.app.example.product.application.commnad.ChangeStockCommand;
+import com.app.example.product.application.usecase.helper.FlashSaleStockEngine;
+import com.app.example.product.application.usecase.helper.InventoryLedger;
+import com.app.example.product.application.usecase.helper.StockBucketReservation;
+import com.app.example.product.application.usecase.helper.StockDeltaAggregator;
+import com.app.example.product.domain.enums.InventoryMovementReasonEnum;
 import com.app.example.product.domain.event.StockReduced;
+import com.app.example.product.infra.cache.ProductCache;
 import com.app.example.product.infra.repository.ProductRepository;
+import com.app.example.shared.exception.InsufficientStockException;
 import com.app.example.shared.exception.ProductNotFoundException;
 import com.app.example.shared.usecase.IUseCase;
 import lombok.RequiredArgsConstructor;
@@ -10,10 +17,37 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
+/**
+ * Caso de uso para alterar o estoque de um produto.
+ * <p>
+ * A baixa é feita com uma única instrução ({@link ProductRepository#updateStockQuantityIfAvailable}), que consolida
+ * as reposições pendentes do produto e verifica o saldo com a linha bloqueada, de modo que a verificação de saldo e a
+ * escrita acontecem atomicamente no banco de dados e o novo estoque é obtido sem uma segunda leitura. Quando nenhuma
+ * linha é atualizada, o motivo (produto inexistente ou estoque insuficiente) é identificado apenas nesse caminho de
+ * falha.
+ * </p>
+ * <p>
+ * Produtos em modo flash sale têm o estoque alterado em memória pelo {@link FlashSaleStockEngine}. Com a gravação
+ * agrupada habilitada, a alteração é somada às demais do mesmo produto e gravada em lote pelo
+ * {@link StockDeltaAggregator}, que a registra no {@link InventoryLedger} na sua própria transação. Produtos com o
+ * estoque dividido em buckets são baixados pelo {@link StockBucketReservation}, sem bloquear a linha do produto.
+ * </p>
+ * <p>
+ * Reposições (quantidade negativa) de produtos fora do modo flash sale não alteram a linha do produto: são apenas
+ * registradas como pendentes no {@link InventoryLedger} e consolidadas depois. As baixas são registradas no
+ * {@link InventoryLedger} como histórico, na mesma transação. Após a alteração, o estoque do produto é removido do
+ * {@link ProductCache}.
+ * </p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -22,45 +56,89 @@ public class ChangeStockUseCase implements IUseCase<ChangeStockCommand.Input, Mo
 
     private final ProductRepository productRepository;
     private final ApplicationEventPublisher publisher;
+    private final FlashSaleStockEngine flashSaleStockEngine;
+    private final StockDeltaAggregator stockDeltaAggregator;
+    private final StockBucketReservation stockBucketReservation;
+    private final InventoryLedger inventoryLedger;
+    private final ProductCache productCache;
+    private final TransactionalOperator transactionalOperator;
 
+    /**
+     * Executa a alteração de estoque.
+     *
+     * @param input os dados de entrada contendo o ID do produto e a quantidade a ser baixada (negativa para reposição)
+     * @return um Mono com o novo estoque do produto
+     * @throws ProductNotFoundException se o produto não for encontrado
+     * @throws InsufficientStockException se o estoque disponível for menor que a quantidade solicitada
+     */
     @Override
     public Mono<ChangeStockCommand.Output> execute(ChangeStockCommand.Input input) {
         UUID id = UUID.fromString(input.productId());
         log.info("Iniciando alteração de estoque para o produto com ID {}. Quantidade solicitada: {}", id, input.quantity());
 
-        return productRepository.findById(id)
-                .doOnNext(product -> log.debug("Produto encontrado: {} (estoque atual: {})", product.getName(), product.getStockQuantity()))
-                .switchIfEmpty(Mono.defer(() -> {
-                    log.warn("Produto com ID {} não encontrado", id);
-                    return Mono.error(new ProductNotFoundException("Produto não encontrado"));
-                }))
-                .flatMap(product -> {
-                    int newStock = product.getStockQuantity() - input.quantity();
-                    if (newStock < 0) {
-                        log.warn("Estoque insuficiente para o produto com ID {}. Estoque atual: {}, tentativa de retirada: {}", id, product.getStockQuantity(), -input.quantity());
-                        return Mono.error(new IllegalArgumentException("Estoque insuficiente"));
-                    }
-                    log.info("Atualizando estoque do produto com ID {}. Novo estoque: {}", id, newStock);
+        InventoryMovementReasonEnum reason = input.quantity() < 0 ? InventoryMovementReasonEnum.RESTOCK : InventoryMovementReasonEnum.ADJUSTMENT;
+        Map<UUID, Integer> variation = Map.of(id, -input.quantity());
+        Mono<Integer> updated;
+        if (flashSaleStockEngine.handles(id)) {
+            updated = flashSaleStockEngine.reserve(Map.of(id, input.quantity()), remaining -> inventoryLedger.record(variation, reason, null)
+                    .thenReturn(Math.toIntExact(remaining.get(id))));
+        } else if (input.quantity() < 0) {
+            // Reposição: apenas uma inserção pendente no registro, consolidada depois no estoque do produto
+            updated = inventoryLedger.append(variation, reason, null)
+                    .filter(appended -> appended > 0)
+                    .flatMap(appended -> productRepository.findEffectiveStock(id));
+        } else if (stockBucketReservation.handles(id)) {
+            updated = stockBucketReservation.reserve(id, input.quantity())
+                    .flatMap(newStock -> inventoryLedger.record(variation, reason, null).thenReturn(newStock));
+        } else if (stockDeltaAggregator.enabled()) {
+            // Gravada e registrada no InventoryLedger na transação do agrupador
+            updated = stockDeltaAggregator.submit(id, input.quantity(), reason)
+                    .switchIfEmpty(Mono.defer(() -> reserveInDiscoveredBuckets(id, input.quantity())
+                            .flatMap(newStock -> inventoryLedger.record(variation, reason, null).thenReturn(newStock))));
+        } else {
+            updated = productRepository.updateStockQuantityIfAvailable(input.quantity(), id)
+                    .switchIfEmpty(Mono.defer(() -> reserveInDiscoveredBuckets(id, input.quantity())))
+                    .flatMap(newStock -> inventoryLedger.record(variation, reason, null).thenReturn(newStock));
+        }
+        return updated
+                .flatMap(newStock -> productCache.evictStocksOnCompletion(List.of(id)).thenReturn(newStock))
+                .switchIfEmpty(Mono.defer(() -> productCache.getMetadata(id, productRepository::findById)
+                        .hasElement()
+                        .flatMap(exists -> {
+                            if (!exists) {
+                                log.warn("Produto com ID {} não encontrado", id);
+                                return Mono.error(new ProductNotFoundException("Produto não encontrado"));
+                            }
+                            log.warn("Estoque insuficiente para o produto com ID {}. Tentativa de retirada: {}", id, input.quantity());
+                            return Mono.error(new InsufficientStockException("Estoque insuficiente"));
+                        })))
+                .map(newStock -> {
+                    log.info("Estoque do produto com ID {} atualizado. Novo estoque: {}", id, newStock);
 
-                    return productRepository.updateStockQuantity(input.quantity(), id)
-                            .flatMap(rowsUpdated -> {
-                                if (rowsUpdated == 0) {
-                                    log.error("Nenhuma linha foi atualizada ao tentar ajustar o estoque do produto com ID {}", id);
-                                    return Mono.error(new IllegalStateException("Falha ao atualizar o estoque"));
-                                }
+                    // Publicar o evento somente se o estoque for reduzido
+                    if (input.quantity() > 0) {
+                        log.info("Publicando evento StockReduced para produto ID {} com quantidade {}", id, input.quantity());
+                        publisher.publishEvent(new StockReduced(id.toString(), input.quantity()));
+                    }
 
-                                // Publicar o evento somente se o estoque for reduzido
-                                if (input.quantity() < 0) {
-                                    log.info("Publicando evento StockReduced para produto ID {} com quantidade {}", id, -input.quantity());
-                                    publisher.publishEvent(new StockReduced(id.toString(), -input.quantity()));
-                                }
+                    return new ChangeStockCommand.Output(
+                            input.productId(),
+                            newStock,
+                            "Estoque atualizado com sucesso"
+                    );
+                })
+                .as(transactionalOperator::transactional);
+    }
 
-                                return Mono.just(new ChangeStockCommand.Output(
-                                        input.productId(),
-                                        newStock,
-                                        "Estoque atualizado com sucesso"
-                                ));
-                            });
-                });
+    /**
+     * Baixa o estoque nos buckets do produto, caso ele tenha sido dividido em buckets por outra instância.
+     *
+     * @param id       ID do produto.
+     * @param quantity quantidade a ser baixada.
+     * @return Mono com o novo estoque, ou vazio se o produto não estiver dividido ou o saldo for insuficiente.
+     */
+    private Mono<Integer> reserveInDiscoveredBuckets(UUID id, int quantity) {
+        return stockBucketReservation.discover(List.of(id))
+                .flatMap(bucketed -> bucketed ? stockBucketReservation.reserve(id, quantity) : Mono.empty());
     }
 }
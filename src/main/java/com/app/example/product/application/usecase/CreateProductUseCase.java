@@ -2,6 +2,9 @@ package com.app.example.product.application.usecase;
 
 import com.app.example.product.application.commnad.CreateProductCommand;
 import com.app.example.product.domain.po.ProductPO;
+import com.app.example.product.infra.cache.CategoryListingResponseCache;
+import com.app.example.product.infra.cache.ProductIdFilter;
+import com.app.example.product.infra.cache.ProductNameIndex;
 import com.app.example.product.infra.repository.ProductRepository;
 import com.app.example.product.mapper.CreateProductMapper;
 import com.app.example.shared.usecase.IUseCase;
@@ -41,6 +44,15 @@ public class CreateProductUseCase implements IUseCase<CreateProductCommand.Input
     /** Mapper responsável por converter entre os modelos de entrada/saída e a entidade de domínio. */
     private final CreateProductMapper createProductMapper;
 
+    /** Filtro de Bloom dos IDs de produtos, que passa a incluir o produto criado. */
+    private final ProductIdFilter productIdFilter;
+
+    /** Índice de nomes de produtos para autocompletar, que passa a incluir o produto criado. */
+    private final ProductNameIndex productNameIndex;
+
+    /** Cache das páginas de produtos por categoria, das quais é removida a categoria do produto criado. */
+    private final CategoryListingResponseCache categoryListingResponseCache;
+
     /**
      * Executa o caso de uso de criação de produto.
      *
@@ -53,6 +65,9 @@ public class CreateProductUseCase implements IUseCase<CreateProductCommand.Input
         log.info("Iniciando criação de produto: nome={}, categoria={}, preço={}", input.name(), input.category(), input.price());
         return productRepository.save(createProductMapper.toProductPO(input))
                 .doOnSuccess(productPO -> log.debug("Produto persistido com sucesso no banco: id={}, nome={}", productPO.getId(), productPO.getName()))
+                .doOnNext(productPO -> productIdFilter.add(productPO.getId()))
+                .doOnNext(productPO -> productNameIndex.add(productPO.getId(), productPO.getName()))
+                .doOnNext(productPO -> categoryListingResponseCache.evictCategory(productPO.getCategory()))
                 .map(createProductMapper::toOutput)
                 .doOnSuccess(output -> log.info("Produto criado com sucesso: id={}", output.id()))
                 .doOnError(error -> log.error("Erro ao criar produto: {}", error.getMessage(), error));
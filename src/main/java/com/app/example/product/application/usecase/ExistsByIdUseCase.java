@@ -1,6 +1,8 @@
 package com.app.example.product.application.usecase;
 
 import com.app.example.product.application.commnad.ExistsByIdCommand;
+import com.app.example.product.infra.cache.ProductCache;
+import com.app.example.product.infra.cache.ProductIdFilter;
 import com.app.example.product.infra.repository.ProductRepository;
 import com.app.example.product.mapper.ExistsByIdMapper;
 import com.app.example.shared.usecase.IUseCase;
@@ -18,6 +20,12 @@ import java.util.UUID;
  * Essa classe implementa a interface {@link IUseCase} e executa a lógica necessária para validar a existência
  * de um produto no repositório, retornando um {@link Mono} com a resposta apropriada.
  * </p>
+ * <p>
+ * Produtos ausentes do {@link ProductIdFilter} completo são dados como inexistentes sem consultar o banco de dados;
+ * com o filtro incompleto, a ausência é confirmada por uma consulta de existência, pois o produto pode ter sido criado
+ * por outra instância após a última construção do filtro. Os demais são confirmados pelos dados cadastrais mantidos no
+ * {@link ProductCache} ou, na falta deles, por uma consulta de existência, sem carregar a linha do produto.
+ * </p>
  *
  * <p>
  * A separação dessa lógica em um caso de uso específico permite maior coesão e clareza na manutenção da aplicação.
@@ -32,6 +40,9 @@ import java.util.UUID;
 public class ExistsByIdUseCase implements IUseCase<ExistsByIdCommand.Input, Mono<ExistsByIdCommand.Output>> {
 
     private final ProductRepository productRepository;
+    private final ProductCache productCache;
+    private final ProductIdFilter productIdFilter;
+
     /**
      * Executa o caso de uso de verificação da existência de um produto a partir do identificador fornecido.
      *
@@ -40,8 +51,20 @@ public class ExistsByIdUseCase implements IUseCase<ExistsByIdCommand.Input, Mono
      */
     @Override
     public Mono<ExistsByIdCommand.Output> execute(ExistsByIdCommand.Input input) {
-        return productRepository.findById(UUID.fromString(input.productId()))
-                .map(product -> new ExistsByIdCommand.Output(true)) // Produto encontrado
-                .defaultIfEmpty(new ExistsByIdCommand.Output(false)); // Produto não encontrado
+        UUID id = UUID.fromString(input.productId());
+        if (!productIdFilter.mightContain(id)) {
+            if (productIdFilter.isComplete()) {
+                return Mono.just(new ExistsByIdCommand.Output(false)); // Produto com certeza inexistente
+            }
+            return productRepository.existsById(id)
+                    .doOnNext(exists -> productIdFilter.recordAbsenceConfirmation(id, exists))
+                    .map(ExistsByIdCommand.Output::new);
+        }
+        if (productCache.containsMetadata(id)) {
+            return Mono.just(new ExistsByIdCommand.Output(true)); // Produto encontrado no cache
+        }
+        return productRepository.existsById(id)
+                .doOnNext(productIdFilter::recordConfirmation)
+                .map(ExistsByIdCommand.Output::new);
     }
 }
\ No newline at end of file
@@ -1,6 +1,8 @@
 package com.app.example.product.application.usecase;
 
 import com.app.example.product.application.commnad.GetStockCommand;
+import com.app.example.product.application.usecase.helper.FlashSaleStockEngine;
+import com.app.example.product.infra.cache.ProductCache;
 import com.app.example.product.infra.repository.ProductRepository;
 import com.app.example.product.mapper.GetStockMapper;
 import com.app.example.shared.exception.ProductNotFoundException;
@@ -17,7 +19,9 @@ import java.util.UUID;
  * Caso de uso para obter o estoque de um produto.
  * <p>
  * Este caso de uso consulta o repositório de produtos com base no ID fornecido
- * e retorna a quantidade disponível em estoque.
+ * e retorna a quantidade disponível em estoque, somando os buckets de produtos com o estoque dividido
+ * em {@code product_stock_buckets}. Para produtos em modo flash sale, a quantidade
+ * é o saldo em memória mantido pelo {@link FlashSaleStockEngine}. A leitura passa pelo {@link ProductCache}.
  * </p>
  * Lança uma exceção se o produto não for encontrado.
  *
@@ -31,6 +35,8 @@ public class GetStockUseCase implements IUseCase<GetStockCommand.Input, Mono<Get
 
     private final ProductRepository productRepository;
     private final GetStockMapper getStockMapper;
+    private final FlashSaleStockEngine flashSaleStockEngine;
+    private final ProductCache productCache;
 
     /**
      * Executa a lógica para buscar o estoque de um produto.
@@ -43,7 +49,8 @@ public class GetStockUseCase implements IUseCase<GetStockCommand.Input, Mono<Get
     public Mono<GetStockCommand.Output> execute(GetStockCommand.Input input) {
         UUID id = UUID.fromString(input.productId());
         log.info("Iniciando consulta de estoque para o produto com ID: {}", id);
-        return productRepository.findById(id)
+        return productCache.get(id, productRepository::findWithStockById)
+                .map(flashSaleStockEngine::overlay)
                 .map(product -> {
                     log.info("Produto encontrado: {}", product.getId());
                     return getStockMapper.toOutput(product);
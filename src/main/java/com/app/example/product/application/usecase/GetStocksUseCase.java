@@ -0,0 +1,80 @@
+package com.app.example.product.application.usecase;
+
+import com.app.example.product.application.commnad.GetStocksCommand;
+import com.app.example.product.application.usecase.helper.FlashSaleStockEngine;
+import com.app.example.product.infra.cache.ProductCache;
+import com.app.example.product.infra.repository.ProductRepository;
+import com.app.example.product.mapper.GetStocksMapper;
+import com.app.example.shared.exception.ProductNotFoundException;
+import com.app.example.shared.usecase.IUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Caso de uso para obter o estoque de vários produtos em uma única consulta.
+ * <p>
+ * Os identificadores informados são deduplicados e enviados ao banco de dados em um único
+ * {@code SELECT ... WHERE id = ANY(:ids)}, substituindo as N consultas individuais feitas
+ * por {@link GetStockUseCase}. As saídas são emitidas na ordem dos IDs solicitados. Para produtos
+ * em modo flash sale, a quantidade é o saldo em memória mantido pelo {@link FlashSaleStockEngine}.
+ * </p>
+ * <p>
+ * A leitura passa pelo {@link ProductCache}: apenas os produtos que não estão em memória são consultados, na mesma
+ * instrução. É a consulta feita na validação dos pedidos; o saldo em cache pode estar defasado em até
+ * {@code app.product.cache.stock-ttl} quando alterado por outra instância, mas a reserva confere o saldo no banco.
+ * </p>
+ * Lança uma exceção se algum dos produtos não for encontrado.
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Qualifier("getStocksUseCase")
+public class GetStocksUseCase implements IUseCase<GetStocksCommand.Input, Flux<GetStocksCommand.Output>> {
+
+    private final ProductRepository productRepository;
+    private final GetStocksMapper getStocksMapper;
+    private final FlashSaleStockEngine flashSaleStockEngine;
+    private final ProductCache productCache;
+
+    /**
+     * Executa a consulta de estoque em lote.
+     *
+     * @param input os dados de entrada contendo os IDs dos produtos
+     * @return um Flux com o estoque de cada produto solicitado
+     * @throws ProductNotFoundException se algum dos produtos não for encontrado
+     */
+    @Override
+    public Flux<GetStocksCommand.Output> execute(GetStocksCommand.Input input) {
+        List<UUID> ids = input.productIds().stream()
+                .map(UUID::fromString)
+                .distinct()
+                .toList();
+        log.info("Iniciando consulta de estoque em lote para {} produtos", ids.size());
+        return productCache.getAll(ids, missing -> productRepository.findAllByIds(missing.toArray(UUID[]::new)))
+                .flatMapMany(products -> {
+                    List<UUID> missing = ids.stream()
+                            .filter(id -> !products.containsKey(id))
+                            .toList();
+                    if (!missing.isEmpty()) {
+                        log.warn("Produtos não encontrados: {}", missing);
+                        return Flux.error(new ProductNotFoundException("Produto não encontrado com ID: " + missing.stream()
+                                .map(UUID::toString)
+                                .collect(Collectors.joining(", "))));
+                    }
+                    log.info("Estoque obtido para {} produtos", products.size());
+                    return Flux.fromIterable(ids)
+                            .map(products::get)
+                            .map(flashSaleStockEngine::overlay)
+                            .map(getStocksMapper::toOutput);
+                });
+    }
+}
@@ -0,0 +1,131 @@
+package com.app.example.product.application.usecase;
+
+import com.app.example.product.application.commnad.ImportProductsCommand;
+import com.app.example.product.application.usecase.helper.ProductImportParser;
+import com.app.example.product.application.usecase.helper.ProductImportReport;
+import com.app.example.product.domain.dto.CreateProductDTO;
+import com.app.example.product.domain.enums.ProductImportFormatEnum;
+import com.app.example.product.infra.cache.CategoryListingResponseCache;
+import com.app.example.product.infra.cache.ProductIdFilter;
+import com.app.example.product.infra.cache.ProductNameIndex;
+import com.app.example.product.infra.config.ProductImportProperties;
+import com.app.example.product.infra.repository.ProductRepository;
+import com.app.example.shared.usecase.IUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Caso de uso para importar produtos em lote a partir de um arquivo NDJSON ou CSV.
+ * <p>
+ * As linhas são lidas do corpo da requisição à medida que chegam, convertidas e validadas pelo
+ * {@link ProductImportParser} e gravadas em lotes de {@code chunk-size} produtos, cada lote com uma única instrução
+ * ({@link ProductRepository#insertAll}). A leitura só avança quando o lote anterior foi gravado, de modo que um
+ * banco de dados lento desacelera o envio do arquivo em vez de acumular linhas em memória. A memória usada depende
+ * do tamanho do lote, não do tamanho do arquivo.
+ * </p>
+ * <p>
+ * Linhas inválidas são rejeitadas sem interromper a importação. Cada lote é gravado atomicamente: se a gravação de
+ * um lote falhar, todos os seus produtos são rejeitados e a importação continua com o lote seguinte; os lotes já
+ * gravados são mantidos. O resultado é um relatório com os contadores, a vazão e as linhas rejeitadas.
+ * </p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Qualifier("importProductsUseCase")
+public class ImportProductsUseCase implements IUseCase<ImportProductsCommand.Input, Mono<ImportProductsCommand.Output>> {
+
+    private final ProductRepository productRepository;
+    private final ProductImportParser productImportParser;
+    private final ProductImportProperties properties;
+    private final ProductIdFilter productIdFilter;
+    private final ProductNameIndex productNameIndex;
+    private final CategoryListingResponseCache categoryListingResponseCache;
+
+    /**
+     * Executa a importação.
+     *
+     * @param input Formato e linhas do arquivo.
+     * @return Mono com o relatório da importação, emitido depois da gravação do último lote.
+     */
+    @Override
+    public Mono<ImportProductsCommand.Output> execute(ImportProductsCommand.Input input) {
+        return Mono.defer(() -> {
+            log.info("Iniciando importação de produtos em {}", input.format());
+            ProductImportReport report = new ProductImportReport(properties.maxReportedErrors());
+            return parse(input)
+                    .doOnNext(report::read)
+                    .filter(ProductImportParser.ParsedRow::valid)
+                    .buffer(properties.chunkSize())
+                    .concatMap(chunk -> insert(chunk, report), 1)
+                    .then(Mono.fromCallable(report::toOutput))
+                    .doOnNext(output -> log.info("Importação de produtos finalizada: {} lidos, {} gravados, {} rejeitados em {} ms ({} produtos/s)",
+                            output.totalRows(), output.importedRows(), output.rejectedRows(), output.elapsedMillis(), output.rowsPerSecond()));
+        });
+    }
+
+    /**
+     * Converte as linhas não vazias do arquivo, numeradas a partir de 1. No CSV, a primeira linha é o cabeçalho.
+     */
+    private Flux<ProductImportParser.ParsedRow> parse(ImportProductsCommand.Input input) {
+        Flux<Tuple2<Long, String>> lines = input.lines()
+                .index()
+                .filter(line -> !line.getT2().isBlank());
+        if (input.format() == ProductImportFormatEnum.NDJSON) {
+            return lines.map(line -> productImportParser.parseNdjson(line.getT1() + 1, line.getT2()));
+        }
+        return lines.switchOnFirst((first, all) -> {
+            Map<String, Integer> columns = first.hasValue()
+                    ? productImportParser.parseCsvHeader(first.get().getT2())
+                    : Map.of();
+            return all.skip(1).map(line -> productImportParser.parseCsv(line.getT1() + 1, line.getT2(), columns));
+        });
+    }
+
+    /**
+     * Grava um lote de produtos válidos. Nunca termina com erro: uma falha rejeita os produtos do lote.
+     */
+    private Mono<Void> insert(List<ProductImportParser.ParsedRow> chunk, ProductImportReport report) {
+        int size = chunk.size();
+        String[] names = new String[size];
+        String[] descriptions = new String[size];
+        BigDecimal[] prices = new BigDecimal[size];
+        Integer[] stockQuantities = new Integer[size];
+        String[] categories = new String[size];
+        for (int i = 0; i < size; i++) {
+            CreateProductDTO.Request product = chunk.get(i).product();
+            names[i] = product.name();
+            descriptions[i] = product.description();
+            prices[i] = product.price();
+            stockQuantities[i] = product.stockQuantity();
+            categories[i] = product.category();
+        }
+        return productRepository.insertAll(names, descriptions, prices, stockQuantities, categories)
+                .doOnNext(product -> {
+                    productIdFilter.add(product.getId());
+                    productNameIndex.add(product.getId(), product.getName());
+                })
+                .count()
+                .doOnNext(report::imported)
+                .doOnNext(imported -> Arrays.stream(categories).distinct().forEach(categoryListingResponseCache::evictCategory))
+                .onErrorResume(error -> {
+                    log.warn("Falha ao gravar lote de {} produtos importados: {}", size, error.getMessage());
+                    List<String> messages = List.of("Falha ao gravar o lote da linha: " + error.getMessage());
+                    chunk.forEach(row -> report.reject(row.line(), messages));
+                    return Mono.empty();
+                })
+                .then();
+    }
+}
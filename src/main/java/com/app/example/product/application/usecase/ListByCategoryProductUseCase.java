@@ -11,16 +11,22 @@ import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
 
 /**
- * Caso de uso responsável por listar todos os produtos de uma categoria específica.
+ * Caso de uso responsável por listar uma página dos produtos de uma categoria específica.
  * <p>
  * Implementa a interface {@link IUseCase} e lida com a busca de produtos pela categoria no repositório de produtos.
- * Este caso de uso retorna uma lista de produtos que pertencem a uma categoria específica, mapeando-os para o comando de saída {@link ListByCategoryProductCommand.Output}.
+ * Este caso de uso retorna uma página de produtos que pertencem a uma categoria específica, em ordem de ID,
+ * mapeando-os para o comando de saída {@link ListByCategoryProductCommand.Output}.
+ * </p>
+ * <p>
+ * A paginação é feita por chave ("keyset"): a página seguinte é obtida informando o ID do último produto recebido.
+ * O tamanho da página é limitado a {@value #MAX_PAGE_SIZE} produtos. Para ler a categoria inteira, use
+ * {@link StreamByCategoryProductUseCase}.
  * </p>
  *
  * <p>
  * Exemplo de uso:
  * <pre>{@code
- * ListByCategoryProductCommand.Input input = new ListByCategoryProductCommand.Input("categoria-exemplo");
+ * ListByCategoryProductCommand.Input input = new ListByCategoryProductCommand.Input("categoria-exemplo", null, 100);
  * listByCategoryProductUseCase.execute(input).subscribe(...);
  * }</pre>
  * </p>
@@ -33,6 +39,9 @@ import reactor.core.publisher.Flux;
 @Qualifier("listByCategoryProductUseCase")
 public class ListByCategoryProductUseCase implements IUseCase<ListByCategoryProductCommand.Input, Flux<ListByCategoryProductCommand.Output>> {
 
+    public static final int DEFAULT_PAGE_SIZE = 100;
+    public static final int MAX_PAGE_SIZE = 500;
+
     /** Repositório responsável pela recuperação de produtos. */
     private final ProductRepository productRepository;
 
@@ -42,22 +51,36 @@ public class ListByCategoryProductUseCase implements IUseCase<ListByCategoryProd
     /**
      * Executa o caso de uso de listar os produtos de uma categoria específica.
      * <p>
-     * Este método consulta o repositório para encontrar todos os produtos de uma determinada categoria
+     * Este método consulta o repositório para encontrar uma página dos produtos de uma determinada categoria
      * e os converte para a saída definida no comando {@link ListByCategoryProductCommand.Output}.
      * </p>
      *
-     * @param input O comando de entrada que contém a categoria dos produtos a serem listados.
+     * @param input O comando de entrada que contém a categoria, o último produto da página anterior e o tamanho da página.
      * @return Um {@link Flux} contendo os produtos encontrados, mapeados para o formato de saída {@link ListByCategoryProductCommand.Output}.
      */
     @Override
     public Flux<ListByCategoryProductCommand.Output> execute(ListByCategoryProductCommand.Input input) {
-        log.info("Iniciando execução para listar produtos da categoria: {}", input.category());
+        int limit = pageSize(input.limit());
+        log.info("Iniciando execução para listar até {} produtos da categoria: {}", limit, input.category());
 
-        return productRepository.findAllByCategory(input.category())
+        return (input.after() == null
+                ? productRepository.findFirstPageByCategory(input.category(), limit)
+                : productRepository.findPageByCategoryAfter(input.category(), input.after(), limit))
                 .doOnSubscribe(subscription -> log.info("Consulta iniciada para a categoria: {}", input.category()))
                 .doOnNext(product -> log.debug("Produto encontrado: {}", product.getName()))
                 .doOnError(error -> log.error("Erro ao listar produtos da categoria: {}", input.category(), error))
                 .map(listByCategoryProductMapper::toCommand)
                 .doOnTerminate(() -> log.info("Execução finalizada para a categoria: {}", input.category()));
     }
+
+    /**
+     * Limita o tamanho de página solicitado: {@value #DEFAULT_PAGE_SIZE} quando ausente ou não positivo, e no máximo
+     * {@value #MAX_PAGE_SIZE}.
+     *
+     * @param limit Tamanho de página solicitado.
+     * @return Tamanho de página efetivamente usado na consulta.
+     */
+    public static int pageSize(int limit) {
+        return limit <= 0 ? DEFAULT_PAGE_SIZE : Math.min(limit, MAX_PAGE_SIZE);
+    }
 }
@@ -0,0 +1,236 @@
+package com.app.example.product.application.usecase;
+
+import com.app.example.product.application.commnad.ReserveStockCommand;
+import com.app.example.product.application.usecase.helper.FlashSaleStockEngine;
+import com.app.example.product.application.usecase.helper.InventoryLedger;
+import com.app.example.product.application.usecase.helper.StockBucketReservation;
+import com.app.example.product.domain.enums.InventoryMovementReasonEnum;
+import com.app.example.product.domain.event.StockReduced;
+import com.app.example.product.domain.po.ProductPO;
+import com.app.example.product.infra.cache.ProductCache;
+import com.app.example.product.infra.repository.ProductRepository;
+import com.app.example.shared.exception.InsufficientStockException;
+import com.app.example.shared.exception.ProductNotFoundException;
+import com.app.example.shared.usecase.IUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Caso de uso para reservar o estoque de todas as linhas de um pedido.
+ * <p>
+ * As linhas são consolidadas por produto, ordenadas por ID e enviadas ao banco em um único
+ * {@code UPDATE ... FROM unnest(:ids, :quantities)}. A reserva é "tudo ou nada": se qualquer
+ * produto não existir ou não tiver saldo suficiente, nenhuma linha é baixada e o motivo é
+ * identificado com uma leitura apenas nesse caminho de falha.
+ * </p>
+ * <p>
+ * Produtos em modo flash sale são reservados antes, em memória, pelo {@link FlashSaleStockEngine}; se a reserva
+ * das demais linhas no banco for rejeitada, a reserva em memória é desfeita. Produtos com o estoque dividido em
+ * buckets são reservados pelo {@link StockBucketReservation}.
+ * </p>
+ * <p>
+ * Todas as baixas são registradas no {@link InventoryLedger}, com o motivo {@code ORDER}, na mesma transação, e o
+ * estoque dos produtos reservados é removido do {@link ProductCache}.
+ * </p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Qualifier("reserveStockUseCase")
+public class ReserveStockUseCase implements IUseCase<ReserveStockCommand.Input, Mono<ReserveStockCommand.Output>> {
+
+    private final ProductRepository productRepository;
+    private final ApplicationEventPublisher publisher;
+    private final FlashSaleStockEngine flashSaleStockEngine;
+    private final StockBucketReservation stockBucketReservation;
+    private final InventoryLedger inventoryLedger;
+    private final ProductCache productCache;
+    private final TransactionalOperator transactionalOperator;
+
+    /**
+     * Executa a reserva de estoque.
+     *
+     * @param input os dados de entrada contendo os produtos e quantidades a serem reservados
+     * @return um Mono com o estoque resultante de cada produto
+     * @throws ProductNotFoundException se algum dos produtos não for encontrado
+     * @throws InsufficientStockException se algum dos produtos não tiver estoque suficiente
+     */
+    @Override
+    public Mono<ReserveStockCommand.Output> execute(ReserveStockCommand.Input input) {
+        // Consolida linhas repetidas e ordena por ID para bloquear as linhas sempre na mesma ordem
+        Map<UUID, Integer> requested = input.products().stream()
+                .collect(Collectors.toMap(
+                        product -> UUID.fromString(product.productId()),
+                        ReserveStockCommand.Input.ProductQuantity::quantity,
+                        Integer::sum,
+                        TreeMap::new));
+        log.info("Iniciando reserva de estoque para {} produtos", requested.size());
+        Map<UUID, Integer> withdrawn = requested.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> -entry.getValue()));
+
+        Map<UUID, Integer> inMemory = new TreeMap<>();
+        requested.forEach((id, quantity) -> {
+            if (flashSaleStockEngine.handles(id)) {
+                inMemory.put(id, quantity);
+            }
+        });
+        requested.keySet().removeAll(inMemory.keySet());
+        if (inMemory.isEmpty()) {
+            return reserveInDatabase(requested)
+                    .flatMap(products -> inventoryLedger.record(withdrawn, InventoryMovementReasonEnum.ORDER, null)
+                            .then(productCache.evictStocksOnCompletion(withdrawn.keySet()))
+                            .thenReturn(toOutput(products, List.of())))
+                    .as(transactionalOperator::transactional);
+        }
+        return flashSaleStockEngine.reserve(inMemory, remaining -> (requested.isEmpty()
+                        ? Mono.just(List.<ReserveStockCommand.Output.ReservedProduct>of())
+                        : reserveInDatabase(requested))
+                .flatMap(products -> inventoryLedger.record(withdrawn, InventoryMovementReasonEnum.ORDER, null)
+                        .then(productCache.evictStocksOnCompletion(withdrawn.keySet()))
+                        .thenReturn(products))
+                .map(products -> {
+                    inMemory.forEach((id, quantity) -> {
+                        log.info("Publicando evento StockReduced para produto ID {} com quantidade {}", id, quantity);
+                        publisher.publishEvent(new StockReduced(id.toString(), quantity));
+                    });
+                    return toOutput(products, remaining.entrySet().stream()
+                            .map(entry -> new ReserveStockCommand.Output.ReservedProduct(
+                                    entry.getKey().toString(),
+                                    Math.toIntExact(entry.getValue())))
+                            .toList());
+                }))
+                .as(transactionalOperator::transactional);
+    }
+
+    /**
+     * Reserva no banco de dados o estoque dos produtos que não estão em modo flash sale.
+     * <p>
+     * Produtos com o estoque dividido em buckets são reservados um a um pelo {@link StockBucketReservation}, sem
+     * bloquear a linha do produto; os demais, pela reserva "tudo ou nada" em uma única instrução. As duas etapas
+     * são executadas na mesma transação.
+     * </p>
+     *
+     * @param requested quantidades solicitadas por produto, ordenadas por ID
+     * @return um Mono com o estoque resultante de cada produto
+     */
+    private Mono<List<ReserveStockCommand.Output.ReservedProduct>> reserveInDatabase(Map<UUID, Integer> requested) {
+        Map<UUID, Integer> inBuckets = new TreeMap<>();
+        Map<UUID, Integer> inRows = new TreeMap<>();
+        requested.forEach((id, quantity) -> (stockBucketReservation.handles(id) ? inBuckets : inRows).put(id, quantity));
+        if (inBuckets.isEmpty()) {
+            return reserveRows(inRows);
+        }
+        return (inRows.isEmpty() ? Mono.just(List.<ReserveStockCommand.Output.ReservedProduct>of()) : reserveRows(inRows))
+                .flatMap(rows -> Flux.fromIterable(inBuckets.entrySet())
+                        .concatMap(entry -> stockBucketReservation.reserve(entry.getKey(), entry.getValue())
+                                .switchIfEmpty(Mono.defer(() -> {
+                                    log.warn("Reserva rejeitada. Estoque insuficiente nos buckets do produto {}", entry.getKey());
+                                    return Mono.error(new InsufficientStockException("Estoque insuficiente para os produtos: " + entry.getKey()));
+                                }))
+                                .map(stock -> {
+                                    log.info("Publicando evento StockReduced para produto ID {} com quantidade {}", entry.getKey(), entry.getValue());
+                                    publisher.publishEvent(new StockReduced(entry.getKey().toString(), entry.getValue()));
+                                    return new ReserveStockCommand.Output.ReservedProduct(entry.getKey().toString(), stock);
+                                }))
+                        .collectList()
+                        .map(buckets -> {
+                            List<ReserveStockCommand.Output.ReservedProduct> products = new ArrayList<>(rows);
+                            products.addAll(buckets);
+                            return products;
+                        }))
+                .as(transactionalOperator::transactional);
+    }
+
+    /**
+     * Reserva, em uma única instrução, o estoque mantido na linha de cada produto.
+     *
+     * @param requested quantidades solicitadas por produto, ordenadas por ID
+     * @return um Mono com o estoque resultante de cada produto
+     */
+    private Mono<List<ReserveStockCommand.Output.ReservedProduct>> reserveRows(Map<UUID, Integer> requested) {
+        return productRepository.reserveStock(
+                        requested.keySet().toArray(UUID[]::new),
+                        requested.values().toArray(Integer[]::new))
+                .collectList()
+                .flatMap(products -> {
+                    if (products.size() != requested.size()) {
+                        // Algum produto pode ter sido dividido em buckets por outra instância
+                        return stockBucketReservation.discover(requested.keySet())
+                                .flatMap(bucketed -> bucketed ? reserveInDatabase(requested) : rejection(requested));
+                    }
+                    products.forEach(product -> {
+                        int quantity = requested.get(product.getId());
+                        log.info("Publicando evento StockReduced para produto ID {} com quantidade {}", product.getId(), quantity);
+                        publisher.publishEvent(new StockReduced(product.getId().toString(), quantity));
+                    });
+                    return Mono.just(products.stream()
+                            .map(product -> new ReserveStockCommand.Output.ReservedProduct(
+                                    product.getId().toString(),
+                                    product.getStockQuantity()))
+                            .toList());
+                });
+    }
+
+    /**
+     * Monta a saída da reserva com os produtos reservados no banco e em memória.
+     */
+    private static ReserveStockCommand.Output toOutput(List<ReserveStockCommand.Output.ReservedProduct> inDatabase,
+                                                      List<ReserveStockCommand.Output.ReservedProduct> inMemory) {
+        List<ReserveStockCommand.Output.ReservedProduct> products = new ArrayList<>(inDatabase);
+        products.addAll(inMemory);
+        log.info("Estoque reservado para {} produtos", products.size());
+        return new ReserveStockCommand.Output(products, "Estoque reservado com sucesso");
+    }
+
+    /**
+     * Identifica o motivo da rejeição de uma reserva, lendo o estoque dos produtos envolvidos na mesma transação.
+     * <p>
+     * O saldo comparado é o {@code stock_quantity} da linha do produto, o mesmo verificado pela reserva: as
+     * movimentações pendentes que a reserva pôde consolidar já estão somadas a ele, e as demais não foram
+     * consideradas pela reserva. Se nenhum produto aparecer sem saldo (por exemplo, porque o estoque foi alterado
+     * entre a reserva e a leitura), todos os produtos solicitados são informados.
+     * </p>
+     *
+     * @param requested quantidades solicitadas por produto
+     * @return um Mono com o erro correspondente ao motivo da rejeição
+     */
+    private <T> Mono<T> rejection(Map<UUID, Integer> requested) {
+        return productRepository.findAllById(requested.keySet())
+                .collectMap(ProductPO::getId, Function.identity())
+                .flatMap(products -> {
+                    List<String> missing = requested.keySet().stream()
+                            .filter(id -> !products.containsKey(id))
+                            .map(UUID::toString)
+                            .toList();
+                    if (!missing.isEmpty()) {
+                        log.warn("Reserva rejeitada. Produtos não encontrados: {}", missing);
+                        return Mono.error(new ProductNotFoundException("Produto não encontrado com ID: " + String.join(", ", missing)));
+                    }
+                    List<String> insufficient = requested.entrySet().stream()
+                            .filter(entry -> products.get(entry.getKey()).getStockQuantity() < entry.getValue())
+                            .map(entry -> entry.getKey().toString())
+                            .toList();
+                    if (insufficient.isEmpty()) {
+                        insufficient = requested.keySet().stream().map(UUID::toString).toList();
+                    }
+                    log.warn("Reserva rejeitada. Produtos com estoque insuficiente: {}", insufficient);
+                    return Mono.error(new InsufficientStockException("Estoque insuficiente para os produtos: " + String.join(", ", insufficient)));
+                });
+    }
+}
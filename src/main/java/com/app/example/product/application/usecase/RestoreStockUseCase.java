@@ -0,0 +1,91 @@
+package com.app.example.product.application.usecase;
+
+import com.app.example.product.application.commnad.RestoreStockCommand;
+import com.app.example.product.application.usecase.helper.FlashSaleStockEngine;
+import com.app.example.product.application.usecase.helper.InventoryLedger;
+import com.app.example.product.domain.event.StockRestored;
+import com.app.example.product.domain.po.ProductPO;
+import com.app.example.product.domain.po.StockAdjustmentPO;
+import com.app.example.product.infra.cache.ProductCache;
+import com.app.example.product.infra.repository.ProductRepository;
+import com.app.example.shared.usecase.IUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Caso de uso para devolver ao estoque os itens de pedidos cancelados.
+ * <p>
+ * Todas as linhas de {@code order_items} dos pedidos informados são registradas como devoluções pendentes no
+ * {@link InventoryLedger}, com um único {@code INSERT ... SELECT FROM order_items}, sem bloquear as linhas dos
+ * produtos; a consolidação no estoque é feita depois, em lote. Deve ser executado na mesma transação que cancela os
+ * pedidos. Para cada produto devolvido é publicado um evento {@link StockRestored}.
+ * </p>
+ * <p>
+ * A devolução de produtos em modo flash sale também é somada ao saldo em memória do {@link FlashSaleStockEngine},
+ * após a confirmação da transação. O estoque dos produtos devolvidos é removido do {@link ProductCache}.
+ * </p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Qualifier("restoreStockUseCase")
+public class RestoreStockUseCase implements IUseCase<RestoreStockCommand.Input, Mono<RestoreStockCommand.Output>> {
+
+    private final ProductRepository productRepository;
+    private final ApplicationEventPublisher publisher;
+    private final FlashSaleStockEngine flashSaleStockEngine;
+    private final InventoryLedger inventoryLedger;
+    private final ProductCache productCache;
+
+    /**
+     * Executa a devolução de estoque.
+     *
+     * @param input os dados de entrada contendo os IDs dos pedidos cancelados
+     * @return um Mono com a quantidade devolvida e o estoque resultante de cada produto
+     */
+    @Override
+    public Mono<RestoreStockCommand.Output> execute(RestoreStockCommand.Input input) {
+        log.info("Iniciando devolução de estoque dos itens de {} pedidos", input.orderIds().size());
+
+        return inventoryLedger.appendCancellations(input.orderIds().stream()
+                        .map(UUID::fromString)
+                        .distinct()
+                        .toList())
+                .collect(Collectors.toMap(StockAdjustmentPO::getProductId, StockAdjustmentPO::getQuantity, Integer::sum, TreeMap::new))
+                .flatMap(restored -> productRepository.findAllByIds(restored.keySet().toArray(UUID[]::new))
+                        .collectMap(ProductPO::getId, ProductPO::getStockQuantity)
+                        .flatMap(stocks -> {
+                            Map<UUID, Integer> inMemory = restored.entrySet().stream()
+                                    .filter(entry -> flashSaleStockEngine.handles(entry.getKey()))
+                                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+                            List<RestoreStockCommand.Output.RestoredProduct> products = restored.entrySet().stream()
+                                    .map(entry -> {
+                                        log.info("Publicando evento StockRestored para produto ID {} com quantidade {}", entry.getKey(), entry.getValue());
+                                        publisher.publishEvent(new StockRestored(entry.getKey().toString(), entry.getValue()));
+                                        return new RestoreStockCommand.Output.RestoredProduct(
+                                                entry.getKey().toString(),
+                                                entry.getValue(),
+                                                inMemory.containsKey(entry.getKey())
+                                                        ? flashSaleStockEngine.available(entry.getKey()) + entry.getValue()
+                                                        : stocks.get(entry.getKey()));
+                                    })
+                                    .toList();
+                            log.info("Estoque devolvido para {} produtos", products.size());
+                            return flashSaleStockEngine.credit(inMemory)
+                                    .then(productCache.evictStocksOnCompletion(restored.keySet()))
+                                    .thenReturn(new RestoreStockCommand.Output(products, "Estoque devolvido com sucesso"));
+                        }));
+    }
+}
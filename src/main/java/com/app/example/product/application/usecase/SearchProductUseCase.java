@@ -0,0 +1,73 @@
+package com.app.example.product.application.usecase;
+
+import com.app.example.product.application.commnad.SearchProductCommand;
+import com.app.example.product.application.usecase.helper.ProductSearchCursor;
+import com.app.example.product.infra.repository.ProductRepository;
+import com.app.example.product.mapper.SearchProductMapper;
+import com.app.example.shared.usecase.IUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+/**
+ * Caso de uso para a busca textual de produtos pelo nome e pela descrição.
+ * <p>
+ * A busca usa o índice de texto completo do PostgreSQL ({@link ProductRepository#search}) em vez de
+ * {@code ILIKE}, e os produtos são retornados do mais para o menos relevante. Os filtros de categoria, faixa de
+ * preço e estoque são opcionais.
+ * </p>
+ * <p>
+ * A paginação é feita por chave ("keyset"): cada produto retornado traz um cursor opaco, e a página seguinte
+ * é obtida informando o cursor do último produto recebido. O tamanho da página é limitado a
+ * {@value #MAX_PAGE_SIZE} produtos.
+ * </p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Qualifier("searchProductUseCase")
+public class SearchProductUseCase implements IUseCase<SearchProductCommand.Input, Flux<SearchProductCommand.Output>> {
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private final ProductRepository productRepository;
+    private final SearchProductMapper searchProductMapper;
+
+    /**
+     * Executa a busca de uma página de produtos.
+     *
+     * @param input Termos, filtros, cursor da página anterior e tamanho da página.
+     * @return Fluxo com os produtos da página, do mais para o menos relevante; vazio se nenhum termo for informado
+     *         ou se o preço mínimo for maior que o máximo.
+     * @throws com.app.example.shared.exception.InvalidCursorException se o cursor informado não for válido.
+     */
+    @Override
+    public Flux<SearchProductCommand.Output> execute(SearchProductCommand.Input input) {
+        int limit = input.limit() <= 0 ? DEFAULT_PAGE_SIZE : Math.min(input.limit(), MAX_PAGE_SIZE);
+        if (input.query() == null || input.query().isBlank()) {
+            return Flux.empty();
+        }
+        if (input.minPrice() != null && input.maxPrice() != null && input.minPrice().compareTo(input.maxPrice()) > 0) {
+            return Flux.empty();
+        }
+        String category = input.category() == null || input.category().isBlank() ? null : input.category();
+        log.info("Buscando até {} produtos por '{}'", limit, input.query());
+
+        return Flux.defer(() -> {
+                    if (input.after() == null || input.after().isBlank()) {
+                        return productRepository.search(input.query(), category, input.minPrice(), input.maxPrice(),
+                                input.inStock(), null, null, limit);
+                    }
+                    ProductSearchCursor cursor = ProductSearchCursor.decode(input.after());
+                    return productRepository.search(input.query(), category, input.minPrice(), input.maxPrice(),
+                            input.inStock(), cursor.rank(), cursor.productId(), limit);
+                })
+                .map(searchProductMapper::toOutput)
+                .doOnError(error -> log.error("Erro ao buscar produtos por '{}'", input.query(), error));
+    }
+}
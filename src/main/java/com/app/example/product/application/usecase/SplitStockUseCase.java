@@ -0,0 +1,70 @@
+package com.app.example.product.application.usecase;
+
+import com.app.example.product.application.commnad.SplitStockCommand;
+import com.app.example.product.infra.cache.StockBucketDirectory;
+import com.app.example.product.infra.repository.ProductRepository;
+import com.app.example.product.mapper.SplitStockMapper;
+import com.app.example.shared.exception.ProductNotFoundException;
+import com.app.example.shared.usecase.IUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Caso de uso para dividir o estoque de um produto em várias linhas de {@code product_stock_buckets}.
+ * <p>
+ * Todo o estoque do produto (a linha do produto mais os buckets existentes) é bloqueado, somado e redistribuído
+ * o mais igualmente possível entre a nova quantidade de buckets, e a linha do produto fica com estoque zero.
+ * A partir daí as reservas do produto escolhem um bucket e não disputam mais uma única linha. Pode ser executado
+ * novamente para alterar a quantidade de buckets.
+ * </p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Qualifier("splitStockUseCase")
+public class SplitStockUseCase implements IUseCase<SplitStockCommand.Input, Mono<SplitStockCommand.Output>> {
+
+    private final ProductRepository productRepository;
+    private final StockBucketDirectory stockBucketDirectory;
+    private final SplitStockMapper splitStockMapper;
+    private final TransactionalOperator transactionalOperator;
+
+    /**
+     * Executa a divisão de estoque.
+     *
+     * @param input os dados de entrada contendo o ID do produto e a quantidade de buckets
+     * @return um Mono com o estoque total e a quantidade de cada bucket criado
+     * @throws ProductNotFoundException se o produto não for encontrado
+     */
+    @Override
+    public Mono<SplitStockCommand.Output> execute(SplitStockCommand.Input input) {
+        UUID id = UUID.fromString(input.productId());
+        log.info("Iniciando divisão do estoque do produto {} em {} buckets", id, input.buckets());
+
+        return productRepository.lockStockForSplit(id)
+                .switchIfEmpty(Mono.defer(() -> {
+                    log.warn("Produto com ID {} não encontrado", id);
+                    return Mono.error(new ProductNotFoundException("Produto não encontrado com ID: " + id));
+                }))
+                .flatMap(total -> productRepository.deleteStockBuckets(id)
+                        .then(productRepository.clearStockQuantity(id))
+                        .thenMany(productRepository.createStockBuckets(id, total, input.buckets()))
+                        .map(splitStockMapper::toBucket)
+                        .collectList()
+                        .map(buckets -> new SplitStockCommand.Output(id.toString(), total, buckets, "Estoque dividido com sucesso")))
+                .as(transactionalOperator::transactional)
+                .doOnNext(output -> {
+                    stockBucketDirectory.addAll(List.of(id));
+                    log.info("Estoque de {} unidades do produto {} dividido em {} buckets", output.totalStock(), id, output.buckets().size());
+                });
+    }
+}
@@ -0,0 +1,47 @@
+package com.app.example.product.application.usecase;
+
+import com.app.example.product.application.commnad.ListByCategoryProductCommand;
+import com.app.example.product.infra.repository.ProductRepository;
+import com.app.example.product.mapper.ListByCategoryProductMapper;
+import com.app.example.shared.usecase.IUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+/**
+ * Caso de uso responsável por transmitir todos os produtos de uma categoria, em ordem de ID.
+ * <p>
+ * Ao contrário de {@link ListByCategoryProductUseCase}, não há limite de produtos: a categoria é lida com um cursor
+ * do banco de dados ({@link ProductRepository#streamByCategory}), em blocos, à medida que o assinante consome os
+ * produtos. A memória usada não depende do tamanho da categoria. O tamanho da página informado na entrada é
+ * ignorado; o ID do último produto recebido, se informado, permite retomar uma transmissão interrompida.
+ * </p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Qualifier("streamByCategoryProductUseCase")
+public class StreamByCategoryProductUseCase implements IUseCase<ListByCategoryProductCommand.Input, Flux<ListByCategoryProductCommand.Output>> {
+
+    private final ProductRepository productRepository;
+    private final ListByCategoryProductMapper listByCategoryProductMapper;
+
+    /**
+     * Executa a transmissão dos produtos da categoria.
+     *
+     * @param input Categoria dos produtos e, opcionalmente, o ID do último produto já recebido.
+     * @return Fluxo com os produtos da categoria, emitidos conforme a demanda do assinante.
+     */
+    @Override
+    public Flux<ListByCategoryProductCommand.Output> execute(ListByCategoryProductCommand.Input input) {
+        log.info("Iniciando transmissão dos produtos da categoria: {}", input.category());
+        return productRepository.streamByCategory(input.category(), input.after())
+                .map(listByCategoryProductMapper::toCommand)
+                .doOnError(error -> log.error("Erro ao transmitir produtos da categoria: {}", input.category(), error))
+                .doOnComplete(() -> log.info("Transmissão finalizada para a categoria: {}", input.category()));
+    }
+}
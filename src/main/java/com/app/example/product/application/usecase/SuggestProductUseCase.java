@@ -0,0 +1,48 @@
+package com.app.example.product.application.usecase;
+
+import com.app.example.product.application.commnad.SuggestProductCommand;
+import com.app.example.product.infra.cache.ProductNameIndex;
+import com.app.example.product.mapper.SuggestProductMapper;
+import com.app.example.shared.usecase.IUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+/**
+ * Caso de uso para sugerir nomes de produtos enquanto o cliente digita (autocompletar).
+ * <p>
+ * As sugestões vêm apenas do índice em memória {@link ProductNameIndex}, sem consultar o banco de dados: são os
+ * produtos com alguma palavra do nome começando pelo texto digitado. A quantidade de sugestões é limitada a
+ * {@value #MAX_SUGGESTIONS}.
+ * </p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Qualifier("suggestProductUseCase")
+public class SuggestProductUseCase implements IUseCase<SuggestProductCommand.Input, Flux<SuggestProductCommand.Output>> {
+
+    public static final int DEFAULT_SUGGESTIONS = 10;
+    public static final int MAX_SUGGESTIONS = 20;
+
+    private final ProductNameIndex productNameIndex;
+    private final SuggestProductMapper suggestProductMapper;
+
+    /**
+     * Executa a sugestão de produtos.
+     *
+     * @param input Texto digitado e quantidade máxima de sugestões.
+     * @return Fluxo com os produtos sugeridos; vazio se nenhum texto for informado.
+     */
+    @Override
+    public Flux<SuggestProductCommand.Output> execute(SuggestProductCommand.Input input) {
+        int limit = input.limit() <= 0 ? DEFAULT_SUGGESTIONS : Math.min(input.limit(), MAX_SUGGESTIONS);
+        log.debug("Sugerindo até {} produtos para '{}'", limit, input.prefix());
+        return Flux.defer(() -> Flux.fromIterable(productNameIndex.suggest(input.prefix(), limit)))
+                .map(suggestProductMapper::toOutput);
+    }
+}
@@ -0,0 +1,336 @@
+package com.app.example.product.application.usecase.helper;
+
+import com.app.example.product.domain.po.ProductPO;
+import com.app.example.product.infra.config.FlashSaleProperties;
+import com.app.example.product.infra.flashsale.FlashSaleCounters;
+import com.app.example.product.infra.flashsale.FlashSaleJournal;
+import com.app.example.product.infra.repository.ProductRepository;
+import com.app.example.shared.exception.InsufficientStockException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.NoTransactionException;
+import org.springframework.transaction.reactive.TransactionSynchronization;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Controle de estoque em memória dos produtos em modo flash sale ({@code app.product.flash-sale}).
+ * <p>
+ * Para os produtos configurados, o saldo em memória ({@link FlashSaleCounters}) é a fonte da verdade: as reservas
+ * são feitas com {@code compareAndSet}, sem ir ao banco de dados, e confirmadas ao chamador assim que gravadas no
+ * {@link FlashSaleJournal}. As variações acumuladas são gravadas no banco periodicamente
+ * ({@code flush-interval}) pelo {@link ProductRepository#updateStockQuantity(int, UUID)}, em uma transação, e
+ * então marcadas no journal com um checkpoint.
+ * </p>
+ * <p>
+ * Garantias em caso de queda do processo:
+ * <ul>
+ *   <li>o saldo em memória só é aumentado depois que a devolução estiver gravada (no journal ou no banco), de modo
+ *       que a memória nunca tem mais estoque que o banco mais o journal: não há venda acima do estoque;</li>
+ *   <li>na inicialização, as variações do journal posteriores ao último checkpoint são aplicadas ao banco antes da
+ *       carga do saldo em memória;</li>
+ *   <li>uma queda entre a gravação no banco e o checkpoint faz as mesmas variações serem aplicadas novamente, o que
+ *       pode reduzir o estoque além do necessário, mas nunca permite vender acima dele.</li>
+ * </ul>
+ * </p>
+ * <p>
+ * Reservas feitas dentro de uma transação são devolvidas se a transação for desfeita.
+ * </p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@Slf4j
+@Component
+public class FlashSaleStockEngine {
+
+    private final FlashSaleProperties properties;
+    private final ProductRepository productRepository;
+    private final TransactionalOperator transactionalOperator;
+    private final FlashSaleCounters counters;
+    private final Map<UUID, Long> pending = new HashMap<>();
+    private long durableSequence;
+    private long checkpointedSequence;
+    private FlashSaleJournal journal;
+    private Disposable flusher;
+    private volatile boolean ready;
+
+    public FlashSaleStockEngine(FlashSaleProperties properties,
+                                ProductRepository productRepository,
+                                TransactionalOperator transactionalOperator) {
+        this.properties = properties;
+        this.productRepository = productRepository;
+        this.transactionalOperator = transactionalOperator;
+        this.counters = new FlashSaleCounters(properties.enabled() ? properties.productIds() : List.of());
+    }
+
+    /**
+     * Recupera o journal, carrega o saldo dos produtos configurados e inicia as gravações periódicas no banco.
+     */
+    @PostConstruct
+    void start() {
+        if (!properties.enabled() || counters.productIds().isEmpty()) {
+            return;
+        }
+        Path path = properties.journal().toAbsolutePath();
+        try {
+            Files.createDirectories(path.getParent());
+            FlashSaleJournal.Recovery recovery = FlashSaleJournal.recover(path);
+            if (!recovery.unflushed().isEmpty()) {
+                log.warn("Aplicando ao banco variações de estoque não gravadas antes da última parada: {}", recovery.unflushed());
+                apply(recovery.unflushed()).block();
+            }
+            journal = new FlashSaleJournal(path, recovery.lastSequence(), this::onDurable);
+            durableSequence = recovery.lastSequence();
+            checkpointedSequence = recovery.lastSequence();
+            journal.checkpoint(recovery.lastSequence()).join();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao abrir o journal de flash sale " + path, e);
+        }
+
+        Map<UUID, Integer> loaded = productRepository.findAllByIds(counters.productIds().toArray(UUID[]::new))
+                .collectMap(ProductPO::getId, ProductPO::getStockQuantity)
+                .block();
+        List<UUID> missing = counters.productIds().stream()
+                .filter(id -> loaded == null || !loaded.containsKey(id))
+                .toList();
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("Produtos do modo flash sale não encontrados: " + missing);
+        }
+        loaded.forEach(counters::set);
+
+        flusher = Flux.interval(properties.flushInterval())
+                .onBackpressureDrop()
+                .concatMap(tick -> flush(), 1)
+                .subscribe();
+        ready = true;
+        log.info("Modo flash sale habilitado para {} produtos: {}", loaded.size(), loaded);
+    }
+
+    /**
+     * Interrompe as gravações periódicas, grava no banco as variações pendentes e fecha o journal.
+     */
+    @PreDestroy
+    void stop() throws IOException {
+        if (!ready) {
+            return;
+        }
+        ready = false;
+        flusher.dispose();
+        flush().block();
+        journal.close();
+    }
+
+    /**
+     * Indica se o estoque do produto é controlado em memória.
+     *
+     * @param productId ID do produto.
+     * @return {@code true} se o modo flash sale estiver ativo para o produto.
+     */
+    public boolean handles(UUID productId) {
+        return ready && counters.contains(productId);
+    }
+
+    /**
+     * Retorna o saldo em memória de um produto controlado.
+     *
+     * @param productId ID do produto.
+     * @return saldo disponível.
+     */
+    public int available(UUID productId) {
+        return Math.toIntExact(counters.get(productId));
+    }
+
+    /**
+     * Substitui o estoque lido do banco pelo saldo em memória, se o produto for controlado.
+     *
+     * @param product produto lido do banco de dados.
+     * @return o mesmo produto, com o estoque atualizado.
+     */
+    public ProductPO overlay(ProductPO product) {
+        if (handles(product.getId())) {
+            product.setStockQuantity(available(product.getId()));
+        }
+        return product;
+    }
+
+    /**
+     * Reserva, no modo "tudo ou nada", as quantidades informadas de produtos controlados.
+     *
+     * @param quantities quantidade a ser baixada por produto (negativa para reposição).
+     * @return Mono com o saldo resultante de cada produto, emitido depois que a reserva estiver no journal.
+     * @throws InsufficientStockException se algum produto não tiver saldo suficiente.
+     */
+    public Mono<Map<UUID, Long>> reserve(Map<UUID, Integer> quantities) {
+        return reserve(quantities, Mono::just);
+    }
+
+    /**
+     * Reserva as quantidades informadas e, em seguida, executa a etapa seguinte. Se a etapa seguinte falhar, ou se
+     * a transação atual for desfeita, a reserva é desfeita uma única vez.
+     *
+     * @param quantities quantidade a ser baixada por produto (negativa para reposição).
+     * @param next       etapa executada após a reserva, recebendo o saldo resultante de cada produto.
+     * @return Mono com o resultado da etapa seguinte.
+     * @throws InsufficientStockException se algum produto não tiver saldo suficiente.
+     */
+    public <T> Mono<T> reserve(Map<UUID, Integer> quantities, Function<Map<UUID, Long>, Mono<T>> next) {
+        AtomicBoolean released = new AtomicBoolean();
+        Supplier<Mono<Void>> releaseOnce = () -> released.compareAndSet(false, true) ? release(quantities) : Mono.empty();
+        return Mono.defer(() -> {
+            // Baixas são aplicadas antes do journal; reposições só depois, para que a memória nunca exceda o banco
+            Map<UUID, Integer> reserved = new TreeMap<>();
+            Map<UUID, Long> remaining = new TreeMap<>();
+            for (Map.Entry<UUID, Integer> entry : new TreeMap<>(quantities).entrySet()) {
+                if (entry.getValue() <= 0) {
+                    continue;
+                }
+                long left = counters.tryReserve(entry.getKey(), entry.getValue());
+                if (left < 0) {
+                    reserved.forEach(counters::add);
+                    log.warn("Reserva em memória rejeitada. Estoque insuficiente para o produto {}", entry.getKey());
+                    return Mono.error(new InsufficientStockException("Estoque insuficiente para os produtos: " + entry.getKey()));
+                }
+                reserved.put(entry.getKey(), entry.getValue());
+                remaining.put(entry.getKey(), left);
+            }
+            return Mono.fromFuture(journal.append(quantities))
+                    .doOnError(error -> reserved.forEach(counters::add))
+                    .doOnNext(sequence -> quantities.forEach((productId, quantity) -> {
+                        if (quantity <= 0) {
+                            remaining.put(productId, counters.add(productId, -quantity));
+                        }
+                    }))
+                    .then(onTransactionOutcome(Mono::empty, releaseOnce))
+                    .then(Mono.defer(() -> next.apply(remaining)
+                            .onErrorResume(error -> releaseOnce.get().then(Mono.error(error)))));
+        });
+    }
+
+    /**
+     * Devolve ao saldo em memória quantidades já devolvidas no banco de dados (por exemplo, por um cancelamento).
+     * Dentro de uma transação, o saldo só é alterado após a confirmação.
+     *
+     * @param quantities quantidade devolvida por produto controlado.
+     * @return Mono que completa após o registro da devolução.
+     */
+    public Mono<Void> credit(Map<UUID, Integer> quantities) {
+        return onTransactionOutcome(() -> Mono.fromRunnable(() -> quantities.forEach(counters::add)), Mono::empty);
+    }
+
+    /**
+     * Desfaz uma reserva. O saldo em memória só é devolvido depois que a devolução estiver no journal.
+     */
+    private Mono<Void> release(Map<UUID, Integer> quantities) {
+        Map<UUID, Integer> returned = quantities.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> -entry.getValue()));
+        return Mono.fromFuture(() -> journal.append(returned))
+                .doOnNext(sequence -> {
+                    quantities.forEach((productId, quantity) -> {
+                        if (quantity > 0) {
+                            counters.add(productId, quantity);
+                        }
+                    });
+                    log.info("Reserva em memória desfeita após rollback: {}", quantities);
+                })
+                .onErrorResume(error -> {
+                    log.error("Falha ao desfazer reserva em memória {}. O estoque permanecerá baixado.", quantities, error);
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    /**
+     * Executa a ação correspondente ao resultado da transação atual, ou a ação de confirmação imediatamente se não
+     * houver transação.
+     */
+    private Mono<Void> onTransactionOutcome(Supplier<Mono<Void>> onCommit, Supplier<Mono<Void>> onRollback) {
+        return TransactionSynchronizationManager.forCurrentTransaction()
+                .filter(TransactionSynchronizationManager::isSynchronizationActive)
+                .doOnNext(manager -> manager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public Mono<Void> afterCompletion(int status) {
+                        if (status == STATUS_COMMITTED) {
+                            return onCommit.get();
+                        }
+                        return status == STATUS_ROLLED_BACK ? onRollback.get() : Mono.empty();
+                    }
+                }))
+                .map(manager -> true)
+                .onErrorResume(NoTransactionException.class, error -> Mono.empty())
+                .switchIfEmpty(Mono.defer(() -> onCommit.get().thenReturn(false)))
+                .then();
+    }
+
+    /**
+     * Acumula as variações gravadas no journal. Executado pela thread do journal, na ordem das sequências.
+     */
+    private synchronized void onDurable(long sequence, Map<UUID, Integer> deltas) {
+        deltas.forEach((productId, delta) -> pending.merge(productId, (long) delta, Long::sum));
+        durableSequence = sequence;
+    }
+
+    /**
+     * Grava no banco as variações acumuladas e registra o checkpoint no journal. Nunca termina com erro: em caso de
+     * falha na gravação, as variações voltam a ficar pendentes para a próxima execução.
+     */
+    private Mono<Void> flush() {
+        Map<UUID, Long> deltas;
+        long sequence;
+        synchronized (this) {
+            if (durableSequence == checkpointedSequence) {
+                return Mono.empty();
+            }
+            deltas = new HashMap<>(pending);
+            pending.clear();
+            sequence = durableSequence;
+        }
+        return apply(deltas)
+                .doOnError(error -> {
+                    synchronized (this) {
+                        deltas.forEach((productId, delta) -> pending.merge(productId, delta, Long::sum));
+                    }
+                })
+                .then(Mono.defer(() -> Mono.fromFuture(journal.checkpoint(sequence))))
+                .doOnNext(checkpoint -> {
+                    synchronized (this) {
+                        checkpointedSequence = checkpoint;
+                    }
+                    log.debug("Variações de estoque em memória gravadas no banco até a sequência {}: {}", checkpoint, deltas);
+                })
+                .onErrorResume(error -> {
+                    log.warn("Falha ao gravar no banco as variações de estoque em memória: {}", error.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    /**
+     * Aplica as variações ao banco em uma única transação, em ordem de ID de produto.
+     */
+    private Mono<Void> apply(Map<UUID, Long> deltas) {
+        return Flux.fromIterable(new TreeMap<>(deltas).entrySet())
+                .filter(entry -> entry.getValue() != 0)
+                .concatMap(entry -> productRepository.updateStockQuantity(Math.toIntExact(entry.getValue()), entry.getKey()))
+                .then()
+                .as(transactionalOperator::transactional);
+    }
+}
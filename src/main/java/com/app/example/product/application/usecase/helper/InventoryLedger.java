@@ -0,0 +1,134 @@
+package com.app.example.product.application.usecase.helper;
+
+import com.app.example.product.domain.enums.InventoryMovementReasonEnum;
+import com.app.example.product.domain.po.StockAdjustmentPO;
+import com.app.example.product.infra.config.InventoryLedgerProperties;
+import com.app.example.product.infra.repository.InventoryMovementRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Registro de movimentações de estoque ({@code inventory_movements}), com o motivo de cada alteração.
+ * <p>
+ * Entradas de estoque (reposições e devoluções de pedidos cancelados) são gravadas apenas como inserções pendentes,
+ * sem bloquear a linha do produto, e consolidadas periodicamente ({@code compact-interval}) no estoque do produto, em
+ * lotes de até {@code batch-size} movimentações. Até a consolidação, a entrada já aparece nas consultas de estoque e
+ * pode ser reservada: as instruções de baixa de {@code ProductRepository} consolidam as movimentações pendentes dos
+ * produtos que bloqueiam antes de verificar o saldo.
+ * </p>
+ * <p>
+ * Saídas de estoque continuam sendo baixadas com a verificação de saldo na própria linha do produto, pois uma
+ * inserção não consegue impedir o saldo negativo; elas são registradas já consolidadas, como histórico.
+ * </p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InventoryLedger {
+
+    private final InventoryMovementRepository inventoryMovementRepository;
+    private final InventoryLedgerProperties properties;
+    private Disposable subscription;
+
+    /**
+     * Inicia a consolidação periódica das movimentações pendentes.
+     */
+    @PostConstruct
+    void start() {
+        subscription = Flux.interval(properties.compactInterval())
+                .onBackpressureDrop()
+                .concatMap(tick -> compact(), 1)
+                .subscribe();
+    }
+
+    /**
+     * Interrompe a consolidação periódica.
+     */
+    @PreDestroy
+    void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+    /**
+     * Registra, como histórico, variações de estoque já aplicadas ao estoque dos produtos.
+     *
+     * @param variations  variação de estoque por produto (negativa para saída).
+     * @param reason      motivo das movimentações.
+     * @param referenceId ID da operação de origem; pode ser nulo.
+     * @return Mono que completa após a gravação.
+     */
+    public Mono<Void> record(Map<UUID, Integer> variations, InventoryMovementReasonEnum reason, UUID referenceId) {
+        return insert(variations, reason, referenceId, true).then();
+    }
+
+    /**
+     * Registra variações de estoque pendentes, que serão somadas ao estoque dos produtos na próxima consolidação.
+     *
+     * @param variations  variação de estoque por produto (positiva para entrada).
+     * @param reason      motivo das movimentações.
+     * @param referenceId ID da operação de origem; pode ser nulo.
+     * @return Mono com o número de movimentações registradas; produtos inexistentes são ignorados.
+     */
+    public Mono<Integer> append(Map<UUID, Integer> variations, InventoryMovementReasonEnum reason, UUID referenceId) {
+        return insert(variations, reason, referenceId, false);
+    }
+
+    /**
+     * Registra como pendente a devolução de todos os itens dos pedidos cancelados informados.
+     *
+     * @param orderIds IDs dos pedidos.
+     * @return Fluxo com o produto e a quantidade de cada movimentação, uma por pedido e produto.
+     */
+    public Flux<StockAdjustmentPO> appendCancellations(Collection<UUID> orderIds) {
+        return inventoryMovementRepository.insertCancellations(orderIds.toArray(UUID[]::new));
+    }
+
+    private Mono<Integer> insert(Map<UUID, Integer> variations, InventoryMovementReasonEnum reason, UUID referenceId, boolean compacted) {
+        if (variations.isEmpty()) {
+            return Mono.just(0);
+        }
+        Map<UUID, Integer> ordered = new TreeMap<>(variations);
+        return inventoryMovementRepository.insertAll(
+                ordered.keySet().toArray(UUID[]::new),
+                ordered.values().toArray(Integer[]::new),
+                reason.name(),
+                referenceId,
+                compacted);
+    }
+
+    /**
+     * Consolida as movimentações pendentes, lote a lote, até que não haja mais nenhuma. Nunca termina com erro: em
+     * caso de falha, as movimentações continuam pendentes para a próxima execução.
+     */
+    private Mono<Void> compact() {
+        int batchSize = properties.batchSize();
+        return inventoryMovementRepository.compactPending(batchSize)
+                .expand(compacted -> compacted < batchSize ? Mono.empty() : inventoryMovementRepository.compactPending(batchSize))
+                .reduce(0, Integer::sum)
+                .doOnNext(total -> {
+                    if (total > 0) {
+                        log.debug("{} movimentações de estoque consolidadas", total);
+                    }
+                })
+                .onErrorResume(error -> {
+                    log.warn("Falha ao consolidar as movimentações de estoque: {}", error.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+}
@@ -0,0 +1,191 @@
+package com.app.example.product.application.usecase.helper;
+
+import com.app.example.product.domain.dto.CreateProductDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Conversão e validação das linhas de um arquivo de importação de produtos.
+ * <p>
+ * Cada linha é convertida para um {@link CreateProductDTO.Request} e validada com as mesmas regras da criação
+ * individual de produtos. Uma linha inválida não interrompe a importação: os motivos da rejeição são devolvidos
+ * em {@link ParsedRow#errors()}.
+ * </p>
+ * <p>
+ * No CSV, a primeira linha é o cabeçalho com os nomes das colunas ({@code name}, {@code description},
+ * {@code price}, {@code stockQuantity} ou {@code stock_quantity} e {@code category}), em qualquer ordem. Campos
+ * podem estar entre aspas duplas, com aspas internas duplicadas ({@code ""}); quebras de linha dentro de um campo
+ * não são suportadas. Campos vazios são tratados como ausentes.
+ * </p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductImportParser {
+
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    /**
+     * Converte uma linha NDJSON.
+     *
+     * @param line número da linha no arquivo.
+     * @param text conteúdo da linha.
+     * @return a linha convertida, com os motivos da rejeição se for inválida.
+     */
+    public ParsedRow parseNdjson(long line, String text) {
+        try {
+            return validate(line, objectMapper.readValue(stripByteOrderMark(text), CreateProductDTO.Request.class));
+        } catch (JsonProcessingException e) {
+            return ParsedRow.rejected(line, "JSON inválido: " + e.getOriginalMessage());
+        }
+    }
+
+    /**
+     * Lê o cabeçalho do CSV.
+     *
+     * @param text conteúdo da primeira linha.
+     * @return posição de cada coluna, pelo nome em minúsculas e sem {@code _}.
+     */
+    public Map<String, Integer> parseCsvHeader(String text) {
+        List<String> names = splitCsv(stripByteOrderMark(text));
+        Map<String, Integer> columns = new HashMap<>();
+        if (names != null) {
+            for (int i = 0; i < names.size(); i++) {
+                columns.putIfAbsent(names.get(i).strip().replace("_", "").toLowerCase(Locale.ROOT), i);
+            }
+        }
+        return columns;
+    }
+
+    /**
+     * Converte uma linha CSV.
+     *
+     * @param line    número da linha no arquivo.
+     * @param text    conteúdo da linha.
+     * @param columns posição de cada coluna, lida por {@link #parseCsvHeader(String)}.
+     * @return a linha convertida, com os motivos da rejeição se for inválida.
+     */
+    public ParsedRow parseCsv(long line, String text, Map<String, Integer> columns) {
+        List<String> fields = splitCsv(text);
+        if (fields == null) {
+            return ParsedRow.rejected(line, "Aspas não fechadas na linha");
+        }
+        if (fields.size() != columns.size()) {
+            return ParsedRow.rejected(line, "A linha tem " + fields.size() + " colunas e o cabeçalho tem " + columns.size());
+        }
+        List<String> errors = new ArrayList<>();
+        BigDecimal price = null;
+        Integer stockQuantity = null;
+        String priceText = field(fields, columns, "price");
+        String stockText = field(fields, columns, "stockquantity");
+        try {
+            price = priceText == null ? null : new BigDecimal(priceText.strip());
+        } catch (NumberFormatException e) {
+            errors.add("price: valor numérico inválido '" + priceText + "'");
+        }
+        try {
+            stockQuantity = stockText == null ? null : Integer.valueOf(stockText.strip());
+        } catch (NumberFormatException e) {
+            errors.add("stockQuantity: valor inteiro inválido '" + stockText + "'");
+        }
+        if (!errors.isEmpty()) {
+            return new ParsedRow(line, null, errors);
+        }
+        return validate(line, new CreateProductDTO.Request(
+                field(fields, columns, "name"),
+                field(fields, columns, "description"),
+                price,
+                stockQuantity,
+                field(fields, columns, "category")));
+    }
+
+    private ParsedRow validate(long line, CreateProductDTO.Request product) {
+        List<String> errors = validator.validate(product).stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .toList();
+        return new ParsedRow(line, product, errors);
+    }
+
+    private static String field(List<String> fields, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null) {
+            return null;
+        }
+        String value = fields.get(index);
+        return value.isEmpty() ? null : value;
+    }
+
+    private static String stripByteOrderMark(String text) {
+        return !text.isEmpty() && text.charAt(0) == BYTE_ORDER_MARK ? text.substring(1) : text;
+    }
+
+    /**
+     * Separa os campos de uma linha CSV.
+     *
+     * @return os campos, ou {@code null} se houver aspas não fechadas.
+     */
+    private static List<String> splitCsv(String text) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c != '\r') {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            return null;
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * Linha do arquivo convertida.
+     *
+     * @param line    número da linha no arquivo, a partir de 1
+     * @param product produto lido; nulo se a linha não pôde ser convertida
+     * @param errors  motivos da rejeição; vazio se a linha for válida
+     */
+    public record ParsedRow(long line, CreateProductDTO.Request product, List<String> errors) {
+
+        static ParsedRow rejected(long line, String error) {
+            return new ParsedRow(line, null, List.of(error));
+        }
+
+        public boolean valid() {
+            return errors.isEmpty();
+        }
+    }
+}
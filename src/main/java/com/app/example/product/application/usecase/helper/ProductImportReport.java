@@ -0,0 +1,91 @@
+package com.app.example.product.application.usecase.helper;
+
+import com.app.example.product.application.commnad.ImportProductsCommand;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Contadores e linhas rejeitadas de uma importação de produtos em andamento.
+ * <p>
+ * A leitura das linhas e a gravação do lote anterior acontecem ao mesmo tempo, em threads diferentes, por isso os
+ * contadores são atômicos. Apenas as primeiras {@code maxReportedErrors} linhas rejeitadas são guardadas; as demais
+ * são só contadas.
+ * </p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+public class ProductImportReport {
+
+    private final int maxReportedErrors;
+    private final long startedAt = System.nanoTime();
+    private final AtomicLong totalRows = new AtomicLong();
+    private final AtomicLong importedRows = new AtomicLong();
+    private final AtomicLong rejectedRows = new AtomicLong();
+    private final List<ImportProductsCommand.RowError> errors = new ArrayList<>();
+
+    public ProductImportReport(int maxReportedErrors) {
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    /**
+     * Registra uma linha lida do arquivo, rejeitando-a se for inválida.
+     *
+     * @param row linha convertida.
+     */
+    public void read(ProductImportParser.ParsedRow row) {
+        totalRows.incrementAndGet();
+        if (!row.valid()) {
+            reject(row.line(), row.errors());
+        }
+    }
+
+    /**
+     * Registra uma linha rejeitada.
+     *
+     * @param line     número da linha no arquivo.
+     * @param messages motivos da rejeição.
+     */
+    public void reject(long line, List<String> messages) {
+        rejectedRows.incrementAndGet();
+        synchronized (errors) {
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new ImportProductsCommand.RowError(line, messages));
+            }
+        }
+    }
+
+    /**
+     * Registra produtos gravados.
+     *
+     * @param count quantidade de produtos gravados.
+     */
+    public void imported(long count) {
+        importedRows.addAndGet(count);
+    }
+
+    /**
+     * Monta o relatório final da importação.
+     *
+     * @return relatório com os contadores, a vazão e as linhas rejeitadas.
+     */
+    public ImportProductsCommand.Output toOutput() {
+        long elapsedNanos = System.nanoTime() - startedAt;
+        double rowsPerSecond = elapsedNanos == 0 ? 0 : totalRows.get() * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+        synchronized (errors) {
+            List<ImportProductsCommand.RowError> reported = errors.stream()
+                    .sorted((left, right) -> Long.compare(left.line(), right.line()))
+                    .toList();
+            return new ImportProductsCommand.Output(
+                    totalRows.get(),
+                    importedRows.get(),
+                    rejectedRows.get(),
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                    Math.round(rowsPerSecond * 10) / 10.0,
+                    reported,
+                    rejectedRows.get() > reported.size());
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.app.example.product.application.usecase.helper;
+
+import com.app.example.shared.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Posição de um produto no resultado da busca textual, usada como cursor da paginação por chave.
+ * <p>
+ * O resultado é ordenado por {@code search_rank DESC, id}; o cursor guarda esses dois valores do último produto
+ * entregue, e a página seguinte começa no primeiro produto depois dele. A relevância é um {@code real} do
+ * PostgreSQL e é guardada com todos os dígitos de {@link Float#toString(float)}, para que a comparação com a
+ * relevância recalculada na página seguinte seja exata. Para o cliente da API, o cursor é um texto opaco
+ * (Base64 URL-safe de {@code rank|id}).
+ * </p>
+ *
+ * @param rank      relevância do produto para os termos buscados
+ * @param productId ID do produto, que desempata produtos com a mesma relevância
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+public record ProductSearchCursor(float rank, UUID productId) {
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * Codifica o cursor no formato opaco entregue ao cliente.
+     *
+     * @return cursor codificado.
+     */
+    public String encode() {
+        String raw = Float.toString(rank) + SEPARATOR + productId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica um cursor recebido do cliente.
+     *
+     * @param cursor cursor codificado por {@link #encode()}.
+     * @return o cursor decodificado.
+     * @throws InvalidCursorException se o cursor não estiver no formato esperado.
+     */
+    public static ProductSearchCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new InvalidCursorException(cursor);
+            }
+            float rank = Float.parseFloat(raw.substring(0, separator));
+            if (!Float.isFinite(rank)) {
+                throw new InvalidCursorException(cursor);
+            }
+            return new ProductSearchCursor(rank, UUID.fromString(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+}
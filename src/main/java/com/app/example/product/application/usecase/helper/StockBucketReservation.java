@@ -0,0 +1,101 @@
+package com.app.example.product.application.usecase.helper;
+
+import com.app.example.product.domain.po.StockAdjustmentPO;
+import com.app.example.product.infra.cache.StockBucketDirectory;
+import com.app.example.product.infra.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Reserva de estoque de produtos com o estoque dividido em buckets ({@code product_stock_buckets}).
+ * <p>
+ * Cada reserva escolhe um bucket por rodízio ("round-robin"), de modo que reservas concorrentes do mesmo produto
+ * bloqueiam linhas diferentes. Somente quando o bucket escolhido não tem saldo suficiente a reserva recorre aos
+ * demais:
+ * <ol>
+ *   <li>o bucket escolhido, se tiver saldo ({@link ProductRepository#reserveFromBucket});</li>
+ *   <li>o bucket livre com maior saldo, ignorando os bloqueados por outras reservas
+ *       ({@link ProductRepository#reserveFromAnyBucket});</li>
+ *   <li>a soma de vários buckets e do saldo que tenha chegado à linha do produto depois da divisão, bloqueando
+ *       todos os buckets e a linha ({@link ProductRepository#reserveAcrossBuckets}).</li>
+ * </ol>
+ * </p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockBucketReservation {
+
+    private final ProductRepository productRepository;
+    private final StockBucketDirectory stockBucketDirectory;
+    private final AtomicInteger nextBucket = new AtomicInteger();
+
+    /**
+     * Indica se o estoque do produto está dividido em buckets, segundo a lista em memória.
+     *
+     * @param productId ID do produto.
+     * @return {@code true} se o produto tiver buckets.
+     */
+    public boolean handles(UUID productId) {
+        return stockBucketDirectory.contains(productId);
+    }
+
+    /**
+     * Consulta o banco para verificar se algum dos produtos passou a ter buckets (por exemplo, dividido por outra
+     * instância) e registra os encontrados na lista em memória.
+     *
+     * @param productIds IDs dos produtos.
+     * @return Mono com {@code true} se algum dos produtos tiver buckets.
+     */
+    public Mono<Boolean> discover(Collection<UUID> productIds) {
+        return productRepository.findBucketedProductIds(productIds.toArray(UUID[]::new))
+                .collectList()
+                .map(found -> {
+                    stockBucketDirectory.addAll(found);
+                    return !found.isEmpty();
+                });
+    }
+
+    /**
+     * Soma a reposição ao bucket {@code 0} dos produtos com o estoque dividido em buckets, mesmo os ainda ausentes da
+     * lista em memória, e registra os encontrados na lista.
+     *
+     * @param quantities quantidade reposta por produto.
+     * @return Fluxo com a quantidade reposta e o novo estoque total de cada produto com buckets.
+     */
+    public Flux<StockAdjustmentPO> restock(Map<UUID, Integer> quantities) {
+        return productRepository.restockBuckets(quantities.keySet().toArray(UUID[]::new), quantities.values().toArray(Integer[]::new))
+                .doOnNext(restocked -> stockBucketDirectory.addAll(List.of(restocked.getProductId())));
+    }
+
+    /**
+     * Baixa a quantidade informada dos buckets do produto.
+     *
+     * @param productId ID do produto.
+     * @param quantity  quantidade a ser baixada (negativa para reposição).
+     * @return Mono com o estoque total do produto após a baixa, ou vazio se o produto não tiver buckets ou a soma
+     *         dos buckets for insuficiente.
+     */
+    public Mono<Integer> reserve(UUID productId, int quantity) {
+        int hint = nextBucket.getAndIncrement() & Integer.MAX_VALUE;
+        return productRepository.reserveFromBucket(productId, hint, quantity)
+                .switchIfEmpty(Mono.defer(() -> productRepository.reserveFromAnyBucket(productId, quantity)))
+                .switchIfEmpty(Mono.defer(() -> productRepository.reserveAcrossBuckets(productId, quantity)
+                        .collectList()
+                        .filter(updated -> !updated.isEmpty())
+                        .doOnNext(updated -> log.info("Reserva de {} unidades do produto {} distribuída em {} buckets", quantity, productId, updated.size()))
+                        .map(List::size)))
+                .flatMap(ignored -> productRepository.findEffectiveStock(productId));
+    }
+}
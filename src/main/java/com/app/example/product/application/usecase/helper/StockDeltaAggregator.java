@@ -0,0 +1,265 @@
+package com.app.example.product.application.usecase.helper;
+
+import com.app.example.product.domain.enums.InventoryMovementReasonEnum;
+import com.app.example.product.infra.config.StockWriteBehindProperties;
+import com.app.example.product.infra.repository.ProductRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Agrupa as alterações de estoque concorrentes e as grava em lote ("write-behind").
+ * <p>
+ * As alterações que chegam dentro de uma janela curta ({@code max-wait}) ou até o limite de {@code max-batch-size}
+ * são somadas por produto e gravadas com uma única instrução
+ * ({@link ProductRepository#applyStockDeltas(UUID[], Integer[])}), em vez de um {@code UPDATE} por alteração.
+ * A soma de cada produto só é aplicada se o saldo continuar não negativo. Quando a soma de um produto é rejeitada,
+ * as alterações desse produto são reaplicadas individualmente, na ordem de chegada, para que apenas as que não cabem
+ * no saldo falhem.
+ * </p>
+ * <p>
+ * Cada lote é gravado, com o registro das movimentações no {@link InventoryLedger}, em uma transação do próprio
+ * agrupador, independente da transação do chamador: a baixa e o seu registro são confirmados ou desfeitos juntos, e o
+ * {@link Mono} de cada chamador só completa depois da confirmação. Por isso o agrupador não é usado nas reservas de
+ * pedidos, nas devoluções de cancelamentos nem nos ajustes em lote, que precisam ser desfeitos com a transação do
+ * chamador (e já são gravados com uma instrução por lote).
+ * </p>
+ * <p>
+ * As alterações são enfileiradas por um {@link FluxSink} serializado, que aceita chamadores concorrentes sem espera
+ * ativa. No máximo {@code queue-size} alterações aguardam resultado ao mesmo tempo; as excedentes são rejeitadas, e
+ * ao encerrar as que ainda aguardam recebem um erro.
+ * </p>
+ * <p>
+ * Métricas publicadas:
+ * <ul>
+ *   <li>{@code products.stock.flush}: tempo de gravação de cada lote;</li>
+ *   <li>{@code products.stock.coalescing.ratio}: alterações recebidas por produto atualizado em cada lote.</li>
+ * </ul>
+ * </p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@Slf4j
+@Component
+public class StockDeltaAggregator {
+
+    private final ProductRepository productRepository;
+    private final InventoryLedger inventoryLedger;
+    private final TransactionalOperator transactionalOperator;
+    private final StockWriteBehindProperties properties;
+    private final Timer flushTime;
+    private final DistributionSummary coalescingRatio;
+    private final Set<PendingDelta> outstanding = ConcurrentHashMap.newKeySet();
+    private volatile FluxSink<PendingDelta> queue;
+    private Disposable subscription;
+
+    public StockDeltaAggregator(ProductRepository productRepository,
+                                InventoryLedger inventoryLedger,
+                                TransactionalOperator transactionalOperator,
+                                StockWriteBehindProperties properties,
+                                MeterRegistry meterRegistry) {
+        this.productRepository = productRepository;
+        this.inventoryLedger = inventoryLedger;
+        this.transactionalOperator = transactionalOperator;
+        this.properties = properties;
+        this.flushTime = Timer.builder("products.stock.flush")
+                .description("Tempo de gravação de um lote de alterações de estoque")
+                .register(meterRegistry);
+        this.coalescingRatio = DistributionSummary.builder("products.stock.coalescing.ratio")
+                .description("Alterações de estoque recebidas por produto atualizado em um lote")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Inicia a gravação dos lotes, caso o agrupamento esteja habilitado.
+     */
+    @PostConstruct
+    void start() {
+        if (!properties.enabled()) {
+            return;
+        }
+        log.info("Gravação agrupada de estoque habilitada: até {} alterações ou {} por lote", properties.maxBatchSize(), properties.maxWait());
+        subscription = Flux.<PendingDelta>create(sink -> queue = sink)
+                .bufferTimeout(properties.maxBatchSize(), properties.maxWait(), true)
+                .concatMap(this::flush)
+                .subscribe();
+    }
+
+    /**
+     * Interrompe a gravação dos lotes e entrega um erro a todas as alterações ainda sem resultado.
+     */
+    @PreDestroy
+    void stop() {
+        queue = null;
+        if (subscription != null) {
+            subscription.dispose();
+        }
+        IllegalStateException error = new IllegalStateException("Gravação agrupada de estoque encerrada");
+        outstanding.forEach(pending -> fail(pending, error));
+    }
+
+    /**
+     * Indica se as alterações de estoque devem ser enviadas a este agrupador.
+     *
+     * @return {@code true} se o agrupamento estiver habilitado.
+     */
+    public boolean enabled() {
+        return properties.enabled();
+    }
+
+    /**
+     * Enfileira uma alteração de estoque para o próximo lote. A alteração é registrada no {@link InventoryLedger} na
+     * mesma transação em que é gravada.
+     *
+     * @param productId ID do produto.
+     * @param quantity  quantidade a ser baixada (negativa para reposição).
+     * @param reason    motivo da movimentação registrada.
+     * @return Mono com o estoque do produto após a confirmação do lote, ou vazio se o produto não existir ou o saldo
+     *         for insuficiente, como em {@link ProductRepository#updateStockQuantityIfAvailable(int, UUID)}.
+     */
+    public Mono<Integer> submit(UUID productId, int quantity, InventoryMovementReasonEnum reason) {
+        return Mono.defer(() -> {
+            FluxSink<PendingDelta> sink = queue;
+            if (sink == null) {
+                return Mono.error(new IllegalStateException("Gravação agrupada de estoque encerrada"));
+            }
+            if (outstanding.size() >= properties.queueSize()) {
+                log.warn("Alteração de estoque do produto {} rejeitada: fila de gravação cheia", productId);
+                return Mono.error(new IllegalStateException("Fila de gravação de estoque cheia"));
+            }
+            PendingDelta pending = new PendingDelta(productId, quantity, reason, Sinks.one());
+            outstanding.add(pending);
+            sink.next(pending);
+            return pending.result().asMono();
+        });
+    }
+
+    /**
+     * Grava um lote de alterações e o registro das movimentações em uma única transação. Nunca termina com erro:
+     * falhas são entregues a cada chamador.
+     *
+     * @param batch alterações do lote, na ordem de chegada.
+     * @return Mono que completa quando todas as alterações do lote tiverem um resultado.
+     */
+    private Mono<Void> flush(List<PendingDelta> batch) {
+        long startedAt = System.nanoTime();
+        Map<UUID, List<PendingDelta>> byProduct = batch.stream()
+                .collect(Collectors.groupingBy(PendingDelta::productId, TreeMap::new, Collectors.toList()));
+        Integer[] deltas = byProduct.values().stream()
+                .map(pending -> pending.stream().mapToInt(PendingDelta::quantity).sum())
+                .toArray(Integer[]::new);
+        Map<PendingDelta, Integer> applied = new HashMap<>();
+
+        return productRepository.applyStockDeltas(byProduct.keySet().toArray(UUID[]::new), deltas)
+                .doOnNext(adjustment -> byProduct.get(adjustment.getProductId())
+                        .forEach(pending -> applied.put(pending, adjustment.getStockQuantity())))
+                .thenMany(Flux.fromIterable(byProduct.values())
+                        .filter(pendingDeltas -> !applied.containsKey(pendingDeltas.get(0)))
+                        .concatMap(pendingDeltas -> applyIndividually(pendingDeltas, applied)))
+                .then(Mono.defer(() -> record(applied.keySet())))
+                .as(transactionalOperator::transactional)
+                .doOnSuccess(ignored -> {
+                    flushTime.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                    coalescingRatio.record((double) batch.size() / byProduct.size());
+                    log.debug("Lote de {} alterações de estoque gravado em {} produtos", batch.size(), byProduct.size());
+                    batch.forEach(pending -> succeed(pending, applied.get(pending)));
+                })
+                .onErrorResume(error -> {
+                    log.warn("Falha ao gravar lote de {} alterações de estoque: {}", batch.size(), error.getMessage());
+                    batch.forEach(pending -> fail(pending, error));
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * Aplica uma a uma, na ordem de chegada, as alterações de um produto cuja soma foi rejeitada.
+     *
+     * @param pendingDeltas alterações do produto.
+     * @param applied       destino do estoque resultante de cada alteração aplicada.
+     * @return Mono que completa quando todas as alterações tiverem sido tentadas.
+     */
+    private Mono<Void> applyIndividually(List<PendingDelta> pendingDeltas, Map<PendingDelta, Integer> applied) {
+        return Flux.fromIterable(pendingDeltas)
+                .concatMap(pending -> productRepository.updateStockQuantityIfAvailable(pending.quantity(), pending.productId())
+                        .doOnNext(stock -> applied.put(pending, stock)))
+                .then();
+    }
+
+    /**
+     * Registra no {@link InventoryLedger} as alterações aplicadas, somadas por motivo e produto.
+     */
+    private Mono<Void> record(Collection<PendingDelta> applied) {
+        Map<InventoryMovementReasonEnum, Map<UUID, Integer>> variations = applied.stream()
+                .collect(Collectors.groupingBy(PendingDelta::reason, () -> new EnumMap<>(InventoryMovementReasonEnum.class),
+                        Collectors.toMap(PendingDelta::productId, pending -> -pending.quantity(), Integer::sum)));
+        return Flux.fromIterable(variations.entrySet())
+                .concatMap(entry -> inventoryLedger.record(entry.getValue(), entry.getKey(), null))
+                .then();
+    }
+
+    /**
+     * Entrega o estoque resultante ao chamador, ou vazio se a alteração não foi aplicada.
+     */
+    private void succeed(PendingDelta pending, Integer stock) {
+        outstanding.remove(pending);
+        if (stock != null) {
+            pending.result().tryEmitValue(stock);
+        } else {
+            pending.result().tryEmitEmpty();
+        }
+    }
+
+    private void fail(PendingDelta pending, Throwable error) {
+        outstanding.remove(pending);
+        pending.result().tryEmitError(error);
+    }
+
+    /**
+     * Alteração de estoque aguardando gravação. A igualdade é a da instância, para que alterações idênticas de
+     * chamadores diferentes não se confundam.
+     *
+     * @param productId ID do produto
+     * @param quantity  quantidade a ser baixada (negativa para reposição)
+     * @param reason    motivo da movimentação registrada
+     * @param result    destino do estoque resultante entregue ao chamador
+     */
+    private record PendingDelta(
+            UUID productId,
+            int quantity,
+            InventoryMovementReasonEnum reason,
+            Sinks.One<Integer> result
+    ) {
+
+        @Override
+        public boolean equals(Object other) {
+            return this == other;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this);
+        }
+    }
+}
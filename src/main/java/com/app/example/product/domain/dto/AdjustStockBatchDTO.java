@@ -0,0 +1,77 @@
+package com.app.example.product.domain.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import reactor.core.publisher.Flux;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO de entrada e saída para o ajuste de estoque de vários produtos em lote.
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@Schema(description = "DTO de entrada e saída para o ajuste de estoque em lote")
+public sealed interface AdjustStockBatchDTO extends Serializable
+        permits AdjustStockBatchDTO.Request, AdjustStockBatchDTO.Item, AdjustStockBatchDTO.Response {
+
+    /**
+     * Dados de entrada do ajuste em lote.
+     *
+     * @param items Ajustes lidos do corpo da requisição.
+     */
+    record Request(
+            Flux<Item> items
+    ) implements AdjustStockBatchDTO {}
+
+    /**
+     * Ajuste de estoque de um produto.
+     *
+     * @param productId ID do produto.
+     * @param delta     Variação do estoque: positiva para entrada, negativa para saída.
+     */
+    @Schema(description = "Ajuste de estoque de um produto")
+    record Item(
+            @Schema(description = "ID do produto", example = "123e4567-e89b-12d3-a456-426614174000")
+            UUID productId,
+
+            @Schema(description = "Variação do estoque: positiva para entrada, negativa para saída", example = "120")
+            int delta
+    ) implements AdjustStockBatchDTO {}
+
+    /**
+     * Resultado do ajuste em lote.
+     *
+     * @param totalItems                  Quantidade de ajustes recebidos.
+     * @param adjustedProducts            Quantidade de produtos ajustados, contada uma vez por lote.
+     * @param unknownProductIds           Produtos informados que não existem.
+     * @param insufficientStockProductIds Produtos cuja saída não foi aplicada por falta de saldo.
+     * @param rejectedProductIds          Produtos cuja soma das variações em um lote excede os limites do estoque.
+     * @param failedProductIds            Produtos de lotes cuja gravação falhou.
+     * @param elapsedMillis               Duração do ajuste, em milissegundos.
+     */
+    @Schema(description = "Resultado do ajuste de estoque em lote")
+    record Response(
+            @Schema(description = "Quantidade de ajustes recebidos", example = "5000")
+            long totalItems,
+
+            @Schema(description = "Quantidade de produtos ajustados, contada uma vez por lote", example = "4998")
+            long adjustedProducts,
+
+            @Schema(description = "Produtos informados que não existem")
+            List<UUID> unknownProductIds,
+
+            @Schema(description = "Produtos cuja saída não foi aplicada por falta de saldo")
+            List<UUID> insufficientStockProductIds,
+
+            @Schema(description = "Produtos cuja soma das variações em um lote excede os limites do estoque")
+            List<UUID> rejectedProductIds,
+
+            @Schema(description = "Produtos de lotes cuja gravação falhou")
+            List<UUID> failedProductIds,
+
+            @Schema(description = "Duração do ajuste, em milissegundos", example = "850")
+            long elapsedMillis
+    ) implements AdjustStockBatchDTO {}
+}
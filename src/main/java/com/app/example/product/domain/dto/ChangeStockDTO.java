@@ -23,7 +23,7 @@ public sealed interface ChangeStockDTO extends Serializable
      * Dados de entrada para alteração de estoque.
      *
      * @param productId Identificador do produto.
-     * @param quantity Quantidade a ser ajustada no estoque (pode ser positiva ou negativa).
+     * @param quantity Quantidade a ser baixada do estoque (negativa para reposição).
      */
     @Schema(description = "Dados de entrada para alteração de estoque")
     record Request(
@@ -32,7 +32,7 @@ public sealed interface ChangeStockDTO extends Serializable
             String productId,
 
             @NotNull(message = "{change.stock.request.quantity.notNull}")
-            @Schema(description = "Quantidade a ser ajustada (positiva ou negativa)", example = "10")
+            @Schema(description = "Quantidade a ser baixada (negativa para reposição)", example = "10")
             int quantity
     ) implements ChangeStockDTO {}
 
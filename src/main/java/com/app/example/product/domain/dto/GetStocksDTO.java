@@ -0,0 +1,86 @@
+package com.app.example.product.domain.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * DTO para a consulta de estoque de vários produtos em uma única chamada.
+ * <p>
+ * Define os dados de entrada (request) e de saída (response) da consulta em lote,
+ * evitando uma ida ao banco de dados para cada produto de um pedido.
+ * </p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@Schema(description = "DTO para consulta de estoque de vários produtos")
+public sealed interface GetStocksDTO extends Serializable
+        permits GetStocksDTO.Request, GetStocksDTO.Response {
+
+    /**
+     * Dados de requisição para consultar o estoque de vários produtos.
+     *
+     * @param productIds IDs dos produtos a serem consultados
+     */
+    @Schema(description = "Dados necessários para consultar o estoque de vários produtos")
+    record Request(
+            /**
+             * Identificadores dos produtos a serem consultados, no formato UUID.
+             */
+            @NotEmpty(message = "{get.stocks.request.productIds.notEmpty}")
+            @Schema(description = "IDs dos produtos", example = "[\"a1b2c3d4-e5f6-7890-abcd-1234567890ef\"]", required = true)
+            List<String> productIds
+    ) implements GetStocksDTO {}
+
+    /**
+     * Dados de resposta com as informações de estoque de um dos produtos consultados.
+     *
+     * @param productId   ID do produto consultado
+     * @param quantity    Quantidade disponível em estoque
+     * @param name        Nome do produto
+     * @param description Descrição do produto
+     * @param price       Preço unitário do produto
+     * @param message     Mensagem de confirmação da operação
+     */
+    @Schema(description = "Estoque de um dos produtos consultados em lote")
+    record Response(
+            /**
+             * Identificador do produto consultado.
+             */
+            @Schema(description = "ID do produto", example = "a1b2c3d4-e5f6-7890-abcd-1234567890ef")
+            String productId,
+
+            /**
+             * Quantidade de unidades disponíveis no estoque.
+             */
+            @Schema(description = "Estoque disponível", example = "50")
+            int quantity,
+
+            /**
+             * Nome do produto.
+             */
+            @Schema(description = "Nome do produto", example = "Notebook Dell Inspiron 15")
+            String name,
+
+            /**
+             * Descrição detalhada do produto.
+             */
+            @Schema(description = "Descrição do produto", example = "Notebook com 16GB RAM, 512GB SSD e processador Intel i7")
+            String description,
+
+            /**
+             * Preço unitário do produto em reais.
+             */
+            @Schema(description = "Preço unitário do produto", example = "3999.90")
+            BigDecimal price,
+
+            /**
+             * Mensagem de status ou confirmação da operação.
+             */
+            @Schema(description = "Mensagem de confirmação", example = "Estoque obtido com sucesso")
+            String message
+    ) implements GetStocksDTO {}
+}
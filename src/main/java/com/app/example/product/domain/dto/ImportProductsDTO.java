@@ -0,0 +1,83 @@
+package com.app.example.product.domain.dto;
+
+import com.app.example.product.domain.enums.ProductImportFormatEnum;
+import io.swagger.v3.oas.annotations.media.Schema;
+import reactor.core.publisher.Flux;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * DTO de entrada e saída para a importação de produtos em lote.
+ * <p>
+ * A entrada é o corpo da requisição, lido linha a linha; cada linha é validada com as mesmas regras de
+ * {@link CreateProductDTO.Request}. A saída é o relatório da importação.
+ * </p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@Schema(description = "DTO de entrada e saída para a importação de produtos em lote")
+public sealed interface ImportProductsDTO extends Serializable
+        permits ImportProductsDTO.Request, ImportProductsDTO.Response {
+
+    /**
+     * Dados de entrada da importação.
+     *
+     * @param format Formato do arquivo, obtido do {@code Content-Type} da requisição.
+     * @param lines  Linhas do corpo da requisição.
+     */
+    record Request(
+            ProductImportFormatEnum format,
+            Flux<String> lines
+    ) implements ImportProductsDTO {}
+
+    /**
+     * Relatório da importação.
+     *
+     * @param totalRows       Quantidade de produtos lidos do arquivo.
+     * @param importedRows    Quantidade de produtos gravados.
+     * @param rejectedRows    Quantidade de produtos rejeitados.
+     * @param elapsedMillis   Duração da importação, em milissegundos.
+     * @param rowsPerSecond   Produtos lidos por segundo.
+     * @param errors          Linhas rejeitadas, até o limite configurado.
+     * @param errorsTruncated {@code true} se houve mais linhas rejeitadas do que as detalhadas em {@code errors}.
+     */
+    @Schema(description = "Relatório da importação de produtos")
+    record Response(
+            @Schema(description = "Quantidade de produtos lidos do arquivo", example = "500000")
+            long totalRows,
+
+            @Schema(description = "Quantidade de produtos gravados", example = "499998")
+            long importedRows,
+
+            @Schema(description = "Quantidade de produtos rejeitados", example = "2")
+            long rejectedRows,
+
+            @Schema(description = "Duração da importação, em milissegundos", example = "41250")
+            long elapsedMillis,
+
+            @Schema(description = "Produtos lidos por segundo", example = "12121.2")
+            double rowsPerSecond,
+
+            @Schema(description = "Linhas rejeitadas, até o limite configurado")
+            List<RowError> errors,
+
+            @Schema(description = "Indica se houve mais linhas rejeitadas do que as detalhadas", example = "false")
+            boolean errorsTruncated
+    ) implements ImportProductsDTO {}
+
+    /**
+     * Linha rejeitada na importação.
+     *
+     * @param line     Número da linha no arquivo, a partir de 1.
+     * @param messages Motivos da rejeição.
+     */
+    @Schema(description = "Linha rejeitada na importação")
+    record RowError(
+            @Schema(description = "Número da linha no arquivo, a partir de 1", example = "42")
+            long line,
+
+            @Schema(description = "Motivos da rejeição", example = "[\"price: O preço do produto é obrigatório.\"]")
+            List<String> messages
+    ) implements Serializable {}
+}
@@ -26,12 +26,20 @@ public sealed interface ListByCategoryProductDTO extends Serializable
      * Dados de entrada para listar produtos pela categoria.
      *
      * @param category  Categoria do produto.
+     * @param after     ID do último produto da página anterior; nulo para a primeira página.
+     * @param limit     Quantidade máxima de produtos da página.
      */
     @Schema(description = "Dados de entrada para listar produtos pela categoria")
     record Request(
             @NotBlank(message = "{list.by.category.product.request.category.notBlank}")
             @Schema(description = "Categoria do produto", example = "Vestuário")
-            String category
+            String category,
+
+            @Schema(description = "ID do último produto recebido; ausente na primeira página", example = "123e4567-e89b-12d3-a456-426614174000")
+            UUID after,
+
+            @Schema(description = "Quantidade máxima de produtos da página (de 1 a 500)", example = "100")
+            int limit
     ) implements ListByCategoryProductDTO {}
 
     /**
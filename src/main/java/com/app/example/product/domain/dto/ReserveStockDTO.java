@@ -0,0 +1,73 @@
+package com.app.example.product.domain.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * DTO para a reserva de estoque de todas as linhas de um pedido em uma única operação.
+ * <p>
+ * Define os dados de entrada (request) e de saída (response) da reserva. Se qualquer linha
+ * não tiver estoque suficiente, a reserva inteira é rejeitada.
+ * </p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@Schema(description = "DTO para reserva de estoque de vários produtos")
+public sealed interface ReserveStockDTO extends Serializable
+        permits ReserveStockDTO.Request, ReserveStockDTO.Response {
+
+    /**
+     * Dados de requisição para reservar o estoque de vários produtos.
+     *
+     * @param products Produtos e quantidades a serem reservados
+     */
+    @Schema(description = "Dados necessários para reservar o estoque de vários produtos")
+    record Request(
+            @NotEmpty(message = "{reserve.stock.request.products.notEmpty}")
+            @Schema(description = "Produtos e quantidades a serem reservados", required = true)
+            List<@Valid ProductQuantity> products
+    ) implements ReserveStockDTO {
+
+        @Schema(description = "Produto e quantidade a ser reservada")
+        public record ProductQuantity(
+                @NotBlank(message = "{reserve.stock.request.productId.notBlank}")
+                @Schema(description = "ID do produto", example = "a1b2c3d4-e5f6-7890-abcd-1234567890ef")
+                String productId,
+
+                @Min(value = 1, message = "{reserve.stock.request.quantity.min}")
+                @Schema(description = "Quantidade a ser reservada", example = "2")
+                int quantity
+        ) {}
+    }
+
+    /**
+     * Dados de resposta da reserva de estoque.
+     *
+     * @param products Estoque resultante de cada produto reservado
+     * @param message  Mensagem de confirmação da operação
+     */
+    @Schema(description = "Resposta da operação de reserva de estoque")
+    record Response(
+            @Schema(description = "Estoque resultante de cada produto reservado")
+            List<ReservedProduct> products,
+
+            @Schema(description = "Mensagem de confirmação", example = "Estoque reservado com sucesso")
+            String message
+    ) implements ReserveStockDTO {
+
+        @Schema(description = "Estoque resultante de um produto após a reserva")
+        public record ReservedProduct(
+                @Schema(description = "ID do produto", example = "a1b2c3d4-e5f6-7890-abcd-1234567890ef")
+                String productId,
+
+                @Schema(description = "Novo valor do estoque após a reserva", example = "7")
+                int newStock
+        ) {}
+    }
+}
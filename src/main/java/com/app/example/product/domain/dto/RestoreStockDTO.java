@@ -0,0 +1,57 @@
+package com.app.example.product.domain.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * DTO para a devolução ao estoque dos itens de um ou mais pedidos cancelados.
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@Schema(description = "DTO para devolução de estoque de pedidos cancelados")
+public sealed interface RestoreStockDTO extends Serializable
+        permits RestoreStockDTO.Request, RestoreStockDTO.Response {
+
+    /**
+     * Dados de requisição para devolver ao estoque os itens dos pedidos informados.
+     *
+     * @param orderIds IDs dos pedidos cancelados
+     */
+    @Schema(description = "Pedidos cujos itens devem voltar ao estoque")
+    record Request(
+            @NotEmpty(message = "{restore.stock.request.orderIds.notEmpty}")
+            @Schema(description = "IDs dos pedidos cancelados", required = true)
+            List<String> orderIds
+    ) implements RestoreStockDTO {}
+
+    /**
+     * Dados de resposta da devolução de estoque.
+     *
+     * @param products Quantidade devolvida e estoque resultante de cada produto
+     * @param message  Mensagem de confirmação da operação
+     */
+    @Schema(description = "Resposta da operação de devolução de estoque")
+    record Response(
+            @Schema(description = "Quantidade devolvida e estoque resultante de cada produto")
+            List<RestoredProduct> products,
+
+            @Schema(description = "Mensagem de confirmação", example = "Estoque devolvido com sucesso")
+            String message
+    ) implements RestoreStockDTO {
+
+        @Schema(description = "Quantidade devolvida e estoque resultante de um produto")
+        public record RestoredProduct(
+                @Schema(description = "ID do produto", example = "a1b2c3d4-e5f6-7890-abcd-1234567890ef")
+                String productId,
+
+                @Schema(description = "Quantidade devolvida ao estoque", example = "2")
+                int quantity,
+
+                @Schema(description = "Novo valor do estoque após a devolução", example = "12")
+                int newStock
+        ) {}
+    }
+}
@@ -0,0 +1,94 @@
+package com.app.example.product.domain.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * DTO de entrada e saída para a busca textual de produtos.
+ * <p>
+ * Representa os termos e filtros da busca e os produtos encontrados, em ordem de relevância.
+ * </p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@Schema(description = "DTO de entrada e saída para a busca textual de produtos")
+public sealed interface SearchProductDTO extends Serializable
+        permits SearchProductDTO.Request, SearchProductDTO.Response {
+
+    /**
+     * Dados de entrada para buscar uma página de produtos.
+     *
+     * @param query    Termos buscados no nome e na descrição dos produtos.
+     * @param category Categoria dos produtos; nula para todas.
+     * @param minPrice Preço mínimo; nulo para não limitar.
+     * @param maxPrice Preço máximo; nulo para não limitar.
+     * @param inStock  {@code true} para retornar apenas produtos com estoque.
+     * @param after    Cursor do último produto da página anterior; nulo para a primeira página.
+     * @param limit    Quantidade máxima de produtos da página.
+     */
+    @Schema(description = "Dados de entrada para buscar produtos")
+    record Request(
+            @Schema(description = "Termos buscados no nome e na descrição; aspas para frases e '-' para excluir termos", example = "camiseta algodão -infantil")
+            String query,
+
+            @Schema(description = "Categoria dos produtos; ausente para todas", example = "Vestuário")
+            String category,
+
+            @Schema(description = "Preço mínimo", example = "50.00")
+            BigDecimal minPrice,
+
+            @Schema(description = "Preço máximo", example = "150.00")
+            BigDecimal maxPrice,
+
+            @Schema(description = "Retornar apenas produtos com estoque", example = "true")
+            boolean inStock,
+
+            @Schema(description = "Cursor do último produto recebido; ausente na primeira página")
+            String after,
+
+            @Schema(description = "Quantidade máxima de produtos da página (de 1 a 100)", example = "20")
+            int limit
+    ) implements SearchProductDTO {}
+
+    /**
+     * Produto encontrado pela busca.
+     *
+     * @param id            Identificador único do produto.
+     * @param name          Nome do produto.
+     * @param description   Descrição do produto.
+     * @param price         Preço do produto.
+     * @param stockQuantity Quantidade em estoque.
+     * @param category      Categoria do produto.
+     * @param rank          Relevância do produto para os termos buscados.
+     * @param cursor        Cursor a ser informado para obter os produtos seguintes a este.
+     */
+    @Schema(description = "Produto encontrado pela busca")
+    record Response(
+            @Schema(description = "ID do produto", example = "123e4567-e89b-12d3-a456-426614174000")
+            UUID id,
+
+            @Schema(description = "Nome do produto", example = "Camiseta Polo Masculina")
+            String name,
+
+            @Schema(description = "Descrição do produto", example = "Camiseta polo de algodão, tamanho M")
+            String description,
+
+            @Schema(description = "Preço do produto", example = "79.90")
+            BigDecimal price,
+
+            @Schema(description = "Quantidade em estoque", example = "150")
+            Integer stockQuantity,
+
+            @Schema(description = "Categoria do produto", example = "Vestuário")
+            String category,
+
+            @Schema(description = "Relevância do produto para os termos buscados", example = "0.6079271")
+            Float rank,
+
+            @Schema(description = "Cursor para obter os produtos seguintes a este")
+            String cursor
+    ) implements SearchProductDTO {}
+}
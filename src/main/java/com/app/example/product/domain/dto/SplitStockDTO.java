@@ -0,0 +1,70 @@
+package com.app.example.product.domain.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * DTO para a divisão do estoque de um produto em várias linhas (buckets).
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@Schema(description = "DTO para divisão do estoque de um produto em buckets")
+public sealed interface SplitStockDTO extends Serializable
+        permits SplitStockDTO.Request, SplitStockDTO.Response {
+
+    /**
+     * Dados de requisição para dividir o estoque de um produto.
+     *
+     * @param productId ID do produto
+     * @param buckets   Quantidade de buckets em que o estoque será dividido
+     */
+    @Schema(description = "Produto e quantidade de buckets")
+    record Request(
+            @NotBlank(message = "{split.stock.request.productId.notBlank}")
+            @Schema(description = "ID do produto", example = "a1b2c3d4-e5f6-7890-abcd-1234567890ef", required = true)
+            String productId,
+
+            @Min(value = 1, message = "{split.stock.request.buckets.min}")
+            @Max(value = 64, message = "{split.stock.request.buckets.max}")
+            @Schema(description = "Quantidade de buckets (de 1 a 64)", example = "8", required = true)
+            int buckets
+    ) implements SplitStockDTO {}
+
+    /**
+     * Dados de resposta da divisão de estoque.
+     *
+     * @param productId  ID do produto
+     * @param totalStock Estoque total do produto, distribuído entre os buckets
+     * @param buckets    Quantidade de cada bucket
+     * @param message    Mensagem de confirmação da operação
+     */
+    @Schema(description = "Resposta da operação de divisão de estoque")
+    record Response(
+            @Schema(description = "ID do produto", example = "a1b2c3d4-e5f6-7890-abcd-1234567890ef")
+            String productId,
+
+            @Schema(description = "Estoque total do produto", example = "50")
+            int totalStock,
+
+            @Schema(description = "Quantidade de cada bucket")
+            List<Bucket> buckets,
+
+            @Schema(description = "Mensagem de confirmação", example = "Estoque dividido com sucesso")
+            String message
+    ) implements SplitStockDTO {
+
+        @Schema(description = "Bucket de estoque")
+        public record Bucket(
+                @Schema(description = "Número do bucket, a partir de zero", example = "0")
+                int bucket,
+
+                @Schema(description = "Quantidade em estoque no bucket", example = "7")
+                int quantity
+        ) {}
+    }
+}
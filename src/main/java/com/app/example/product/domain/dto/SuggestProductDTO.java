@@ -0,0 +1,46 @@
+package com.app.example.product.domain.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+/**
+ * DTO de entrada e saída para a sugestão de nomes de produtos (autocompletar).
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@Schema(description = "DTO de entrada e saída para a sugestão de nomes de produtos")
+public sealed interface SuggestProductDTO extends Serializable
+        permits SuggestProductDTO.Request, SuggestProductDTO.Response {
+
+    /**
+     * Dados de entrada para sugerir produtos.
+     *
+     * @param prefix Início de alguma palavra do nome do produto.
+     * @param limit  Quantidade máxima de produtos sugeridos.
+     */
+    @Schema(description = "Dados de entrada para sugerir produtos")
+    record Request(
+            @Schema(description = "Início de alguma palavra do nome do produto; maiúsculas e acentos são ignorados", example = "note")
+            String prefix,
+
+            @Schema(description = "Quantidade máxima de produtos sugeridos (de 1 a 20)", example = "10")
+            int limit
+    ) implements SuggestProductDTO {}
+
+    /**
+     * Produto sugerido.
+     *
+     * @param id   Identificador único do produto.
+     * @param name Nome do produto.
+     */
+    @Schema(description = "Produto sugerido")
+    record Response(
+            @Schema(description = "ID do produto", example = "123e4567-e89b-12d3-a456-426614174000")
+            UUID id,
+
+            @Schema(description = "Nome do produto", example = "Notebook Dell XPS")
+            String name
+    ) implements SuggestProductDTO {}
+}
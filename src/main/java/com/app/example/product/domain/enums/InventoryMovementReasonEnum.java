@@ -0,0 +1,16 @@
+package com.app.example.product.domain.enums;
+
+/**
+ * Motivo de uma movimentação de estoque registrada em {@code inventory_movements}.
+ * <ul>
+ *   <li>{@code ORDER}: baixa pela reserva de um pedido;</li>
+ *   <li>{@code CANCEL}: devolução dos itens de um pedido cancelado;</li>
+ *   <li>{@code RESTOCK}: reposição de estoque;</li>
+ *   <li>{@code ADJUSTMENT}: baixa manual de estoque.</li>
+ * </ul>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+public enum InventoryMovementReasonEnum {
+    ORDER, CANCEL, RESTOCK, ADJUSTMENT
+}
@@ -0,0 +1,14 @@
+package com.app.example.product.domain.enums;
+
+/**
+ * Formato do arquivo de importação de produtos em lote.
+ * <ul>
+ *   <li>{@code NDJSON}: um objeto JSON por linha, com os campos de {@code CreateProductDTO.Request};</li>
+ *   <li>{@code CSV}: uma linha de cabeçalho com os nomes das colunas, seguida de um produto por linha.</li>
+ * </ul>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+public enum ProductImportFormatEnum {
+    NDJSON, CSV
+}
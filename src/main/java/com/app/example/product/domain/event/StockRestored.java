@@ -0,0 +1,4 @@
+package com.app.example.product.domain.event;
+
+public record StockRestored(String productId, int quantity) {
+}
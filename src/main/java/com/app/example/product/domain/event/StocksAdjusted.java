@@ -0,0 +1,23 @@
+package com.app.example.product.domain.event;
+
+import java.util.List;
+
+/**
+ * Evento publicado uma vez por lote de um ajuste de estoque em lote, com todos os produtos ajustados no lote.
+ *
+ * @param adjustments variação aplicada e estoque resultante de cada produto
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+public record StocksAdjusted(List<Adjustment> adjustments) {
+
+    /**
+     * Ajuste de estoque de um produto.
+     *
+     * @param productId     ID do produto
+     * @param delta         variação aplicada (positiva para entrada, negativa para saída)
+     * @param stockQuantity estoque do produto após o ajuste
+     */
+    public record Adjustment(String productId, int delta, int stockQuantity) {
+    }
+}
@@ -0,0 +1,37 @@
+package com.app.example.product.domain.po;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Movimentação de estoque registrada em {@code inventory_movements}.
+ * <p>
+ * {@code quantity} é positiva para entradas e negativa para saídas. Movimentações com {@code compactedAt} nulo
+ * ainda não foram consolidadas em {@code products.stock_quantity}.
+ * </p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@Table("inventory_movements")
+@Getter
+@Setter
+public class InventoryMovementPO {
+    @Id
+    private Long id;
+    @Column("product_id")
+    private UUID productId;
+    private Integer quantity;
+    private String reason;
+    @Column("reference_id")
+    private UUID referenceId;
+    @Column("created_at")
+    private LocalDateTime createdAt;
+    @Column("compacted_at")
+    private LocalDateTime compactedAt;
+}
@@ -0,0 +1,22 @@
+package com.app.example.product.domain.po;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.UUID;
+
+/**
+ * Projeção do ID e do nome de um produto, usada pelo índice de autocompletar nomes.
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductNamePO {
+    private UUID id;
+    private String name;
+}
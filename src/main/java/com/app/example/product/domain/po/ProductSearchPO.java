@@ -0,0 +1,25 @@
+package com.app.example.product.domain.po;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Projeção de um produto encontrado pela busca textual: os dados do produto, o estoque total
+ * e a relevância do produto para os termos buscados ({@code ts_rank}).
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@Getter
+@Setter
+public class ProductSearchPO {
+    private UUID id;
+    private String name;
+    private String description;
+    private BigDecimal price;
+    private Integer stockQuantity;
+    private String category;
+    private Float rank;
+}
@@ -0,0 +1,23 @@
+package com.app.example.product.domain.po;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.data.relational.core.mapping.Column;
+
+import java.util.UUID;
+
+/**
+ * Projeção do resultado de um ajuste de estoque em lote: o produto ajustado, a quantidade aplicada
+ * e o estoque resultante, lidos da cláusula {@code RETURNING} da instrução de ajuste.
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@Getter
+@Setter
+public class StockAdjustmentPO {
+    @Column("product_id")
+    private UUID productId;
+    private Integer quantity;
+    @Column("stock_quantity")
+    private Integer stockQuantity;
+}
@@ -0,0 +1,25 @@
+package com.app.example.product.domain.po;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.data.relational.core.mapping.Column;
+
+import java.util.UUID;
+
+/**
+ * Linha da tabela {@code product_stock_buckets}: uma parte do estoque de um produto.
+ * <p>
+ * O estoque de um produto dividido é a soma de {@code products.stock_quantity} com a quantidade de todos os seus
+ * buckets, de modo que reservas concorrentes do mesmo produto possam bloquear linhas diferentes.
+ * </p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@Getter
+@Setter
+public class StockBucketPO {
+    @Column("product_id")
+    private UUID productId;
+    private Integer bucket;
+    private Integer quantity;
+}
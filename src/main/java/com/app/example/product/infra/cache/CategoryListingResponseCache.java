@@ -0,0 +1,191 @@
+package com.app.example.product.infra.cache;
+
+import com.app.example.product.domain.dto.ListByCategoryProductDTO;
+import com.app.example.product.infra.config.CategoryListingCacheProperties;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Cache das páginas de produtos por categoria, já convertidas para JSON.
+ * <p>
+ * Cada página (categoria, último produto da página anterior e tamanho) é lida do banco de dados e convertida para um
+ * array JSON uma única vez; as requisições seguintes recebem os mesmos bytes, sem nova consulta nem nova conversão.
+ * Cargas concorrentes da mesma página compartilham uma única consulta ao banco de dados.
+ * </p>
+ * <p>
+ * A criação de produtos remove todas as páginas da categoria, e a alteração do estoque de um produto remove as páginas
+ * que o contêm (ver {@link ProductCache#evictStocks}), encontradas por um índice do produto para as suas páginas, sem
+ * percorrer o cache. Alterações feitas por outras instâncias são refletidas após a
+ * expiração da página ({@code app.product.category-listing-cache.ttl}). A memória ocupada é limitada pelo tamanho
+ * das páginas ({@code app.product.category-listing-cache.maximum-weight}), e não pela quantidade.
+ * </p>
+ * <p>
+ * As métricas de acertos, falhas, tamanho e remoções são publicadas com o nome {@code products.category-listing}
+ * (por exemplo, {@code cache.gets{cache=products.category-listing,result=hit}}).
+ * </p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@Slf4j
+@Component
+public class CategoryListingResponseCache {
+
+    public static final String CACHE_NAME = "products.category-listing";
+
+    /** Bytes contados para cada ID de produto guardado com a página. */
+    private static final int PRODUCT_ID_WEIGHT = 16;
+
+    private final CategoryListingCacheProperties properties;
+    private final ObjectWriter writer;
+    private final AsyncCache<ListByCategoryProductDTO.Request, EncodedPage> pages;
+    /** Páginas carregadas que contêm cada produto. */
+    private final ConcurrentMap<UUID, Set<EncodedPage>> pagesByProduct = new ConcurrentHashMap<>();
+    /** Páginas ainda sendo carregadas, que podem conter qualquer produto. */
+    private final Set<ListByCategoryProductDTO.Request> loading = ConcurrentHashMap.newKeySet();
+
+    public CategoryListingResponseCache(CategoryListingCacheProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.writer = objectMapper.writerFor(new TypeReference<List<ListByCategoryProductDTO.Response>>() {});
+        this.pages = CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+                .maximumWeight(properties.maximumWeight().toBytes())
+                .weigher((ListByCategoryProductDTO.Request key, EncodedPage page) -> page.weight())
+                .expireAfterWrite(properties.ttl())
+                // Páginas removidas durante a carga são notificadas após a carga, portanto depois de indexadas
+                .removalListener((ListByCategoryProductDTO.Request key, EncodedPage page, RemovalCause cause) -> unindex(page))
+                .recordStats()
+                .buildAsync(), CACHE_NAME);
+    }
+
+    /**
+     * Busca a página em JSON no cache, carregando-a com a função informada em caso de falha.
+     *
+     * @param request Categoria, último produto da página anterior e tamanho da página.
+     * @param loader  função que lê os produtos da página.
+     * @return Mono com o array JSON dos produtos da página. Os bytes são compartilhados e não devem ser alterados.
+     */
+    public Mono<byte[]> get(ListByCategoryProductDTO.Request request,
+                            Function<ListByCategoryProductDTO.Request, Flux<ListByCategoryProductDTO.Response>> loader) {
+        if (!properties.enabled()) {
+            return encode(request, loader.apply(request)).map(EncodedPage::json);
+        }
+        // O cancelamento de uma requisição não interrompe a carga compartilhada com as demais
+        return Mono.fromFuture(() -> pages.get(request, (key, executor) -> load(key, loader).toFuture()), true)
+                .map(EncodedPage::json);
+    }
+
+    /**
+     * Remove do cache todas as páginas da categoria informada.
+     *
+     * @param category Categoria dos produtos.
+     */
+    public void evictCategory(String category) {
+        pages.asMap().keySet().removeIf(key -> key.category().equals(category));
+    }
+
+    /**
+     * Remove do cache as páginas que contêm algum dos produtos informados, além das que ainda estão sendo carregadas,
+     * que podem ter lido o estoque anterior à alteração.
+     *
+     * @param productIds IDs dos produtos.
+     */
+    public void evictProducts(Collection<UUID> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        Set<ListByCategoryProductDTO.Request> keys = new HashSet<>();
+        for (UUID productId : productIds) {
+            Set<EncodedPage> indexed = pagesByProduct.get(productId);
+            if (indexed != null) {
+                indexed.forEach(page -> keys.add(page.request()));
+            }
+        }
+        // Lidas depois do índice: uma página é indexada antes de deixar de constar como em carga
+        keys.addAll(loading);
+        if (!keys.isEmpty()) {
+            pages.synchronous().invalidateAll(keys);
+        }
+    }
+
+    /**
+     * Carrega e converte a página, indexando-a pelos seus produtos antes de ser entregue ao cache.
+     */
+    private Mono<EncodedPage> load(ListByCategoryProductDTO.Request request,
+                                   Function<ListByCategoryProductDTO.Request, Flux<ListByCategoryProductDTO.Response>> loader) {
+        return Mono.defer(() -> {
+            loading.add(request);
+            return encode(request, loader.apply(request))
+                    .doOnNext(this::index)
+                    .doFinally(signal -> loading.remove(request));
+        });
+    }
+
+    private void index(EncodedPage page) {
+        for (UUID productId : page.productIds()) {
+            pagesByProduct.compute(productId, (id, indexed) -> {
+                Set<EncodedPage> updated = indexed == null ? ConcurrentHashMap.newKeySet() : indexed;
+                updated.add(page);
+                return updated;
+            });
+        }
+    }
+
+    private void unindex(EncodedPage page) {
+        if (page == null) {
+            return;
+        }
+        for (UUID productId : page.productIds()) {
+            pagesByProduct.computeIfPresent(productId, (id, indexed) -> {
+                indexed.remove(page);
+                return indexed.isEmpty() ? null : indexed;
+            });
+        }
+    }
+
+    private Mono<EncodedPage> encode(ListByCategoryProductDTO.Request request, Flux<ListByCategoryProductDTO.Response> products) {
+        return products.collectList()
+                .flatMap(page -> Mono.fromCallable(() -> new EncodedPage(
+                        request,
+                        writer.writeValueAsBytes(page),
+                        page.stream().map(ListByCategoryProductDTO.Response::id).toArray(UUID[]::new))));
+    }
+
+    /**
+     * Página convertida para JSON, com a chave sob a qual foi carregada e os IDs dos seus produtos. Cada carga produz
+     * uma instância distinta, de modo que a remoção de uma página do índice não afeta outra carga da mesma chave.
+     */
+    private record EncodedPage(ListByCategoryProductDTO.Request request, byte[] json, UUID[] productIds) {
+
+        int weight() {
+            return json.length + productIds.length * PRODUCT_ID_WEIGHT;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return this == other;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this);
+        }
+    }
+}
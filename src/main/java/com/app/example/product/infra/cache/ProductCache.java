@@ -0,0 +1,207 @@
+package com.app.example.product.infra.cache;
+
+import com.app.example.product.domain.po.ProductPO;
+import com.app.example.product.infra.config.ProductCacheProperties;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.NoTransactionException;
+import org.springframework.transaction.reactive.TransactionSynchronization;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Cache de leitura ("read-through") dos produtos, em dois níveis.
+ * <p>
+ * Os dados cadastrais (nome, descrição, preço e categoria), que quase nunca mudam, ficam em memória por
+ * {@code app.product.cache.ttl}. O estoque fica em um nível separado, com expiração curta
+ * ({@code app.product.cache.stock-ttl}), e é removido pelos casos de uso que alteram o estoque nesta instância, assim
+ * que a alteração é gravada e novamente após a conclusão da transação; a remoção do estoque também remove as páginas
+ * do {@link CategoryListingResponseCache} que contêm o produto. Os dois níveis usam a admissão W-TinyLFU do
+ * Caffeine, de modo que produtos consultados raramente não expulsam os mais consultados. Cargas concorrentes do mesmo
+ * produto compartilham uma única consulta ao banco de dados, e produtos inexistentes não são armazenados.
+ * </p>
+ * <p>
+ * As instâncias de {@link ProductPO} entregues são cópias, e podem ser alteradas pelo chamador.
+ * </p>
+ * <p>
+ * As métricas de acertos, falhas, tamanho e remoções são publicadas com os nomes {@code products.metadata} e
+ * {@code products.stock} (por exemplo, {@code cache.gets{cache=products.stock,result=hit}}).
+ * </p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@Slf4j
+@Component
+public class ProductCache {
+
+    public static final String METADATA_CACHE_NAME = "products.metadata";
+    public static final String STOCK_CACHE_NAME = "products.stock";
+
+    private final ProductCacheProperties properties;
+    private final CategoryListingResponseCache categoryListingResponseCache;
+    private final AsyncCache<UUID, ProductPO> metadata;
+    private final AsyncCache<UUID, Integer> stocks;
+
+    public ProductCache(ProductCacheProperties properties, CategoryListingResponseCache categoryListingResponseCache, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.categoryListingResponseCache = categoryListingResponseCache;
+        this.metadata = CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.ttl())
+                .recordStats()
+                .<UUID, ProductPO>buildAsync(), METADATA_CACHE_NAME);
+        this.stocks = CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.stockTtl())
+                .recordStats()
+                .<UUID, Integer>buildAsync(), STOCK_CACHE_NAME);
+    }
+
+    /**
+     * Busca o produto com o estoque no cache, carregando-o com a função informada se algum dos níveis não estiver
+     * em memória.
+     *
+     * @param productId ID do produto.
+     * @param loader    função que carrega o produto com o estoque total; pode terminar vazia se o produto não existir.
+     * @return Mono com uma cópia do produto, ou vazio se o produto não existir.
+     */
+    public Mono<ProductPO> get(UUID productId, Function<UUID, Mono<ProductPO>> loader) {
+        if (!properties.enabled()) {
+            return loader.apply(productId);
+        }
+        return Mono.fromFuture(() -> stocks.get(productId, (key, executor) -> loader.apply(key)
+                        .doOnNext(product -> metadata.put(key, CompletableFuture.completedFuture(copy(product, null))))
+                        .map(ProductPO::getStockQuantity)
+                        .toFuture()))
+                .flatMap(stock -> {
+                    CompletableFuture<ProductPO> cached = metadata.getIfPresent(productId);
+                    if (cached == null) {
+                        // Dados cadastrais removidos independentemente do estoque
+                        return loader.apply(productId);
+                    }
+                    return Mono.fromFuture(cached).map(product -> copy(product, stock));
+                });
+    }
+
+    /**
+     * Busca vários produtos com o estoque no cache, carregando com uma única chamada à função informada todos os que
+     * não estiverem em memória.
+     *
+     * @param productIds IDs dos produtos.
+     * @param loader     função que carrega os produtos informados com o estoque total; IDs inexistentes são ignorados.
+     * @return Mono com uma cópia de cada produto encontrado, por ID; produtos inexistentes não aparecem no mapa.
+     */
+    public Mono<Map<UUID, ProductPO>> getAll(Collection<UUID> productIds, Function<Collection<UUID>, Flux<ProductPO>> loader) {
+        if (!properties.enabled()) {
+            return loader.apply(productIds).collectMap(ProductPO::getId, Function.identity());
+        }
+        return Mono.fromFuture(() -> stocks.getAll(productIds, (keys, executor) -> loader.apply(List.copyOf(keys))
+                        .doOnNext(product -> metadata.put(product.getId(), CompletableFuture.completedFuture(copy(product, null))))
+                        .collectMap(ProductPO::getId, ProductPO::getStockQuantity)
+                        .toFuture()))
+                .flatMap(cachedStocks -> {
+                    Map<UUID, ProductPO> products = new HashMap<>();
+                    List<UUID> withoutMetadata = new ArrayList<>();
+                    cachedStocks.forEach((productId, stock) -> {
+                        CompletableFuture<ProductPO> cached = metadata.getIfPresent(productId);
+                        if (cached != null && cached.isDone() && !cached.isCompletedExceptionally()) {
+                            products.put(productId, copy(cached.join(), stock));
+                        } else {
+                            withoutMetadata.add(productId);
+                        }
+                    });
+                    if (withoutMetadata.isEmpty()) {
+                        return Mono.just(products);
+                    }
+                    // Dados cadastrais removidos (ou ainda em carga) independentemente do estoque
+                    return loader.apply(withoutMetadata)
+                            .doOnNext(product -> products.put(product.getId(), product))
+                            .then(Mono.fromSupplier(() -> products));
+                });
+    }
+
+    /**
+     * Busca os dados cadastrais do produto no cache, carregando-os com a função informada em caso de falha.
+     * O estoque do produto retornado é nulo.
+     *
+     * @param productId ID do produto.
+     * @param loader    função que carrega o produto; pode terminar vazia se o produto não existir.
+     * @return Mono com uma cópia do produto, ou vazio se o produto não existir.
+     */
+    public Mono<ProductPO> getMetadata(UUID productId, Function<UUID, Mono<ProductPO>> loader) {
+        if (!properties.enabled()) {
+            return loader.apply(productId);
+        }
+        return Mono.fromFuture(() -> metadata.get(productId, (key, executor) -> loader.apply(key)
+                        .map(product -> copy(product, null))
+                        .toFuture()))
+                .map(product -> copy(product, null));
+    }
+
+    /**
+     * Indica se os dados cadastrais do produto estão em memória, sem carregá-los.
+     *
+     * @param productId ID do produto.
+     * @return {@code true} se o produto estiver no cache.
+     */
+    public boolean containsMetadata(UUID productId) {
+        return properties.enabled() && metadata.synchronous().getIfPresent(productId) != null;
+    }
+
+    /**
+     * Remove do cache o estoque dos produtos informados.
+     *
+     * @param productIds IDs dos produtos.
+     */
+    public void evictStocks(Collection<UUID> productIds) {
+        stocks.synchronous().invalidateAll(productIds);
+        categoryListingResponseCache.evictProducts(productIds);
+    }
+
+    /**
+     * Remove do cache o estoque dos produtos informados imediatamente e, se houver uma transação em andamento,
+     * novamente após a sua conclusão, para descartar leituras feitas antes da confirmação.
+     *
+     * @param productIds IDs dos produtos.
+     * @return Mono que completa após a remoção.
+     */
+    public Mono<Void> evictStocksOnCompletion(Collection<UUID> productIds) {
+        List<UUID> ids = List.copyOf(productIds);
+        return Mono.fromRunnable(() -> evictStocks(ids))
+                .then(TransactionSynchronizationManager.forCurrentTransaction())
+                .filter(TransactionSynchronizationManager::isSynchronizationActive)
+                .doOnNext(manager -> manager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public Mono<Void> afterCompletion(int status) {
+                        return Mono.fromRunnable(() -> evictStocks(ids));
+                    }
+                }))
+                .onErrorResume(NoTransactionException.class, error -> Mono.empty())
+                .then();
+    }
+
+    private static ProductPO copy(ProductPO product, Integer stockQuantity) {
+        ProductPO copy = new ProductPO();
+        copy.setId(product.getId());
+        copy.setName(product.getName());
+        copy.setDescription(product.getDescription());
+        copy.setPrice(product.getPrice());
+        copy.setCategory(product.getCategory());
+        copy.setStockQuantity(stockQuantity);
+        return copy;
+    }
+}
@@ -0,0 +1,322 @@
+package com.app.example.product.infra.cache;
+
+import com.app.example.product.infra.config.ProductIdFilterProperties;
+import com.app.example.product.infra.repository.ProductRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Filtro de Bloom, em memória, dos IDs de todos os produtos.
+ * <p>
+ * Uma resposta positiva pode ser um falso positivo e deve ser confirmada com uma consulta de existência. O filtro é
+ * construído na inicialização a partir de {@link ProductRepository#findAllIds()}, recebe os produtos criados por esta
+ * instância e é reconstruído periodicamente ({@code refresh-interval}) para incluir os criados por outras instâncias.
+ * Até a primeira construção, toda verificação é considerada positiva.
+ * </p>
+ * <p>
+ * Entre duas reconstruções faltam ao filtro os produtos criados por outras instâncias, portanto uma resposta negativa
+ * só é definitiva quando o filtro está completo ({@link #isComplete()}): construído e com {@code authoritative}
+ * habilitado, isto é, todos os produtos são criados por esta instância. Nos demais casos a resposta negativa também
+ * deve ser confirmada no banco de dados e informada em {@link #recordAbsenceConfirmation(UUID, boolean)}.
+ * </p>
+ * <p>
+ * O tamanho do filtro é calculado a partir de {@code expected-insertions} e {@code false-positive-rate}: com um milhão
+ * de produtos e 1% de falsos positivos, cerca de 1,2 MB e 7 funções de hash.
+ * </p>
+ * <p>
+ * Métricas publicadas:
+ * <ul>
+ *   <li>{@code products.id.filter.memory}: memória ocupada pelo filtro, em bytes;</li>
+ *   <li>{@code products.id.filter.size}: quantidade de IDs inseridos;</li>
+ *   <li>{@code products.id.filter.expected.fpp}: taxa de falsos positivos esperada para a quantidade atual de IDs;</li>
+ *   <li>{@code products.id.filter.checks}: verificações por resultado ({@code absent}, {@code confirmed},
+ *       {@code false_positive} e {@code false_negative}), de onde se obtêm as taxas de falsos positivos e de produtos
+ *       ainda ausentes do filtro observadas.</li>
+ * </ul>
+ * </p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@Slf4j
+@Component
+public class ProductIdFilter {
+
+    private final ProductRepository productRepository;
+    private final ProductIdFilterProperties properties;
+    private final long bitCount;
+    private final int hashCount;
+    private final Counter absent;
+    private final Counter confirmed;
+    private final Counter falsePositive;
+    private final Counter falseNegative;
+    private volatile Bits current;
+    private volatile Bits building;
+    private Disposable subscription;
+
+    public ProductIdFilter(ProductRepository productRepository,
+                           ProductIdFilterProperties properties,
+                           MeterRegistry meterRegistry) {
+        this.productRepository = productRepository;
+        this.properties = properties;
+        double bits = -properties.expectedInsertions() * Math.log(properties.falsePositiveRate()) / (Math.log(2) * Math.log(2));
+        this.bitCount = Math.max(Long.SIZE, (long) Math.ceil(bits / Long.SIZE) * Long.SIZE);
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / properties.expectedInsertions() * Math.log(2)));
+
+        Gauge.builder("products.id.filter.memory", this, filter -> filter.bitCount / Byte.SIZE)
+                .description("Memória ocupada pelo filtro de Bloom dos IDs de produtos")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("products.id.filter.size", this, filter -> filter.current == null ? 0 : filter.current.inserted.get())
+                .description("Quantidade de IDs de produtos inseridos no filtro de Bloom")
+                .register(meterRegistry);
+        Gauge.builder("products.id.filter.expected.fpp", this, ProductIdFilter::expectedFalsePositiveRate)
+                .description("Taxa de falsos positivos esperada do filtro de Bloom dos IDs de produtos")
+                .register(meterRegistry);
+        this.absent = checks(meterRegistry, "absent");
+        this.confirmed = checks(meterRegistry, "confirmed");
+        this.falsePositive = checks(meterRegistry, "false_positive");
+        this.falseNegative = checks(meterRegistry, "false_negative");
+    }
+
+    private static Counter checks(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("products.id.filter.checks")
+                .description("Verificações de existência de produtos pelo filtro de Bloom, por resultado")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Inicia a construção do filtro e a reconstrução periódica, caso o filtro esteja habilitado.
+     */
+    @PostConstruct
+    void start() {
+        if (!properties.enabled()) {
+            return;
+        }
+        log.info("Filtro de Bloom de produtos: {} bits, {} funções de hash", bitCount, hashCount);
+        subscription = Flux.interval(properties.refreshInterval())
+                .startWith(0L)
+                .onBackpressureDrop()
+                .concatMap(tick -> rebuild(), 1)
+                .subscribe();
+    }
+
+    /**
+     * Interrompe a reconstrução periódica.
+     */
+    @PreDestroy
+    void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+    /**
+     * Verifica se o produto pode existir.
+     *
+     * @param productId ID do produto.
+     * @return {@code true} se o produto puder existir, o que deve ser confirmado no banco de dados e informado em
+     *         {@link #recordConfirmation(boolean)}; {@code false} se o produto não estiver no filtro, o que só é
+     *         definitivo quando o filtro estiver completo ({@link #isComplete()}).
+     */
+    public boolean mightContain(UUID productId) {
+        Bits bits = current;
+        if (bits == null) {
+            return true;
+        }
+        if (!bits.mightContain(productId)) {
+            if (properties.authoritative()) {
+                absent.increment();
+            }
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Indica se o filtro contém todos os produtos existentes, caso em que uma resposta negativa de
+     * {@link #mightContain(UUID)} dispensa a consulta ao banco de dados.
+     *
+     * @return {@code true} se o filtro já foi construído e todos os produtos são criados por esta instância.
+     */
+    public boolean isComplete() {
+        return properties.authoritative() && current != null;
+    }
+
+    /**
+     * Registra o resultado da confirmação no banco de dados de uma resposta positiva do filtro.
+     *
+     * @param exists {@code true} se o produto existir; {@code false} se a resposta do filtro foi um falso positivo.
+     */
+    public void recordConfirmation(boolean exists) {
+        if (current != null) {
+            (exists ? confirmed : falsePositive).increment();
+        }
+    }
+
+    /**
+     * Registra o resultado da confirmação no banco de dados de uma resposta negativa do filtro incompleto. Um produto
+     * encontrado no banco de dados é incluído no filtro.
+     *
+     * @param productId ID do produto.
+     * @param exists    {@code true} se o produto existir, isto é, se foi criado após a última construção do filtro.
+     */
+    public void recordAbsenceConfirmation(UUID productId, boolean exists) {
+        if (exists) {
+            falseNegative.increment();
+            add(productId);
+        } else {
+            absent.increment();
+        }
+    }
+
+    /**
+     * Inclui no filtro um produto criado por esta instância.
+     * <p>
+     * O filtro atual e o filtro em construção são lidos juntos, sob o mesmo bloqueio da troca feita ao fim da
+     * reconstrução: o ID é gravado no filtro que passa a ser o atual mesmo que a troca ocorra durante a inclusão.
+     * </p>
+     *
+     * @param productId ID do produto.
+     */
+    public void add(UUID productId) {
+        Bits bits;
+        Bits next;
+        synchronized (this) {
+            bits = current;
+            next = building;
+        }
+        if (bits != null) {
+            bits.put(productId);
+        }
+        if (next != null) {
+            next.put(productId);
+        }
+    }
+
+    /**
+     * Constrói um novo filtro com todos os IDs do banco de dados e o coloca no lugar do atual. Produtos criados durante
+     * a construção são incluídos nos dois filtros. Nunca termina com erro: em caso de falha o filtro atual é mantido.
+     */
+    private Mono<Void> rebuild() {
+        Bits next = new Bits(bitCount, hashCount);
+        synchronized (this) {
+            building = next;
+        }
+        return productRepository.findAllIds()
+                .doOnNext(next::put)
+                .then(Mono.fromRunnable(() -> {
+                    swap(next);
+                    log.debug("Filtro de Bloom de produtos reconstruído com {} IDs", next.inserted.get());
+                    if (next.inserted.get() > properties.expectedInsertions()) {
+                        log.warn("Filtro de Bloom de produtos com {} IDs, acima dos {} previstos: a taxa de falsos positivos será maior que {}",
+                                next.inserted.get(), properties.expectedInsertions(), properties.falsePositiveRate());
+                    }
+                }))
+                .onErrorResume(error -> {
+                    log.warn("Falha ao construir o filtro de Bloom de produtos: {}", error.getMessage());
+                    return Mono.empty();
+                })
+                .doFinally(signal -> swap(null))
+                .then();
+    }
+
+    /**
+     * Encerra a construção em andamento, colocando o novo filtro no lugar do atual quando informado.
+     *
+     * @param built filtro construído, ou {@code null} se a construção falhou ou já foi concluída.
+     */
+    private synchronized void swap(Bits built) {
+        if (built != null) {
+            current = built;
+        }
+        building = null;
+    }
+
+    private double expectedFalsePositiveRate() {
+        Bits bits = current;
+        if (bits == null) {
+            return 1.0;
+        }
+        return Math.pow(1 - Math.exp(-(double) hashCount * bits.inserted.get() / bitCount), hashCount);
+    }
+
+    /**
+     * Vetor de bits do filtro, com atualização atômica por palavra de 64 bits.
+     * As posições de cada ID são obtidas por hash duplo ({@code h1 + i * h2}) sobre as duas metades do UUID.
+     */
+    private static final class Bits {
+
+        private final AtomicLongArray words;
+        private final long bitCount;
+        private final int hashCount;
+        private final AtomicLong inserted = new AtomicLong();
+
+        Bits(long bitCount, int hashCount) {
+            this.words = new AtomicLongArray(Math.toIntExact(bitCount / Long.SIZE));
+            this.bitCount = bitCount;
+            this.hashCount = hashCount;
+        }
+
+        void put(UUID id) {
+            long h1 = firstHash(id);
+            long h2 = secondHash(id);
+            boolean changed = false;
+            for (int i = 0; i < hashCount; i++) {
+                long bit = Math.floorMod(h1 + i * h2, bitCount);
+                int word = (int) (bit >>> 6);
+                long mask = 1L << bit;
+                long previous = words.getAndUpdate(word, value -> value | mask);
+                changed |= (previous & mask) == 0;
+            }
+            if (changed) {
+                inserted.incrementAndGet();
+            }
+        }
+
+        boolean mightContain(UUID id) {
+            long h1 = firstHash(id);
+            long h2 = secondHash(id);
+            for (int i = 0; i < hashCount; i++) {
+                long bit = Math.floorMod(h1 + i * h2, bitCount);
+                if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static long firstHash(UUID id) {
+            return mix(id.getMostSignificantBits() ^ Long.rotateLeft(id.getLeastSignificantBits(), 32));
+        }
+
+        private static long secondHash(UUID id) {
+            // Ímpar, para que os passos de h2 percorram posições distintas
+            return mix(id.getLeastSignificantBits() + 0x9E3779B97F4A7C15L * id.getMostSignificantBits()) | 1;
+        }
+
+        /**
+         * Função de mistura final do MurmurHash3 ({@code fmix64}).
+         */
+        private static long mix(long value) {
+            value ^= value >>> 33;
+            value *= 0xFF51AFD7ED558CCDL;
+            value ^= value >>> 33;
+            value *= 0xC4CEB93FE53A87E5L;
+            value ^= value >>> 33;
+            return value;
+        }
+    }
+}
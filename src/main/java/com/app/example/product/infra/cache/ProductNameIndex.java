@@ -0,0 +1,391 @@
+package com.app.example.product.infra.cache;
+
+import com.app.example.product.domain.po.ProductNamePO;
+import com.app.example.product.infra.config.ProductNameIndexProperties;
+import com.app.example.product.infra.repository.ProductRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Índice em memória dos nomes de produtos, para autocompletar sem consultar o banco de dados.
+ * <p>
+ * Cada palavra de um nome é um ponto de entrada: "dell" sugere tanto "Dell Inspiron" quanto "Notebook Dell XPS".
+ * A comparação ignora maiúsculas e acentos. O índice é um vetor ordenado de referências compactas
+ * ({@code produto << 16 | posição da palavra}) sobre os nomes normalizados, no estilo de um vetor de sufixos:
+ * uma busca binária encontra o primeiro nome com o prefixo e as sugestões seguintes são lidas em sequência, em
+ * ordem alfabética a partir da palavra encontrada. Cada palavra ocupa 8 bytes além do próprio nome.
+ * </p>
+ * <p>
+ * O vetor é construído na inicialização a partir de {@link ProductRepository#findAllNames()} e reconstruído
+ * periodicamente ({@code refresh-interval}) para incluir os produtos criados por outras instâncias. Os produtos
+ * criados por esta instância entram em um mapa ordenado auxiliar até a próxima reconstrução, e as duas fontes são
+ * combinadas em cada busca.
+ * </p>
+ * <p>
+ * Métricas publicadas:
+ * <ul>
+ *   <li>{@code products.name.index.memory}: memória estimada do índice, em bytes;</li>
+ *   <li>{@code products.name.index.size}: quantidade de produtos na última construção do índice;</li>
+ *   <li>{@code products.name.index.build}: tempo de construção do índice.</li>
+ * </ul>
+ * </p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@Slf4j
+@Component
+public class ProductNameIndex {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final int MAX_OFFSET = 0xFFFF;
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    private final ProductRepository productRepository;
+    private final ProductNameIndexProperties properties;
+    private final Timer buildTime;
+    private volatile Snapshot current = Snapshot.EMPTY;
+    private volatile ConcurrentSkipListMap<String, ProductNamePO> recent = new ConcurrentSkipListMap<>();
+    private volatile ConcurrentSkipListMap<String, ProductNamePO> building;
+    private Disposable subscription;
+
+    public ProductNameIndex(ProductRepository productRepository,
+                            ProductNameIndexProperties properties,
+                            MeterRegistry meterRegistry) {
+        this.productRepository = productRepository;
+        this.properties = properties;
+        this.buildTime = Timer.builder("products.name.index.build")
+                .description("Tempo de construção do índice de nomes de produtos")
+                .register(meterRegistry);
+        Gauge.builder("products.name.index.memory", this, index -> index.current.memoryBytes)
+                .description("Memória estimada do índice de nomes de produtos")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("products.name.index.size", this, index -> index.current.names.length)
+                .description("Quantidade de produtos na última construção do índice de nomes de produtos")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Inicia a construção do índice e a reconstrução periódica, caso o índice esteja habilitado.
+     */
+    @PostConstruct
+    void start() {
+        if (!properties.enabled()) {
+            return;
+        }
+        subscription = Flux.interval(properties.refreshInterval())
+                .startWith(0L)
+                .onBackpressureDrop()
+                .concatMap(tick -> rebuild(), 1)
+                .subscribe();
+    }
+
+    /**
+     * Interrompe a reconstrução periódica.
+     */
+    @PreDestroy
+    void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+    /**
+     * Retorna os produtos com alguma palavra do nome começando pelo prefixo informado.
+     *
+     * @param prefix prefixo digitado; maiúsculas e acentos são ignorados.
+     * @param limit  quantidade máxima de produtos.
+     * @return até {@code limit} produtos, em ordem alfabética a partir da palavra encontrada; vazia se o prefixo
+     *         estiver em branco ou o índice estiver desabilitado.
+     */
+    public List<ProductNamePO> suggest(String prefix, int limit) {
+        String key = prefix == null ? "" : normalize(prefix).strip();
+        if (key.isEmpty() || limit <= 0 || !properties.enabled()) {
+            return List.of();
+        }
+        List<Candidate> candidates = current.find(key, limit);
+        recent.subMap(key, true, key + Character.MAX_VALUE, false).entrySet().stream()
+                .limit(limit)
+                .forEach(entry -> candidates.add(new Candidate(
+                        entry.getKey().substring(0, entry.getKey().indexOf(KEY_SEPARATOR)), entry.getValue())));
+        candidates.sort(Comparator.comparing(Candidate::word));
+
+        Map<UUID, ProductNamePO> distinct = new LinkedHashMap<>();
+        for (Candidate candidate : candidates) {
+            distinct.putIfAbsent(candidate.product().getId(), candidate.product());
+            if (distinct.size() == limit) {
+                break;
+            }
+        }
+        return new ArrayList<>(distinct.values());
+    }
+
+    /**
+     * Inclui no índice um produto criado por esta instância.
+     *
+     * @param productId ID do produto.
+     * @param name      nome do produto.
+     */
+    public void add(UUID productId, String name) {
+        if (!properties.enabled() || name == null) {
+            return;
+        }
+        ProductNamePO product = new ProductNamePO(productId, name);
+        String key = normalize(name);
+        ConcurrentSkipListMap<String, ProductNamePO> next = building;
+        for (int offset = 0; offset < key.length(); offset++) {
+            if (isWordStart(key, offset)) {
+                String word = key.substring(offset) + KEY_SEPARATOR + productId;
+                recent.put(word, product);
+                if (next != null) {
+                    next.put(word, product);
+                }
+            }
+        }
+    }
+
+    /**
+     * Constrói um novo índice com todos os nomes do banco de dados e o coloca no lugar do atual. A ordenação é feita
+     * fora das threads do driver, que não podem ficar ocupadas durante a construção. Produtos criados
+     * durante a construção são mantidos no mapa auxiliar do novo índice. Nunca termina com erro: em caso de falha o
+     * índice atual é mantido.
+     */
+    private Mono<Void> rebuild() {
+        ConcurrentSkipListMap<String, ProductNamePO> next = new ConcurrentSkipListMap<>();
+        building = next;
+        return productRepository.findAllNames()
+                .collectList()
+                .publishOn(Schedulers.boundedElastic())
+                .map(products -> {
+                    long startedAt = System.nanoTime();
+                    Snapshot snapshot = Snapshot.build(products);
+                    long elapsed = System.nanoTime() - startedAt;
+                    buildTime.record(elapsed, TimeUnit.NANOSECONDS);
+                    log.info("Índice de nomes de produtos construído com {} produtos e {} palavras em {} ms, ocupando cerca de {} KB",
+                            snapshot.names.length, snapshot.words.length, TimeUnit.NANOSECONDS.toMillis(elapsed), snapshot.memoryBytes / 1024);
+                    return snapshot;
+                })
+                .doOnNext(snapshot -> {
+                    current = snapshot;
+                    recent = next;
+                })
+                .onErrorResume(error -> {
+                    log.warn("Falha ao construir o índice de nomes de produtos: {}", error.getMessage());
+                    return Mono.empty();
+                })
+                .doFinally(signal -> building = null)
+                .then();
+    }
+
+    /**
+     * Normaliza um nome para comparação: sem acentos e em minúsculas.
+     */
+    private static String normalize(String name) {
+        String decomposed = Normalizer.normalize(name, Normalizer.Form.NFD);
+        return DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean isWordStart(String key, int offset) {
+        return offset <= MAX_OFFSET
+                && Character.isLetterOrDigit(key.charAt(offset))
+                && (offset == 0 || !Character.isLetterOrDigit(key.charAt(offset - 1)));
+    }
+
+    /**
+     * Sugestão encontrada, com a palavra (e o restante do nome) a partir da qual o prefixo foi encontrado,
+     * usada para ordenar as sugestões das duas fontes.
+     */
+    private record Candidate(String word, ProductNamePO product) {}
+
+    /**
+     * Índice imutável construído a partir do banco de dados.
+     * <p>
+     * {@code words} contém uma referência por palavra: o índice do produto nos bits altos e a posição da palavra no
+     * nome normalizado nos 16 bits baixos, ordenadas pelo texto a partir da palavra.
+     * </p>
+     */
+    private static final class Snapshot {
+
+        static final Snapshot EMPTY = new Snapshot(new long[0], new String[0], new String[0], new long[0]);
+
+        final long[] ids;
+        final String[] names;
+        final String[] keys;
+        final long[] words;
+        final long memoryBytes;
+
+        private Snapshot(long[] ids, String[] names, String[] keys, long[] words) {
+            this.ids = ids;
+            this.names = names;
+            this.keys = keys;
+            this.words = words;
+            long bytes = 16L * 4 + 8L * ids.length + 4L * names.length + 4L * keys.length + 8L * words.length;
+            for (int i = 0; i < names.length; i++) {
+                bytes += stringBytes(names[i]);
+                if (keys[i] != names[i]) {
+                    bytes += stringBytes(keys[i]);
+                }
+            }
+            this.memoryBytes = bytes;
+        }
+
+        static Snapshot build(List<ProductNamePO> products) {
+            int size = products.size();
+            long[] ids = new long[size * 2];
+            String[] names = new String[size];
+            String[] keys = new String[size];
+            long[] words = new long[size * 4];
+            int count = 0;
+            for (int i = 0; i < size; i++) {
+                ProductNamePO product = products.get(i);
+                String name = product.getName() == null ? "" : product.getName();
+                String key = normalize(name);
+                ids[2 * i] = product.getId().getMostSignificantBits();
+                ids[2 * i + 1] = product.getId().getLeastSignificantBits();
+                names[i] = name;
+                keys[i] = key.equals(name) ? name : key;
+                for (int offset = 0; offset < key.length(); offset++) {
+                    if (isWordStart(key, offset)) {
+                        if (count == words.length) {
+                            words = Arrays.copyOf(words, count * 2);
+                        }
+                        words[count++] = ((long) i << 16) | offset;
+                    }
+                }
+            }
+            words = Arrays.copyOf(words, count);
+            Snapshot snapshot = new Snapshot(ids, names, keys, words);
+            snapshot.sortWords();
+            return snapshot;
+        }
+
+        /**
+         * Retorna até {@code limit} produtos distintos com uma palavra começando pelo prefixo.
+         */
+        List<Candidate> find(String prefix, int limit) {
+            List<Candidate> found = new ArrayList<>(limit);
+            int[] entries = new int[limit];
+            int low = 0;
+            int high = words.length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (compareToPrefix(words[middle], prefix) < 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            for (int i = low; i < words.length && found.size() < limit; i++) {
+                int entry = (int) (words[i] >>> 16);
+                int offset = (int) (words[i] & MAX_OFFSET);
+                if (!keys[entry].startsWith(prefix, offset)) {
+                    break;
+                }
+                if (!contains(entries, found.size(), entry)) {
+                    entries[found.size()] = entry;
+                    UUID id = new UUID(ids[2 * entry], ids[2 * entry + 1]);
+                    found.add(new Candidate(keys[entry].substring(offset), new ProductNamePO(id, names[entry])));
+                }
+            }
+            return found;
+        }
+
+        private static boolean contains(int[] entries, int count, int entry) {
+            for (int i = 0; i < count; i++) {
+                if (entries[i] == entry) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private int compareToPrefix(long word, String prefix) {
+            String key = keys[(int) (word >>> 16)];
+            int offset = (int) (word & MAX_OFFSET);
+            int length = Math.min(key.length() - offset, prefix.length());
+            for (int i = 0; i < length; i++) {
+                int difference = key.charAt(offset + i) - prefix.charAt(i);
+                if (difference != 0) {
+                    return difference;
+                }
+            }
+            return key.length() - offset < prefix.length() ? -1 : 0;
+        }
+
+        private int compareWords(long left, long right) {
+            String leftKey = keys[(int) (left >>> 16)];
+            String rightKey = keys[(int) (right >>> 16)];
+            int leftOffset = (int) (left & MAX_OFFSET);
+            int rightOffset = (int) (right & MAX_OFFSET);
+            int length = Math.min(leftKey.length() - leftOffset, rightKey.length() - rightOffset);
+            for (int i = 0; i < length; i++) {
+                int difference = leftKey.charAt(leftOffset + i) - rightKey.charAt(rightOffset + i);
+                if (difference != 0) {
+                    return difference;
+                }
+            }
+            int difference = (leftKey.length() - leftOffset) - (rightKey.length() - rightOffset);
+            return difference != 0 ? difference : Long.compare(left, right);
+        }
+
+        /**
+         * Ordena as palavras com um merge sort sobre o vetor de {@code long}, sem criar um objeto por palavra.
+         */
+        private void sortWords() {
+            long[] source = words;
+            long[] buffer = new long[source.length];
+            for (int width = 1; width < source.length; width *= 2) {
+                for (int start = 0; start < source.length; start += 2 * width) {
+                    int middle = Math.min(start + width, source.length);
+                    int end = Math.min(start + 2 * width, source.length);
+                    int left = start;
+                    int right = middle;
+                    for (int i = start; i < end; i++) {
+                        if (left < middle && (right >= end || compareWords(source[left], source[right]) <= 0)) {
+                            buffer[i] = source[left++];
+                        } else {
+                            buffer[i] = source[right++];
+                        }
+                    }
+                }
+                long[] swap = source;
+                source = buffer;
+                buffer = swap;
+            }
+            if (source != words) {
+                System.arraycopy(source, 0, words, 0, words.length);
+            }
+        }
+
+        /**
+         * Tamanho aproximado de uma {@link String} compacta: cabeçalhos do objeto e do vetor e um byte por caractere
+         * (dois se algum caractere estiver fora do Latin-1).
+         */
+        private static long stringBytes(String value) {
+            boolean latin1 = value.chars().allMatch(c -> c < 256);
+            return 40L + (long) value.length() * (latin1 ? 1 : 2);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.app.example.product.infra.cache;
+
+import com.app.example.product.infra.config.StockBucketProperties;
+import com.app.example.product.infra.repository.ProductRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Lista, em memória, dos produtos com estoque dividido em buckets.
+ * <p>
+ * Permite que as reservas escolham o caminho dos buckets sem consultar o banco de dados. A lista é relida
+ * periodicamente ({@code refresh-interval}); divisões feitas por esta instância são registradas imediatamente, e
+ * divisões feitas por outras instâncias são percebidas na próxima releitura ou quando uma reserva pela linha do
+ * produto for rejeitada.
+ * </p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockBucketDirectory {
+
+    private final ProductRepository productRepository;
+    private final StockBucketProperties properties;
+    private final Set<UUID> bucketed = ConcurrentHashMap.newKeySet();
+    private Disposable subscription;
+
+    /**
+     * Inicia a releitura periódica da lista.
+     */
+    @PostConstruct
+    void start() {
+        subscription = Flux.interval(properties.refreshInterval())
+                .startWith(0L)
+                .onBackpressureDrop()
+                .concatMap(tick -> refresh(), 1)
+                .subscribe();
+    }
+
+    /**
+     * Interrompe a releitura periódica.
+     */
+    @PreDestroy
+    void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+    /**
+     * Indica se o estoque do produto está dividido em buckets.
+     *
+     * @param productId ID do produto.
+     * @return {@code true} se o produto tiver buckets.
+     */
+    public boolean contains(UUID productId) {
+        return bucketed.contains(productId);
+    }
+
+    /**
+     * Registra produtos cujo estoque foi dividido em buckets.
+     *
+     * @param productIds IDs dos produtos.
+     */
+    public void addAll(Collection<UUID> productIds) {
+        bucketed.addAll(productIds);
+    }
+
+    /**
+     * Relê a lista de produtos com buckets. Nunca termina com erro: em caso de falha a lista atual é mantida.
+     */
+    private Mono<Void> refresh() {
+        return productRepository.findBucketedProductIds()
+                .collect(Collectors.toSet())
+                .doOnNext(ids -> {
+                    bucketed.retainAll(ids);
+                    bucketed.addAll(ids);
+                    log.debug("Produtos com estoque dividido em buckets: {}", ids.size());
+                })
+                .onErrorResume(error -> {
+                    log.warn("Falha ao ler os produtos com estoque dividido em buckets: {}", error.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+}
@@ -0,0 +1,33 @@
+package com.app.example.product.infra.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Propriedades do cache das páginas de produtos por categoria, já convertidas para JSON.
+ *
+ * <pre>{@code
+ * app:
+ *   product:
+ *     category-listing-cache:
+ *       enabled: true
+ *       maximum-weight: 32MB
+ *       ttl: 2s
+ * }</pre>
+ *
+ * @param enabled       habilita o cache; quando desabilitado toda página é lida do banco de dados e convertida
+ * @param maximumWeight tamanho máximo das páginas mantidas em memória, somando o JSON e os IDs de cada página
+ * @param ttl           tempo máximo de permanência de uma página; limita o atraso com que alterações feitas por outras
+ *                      instâncias são percebidas
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@ConfigurationProperties(prefix = "app.product.category-listing-cache")
+public record CategoryListingCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("32MB") DataSize maximumWeight,
+        @DefaultValue("2s") Duration ttl
+) {}
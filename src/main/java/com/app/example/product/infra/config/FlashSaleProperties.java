@@ -0,0 +1,37 @@
+package com.app.example.product.infra.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Propriedades do modo "flash sale", em que o estoque dos produtos selecionados é mantido em memória.
+ *
+ * <pre>{@code
+ * app:
+ *   product:
+ *     flash-sale:
+ *       enabled: false
+ *       product-ids: []
+ *       journal: data/flash-sale.journal
+ *       flush-interval: 200ms
+ * }</pre>
+ *
+ * @param enabled       habilita o modo; quando desabilitado todo o estoque é controlado pelo banco de dados
+ * @param productIds    produtos cujo estoque passa a ser controlado em memória
+ * @param journal       arquivo do registro de escrita antecipada ("write-ahead") das reservas ainda não gravadas no banco
+ * @param flushInterval intervalo entre as gravações das variações de estoque acumuladas no banco de dados
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@ConfigurationProperties(prefix = "app.product.flash-sale")
+public record FlashSaleProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue List<UUID> productIds,
+        @DefaultValue("data/flash-sale.journal") Path journal,
+        @DefaultValue("200ms") Duration flushInterval
+) {}
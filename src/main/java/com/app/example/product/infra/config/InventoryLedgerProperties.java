@@ -0,0 +1,28 @@
+package com.app.example.product.infra.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Propriedades do registro de movimentações de estoque ({@code inventory_movements}).
+ *
+ * <pre>{@code
+ * app:
+ *   product:
+ *     ledger:
+ *       compact-interval: 1s
+ *       batch-size: 1000
+ * }</pre>
+ *
+ * @param compactInterval intervalo entre as consolidações das movimentações pendentes no estoque dos produtos
+ * @param batchSize       quantidade máxima de movimentações consolidadas por instrução
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@ConfigurationProperties(prefix = "app.product.ledger")
+public record InventoryLedgerProperties(
+        @DefaultValue("1s") Duration compactInterval,
+        @DefaultValue("1000") int batchSize
+) {}
@@ -0,0 +1,35 @@
+package com.app.example.product.infra.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Propriedades do cache de leitura dos produtos.
+ *
+ * <pre>{@code
+ * app:
+ *   product:
+ *     cache:
+ *       enabled: true
+ *       maximum-size: 10000
+ *       ttl: 10m
+ *       stock-ttl: 2s
+ * }</pre>
+ *
+ * @param enabled     habilita o cache; quando desabilitado toda leitura vai ao banco de dados
+ * @param maximumSize quantidade máxima de produtos mantidos em memória, em cada nível do cache
+ * @param ttl         tempo máximo de permanência dos dados cadastrais de um produto (nome, descrição, preço e categoria)
+ * @param stockTtl    tempo máximo de permanência do estoque de um produto; limita o atraso com que alterações feitas
+ *                    por outras instâncias são percebidas
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@ConfigurationProperties(prefix = "app.product.cache")
+public record ProductCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("10000") long maximumSize,
+        @DefaultValue("10m") Duration ttl,
+        @DefaultValue("2s") Duration stockTtl
+) {}
@@ -0,0 +1,39 @@
+package com.app.example.product.infra.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Propriedades do filtro de Bloom dos IDs de produtos.
+ *
+ * <pre>{@code
+ * app:
+ *   product:
+ *     id-filter:
+ *       enabled: true
+ *       expected-insertions: 1000000
+ *       false-positive-rate: 0.01
+ *       refresh-interval: 10m
+ *       authoritative: false
+ * }</pre>
+ *
+ * @param enabled            habilita o filtro; quando desabilitado toda verificação de existência vai ao banco de dados
+ * @param expectedInsertions quantidade de produtos para a qual o filtro é dimensionado
+ * @param falsePositiveRate  taxa de falsos positivos desejada com {@code expectedInsertions} produtos
+ * @param refreshInterval    intervalo de reconstrução do filtro a partir do banco de dados, para incluir produtos
+ *                           criados por outras instâncias
+ * @param authoritative      declara que todos os produtos são criados por esta instância; somente assim uma resposta
+ *                           negativa do filtro construído dispensa a confirmação no banco de dados
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@ConfigurationProperties(prefix = "app.product.id-filter")
+public record ProductIdFilterProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("1000000") int expectedInsertions,
+        @DefaultValue("0.01") double falsePositiveRate,
+        @DefaultValue("10m") Duration refreshInterval,
+        @DefaultValue("false") boolean authoritative
+) {}
@@ -0,0 +1,27 @@
+package com.app.example.product.infra.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Propriedades da importação de produtos em lote.
+ *
+ * <pre>{@code
+ * app:
+ *   product:
+ *     import:
+ *       chunk-size: 1000
+ *       max-reported-errors: 1000
+ * }</pre>
+ *
+ * @param chunkSize         quantidade de produtos gravados por instrução {@code INSERT}
+ * @param maxReportedErrors quantidade máxima de linhas rejeitadas detalhadas no relatório; as demais são apenas
+ *                          contadas, para que a memória usada não dependa do tamanho do arquivo
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@ConfigurationProperties(prefix = "app.product.import")
+public record ProductImportProperties(
+        @DefaultValue("1000") int chunkSize,
+        @DefaultValue("1000") int maxReportedErrors
+) {}
@@ -0,0 +1,29 @@
+package com.app.example.product.infra.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Propriedades do índice em memória para autocompletar nomes de produtos.
+ *
+ * <pre>{@code
+ * app:
+ *   product:
+ *     name-index:
+ *       enabled: true
+ *       refresh-interval: 10m
+ * }</pre>
+ *
+ * @param enabled         habilita o índice; quando desabilitado nenhuma sugestão é retornada
+ * @param refreshInterval intervalo de reconstrução do índice a partir do banco de dados, para incluir produtos
+ *                        criados por outras instâncias
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@ConfigurationProperties(prefix = "app.product.name-index")
+public record ProductNameIndexProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("10m") Duration refreshInterval
+) {}
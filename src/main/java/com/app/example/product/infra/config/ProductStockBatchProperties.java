@@ -0,0 +1,24 @@
+package com.app.example.product.infra.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Propriedades do ajuste de estoque em lote.
+ *
+ * <pre>{@code
+ * app:
+ *   product:
+ *     stock-batch:
+ *       chunk-size: 1000
+ * }</pre>
+ *
+ * @param chunkSize quantidade de ajustes aplicados por transação; os ajustes recebidos são agrupados
+ *                  à medida que chegam
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@ConfigurationProperties(prefix = "app.product.stock-batch")
+public record ProductStockBatchProperties(
+        @DefaultValue("1000") int chunkSize
+) {}
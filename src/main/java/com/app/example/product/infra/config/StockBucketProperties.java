@@ -0,0 +1,26 @@
+package com.app.example.product.infra.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Propriedades do estoque dividido em buckets ({@code product_stock_buckets}).
+ *
+ * <pre>{@code
+ * app:
+ *   product:
+ *     stock-buckets:
+ *       refresh-interval: 30s
+ * }</pre>
+ *
+ * @param refreshInterval intervalo de releitura da lista de produtos com buckets, para que divisões feitas por outras
+ *                        instâncias sejam percebidas
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@ConfigurationProperties(prefix = "app.product.stock-buckets")
+public record StockBucketProperties(
+        @DefaultValue("30s") Duration refreshInterval
+) {}
@@ -0,0 +1,37 @@
+package com.app.example.product.infra.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Propriedades da gravação agrupada ("write-behind") das alterações de estoque.
+ * <p>
+ * Quando habilitada, as alterações de estoque que chegam dentro de uma janela curta são somadas por produto
+ * e gravadas com uma única instrução por lote.
+ * </p>
+ *
+ * <pre>{@code
+ * app:
+ *   product:
+ *     write-behind:
+ *       enabled: true
+ *       max-batch-size: 256
+ *       max-wait: 5ms
+ * }</pre>
+ *
+ * @param enabled      habilita o agrupamento; quando desabilitado cada alteração é gravada individualmente
+ * @param maxBatchSize quantidade máxima de alterações por lote
+ * @param maxWait      tempo máximo de espera para completar um lote
+ * @param queueSize    quantidade máxima de alterações aguardando gravação
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@ConfigurationProperties(prefix = "app.product.write-behind")
+public record StockWriteBehindProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("256") int maxBatchSize,
+        @DefaultValue("5ms") Duration maxWait,
+        @DefaultValue("8192") int queueSize
+) {}
@@ -0,0 +1,119 @@
+package com.app.example.product.infra.flashsale;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Contadores de estoque em memória, sem bloqueio, para um conjunto fixo de produtos.
+ * <p>
+ * Cada produto recebe uma posição própria em um {@link AtomicLongArray}, espaçada de {@value #STRIDE} posições
+ * (64 bytes) para que contadores de produtos diferentes não compartilhem a mesma linha de cache. A reserva é um laço
+ * de {@code compareAndSet} sobre a posição do produto: custo O(1), sem bloqueios e sem nunca deixar o saldo negativo.
+ * </p>
+ * <p>
+ * O mapeamento de produto para posição é definido na construção e não muda depois, por isso pode ser lido sem
+ * sincronização.
+ * </p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+public class FlashSaleCounters {
+
+    /** Quantidade de posições {@code long} por contador: 8 x 8 bytes = uma linha de cache. */
+    static final int STRIDE = 8;
+
+    private final Map<UUID, Integer> slots;
+    private final AtomicLongArray stock;
+
+    public FlashSaleCounters(Collection<UUID> productIds) {
+        Map<UUID, Integer> slots = new HashMap<>();
+        for (UUID productId : productIds) {
+            slots.putIfAbsent(productId, slots.size());
+        }
+        this.slots = Map.copyOf(slots);
+        this.stock = new AtomicLongArray(Math.max(1, slots.size()) * STRIDE);
+    }
+
+    /**
+     * Indica se o estoque do produto é controlado por estes contadores.
+     *
+     * @param productId ID do produto.
+     * @return {@code true} se o produto faz parte do conjunto.
+     */
+    public boolean contains(UUID productId) {
+        return slots.containsKey(productId);
+    }
+
+    /**
+     * Retorna os produtos controlados por estes contadores.
+     *
+     * @return IDs dos produtos.
+     */
+    public Collection<UUID> productIds() {
+        return slots.keySet();
+    }
+
+    /**
+     * Retorna o saldo atual de um produto.
+     *
+     * @param productId ID do produto controlado.
+     * @return saldo em memória.
+     */
+    public long get(UUID productId) {
+        return stock.get(index(productId));
+    }
+
+    /**
+     * Define o saldo de um produto. Usado apenas na carga inicial, antes de qualquer reserva.
+     *
+     * @param productId ID do produto controlado.
+     * @param quantity  saldo a ser definido.
+     */
+    public void set(UUID productId, long quantity) {
+        stock.set(index(productId), quantity);
+    }
+
+    /**
+     * Baixa a quantidade informada somente se houver saldo suficiente. Quantidades negativas representam reposição
+     * e são sempre aplicadas.
+     *
+     * @param productId ID do produto controlado.
+     * @param quantity  quantidade a ser baixada.
+     * @return o novo saldo, ou {@code -1} se o saldo for insuficiente.
+     */
+    public long tryReserve(UUID productId, int quantity) {
+        int index = index(productId);
+        while (true) {
+            long current = stock.get(index);
+            if (current < quantity) {
+                return -1;
+            }
+            long updated = current - quantity;
+            if (stock.compareAndSet(index, current, updated)) {
+                return updated;
+            }
+        }
+    }
+
+    /**
+     * Soma a quantidade informada ao saldo, sem verificação.
+     *
+     * @param productId ID do produto controlado.
+     * @param quantity  quantidade a ser somada.
+     * @return o novo saldo.
+     */
+    public long add(UUID productId, int quantity) {
+        return stock.addAndGet(index(productId), quantity);
+    }
+
+    private int index(UUID productId) {
+        Integer slot = slots.get(productId);
+        if (slot == null) {
+            throw new IllegalArgumentException("Produto " + productId + " não está no modo flash sale");
+        }
+        return slot * STRIDE;
+    }
+}
@@ -0,0 +1,335 @@
+package com.app.example.product.infra.flashsale;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.CRC32;
+
+/**
+ * Registro de escrita antecipada ("write-ahead log") das variações de estoque do modo flash sale.
+ * <p>
+ * Cada reserva é gravada no arquivo, com {@link FileChannel#force(boolean)}, antes de ser confirmada ao chamador.
+ * As gravações são feitas por uma única thread, que agrupa todas as entradas pendentes em uma única escrita e um
+ * único {@code force} ("group commit"), de modo que o custo do disco é dividido entre as reservas concorrentes.
+ * </p>
+ * <p>
+ * O arquivo é texto, uma linha por registro, terminada pelo CRC-32 (em hexadecimal) do restante da linha:
+ * <ul>
+ *   <li>{@code R;<sequência>;<produto>=<variação>[,<produto>=<variação>...];<crc>}: variações de estoque de uma
+ *       reserva, ainda não gravadas no banco de dados;</li>
+ *   <li>{@code C;<sequência>;<crc>}: todas as variações até a sequência informada já foram gravadas no banco de
+ *       dados.</li>
+ * </ul>
+ * Na inicialização, {@link #recover(Path)} soma as variações posteriores ao último {@code C}, que devem ser
+ * aplicadas ao banco antes de o estoque ser carregado em memória. Uma linha sem o terminador ou com o CRC
+ * divergente, resultado de uma queda durante a escrita, é ignorada por inteiro (a reserva correspondente nunca foi
+ * confirmada), mesmo que o trecho gravado ainda pareça um registro válido, e é removida do final do arquivo antes
+ * de novas gravações.
+ * </p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@Slf4j
+public class FlashSaleJournal implements Closeable {
+
+    private static final String RESERVATION = "R";
+    private static final String CHECKPOINT = "C";
+
+    private final FileChannel channel;
+    private final DurabilityListener listener;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "flash-sale-journal");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Queue<Entry> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private long sequence;
+
+    /**
+     * Abre o registro para novas gravações, continuando a numeração a partir da sequência informada.
+     *
+     * @param path         arquivo do registro.
+     * @param lastSequence última sequência presente no arquivo, obtida por {@link #recover(Path)}.
+     * @param listener     notificado, na ordem das sequências, quando cada variação estiver gravada em disco.
+     * @throws IOException se o arquivo não puder ser aberto.
+     */
+    public FlashSaleJournal(Path path, long lastSequence, DurabilityListener listener) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        this.listener = listener;
+        this.sequence = lastSequence;
+    }
+
+    /**
+     * Lê o registro e identifica as variações ainda não gravadas no banco de dados.
+     *
+     * @param path arquivo do registro; se não existir, não há nada a recuperar.
+     * @return a última sequência do arquivo e a soma, por produto, das variações posteriores ao último checkpoint.
+     * @throws IOException se o arquivo não puder ser lido.
+     */
+    public static Recovery recover(Path path) throws IOException {
+        if (!Files.exists(path)) {
+            return new Recovery(0, Map.of());
+        }
+        byte[] content = Files.readAllBytes(path);
+        long lastSequence = 0;
+        long checkpoint = 0;
+        int validLength = 0;
+        List<Reservation> reservations = new ArrayList<>();
+        int start = 0;
+        while (start < content.length) {
+            int end = start;
+            while (end < content.length && content[end] != '\n') {
+                end++;
+            }
+            String line = new String(content, start, end - start, StandardCharsets.UTF_8);
+            if (end == content.length) {
+                log.warn("Registro incompleto ignorado no journal de flash sale: {}", line);
+                break;
+            }
+            start = end + 1;
+            try {
+                String[] fields = verified(line).split(";", -1);
+                if (RESERVATION.equals(fields[0]) && fields.length == 3) {
+                    Reservation reservation = new Reservation(Long.parseLong(fields[1]), parseDeltas(fields[2]));
+                    lastSequence = Math.max(lastSequence, reservation.sequence());
+                    reservations.add(reservation);
+                } else if (CHECKPOINT.equals(fields[0]) && fields.length == 2) {
+                    checkpoint = Math.max(checkpoint, Long.parseLong(fields[1]));
+                    lastSequence = Math.max(lastSequence, checkpoint);
+                } else {
+                    throw new IllegalArgumentException("Tipo de registro desconhecido");
+                }
+                validLength = start;
+            } catch (IllegalArgumentException e) {
+                log.warn("Registro inválido ignorado no journal de flash sale: {}", line);
+            }
+        }
+        if (validLength < content.length) {
+            // Remove o final incompleto, para que as próximas gravações comecem em uma nova linha
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                channel.truncate(validLength);
+                channel.force(false);
+            }
+        }
+        Map<UUID, Long> unflushed = new HashMap<>();
+        for (Reservation reservation : reservations) {
+            if (reservation.sequence() > checkpoint) {
+                reservation.deltas().forEach((productId, delta) -> unflushed.merge(productId, (long) delta, Long::sum));
+            }
+        }
+        unflushed.values().removeIf(delta -> delta == 0);
+        return new Recovery(lastSequence, unflushed);
+    }
+
+    /**
+     * Grava as variações de uma reserva. O futuro só completa depois que elas estiverem em disco.
+     *
+     * @param deltas quantidade baixada por produto (negativa para devolução).
+     * @return futuro com a sequência atribuída à reserva.
+     */
+    public CompletableFuture<Long> append(Map<UUID, Integer> deltas) {
+        return enqueue(new Entry(Map.copyOf(deltas), 0, new CompletableFuture<>()));
+    }
+
+    /**
+     * Registra que todas as variações até a sequência informada foram gravadas no banco de dados. Se não houver
+     * variações posteriores, o arquivo é reiniciado apenas com este checkpoint, evitando que cresça indefinidamente.
+     *
+     * @param sequence última sequência gravada no banco de dados.
+     * @return futuro que completa depois que o checkpoint estiver em disco.
+     */
+    public CompletableFuture<Long> checkpoint(long sequence) {
+        return enqueue(new Entry(null, sequence, new CompletableFuture<>()));
+    }
+
+    /**
+     * Conclui as gravações pendentes e fecha o arquivo.
+     */
+    @Override
+    public void close() throws IOException {
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(5, TimeUnit.SECONDS)) {
+                log.warn("Journal de flash sale fechado com gravações pendentes");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        channel.close();
+    }
+
+    private CompletableFuture<Long> enqueue(Entry entry) {
+        queue.add(entry);
+        if (draining.compareAndSet(false, true)) {
+            writer.execute(this::drain);
+        }
+        return entry.done();
+    }
+
+    /**
+     * Grava, em lotes, todas as entradas pendentes. Executado apenas pela thread do journal.
+     */
+    private void drain() {
+        do {
+            List<Entry> batch = new ArrayList<>();
+            Entry entry;
+            while ((entry = queue.poll()) != null) {
+                batch.add(entry);
+            }
+            if (!batch.isEmpty()) {
+                write(batch);
+            }
+            draining.set(false);
+        } while (!queue.isEmpty() && draining.compareAndSet(false, true));
+    }
+
+    private void write(List<Entry> batch) {
+        long first = sequence;
+        long[] sequences = new long[batch.size()];
+        StringBuilder lines = new StringBuilder();
+        try {
+            for (int i = 0; i < batch.size(); i++) {
+                Entry entry = batch.get(i);
+                if (entry.deltas() == null) {
+                    if (entry.checkpoint() == sequence && lines.isEmpty()) {
+                        // Nada posterior ao checkpoint: o conteúdo anterior não é mais necessário
+                        channel.truncate(0);
+                    }
+                    appendLine(lines, CHECKPOINT + ';' + entry.checkpoint());
+                    sequences[i] = entry.checkpoint();
+                    continue;
+                }
+                long current = ++sequence;
+                StringBuilder record = new StringBuilder(RESERVATION).append(';').append(current).append(';');
+                entry.deltas().forEach((productId, delta) -> record.append(productId).append('=').append(delta).append(','));
+                if (!entry.deltas().isEmpty()) {
+                    record.setLength(record.length() - 1);
+                }
+                appendLine(lines, record.toString());
+                sequences[i] = current;
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        } catch (IOException | RuntimeException e) {
+            log.error("Falha ao gravar {} registros no journal de flash sale", batch.size(), e);
+            sequence = first;
+            batch.forEach(entry -> entry.done().completeExceptionally(e));
+            return;
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            Entry entry = batch.get(i);
+            if (entry.deltas() != null) {
+                listener.onDurable(sequences[i], entry.deltas());
+            }
+            entry.done().complete(sequences[i]);
+        }
+    }
+
+    /**
+     * Acrescenta o registro, com o seu CRC e o terminador de linha.
+     */
+    private static void appendLine(StringBuilder lines, String record) {
+        lines.append(record).append(';').append(crc(record)).append('\n');
+    }
+
+    /**
+     * Confere o CRC da linha lida do arquivo.
+     *
+     * @return a linha sem o CRC.
+     * @throws IllegalArgumentException se a linha não terminar com o CRC do seu conteúdo.
+     */
+    private static String verified(String line) {
+        int separator = line.lastIndexOf(';');
+        if (separator < 0 || !line.substring(separator + 1).equals(crc(line.substring(0, separator)))) {
+            throw new IllegalArgumentException("CRC divergente");
+        }
+        return line.substring(0, separator);
+    }
+
+    private static String crc(String record) {
+        CRC32 crc = new CRC32();
+        crc.update(record.getBytes(StandardCharsets.UTF_8));
+        return Long.toHexString(crc.getValue());
+    }
+
+    private static Map<UUID, Integer> parseDeltas(String field) {
+        Map<UUID, Integer> deltas = new HashMap<>();
+        if (field.isEmpty()) {
+            return deltas;
+        }
+        for (String delta : field.split(",")) {
+            String[] parts = delta.split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Variação inválida: " + delta);
+            }
+            deltas.merge(UUID.fromString(parts[0]), Integer.parseInt(parts[1]), Integer::sum);
+        }
+        return deltas;
+    }
+
+    /**
+     * Recebe as variações de estoque depois que estiverem gravadas em disco.
+     */
+    @FunctionalInterface
+    public interface DurabilityListener {
+
+        /**
+         * Chamado pela thread do journal, na ordem das sequências, antes de a reserva ser confirmada ao chamador.
+         *
+         * @param sequence sequência atribuída à reserva.
+         * @param deltas   quantidade baixada por produto.
+         */
+        void onDurable(long sequence, Map<UUID, Integer> deltas);
+    }
+
+    /**
+     * Estado recuperado do journal na inicialização.
+     *
+     * @param lastSequence última sequência presente no arquivo
+     * @param unflushed    soma, por produto, das variações ainda não gravadas no banco de dados
+     */
+    public record Recovery(
+            long lastSequence,
+            Map<UUID, Long> unflushed
+    ) {}
+
+    /**
+     * Reserva lida do arquivo na recuperação.
+     */
+    private record Reservation(
+            long sequence,
+            Map<UUID, Integer> deltas
+    ) {}
+
+    /**
+     * Entrada aguardando gravação: uma reserva ({@code deltas}) ou um checkpoint.
+     */
+    private record Entry(
+            Map<UUID, Integer> deltas,
+            long checkpoint,
+            CompletableFuture<Long> done
+    ) {}
+}
@@ -0,0 +1,44 @@
+package com.app.example.product.infra.listener;
+
+import com.app.example.product.domain.event.StockRestored;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Listener responsável por tratar o evento {@link StockRestored}.
+ *
+ * <p>
+ * Esse componente é ativado automaticamente pelo Spring quando um evento {@link StockRestored}
+ * é publicado após a confirmação (commit) de uma transação, como a do cancelamento de um pedido.
+ * A anotação {@link Async} garante que o processamento será feito de forma assíncrona
+ * usando o executor configurado como "eventTaskExecutor".
+ * </p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@Slf4j
+@Component
+public class StockRestoredEventListener {
+
+    /**
+     * Manipula o evento {@link StockRestored} após o commit da transação.
+     *
+     * @param event o evento que contém informações sobre a devolução de estoque
+     */
+    @Async("eventTaskExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleStockRestored(StockRestored event) {
+        log.info("Evento StockRestored recebido com sucesso.");
+        log.debug("Detalhes da devolução de estoque: ID={}, Quantity={}", event.productId(), event.quantity());
+
+        // Aqui você pode realizar ações como:
+        // - Notificar clientes aguardando a reposição do produto
+        // - Publicar evento para outro microserviço
+        // - Gravar log de auditoria, etc.
+
+        log.info("Processamento do evento StockRestored concluído.");
+    }
+}
@@ -0,0 +1,37 @@
+package com.app.example.product.infra.listener;
+
+import com.app.example.product.domain.event.StocksAdjusted;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Listener responsável por tratar o evento {@link StocksAdjusted}.
+ *
+ * <p>
+ * Esse componente é ativado automaticamente pelo Spring quando um evento {@link StocksAdjusted}
+ * é publicado após a confirmação (commit) de uma transação, uma vez para cada lote de um ajuste de estoque em lote.
+ * A anotação {@link Async} garante que o processamento será feito de forma assíncrona
+ * usando o executor configurado como "eventTaskExecutor".
+ * </p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@Slf4j
+@Component
+public class StocksAdjustedEventListener {
+
+    /**
+     * Manipula o evento {@link StocksAdjusted} após o commit da transação.
+     *
+     * @param event o evento com os produtos ajustados no lote
+     */
+    @Async("eventTaskExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleStocksAdjusted(StocksAdjusted event) {
+        log.info("Evento StocksAdjusted recebido com {} produtos.", event.adjustments().size());
+        log.info("Processamento do evento StocksAdjusted concluído.");
+    }
+}
@@ -0,0 +1,128 @@
+package com.app.example.product.infra.repository;
+
+import com.app.example.product.domain.po.InventoryMovementPO;
+import com.app.example.product.domain.po.StockAdjustmentPO;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Repositório reativo do registro de movimentações de estoque ({@code inventory_movements}).
+ * <p>
+ * O registro só recebe inserções, que não disputam nenhuma linha. As entradas pendentes ({@code compacted_at} nulo)
+ * são somadas ao estoque do produto por {@link #compactPending(int)}, e as entradas já aplicadas ao estoque são
+ * gravadas como consolidadas, servindo apenas de histórico.
+ * </p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@Repository
+public interface InventoryMovementRepository extends ReactiveCrudRepository<InventoryMovementPO, Long> {
+
+    /**
+     * Insere, em uma única instrução, uma movimentação para cada produto informado.
+     *
+     * @param productIds  IDs dos produtos.
+     * @param quantities  Variação de estoque de cada produto (positiva para entrada), na mesma posição do ID.
+     * @param reason      Motivo das movimentações.
+     * @param referenceId ID da operação de origem, como o pedido; pode ser nulo.
+     * @param compacted   {@code true} se a variação já foi aplicada ao estoque e a movimentação é apenas histórico.
+     * @return Mono com o número de movimentações inseridas; produtos inexistentes são ignorados.
+     */
+    @Modifying
+    @Query("""
+            INSERT INTO inventory_movements (product_id, quantity, reason, reference_id, compacted_at)
+            SELECT m.product_id, m.quantity, CAST(:reason AS varchar), CAST(:referenceId AS uuid),
+                   CASE WHEN :compacted THEN CURRENT_TIMESTAMP END
+            FROM unnest(CAST(:productIds AS uuid[]), CAST(:quantities AS int[])) AS m(product_id, quantity)
+            JOIN products p ON p.id = m.product_id
+            WHERE m.quantity <> 0
+            """)
+    Mono<Integer> insertAll(UUID[] productIds, Integer[] quantities, String reason, UUID referenceId, boolean compacted);
+
+    /**
+     * Registra como pendente a devolução de todos os itens dos pedidos informados, uma movimentação
+     * {@code CANCEL} por pedido e produto, lida diretamente de {@code order_items}.
+     *
+     * @param orderIds IDs dos pedidos cancelados.
+     * @return Fluxo com o produto e a quantidade de cada movimentação inserida.
+     */
+    @Query("""
+            INSERT INTO inventory_movements (product_id, quantity, reason, reference_id)
+            SELECT i.product_id, CAST(SUM(i.quantity) AS integer), 'CANCEL', i.order_id
+            FROM order_items i
+            WHERE i.order_id = ANY(CAST(:orderIds AS uuid[]))
+            GROUP BY i.order_id, i.product_id
+            RETURNING product_id, quantity
+            """)
+    Flux<StockAdjustmentPO> insertCancellations(UUID[] orderIds);
+
+    /**
+     * Consolida um lote de movimentações pendentes, na ordem em que foram registradas.
+     * <p>
+     * As movimentações do lote são bloqueadas com {@code SKIP LOCKED}, somadas por produto e marcadas como
+     * consolidadas na mesma instrução que soma o total ao estoque: {@code stock_quantity} para os produtos
+     * comuns, ou o bucket {@code 0} para os produtos com o estoque dividido em {@code product_stock_buckets}.
+     * Produtos e buckets são bloqueados em ordem de ID, como nas reservas.
+     * </p>
+     *
+     * @param batchSize Quantidade máxima de movimentações consolidadas.
+     * @return Mono com o número de movimentações consolidadas.
+     */
+    @Query("""
+            WITH batch AS (
+                SELECT m.id, m.product_id, m.quantity
+                FROM inventory_movements m
+                WHERE m.compacted_at IS NULL
+                ORDER BY m.id
+                LIMIT :batchSize
+                FOR UPDATE SKIP LOCKED
+            ), marked AS (
+                UPDATE inventory_movements m
+                SET compacted_at = CURRENT_TIMESTAMP
+                FROM batch b
+                WHERE m.id = b.id
+                RETURNING m.id
+            ), totals AS (
+                SELECT b.product_id, CAST(SUM(b.quantity) AS integer) AS quantity
+                FROM batch b
+                GROUP BY b.product_id
+            ), locked_buckets AS (
+                SELECT s.product_id
+                FROM product_stock_buckets s
+                JOIN totals t ON t.product_id = s.product_id
+                WHERE s.bucket = 0
+                ORDER BY s.product_id
+                FOR UPDATE OF s
+            ), to_buckets AS (
+                UPDATE product_stock_buckets s
+                SET quantity = s.quantity + t.quantity
+                FROM totals t, locked_buckets l
+                WHERE s.product_id = t.product_id
+                  AND s.bucket = 0
+                  AND l.product_id = s.product_id
+                RETURNING s.product_id
+            ), locked_products AS (
+                SELECT p.id
+                FROM products p
+                JOIN totals t ON t.product_id = p.id
+                WHERE NOT EXISTS (SELECT 1 FROM locked_buckets l WHERE l.product_id = p.id)
+                ORDER BY p.id
+                FOR UPDATE OF p
+            ), to_products AS (
+                UPDATE products p
+                SET stock_quantity = p.stock_quantity + t.quantity
+                FROM totals t, locked_products l
+                WHERE p.id = t.product_id
+                  AND l.id = p.id
+                RETURNING p.id
+            )
+            SELECT CAST(count(*) AS integer) FROM marked
+            """)
+    Mono<Integer> compactPending(int batchSize);
+}
@@ -1,6 +1,9 @@
 package com.app.example.product.infra.repository;
 
+import com.app.example.product.domain.po.ProductNamePO;
 import com.app.example.product.domain.po.ProductPO;
+import com.app.example.product.domain.po.StockAdjustmentPO;
+import com.app.example.product.domain.po.StockBucketPO;
 import org.springframework.data.r2dbc.repository.Modifying;
 import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -9,6 +12,7 @@ import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.math.BigDecimal;
 import java.util.UUID;
 
 /**
@@ -16,7 +20,53 @@ import java.util.UUID;
  * Fornece operações de acesso a dados para produtos.
  */
 @Repository
-public interface ProductRepository extends ReactiveCrudRepository<ProductPO, UUID> {
+public interface ProductRepository extends ReactiveCrudRepository<ProductPO, UUID>, ProductStreamRepository, ProductSearchRepository {
+
+    /**
+     * Expressão do estoque total de um produto {@code p}: {@code stock_quantity}, mais a soma dos seus buckets em
+     * {@code product_stock_buckets}, mais as movimentações ainda não consolidadas em {@code inventory_movements}.
+     */
+    String EFFECTIVE_STOCK = """
+            CAST(p.stock_quantity
+                 + COALESCE((SELECT SUM(b.quantity) FROM product_stock_buckets b WHERE b.product_id = p.id), 0)
+                 + COALESCE((SELECT SUM(m.quantity) FROM inventory_movements m WHERE m.product_id = p.id AND m.compacted_at IS NULL), 0)
+                 AS integer)
+            """;
+
+    /**
+     * CTEs, seguidas de vírgula, que consolidam, na própria instrução de baixa, as movimentações pendentes dos
+     * produtos já bloqueados pela CTE {@code locked} (com a coluna {@code id}), para que a reposição registrada e
+     * ainda não consolidada possa ser reservada de imediato.
+     * <p>
+     * As movimentações são marcadas como consolidadas em {@code pending} e somadas por produto em {@code folded}, com
+     * uma linha por produto bloqueado; a instrução deve somar {@code folded.quantity} ao {@code stock_quantity} de cada
+     * produto, mesmo que a baixa seja rejeitada. Movimentações bloqueadas pela consolidação periódica são ignoradas
+     * ({@code SKIP LOCKED}), pois a linha do produto já está bloqueada por esta instrução e a espera inverteria a ordem
+     * de bloqueio da consolidação. Produtos com o estoque dividido em buckets são ignorados: as suas movimentações são
+     * consolidadas no bucket {@code 0} por {@link #reserveAcrossBuckets(UUID, int)}.
+     * </p>
+     */
+    String FOLD_PENDING_MOVEMENTS = """
+            pending AS (
+                UPDATE inventory_movements m
+                SET compacted_at = CURRENT_TIMESTAMP
+                WHERE m.id IN (
+                    SELECT c.id
+                    FROM inventory_movements c
+                    JOIN locked l ON l.id = c.product_id
+                    WHERE c.compacted_at IS NULL
+                      AND NOT EXISTS (SELECT 1 FROM product_stock_buckets b WHERE b.product_id = c.product_id)
+                    FOR UPDATE OF c SKIP LOCKED
+                )
+                RETURNING m.product_id, m.quantity
+            ), folded AS (
+                SELECT l.id, CAST(COALESCE(SUM(m.quantity), 0) AS integer) AS quantity
+                FROM locked l
+                LEFT JOIN pending m ON m.product_id = l.id
+                GROUP BY l.id
+            ),
+            """;
+
     /**
      * Atualiza a quantidade em estoque de um produto com base no seu ID.
      *
@@ -28,13 +78,503 @@ public interface ProductRepository extends ReactiveCrudRepository<ProductPO, UUI
     @Query("UPDATE products SET stock_quantity = stock_quantity - :quantity WHERE id = :productId")
     Mono<Integer> updateStockQuantity(int quantity, UUID productId);
 
+    /**
+     * Baixa a quantidade informada do estoque de um produto somente se houver saldo suficiente,
+     * em uma única instrução atômica.
+     * <p>
+     * A verificação de saldo é feita pelo próprio banco, com a linha do produto bloqueada, eliminando a
+     * condição de corrida entre leitura e escrita. O saldo verificado inclui as movimentações pendentes do produto,
+     * consolidadas na mesma instrução ({@link #FOLD_PENDING_MOVEMENTS}). Quantidades negativas representam reposição
+     * e são sempre aplicadas.
+     * </p>
+     *
+     * @param quantity Quantidade a ser baixada (negativa para reposição).
+     * @param productId ID do produto.
+     * @return Mono com o novo estoque, ou vazio se o produto não existir ou o saldo for insuficiente.
+     */
+    @Query("""
+            WITH locked AS (
+                SELECT p.id, p.stock_quantity
+                FROM products p
+                WHERE p.id = :productId
+                FOR UPDATE OF p
+            ),
+            """ + FOLD_PENDING_MOVEMENTS + """
+            updated AS (
+                UPDATE products p
+                SET stock_quantity = p.stock_quantity + f.quantity
+                    - CASE WHEN l.stock_quantity + f.quantity >= :quantity THEN :quantity ELSE 0 END
+                FROM locked l, folded f
+                WHERE p.id = l.id
+                  AND f.id = l.id
+                  AND (l.stock_quantity + f.quantity >= :quantity OR f.quantity <> 0)
+                RETURNING p.stock_quantity, l.stock_quantity + f.quantity >= :quantity AS applied
+            )
+            SELECT stock_quantity FROM updated WHERE applied
+            """)
+    Mono<Integer> updateStockQuantityIfAvailable(int quantity, UUID productId);
+
 
     /**
-     * Recupera todos os produtos filtrados pela categoria.
+     * Lista a primeira página dos produtos de uma categoria, em ordem de ID.
+     * O estoque de cada produto é o estoque total ({@link #EFFECTIVE_STOCK}).
+     * <p>
+     * Atendida pelo índice {@code idx_products_category_id}.
+     * </p>
      *
      * @param category Categoria dos produtos.
-     * @return Fluxo com todos os produtos da categoria informada.
+     * @param limit    Quantidade máxima de produtos.
+     * @return Fluxo com os produtos da página.
+     */
+    @Query("""
+            SELECT p.id, p.name, p.description, p.price, p.category,
+            """ + EFFECTIVE_STOCK + """
+             AS stock_quantity
+            FROM products p
+            WHERE p.category = :category
+            ORDER BY p.id
+            LIMIT :limit
+            """)
+    Flux<ProductPO> findFirstPageByCategory(String category, int limit);
+
+    /**
+     * Lista a página dos produtos de uma categoria que começa após o produto informado ("keyset").
+     * <p>
+     * Em vez de descartar os produtos anteriores com {@code OFFSET}, a consulta posiciona o índice
+     * {@code idx_products_category_id} diretamente no ID do último produto entregue, de modo que o custo de uma
+     * página não cresce com a sua posição na categoria.
+     * </p>
+     *
+     * @param category Categoria dos produtos.
+     * @param after    ID do último produto da página anterior.
+     * @param limit    Quantidade máxima de produtos.
+     * @return Fluxo com os produtos da página.
+     */
+    @Query("""
+            SELECT p.id, p.name, p.description, p.price, p.category,
+            """ + EFFECTIVE_STOCK + """
+             AS stock_quantity
+            FROM products p
+            WHERE p.category = :category
+              AND p.id > :after
+            ORDER BY p.id
+            LIMIT :limit
+            """)
+    Flux<ProductPO> findPageByCategoryAfter(String category, UUID after, int limit);
+
+    /**
+     * Recupera, em uma única consulta, todos os produtos cujos IDs estejam no array informado.
+     * O estoque de cada produto é o estoque total ({@link #EFFECTIVE_STOCK}).
+     *
+     * @param ids IDs dos produtos.
+     * @return Fluxo com os produtos encontrados (IDs inexistentes são ignorados).
+     */
+    @Query("""
+            SELECT p.id, p.name, p.description, p.price, p.category,
+            """ + EFFECTIVE_STOCK + """
+             AS stock_quantity
+            FROM products p
+            WHERE p.id = ANY(:ids)
+            """)
+    Flux<ProductPO> findAllByIds(UUID[] ids);
+
+    /**
+     * Recupera um produto com o estoque total ({@link #EFFECTIVE_STOCK}).
+     *
+     * @param productId ID do produto.
+     * @return Mono com o produto, ou vazio se não existir.
+     */
+    @Query("""
+            SELECT p.id, p.name, p.description, p.price, p.category,
+            """ + EFFECTIVE_STOCK + """
+             AS stock_quantity
+            FROM products p
+            WHERE p.id = :productId
+            """)
+    Mono<ProductPO> findWithStockById(UUID productId);
+
+    /**
+     * Reserva o estoque de várias linhas em uma única instrução, no modo "tudo ou nada".
+     * <p>
+     * As linhas de produto são bloqueadas em ordem crescente de ID antes da baixa, de modo que
+     * dois pedidos que compartilham produtos sempre adquirem os bloqueios na mesma ordem e não
+     * entram em deadlock. A baixa só é aplicada se todas as linhas tiverem saldo suficiente;
+     * caso contrário nenhuma linha é baixada.
+     * </p>
+     * <p>
+     * O saldo verificado inclui as movimentações pendentes de cada produto, consolidadas na mesma instrução
+     * ({@link #FOLD_PENDING_MOVEMENTS}) mesmo quando a reserva é rejeitada.
+     * </p>
+     *
+     * @param ids IDs dos produtos, sem repetições.
+     * @param quantities Quantidades a serem baixadas, na mesma posição dos respectivos IDs.
+     * @return Fluxo com os produtos atualizados, ou vazio se a reserva foi rejeitada.
+     */
+    @Query("""
+            WITH requested AS (
+                SELECT r.id, r.quantity
+                FROM unnest(CAST(:ids AS uuid[]), CAST(:quantities AS int[])) AS r(id, quantity)
+            ), locked AS (
+                SELECT p.id, p.stock_quantity
+                FROM products p
+                JOIN requested r ON r.id = p.id
+                ORDER BY p.id
+                FOR UPDATE OF p
+            ),
+            """ + FOLD_PENDING_MOVEMENTS + """
+            available AS (
+                SELECT count(*) = (SELECT count(*) FROM requested) AS reserved
+                FROM locked l
+                JOIN requested r ON r.id = l.id
+                JOIN folded f ON f.id = l.id
+                WHERE l.stock_quantity + f.quantity >= r.quantity
+            ), updated AS (
+                UPDATE products p
+                SET stock_quantity = p.stock_quantity + f.quantity - CASE WHEN a.reserved THEN r.quantity ELSE 0 END
+                FROM requested r, folded f, available a
+                WHERE p.id = r.id
+                  AND f.id = p.id
+                  AND (a.reserved OR f.quantity <> 0)
+                RETURNING p.*
+            )
+            SELECT u.* FROM updated u WHERE (SELECT a.reserved FROM available a)
+            """)
+    Flux<ProductPO> reserveStock(UUID[] ids, Integer[] quantities);
+
+    /**
+     * Aplica, em uma única instrução, a variação líquida de estoque de vários produtos, sem deixar nenhum saldo negativo.
+     * <p>
+     * Os produtos são bloqueados em ordem de ID, como em {@link #reserveStock(UUID[], Integer[])}, e as suas
+     * movimentações pendentes são consolidadas na mesma instrução ({@link #FOLD_PENDING_MOVEMENTS}). Ao contrário da
+     * reserva, a aplicação não é "tudo ou nada": cada produto com saldo suficiente é atualizado, e os demais são
+     * apenas omitidos do resultado.
+     * </p>
+     *
+     * @param ids    IDs dos produtos, sem repetições.
+     * @param deltas Quantidade líquida a ser baixada de cada produto (negativa para reposição), na mesma posição do ID.
+     * @return Fluxo com a variação aplicada e o novo estoque de cada produto atualizado; produtos inexistentes ou sem
+     *         saldo suficiente não são emitidos.
+     */
+    @Query("""
+            WITH requested AS (
+                SELECT r.id, r.delta
+                FROM unnest(CAST(:ids AS uuid[]), CAST(:deltas AS int[])) AS r(id, delta)
+            ), locked AS (
+                SELECT p.id, p.stock_quantity
+                FROM products p
+                JOIN requested r ON r.id = p.id
+                ORDER BY p.id
+                FOR UPDATE OF p
+            ),
+            """ + FOLD_PENDING_MOVEMENTS + """
+            updated AS (
+                UPDATE products p
+                SET stock_quantity = p.stock_quantity + f.quantity
+                    - CASE WHEN l.stock_quantity + f.quantity >= r.delta THEN r.delta ELSE 0 END
+                FROM requested r, locked l, folded f
+                WHERE p.id = r.id
+                  AND l.id = p.id
+                  AND f.id = p.id
+                  AND (l.stock_quantity + f.quantity >= r.delta OR f.quantity <> 0)
+                RETURNING p.id AS product_id, r.delta AS quantity, p.stock_quantity,
+                          l.stock_quantity + f.quantity >= r.delta AS applied
+            )
+            SELECT product_id, quantity, stock_quantity FROM updated WHERE applied
+            """)
+    Flux<StockAdjustmentPO> applyStockDeltas(UUID[] ids, Integer[] deltas);
+
+    /**
+     * Soma, em uma única instrução, a reposição de vários produtos ao bucket {@code 0} dos que têm o estoque dividido
+     * em buckets, como na consolidação das movimentações pendentes, para que a reposição possa ser reservada.
+     * <p>
+     * Os buckets são bloqueados em ordem de ID do produto, antes das linhas dos produtos, como nas reservas.
+     * </p>
+     *
+     * @param ids        IDs dos produtos, sem repetições.
+     * @param quantities Quantidade reposta de cada produto, na mesma posição do ID.
+     * @return Fluxo com a quantidade reposta e o novo estoque total de cada produto com buckets; os demais produtos
+     *         não são emitidos.
+     */
+    @Query("""
+            WITH requested AS (
+                SELECT r.id, r.quantity
+                FROM unnest(CAST(:ids AS uuid[]), CAST(:quantities AS int[])) AS r(id, quantity)
+            ), locked AS (
+                SELECT b.product_id
+                FROM product_stock_buckets b
+                JOIN requested r ON r.id = b.product_id
+                WHERE b.bucket = 0
+                ORDER BY b.product_id
+                FOR UPDATE OF b
+            )
+            UPDATE product_stock_buckets b
+            SET quantity = b.quantity + r.quantity
+            FROM requested r, locked l
+            WHERE b.product_id = r.id
+              AND b.bucket = 0
+              AND l.product_id = b.product_id
+            RETURNING b.product_id, r.quantity,
+                CAST(b.quantity
+                     + (SELECT p.stock_quantity FROM products p WHERE p.id = b.product_id)
+                     + COALESCE((SELECT SUM(o.quantity) FROM product_stock_buckets o WHERE o.product_id = b.product_id AND o.bucket <> 0), 0)
+                     + COALESCE((SELECT SUM(m.quantity) FROM inventory_movements m WHERE m.product_id = b.product_id AND m.compacted_at IS NULL), 0)
+                     AS integer) AS stock_quantity
+            """)
+    Flux<StockAdjustmentPO> restockBuckets(UUID[] ids, Integer[] quantities);
+
+    /**
+     * Bloqueia o produto e todos os seus buckets, para uma nova divisão do estoque, e retorna o estoque total.
+     *
+     * @param productId ID do produto.
+     * @return Mono com a soma de {@code stock_quantity} e dos buckets, ou vazio se o produto não existir.
+     */
+    @Query("""
+            WITH buckets AS (
+                SELECT b.quantity
+                FROM product_stock_buckets b
+                WHERE b.product_id = :productId
+                ORDER BY b.bucket
+                FOR UPDATE
+            )
+            SELECT CAST(p.stock_quantity + COALESCE((SELECT SUM(quantity) FROM buckets), 0) AS integer)
+            FROM products p
+            WHERE p.id = :productId
+            FOR UPDATE OF p
+            """)
+    Mono<Integer> lockStockForSplit(UUID productId);
+
+    /**
+     * Remove todos os buckets de estoque de um produto.
+     *
+     * @param productId ID do produto.
+     * @return Mono com o número de linhas removidas.
+     */
+    @Modifying
+    @Query("DELETE FROM product_stock_buckets WHERE product_id = :productId")
+    Mono<Integer> deleteStockBuckets(UUID productId);
+
+    /**
+     * Zera o estoque mantido na linha do produto, depois de transferido para os buckets.
+     *
+     * @param productId ID do produto.
+     * @return Mono com o número de linhas afetadas.
+     */
+    @Modifying
+    @Query("UPDATE products SET stock_quantity = 0 WHERE id = :productId")
+    Mono<Integer> clearStockQuantity(UUID productId);
+
+    /**
+     * Cria os buckets de um produto, distribuindo o estoque informado o mais igualmente possível.
+     *
+     * @param productId ID do produto.
+     * @param total     Estoque total a ser distribuído.
+     * @param buckets   Quantidade de buckets.
+     * @return Fluxo com os buckets criados, em ordem.
+     */
+    @Query("""
+            INSERT INTO product_stock_buckets (product_id, bucket, quantity)
+            SELECT :productId, g.bucket, :total / :buckets + CASE WHEN g.bucket < :total % :buckets THEN 1 ELSE 0 END
+            FROM generate_series(0, :buckets - 1) AS g(bucket)
+            RETURNING product_id, bucket, quantity
+            """)
+    Flux<StockBucketPO> createStockBuckets(UUID productId, int total, int buckets);
+
+    /**
+     * Baixa a quantidade informada do bucket escolhido pela dica ({@code hint % quantidade de buckets}), somente se
+     * o bucket tiver saldo suficiente. Quantidades negativas representam reposição e são sempre aplicadas.
+     *
+     * @param productId ID do produto.
+     * @param hint      Valor não negativo usado para escolher o bucket.
+     * @param quantity  Quantidade a ser baixada.
+     * @return Mono com o novo saldo do bucket, ou vazio se o produto não tiver buckets ou o saldo for insuficiente.
+     */
+    @Query("""
+            UPDATE product_stock_buckets
+            SET quantity = quantity - :quantity
+            WHERE product_id = :productId
+              AND bucket = (SELECT :hint % NULLIF(count(*), 0) FROM product_stock_buckets WHERE product_id = :productId)
+              AND quantity >= :quantity
+            RETURNING quantity
+            """)
+    Mono<Integer> reserveFromBucket(UUID productId, int hint, int quantity);
+
+    /**
+     * Baixa a quantidade informada do bucket com maior saldo que não esteja bloqueado por outra transação
+     * ({@code SKIP LOCKED}).
+     *
+     * @param productId ID do produto.
+     * @param quantity  Quantidade a ser baixada.
+     * @return Mono com o novo saldo do bucket, ou vazio se nenhum bucket livre tiver saldo suficiente.
+     */
+    @Query("""
+            UPDATE product_stock_buckets b
+            SET quantity = b.quantity - :quantity
+            WHERE (b.product_id, b.bucket) = (
+                SELECT s.product_id, s.bucket
+                FROM product_stock_buckets s
+                WHERE s.product_id = :productId
+                  AND s.quantity >= :quantity
+                ORDER BY s.quantity DESC
+                LIMIT 1
+                FOR UPDATE SKIP LOCKED
+            )
+            RETURNING b.quantity
+            """)
+    Mono<Integer> reserveFromAnyBucket(UUID productId, int quantity);
+
+    /**
+     * Baixa a quantidade informada somando o saldo de vários buckets e do próprio {@code stock_quantity} do produto,
+     * bloqueando todos os buckets e, em seguida, a linha do produto (na mesma ordem da
+     * {@link #lockStockForSplit(UUID)}). Usado quando nenhum bucket isolado tem saldo suficiente.
+     * <p>
+     * O saldo que chega à linha de um produto já dividido (por exemplo, gravado pelo modo flash sale) só é
+     * reservado por esta instrução, e é consumido antes dos buckets. As movimentações pendentes do produto são
+     * consolidadas no bucket {@code 0} na mesma instrução, como em {@code InventoryMovementRepository.compactPending},
+     * e entram na soma; movimentações bloqueadas pela consolidação periódica são ignoradas ({@code SKIP LOCKED}).
+     * </p>
+     *
+     * @param productId ID do produto.
+     * @param quantity  Quantidade a ser baixada.
+     * @return Fluxo com o novo saldo de cada bucket ou linha alterada, ou vazio se o produto não tiver buckets ou a
+     *         soma dos saldos for insuficiente.
+     */
+    @Query("""
+            WITH locked AS (
+                SELECT b.bucket, b.quantity
+                FROM product_stock_buckets b
+                WHERE b.product_id = :productId
+                ORDER BY b.bucket
+                FOR UPDATE
+            ), locked_row AS (
+                SELECT r.stock_quantity
+                FROM products r
+                WHERE r.id = :productId
+                FOR UPDATE
+            ), pending AS (
+                UPDATE inventory_movements m
+                SET compacted_at = CURRENT_TIMESTAMP
+                WHERE m.id IN (
+                    SELECT c.id
+                    FROM inventory_movements c
+                    WHERE c.product_id = :productId
+                      AND c.compacted_at IS NULL
+                      AND EXISTS (SELECT 1 FROM locked)
+                    FOR UPDATE SKIP LOCKED
+                )
+                RETURNING m.quantity
+            ), folded AS (
+                SELECT CAST(COALESCE(SUM(quantity), 0) AS integer) AS quantity
+                FROM pending
+            ), sources AS (
+                SELECT l.bucket, l.quantity + CASE WHEN l.bucket = 0 THEN f.quantity ELSE 0 END AS quantity
+                FROM locked l, folded f
+                UNION ALL
+                SELECT -1, GREATEST(w.stock_quantity, 0)
+                FROM locked_row w
+            ), plan AS (
+                SELECT s.bucket,
+                       CAST(LEAST(s.quantity, :quantity - COALESCE(SUM(s.quantity) OVER (
+                           ORDER BY s.bucket ROWS BETWEEN UNBOUNDED PRECEDING AND 1 PRECEDING), 0)) AS integer) AS taken
+                FROM sources s
+                WHERE EXISTS (SELECT 1 FROM locked)
+                  AND (SELECT SUM(quantity) FROM sources) >= :quantity
+            ), from_buckets AS (
+                UPDATE product_stock_buckets b
+                SET quantity = b.quantity + CASE WHEN b.bucket = 0 THEN f.quantity ELSE 0 END
+                    - COALESCE((SELECT p.taken FROM plan p WHERE p.bucket = b.bucket), 0)
+                FROM folded f
+                WHERE b.product_id = :productId
+                  AND ((b.bucket = 0 AND f.quantity <> 0)
+                       OR EXISTS (SELECT 1 FROM plan p WHERE p.bucket = b.bucket AND p.taken > 0))
+                RETURNING b.quantity
+            ), from_row AS (
+                UPDATE products r
+                SET stock_quantity = r.stock_quantity - p.taken
+                FROM plan p
+                WHERE r.id = :productId
+                  AND p.bucket = -1
+                  AND p.taken > 0
+                RETURNING r.stock_quantity AS quantity
+            )
+            SELECT quantity FROM from_buckets WHERE EXISTS (SELECT 1 FROM plan)
+            UNION ALL
+            SELECT quantity FROM from_row
+            """)
+    Flux<Integer> reserveAcrossBuckets(UUID productId, int quantity);
+
+    /**
+     * Retorna o estoque total de um produto ({@link #EFFECTIVE_STOCK}).
+     *
+     * @param productId ID do produto.
+     * @return Mono com o estoque total, ou vazio se o produto não existir.
+     */
+    @Query("""
+            SELECT
+            """ + EFFECTIVE_STOCK + """
+            FROM products p
+            WHERE p.id = :productId
+            """)
+    Mono<Integer> findEffectiveStock(UUID productId);
+
+    /**
+     * Recupera os IDs de todos os produtos.
+     *
+     * @return Fluxo com os IDs dos produtos.
+     */
+    @Query("SELECT id FROM products")
+    Flux<UUID> findAllIds();
+
+    /**
+     * Recupera, entre os IDs informados, os dos produtos existentes.
+     *
+     * @param ids IDs dos produtos.
+     * @return Fluxo com os IDs dos produtos existentes.
+     */
+    @Query("SELECT id FROM products WHERE id = ANY(CAST(:ids AS uuid[]))")
+    Flux<UUID> findExistingIds(UUID[] ids);
+
+    /**
+     * Recupera o ID e o nome de todos os produtos.
+     *
+     * @return Fluxo com o ID e o nome dos produtos.
+     */
+    @Query("SELECT id, name FROM products")
+    Flux<ProductNamePO> findAllNames();
+
+    /**
+     * Insere vários produtos com uma única instrução. Os vetores são paralelos: a posição {@code i} de cada um
+     * contém um campo do mesmo produto.
+     *
+     * @param names           Nomes dos produtos.
+     * @param descriptions    Descrições dos produtos.
+     * @param prices          Preços dos produtos.
+     * @param stockQuantities Quantidades em estoque.
+     * @param categories      Categorias dos produtos.
+     * @return Fluxo com o ID e o nome de cada produto inserido.
+     */
+    @Query("""
+            INSERT INTO products (name, description, price, stock_quantity, category)
+            SELECT * FROM unnest(CAST(:names AS text[]), CAST(:descriptions AS text[]), CAST(:prices AS numeric[]),
+                                 CAST(:stockQuantities AS integer[]), CAST(:categories AS text[]))
+            RETURNING id, name
+            """)
+    Flux<ProductNamePO> insertAll(String[] names, String[] descriptions, BigDecimal[] prices,
+                                  Integer[] stockQuantities, String[] categories);
+
+    /**
+     * Recupera os IDs de todos os produtos com estoque dividido em buckets.
+     *
+     * @return Fluxo com os IDs dos produtos.
+     */
+    @Query("SELECT DISTINCT product_id FROM product_stock_buckets")
+    Flux<UUID> findBucketedProductIds();
+
+    /**
+     * Recupera, entre os IDs informados, os produtos com estoque dividido em buckets.
+     *
+     * @param ids IDs dos produtos.
+     * @return Fluxo com os IDs dos produtos que possuem buckets.
      */
-    @Query("SELECT * FROM products WHERE category = :category")
-    Flux<ProductPO> findAllByCategory(String category);
+    @Query("SELECT DISTINCT product_id FROM product_stock_buckets WHERE product_id = ANY(CAST(:ids AS uuid[]))")
+    Flux<UUID> findBucketedProductIds(UUID[] ids);
 }
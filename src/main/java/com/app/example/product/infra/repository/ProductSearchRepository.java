@@ -0,0 +1,39 @@
+package com.app.example.product.infra.repository;
+
+import com.app.example.product.domain.po.ProductSearchPO;
+import reactor.core.publisher.Flux;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Fragmento de repositório para a busca textual de produtos.
+ * <p>
+ * Complementa o {@link ProductRepository} com uma consulta sobre a coluna gerada {@code search_vector} (nome e
+ * descrição), atendida pelo índice GIN {@code idx_products_search_vector}. Os filtros opcionais variam a cada
+ * chamada, por isso a consulta é montada no próprio fragmento.
+ * </p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+public interface ProductSearchRepository {
+
+    /**
+     * Busca uma página de produtos pelos termos informados, da maior para a menor relevância; produtos com a mesma
+     * relevância são ordenados por ID. O estoque de cada produto é o estoque total
+     * ({@link ProductRepository#EFFECTIVE_STOCK}).
+     *
+     * @param query       Termos buscados, na sintaxe de {@code websearch_to_tsquery} (aspas para frases, {@code -}
+     *                    para excluir).
+     * @param category    Categoria dos produtos; nula para todas.
+     * @param minPrice    Preço mínimo; nulo para não limitar.
+     * @param maxPrice    Preço máximo; nulo para não limitar.
+     * @param inStockOnly {@code true} para retornar apenas produtos com estoque.
+     * @param afterRank   Relevância do último produto da página anterior; nula para a primeira página.
+     * @param after       ID do último produto da página anterior; nulo para a primeira página.
+     * @param limit       Quantidade máxima de produtos.
+     * @return Fluxo com os produtos da página, emitidos conforme a demanda do assinante.
+     */
+    Flux<ProductSearchPO> search(String query, String category, BigDecimal minPrice, BigDecimal maxPrice,
+                                 boolean inStockOnly, Float afterRank, UUID after, int limit);
+}
@@ -0,0 +1,95 @@
+package com.app.example.product.infra.repository;
+
+import com.app.example.product.domain.po.ProductSearchPO;
+import io.r2dbc.spi.Row;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Implementação do fragmento {@link ProductSearchRepository} baseada no {@link DatabaseClient}.
+ * <p>
+ * Os termos são interpretados com a configuração {@code portuguese}, a mesma usada na geração de
+ * {@code search_vector} (plurais e flexões são reduzidos ao mesmo radical). Os filtros de categoria e preço entram
+ * na consulta interna, junto com a condição textual, para que o PostgreSQL os combine com o índice GIN; o filtro de
+ * estoque e o cursor são aplicados sobre o estoque total e a relevância já calculados. Só as condições dos filtros
+ * informados são incluídas, para que cada combinação tenha o seu plano.
+ * Como em {@link ProductStreamRepositoryImpl}, as linhas são lidas do cursor do banco em blocos de
+ * {@value ProductStreamRepositoryImpl#FETCH_SIZE}.
+ * </p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@RequiredArgsConstructor
+public class ProductSearchRepositoryImpl implements ProductSearchRepository {
+
+    private final DatabaseClient databaseClient;
+
+    @Override
+    public Flux<ProductSearchPO> search(String query, String category, BigDecimal minPrice, BigDecimal maxPrice,
+                                        boolean inStockOnly, Float afterRank, UUID after, int limit) {
+        Map<String, Object> bindings = new LinkedHashMap<>();
+        bindings.put("query", query);
+        bindings.put("limit", limit);
+
+        StringBuilder sql = new StringBuilder("""
+                SELECT s.id, s.name, s.description, s.price, s.category, s.stock_quantity, s.search_rank
+                FROM (
+                    SELECT p.id, p.name, p.description, p.price, p.category,
+                """)
+                .append(ProductRepository.EFFECTIVE_STOCK)
+                .append("""
+                         AS stock_quantity,
+                           ts_rank(p.search_vector, q.query) AS search_rank
+                    FROM products p, websearch_to_tsquery('portuguese', :query) AS q(query)
+                    WHERE p.search_vector @@ q.query
+                """);
+        if (category != null) {
+            sql.append("      AND p.category = :category\n");
+            bindings.put("category", category);
+        }
+        if (minPrice != null) {
+            sql.append("      AND p.price >= :minPrice\n");
+            bindings.put("minPrice", minPrice);
+        }
+        if (maxPrice != null) {
+            sql.append("      AND p.price <= :maxPrice\n");
+            bindings.put("maxPrice", maxPrice);
+        }
+        sql.append(") s\nWHERE TRUE\n");
+        if (inStockOnly) {
+            sql.append("  AND s.stock_quantity > 0\n");
+        }
+        if (afterRank != null && after != null) {
+            sql.append("  AND (s.search_rank < :afterRank OR (s.search_rank = :afterRank AND s.id > :after))\n");
+            bindings.put("afterRank", afterRank);
+            bindings.put("after", after);
+        }
+        sql.append("ORDER BY s.search_rank DESC, s.id\nLIMIT :limit");
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql.toString());
+        for (Map.Entry<String, Object> binding : bindings.entrySet()) {
+            spec = spec.bind(binding.getKey(), binding.getValue());
+        }
+        return spec.filter(statement -> statement.fetchSize(ProductStreamRepositoryImpl.FETCH_SIZE))
+                .map((row, metadata) -> toSearchResult(row))
+                .all();
+    }
+
+    private static ProductSearchPO toSearchResult(Row row) {
+        ProductSearchPO product = new ProductSearchPO();
+        product.setId(row.get("id", UUID.class));
+        product.setName(row.get("name", String.class));
+        product.setDescription(row.get("description", String.class));
+        product.setPrice(row.get("price", BigDecimal.class));
+        product.setCategory(row.get("category", String.class));
+        product.setStockQuantity(row.get("stock_quantity", Integer.class));
+        product.setRank(row.get("search_rank", Float.class));
+        return product;
+    }
+}
@@ -0,0 +1,28 @@
+package com.app.example.product.infra.repository;
+
+import com.app.example.product.domain.po.ProductPO;
+import reactor.core.publisher.Flux;
+
+import java.util.UUID;
+
+/**
+ * Fragmento de repositório para a leitura contínua ("streaming") dos produtos de uma categoria.
+ * <p>
+ * Complementa o {@link ProductRepository} com uma consulta que entrega as linhas à medida que são consumidas, sem
+ * carregar a categoria inteira em memória.
+ * </p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+public interface ProductStreamRepository {
+
+    /**
+     * Lê todos os produtos de uma categoria, em ordem de ID, respeitando a demanda do assinante.
+     * O estoque de cada produto é o estoque total ({@link ProductRepository#EFFECTIVE_STOCK}).
+     *
+     * @param category Categoria dos produtos.
+     * @param after    ID a partir do qual a leitura começa (exclusive); nulo para começar do primeiro produto.
+     * @return Fluxo com os produtos da categoria.
+     */
+    Flux<ProductPO> streamByCategory(String category, UUID after);
+}
@@ -0,0 +1,64 @@
+package com.app.example.product.infra.repository;
+
+import com.app.example.product.domain.po.ProductPO;
+import io.r2dbc.spi.Row;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Implementação do fragmento {@link ProductStreamRepository} baseada no {@link DatabaseClient}.
+ * <p>
+ * A consulta é executada com {@code fetchSize}: o driver lê as linhas do cursor do PostgreSQL em blocos de
+ * {@value #FETCH_SIZE} e só pede o bloco seguinte quando o assinante consome o anterior. Um cliente lento
+ * segura a leitura no banco em vez de acumular linhas em memória, e o primeiro produto é entregue sem esperar
+ * o fim da consulta.
+ * </p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@RequiredArgsConstructor
+public class ProductStreamRepositoryImpl implements ProductStreamRepository {
+
+    static final int FETCH_SIZE = 256;
+
+    private static final String SELECT_SQL = """
+            SELECT p.id, p.name, p.description, p.price, p.category,
+            """ + ProductRepository.EFFECTIVE_STOCK + """
+             AS stock_quantity
+            FROM products p
+            WHERE p.category = :category
+            """;
+
+    private final DatabaseClient databaseClient;
+
+    @Override
+    public Flux<ProductPO> streamByCategory(String category, UUID after) {
+        DatabaseClient.GenericExecuteSpec spec;
+        if (after == null) {
+            spec = databaseClient.sql(SELECT_SQL + "ORDER BY p.id")
+                    .bind("category", category);
+        } else {
+            spec = databaseClient.sql(SELECT_SQL + "AND p.id > :after ORDER BY p.id")
+                    .bind("category", category)
+                    .bind("after", after);
+        }
+        return spec.filter(statement -> statement.fetchSize(FETCH_SIZE))
+                .map((row, metadata) -> toProduct(row))
+                .all();
+    }
+
+    private static ProductPO toProduct(Row row) {
+        ProductPO product = new ProductPO();
+        product.setId(row.get("id", UUID.class));
+        product.setName(row.get("name", String.class));
+        product.setDescription(row.get("description", String.class));
+        product.setPrice(row.get("price", BigDecimal.class));
+        product.setCategory(row.get("category", String.class));
+        product.setStockQuantity(row.get("stock_quantity", Integer.class));
+        return product;
+    }
+}
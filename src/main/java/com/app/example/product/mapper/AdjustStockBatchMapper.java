@@ -0,0 +1,45 @@
+package com.app.example.product.mapper;
+
+import com.app.example.product.application.commnad.AdjustStockBatchCommand;
+import com.app.example.product.domain.dto.AdjustStockBatchDTO;
+import org.mapstruct.Mapper;
+
+/**
+ * Mapper responsável pelas conversões do caso de uso de ajuste de estoque em lote.
+ * <p>
+ * Converte a requisição {@link AdjustStockBatchDTO.Request} para o {@link AdjustStockBatchCommand.Input},
+ * convertendo cada ajuste à medida que é recebido, e o resultado {@link AdjustStockBatchCommand.Output}
+ * para o {@link AdjustStockBatchDTO.Response}.
+ * </p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@Mapper(componentModel = "spring")
+public interface AdjustStockBatchMapper {
+
+    /**
+     * Converte a requisição para o objeto de entrada do comando.
+     *
+     * @param request Requisição de ajuste em lote.
+     * @return Objeto de entrada {@link AdjustStockBatchCommand.Input}.
+     */
+    default AdjustStockBatchCommand.Input toInput(AdjustStockBatchDTO.Request request) {
+        return new AdjustStockBatchCommand.Input(request.items().map(this::toItem));
+    }
+
+    /**
+     * Converte um ajuste recebido para o ajuste do comando.
+     *
+     * @param item Ajuste recebido.
+     * @return Ajuste {@link AdjustStockBatchCommand.Item}.
+     */
+    AdjustStockBatchCommand.Item toItem(AdjustStockBatchDTO.Item item);
+
+    /**
+     * Converte o resultado do ajuste para o DTO de resposta.
+     *
+     * @param output Resultado do ajuste.
+     * @return DTO de resposta {@link AdjustStockBatchDTO.Response}.
+     */
+    AdjustStockBatchDTO.Response toResponse(AdjustStockBatchCommand.Output output);
+}
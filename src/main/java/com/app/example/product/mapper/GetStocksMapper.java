@@ -0,0 +1,54 @@
+package com.app.example.product.mapper;
+
+import com.app.example.product.application.commnad.GetStocksCommand;
+import com.app.example.product.domain.dto.GetStocksDTO;
+import com.app.example.product.domain.po.ProductPO;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.Named;
+
+/**
+ * Mapper responsável pelas conversões do caso de uso de consulta de estoque em lote.
+ * <p>
+ * Converte as requisições e respostas de {@link GetStocksDTO} para os comandos de
+ * {@link GetStocksCommand}, e os registros {@link ProductPO} lidos do banco de dados
+ * para a saída do comando.
+ * </p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@Mapper(componentModel = "spring")
+public interface GetStocksMapper {
+
+    /**
+     * Converte um objeto {@link ProductPO} para o tipo {@link GetStocksCommand.Output}.
+     *
+     * @param productPO Objeto de produto com dados do banco de dados a ser convertido.
+     * @return Objeto de saída do comando contendo os dados do estoque.
+     */
+    @Mapping(target = "productId", source = "id", qualifiedByName = "uuidToString")
+    @Mapping(target = "quantity", source = "stockQuantity")
+    @Mapping(target = "message", constant = "Estoque obtido com sucesso")
+    GetStocksCommand.Output toOutput(ProductPO productPO);
+
+    /**
+     * Converte um objeto {@link GetStocksDTO.Request} para o tipo {@link GetStocksCommand.Input}.
+     *
+     * @param request Objeto de solicitação de consulta de estoque em lote.
+     * @return Objeto de entrada do comando contendo os identificadores dos produtos.
+     */
+    GetStocksCommand.Input toInput(GetStocksDTO.Request request);
+
+    /**
+     * Converte um objeto {@link GetStocksCommand.Output} para o tipo {@link GetStocksDTO.Response}.
+     *
+     * @param output Objeto de saída do comando que contém os dados do estoque.
+     * @return Objeto de resposta contendo os dados formatados para o cliente.
+     */
+    GetStocksDTO.Response toResponse(GetStocksCommand.Output output);
+
+    @Named("uuidToString")
+    static String uuidToString(java.util.UUID id) {
+        return id != null ? id.toString() : null;
+    }
+}
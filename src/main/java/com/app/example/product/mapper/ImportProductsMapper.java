@@ -0,0 +1,34 @@
+package com.app.example.product.mapper;
+
+import com.app.example.product.application.commnad.ImportProductsCommand;
+import com.app.example.product.domain.dto.ImportProductsDTO;
+import org.mapstruct.Mapper;
+
+/**
+ * Mapper responsável pelas conversões do caso de uso de importação de produtos em lote.
+ * <p>
+ * Converte a requisição {@link ImportProductsDTO.Request} para o {@link ImportProductsCommand.Input}
+ * e o relatório {@link ImportProductsCommand.Output} para o {@link ImportProductsDTO.Response}.
+ * </p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@Mapper(componentModel = "spring")
+public interface ImportProductsMapper {
+
+    /**
+     * Converte a requisição para o objeto de entrada do comando.
+     *
+     * @param request Requisição de importação.
+     * @return Objeto de entrada {@link ImportProductsCommand.Input}.
+     */
+    ImportProductsCommand.Input toInput(ImportProductsDTO.Request request);
+
+    /**
+     * Converte o relatório da importação para o DTO de resposta.
+     *
+     * @param output Relatório da importação.
+     * @return DTO de resposta {@link ImportProductsDTO.Response}.
+     */
+    ImportProductsDTO.Response toResponse(ImportProductsCommand.Output output);
+}
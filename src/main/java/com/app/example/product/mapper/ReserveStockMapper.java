@@ -0,0 +1,36 @@
+package com.app.example.product.mapper;
+
+import com.app.example.product.application.commnad.ReserveStockCommand;
+import com.app.example.product.domain.dto.ReserveStockDTO;
+import org.mapstruct.Mapper;
+
+/**
+ * Mapper responsável por converter objetos entre os DTOs da camada de apresentação
+ * e os comandos da camada de aplicação relacionados à reserva de estoque.
+ * <p>
+ * Define conversões entre:
+ * <ul>
+ *     <li>{@link ReserveStockDTO.Request} → {@link ReserveStockCommand.Input}</li>
+ *     <li>{@link ReserveStockCommand.Output} → {@link ReserveStockDTO.Response}</li>
+ * </ul>
+ * </p>
+ * @author
+ *     <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@Mapper(componentModel = "spring")
+public interface ReserveStockMapper {
+
+    /**
+     * Converte um {@link ReserveStockDTO.Request} em um {@link ReserveStockCommand.Input}.
+     * @param request DTO contendo as linhas a serem reservadas.
+     * @return Comando com os dados estruturados para o caso de uso.
+     */
+    ReserveStockCommand.Input toInput(ReserveStockDTO.Request request);
+
+    /**
+     * Converte um {@link ReserveStockCommand.Output} em um {@link ReserveStockDTO.Response}.
+     * @param output Resultado da reserva de estoque.
+     * @return DTO com o estoque resultante de cada produto.
+     */
+    ReserveStockDTO.Response toResponse(ReserveStockCommand.Output output);
+}
@@ -0,0 +1,36 @@
+package com.app.example.product.mapper;
+
+import com.app.example.product.application.commnad.RestoreStockCommand;
+import com.app.example.product.domain.dto.RestoreStockDTO;
+import org.mapstruct.Mapper;
+
+/**
+ * Mapper responsável por converter objetos entre os DTOs da camada de apresentação
+ * e os comandos da camada de aplicação relacionados à devolução de estoque.
+ * <p>
+ * Define conversões entre:
+ * <ul>
+ *     <li>{@link RestoreStockDTO.Request} → {@link RestoreStockCommand.Input}</li>
+ *     <li>{@link RestoreStockCommand.Output} → {@link RestoreStockDTO.Response}</li>
+ * </ul>
+ * </p>
+ * @author
+ *     <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@Mapper(componentModel = "spring")
+public interface RestoreStockMapper {
+
+    /**
+     * Converte um {@link RestoreStockDTO.Request} em um {@link RestoreStockCommand.Input}.
+     * @param request DTO contendo os pedidos cancelados.
+     * @return Comando com os dados estruturados para o caso de uso.
+     */
+    RestoreStockCommand.Input toInput(RestoreStockDTO.Request request);
+
+    /**
+     * Converte um {@link RestoreStockCommand.Output} em um {@link RestoreStockDTO.Response}.
+     * @param output Resultado da devolução de estoque.
+     * @return DTO com a quantidade devolvida e o estoque resultante de cada produto.
+     */
+    RestoreStockDTO.Response toResponse(RestoreStockCommand.Output output);
+}
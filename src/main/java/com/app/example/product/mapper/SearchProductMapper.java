@@ -0,0 +1,56 @@
+package com.app.example.product.mapper;
+
+import com.app.example.product.application.commnad.SearchProductCommand;
+import com.app.example.product.application.usecase.helper.ProductSearchCursor;
+import com.app.example.product.domain.dto.SearchProductDTO;
+import com.app.example.product.domain.po.ProductSearchPO;
+import org.mapstruct.Mapper;
+
+/**
+ * Mapper responsável pelas conversões do caso de uso de busca textual de produtos.
+ * <p>
+ * Converte a requisição {@link SearchProductDTO.Request} para o {@link SearchProductCommand.Input},
+ * os registros {@link ProductSearchPO} para o {@link SearchProductCommand.Output}, já com o cursor de cada produto,
+ * e a saída do comando para o {@link SearchProductDTO.Response}.
+ * </p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@Mapper(componentModel = "spring")
+public interface SearchProductMapper {
+
+    /**
+     * Converte a requisição para o objeto de entrada do comando.
+     *
+     * @param request Requisição de uma página da busca.
+     * @return Objeto de entrada {@link SearchProductCommand.Input}.
+     */
+    SearchProductCommand.Input toInput(SearchProductDTO.Request request);
+
+    /**
+     * Converte um produto encontrado no banco de dados para a saída do comando.
+     *
+     * @param product Produto encontrado, com a sua relevância.
+     * @return Objeto de saída {@link SearchProductCommand.Output}.
+     */
+    default SearchProductCommand.Output toOutput(ProductSearchPO product) {
+        return new SearchProductCommand.Output(
+                product.getId(),
+                product.getName(),
+                product.getDescription(),
+                product.getPrice(),
+                product.getStockQuantity(),
+                product.getCategory(),
+                product.getRank(),
+                new ProductSearchCursor(product.getRank(), product.getId()).encode()
+        );
+    }
+
+    /**
+     * Converte a saída do comando para o DTO de resposta.
+     *
+     * @param output Objeto de saída do comando.
+     * @return DTO de resposta {@link SearchProductDTO.Response}.
+     */
+    SearchProductDTO.Response toResponse(SearchProductCommand.Output output);
+}
@@ -0,0 +1,45 @@
+package com.app.example.product.mapper;
+
+import com.app.example.product.application.commnad.SplitStockCommand;
+import com.app.example.product.domain.dto.SplitStockDTO;
+import com.app.example.product.domain.po.StockBucketPO;
+import org.mapstruct.Mapper;
+
+/**
+ * Mapper responsável por converter objetos entre os DTOs da camada de apresentação
+ * e os comandos da camada de aplicação relacionados à divisão do estoque em buckets.
+ * <p>
+ * Define conversões entre:
+ * <ul>
+ *     <li>{@link SplitStockDTO.Request} → {@link SplitStockCommand.Input}</li>
+ *     <li>{@link StockBucketPO} → {@link SplitStockCommand.Output.Bucket}</li>
+ *     <li>{@link SplitStockCommand.Output} → {@link SplitStockDTO.Response}</li>
+ * </ul>
+ * </p>
+ * @author
+ *     <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@Mapper(componentModel = "spring")
+public interface SplitStockMapper {
+
+    /**
+     * Converte um {@link SplitStockDTO.Request} em um {@link SplitStockCommand.Input}.
+     * @param request DTO contendo o produto e a quantidade de buckets.
+     * @return Comando com os dados estruturados para o caso de uso.
+     */
+    SplitStockCommand.Input toInput(SplitStockDTO.Request request);
+
+    /**
+     * Converte um {@link StockBucketPO} lido do banco de dados em um {@link SplitStockCommand.Output.Bucket}.
+     * @param bucketPO Bucket criado.
+     * @return Bucket da saída do comando.
+     */
+    SplitStockCommand.Output.Bucket toBucket(StockBucketPO bucketPO);
+
+    /**
+     * Converte um {@link SplitStockCommand.Output} em um {@link SplitStockDTO.Response}.
+     * @param output Resultado da divisão de estoque.
+     * @return DTO com o estoque total e a quantidade de cada bucket.
+     */
+    SplitStockDTO.Response toResponse(SplitStockCommand.Output output);
+}
@@ -0,0 +1,44 @@
+package com.app.example.product.mapper;
+
+import com.app.example.product.application.commnad.SuggestProductCommand;
+import com.app.example.product.domain.dto.SuggestProductDTO;
+import com.app.example.product.domain.po.ProductNamePO;
+import org.mapstruct.Mapper;
+
+/**
+ * Mapper responsável pelas conversões do caso de uso de sugestão de nomes de produtos.
+ * <p>
+ * Converte a requisição {@link SuggestProductDTO.Request} para o {@link SuggestProductCommand.Input},
+ * os produtos do índice ({@link ProductNamePO}) para o {@link SuggestProductCommand.Output}
+ * e a saída do comando para o {@link SuggestProductDTO.Response}.
+ * </p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@Mapper(componentModel = "spring")
+public interface SuggestProductMapper {
+
+    /**
+     * Converte a requisição para o objeto de entrada do comando.
+     *
+     * @param request Requisição de sugestão.
+     * @return Objeto de entrada {@link SuggestProductCommand.Input}.
+     */
+    SuggestProductCommand.Input toInput(SuggestProductDTO.Request request);
+
+    /**
+     * Converte um produto do índice de nomes para a saída do comando.
+     *
+     * @param product Produto sugerido pelo índice.
+     * @return Objeto de saída {@link SuggestProductCommand.Output}.
+     */
+    SuggestProductCommand.Output toOutput(ProductNamePO product);
+
+    /**
+     * Converte a saída do comando para o DTO de resposta.
+     *
+     * @param output Objeto de saída do comando.
+     * @return DTO de resposta {@link SuggestProductDTO.Response}.
+     */
+    SuggestProductDTO.Response toResponse(SuggestProductCommand.Output output);
+}
@@ -0,0 +1,10 @@
+package com.app.example.shared.exception;
+
+/**
+ * Exceção lançada quando o estoque disponível de um produto não é suficiente para atender a quantidade solicitada.
+ */
+public class InsufficientStockException extends RuntimeException {
+    public InsufficientStockException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.app.example.shared.exception;
+
+/**
+ * Exceção lançada quando o cursor de paginação informado não é válido.
+ */
+public class InvalidCursorException extends RuntimeException {
+
+    public InvalidCursorException(String cursor) {
+        super("Cursor de paginação inválido: " + cursor);
+    }
+}
@@ -0,0 +1,13 @@
+package com.app.example.shared.exception;
+
+import java.util.UUID;
+
+/**
+ * Exceção lançada quando um pedido não pode passar do seu status atual para o status solicitado.
+ */
+public class InvalidOrderStatusTransitionException extends RuntimeException {
+
+    public InvalidOrderStatusTransitionException(UUID orderId, String currentStatus, String targetStatus) {
+        super("Pedido " + orderId + " com status " + currentStatus + " não pode passar para " + targetStatus);
+    }
+}
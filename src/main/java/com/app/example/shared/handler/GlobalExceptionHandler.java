@@ -1,6 +1,10 @@
 package com.app.example.shared.handler;
 
 import com.app.example.shared.exception.ClientAlreadyExistsException;
+import com.app.example.shared.exception.InsufficientStockException;
+import com.app.example.shared.exception.InvalidCursorException;
+import com.app.example.shared.exception.InvalidOrderStatusTransitionException;
+import com.app.example.shared.exception.OrderNotFoundException;
 import com.app.example.shared.exception.ProductNotFoundException;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
@@ -106,4 +110,72 @@ public class GlobalExceptionHandler {
 
         return problemDetail;
     }
+
+    /**
+     * Trata exceções lançadas quando o estoque de um produto não é suficiente para a operação.
+     *
+     * @param ex exceção lançada quando o estoque disponível é menor que a quantidade solicitada.
+     * @return uma resposta {@link ProblemDetail} com status 409 (Conflito), descrição do problema
+     *         e detalhes da exceção.
+     */
+    @ExceptionHandler(InsufficientStockException.class)
+    public ProblemDetail handleInsufficientStock(InsufficientStockException ex) {
+        ProblemDetail problemDetail = ProblemDetail.forStatus(HttpStatus.CONFLICT);
+        problemDetail.setTitle("Estoque insuficiente");
+        problemDetail.setType(URI.create("https://api.seusistema.com/errors/estoque-insuficiente"));
+        problemDetail.setDetail(ex.getMessage());
+
+        return problemDetail;
+    }
+
+    /**
+     * Trata exceções lançadas quando um pedido não é encontrado no sistema.
+     *
+     * @param ex exceção lançada quando um pedido não é encontrado no sistema.
+     * @return uma resposta {@link ProblemDetail} com status 404 (Não encontrado), descrição do problema
+     *         e detalhes da exceção.
+     */
+    @ExceptionHandler(OrderNotFoundException.class)
+    public ProblemDetail handleOrderNotFound(OrderNotFoundException ex) {
+        ProblemDetail problemDetail = ProblemDetail.forStatus(HttpStatus.NOT_FOUND);
+        problemDetail.setTitle("Pedido não encontrado");
+        problemDetail.setType(URI.create("https://api.seusistema.com/errors/pedido-nao-encontrado"));
+        problemDetail.setDetail(ex.getMessage());
+
+        return problemDetail;
+    }
+
+    /**
+     * Trata exceções lançadas quando o status atual de um pedido não permite a transição solicitada.
+     *
+     * @param ex exceção lançada quando a transição de status do pedido não é permitida.
+     * @return uma resposta {@link ProblemDetail} com status 409 (Conflito), descrição do problema
+     *         e detalhes da exceção.
+     */
+    @ExceptionHandler(InvalidOrderStatusTransitionException.class)
+    public ProblemDetail handleInvalidOrderStatusTransition(InvalidOrderStatusTransitionException ex) {
+        ProblemDetail problemDetail = ProblemDetail.forStatus(HttpStatus.CONFLICT);
+        problemDetail.setTitle("Transição de status inválida");
+        problemDetail.setType(URI.create("https://api.seusistema.com/errors/transicao-status-invalida"));
+        problemDetail.setDetail(ex.getMessage());
+
+        return problemDetail;
+    }
+
+    /**
+     * Trata exceções lançadas quando o cursor de paginação informado não é válido.
+     *
+     * @param ex exceção lançada quando o cursor não pode ser decodificado.
+     * @return uma resposta {@link ProblemDetail} com status 400, descrição do problema
+     *         e detalhes da exceção.
+     */
+    @ExceptionHandler(InvalidCursorException.class)
+    public ProblemDetail handleInvalidCursor(InvalidCursorException ex) {
+        ProblemDetail problemDetail = ProblemDetail.forStatus(HttpStatus.BAD_REQUEST);
+        problemDetail.setTitle("Cursor inválido");
+        problemDetail.setType(URI.create("https://api.seusistema.com/errors/cursor-invalido"));
+        problemDetail.setDetail(ex.getMessage());
+
+        return problemDetail;
+    }
 }
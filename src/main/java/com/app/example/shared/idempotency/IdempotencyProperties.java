@@ -0,0 +1,40 @@
+package com.app.example.shared.idempotency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Propriedades do suporte ao cabeçalho {@code Idempotency-Key}.
+ *
+ * <pre>{@code
+ * app:
+ *   idempotency:
+ *     enabled: true
+ *     cache-size: 10000
+ *     ttl: 24h
+ *     cleanup-interval: 1h
+ *     paths:
+ *       - /api/orders
+ *       - /api/payments/{orderId}/process
+ *       - /api/invoices/generate/{orderId}
+ * }</pre>
+ *
+ * @param enabled         habilita o tratamento do cabeçalho {@code Idempotency-Key}
+ * @param cacheSize       quantidade máxima de respostas mantidas em memória
+ * @param ttl             tempo durante o qual uma resposta armazenada pode ser reutilizada
+ * @param cleanupInterval intervalo da remoção, no banco de dados, das respostas expiradas
+ * @param paths           padrões de caminho das requisições {@code POST} que aceitam o cabeçalho
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@ConfigurationProperties(prefix = "app.idempotency")
+public record IdempotencyProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("10000") long cacheSize,
+        @DefaultValue("24h") Duration ttl,
+        @DefaultValue("1h") Duration cleanupInterval,
+        @DefaultValue({"/api/orders", "/api/payments/{orderId}/process", "/api/invoices/generate/{orderId}"}) List<String> paths
+) {}
@@ -0,0 +1,157 @@
+package com.app.example.shared.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Armazena as respostas concluídas associadas a chaves de idempotência.
+ * <p>
+ * Mantém um cache em memória limitado por tamanho e por tempo, na frente da tabela
+ * {@code idempotency_keys} do PostgreSQL, que preserva as respostas entre reinicializações
+ * e entre instâncias da aplicação. As respostas expiradas ({@code ttl}) são removidas da tabela
+ * periodicamente ({@code cleanup-interval}), com o índice {@code idx_idempotency_keys_created_at}.
+ * </p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@Slf4j
+@Component
+public class IdempotencyStore {
+
+    private final DatabaseClient databaseClient;
+    private final IdempotencyProperties properties;
+    private final Cache<String, StoredResponse> cache;
+    private Disposable cleanup;
+
+    public IdempotencyStore(DatabaseClient databaseClient, IdempotencyProperties properties) {
+        this.databaseClient = databaseClient;
+        this.properties = properties;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.cacheSize())
+                .expireAfterWrite(properties.ttl())
+                .build();
+    }
+
+    /**
+     * Inicia a remoção periódica das respostas expiradas.
+     */
+    @PostConstruct
+    void start() {
+        if (!properties.enabled()) {
+            return;
+        }
+        cleanup = Flux.interval(properties.cleanupInterval())
+                .startWith(0L)
+                .onBackpressureDrop()
+                .concatMap(tick -> deleteExpired(), 1)
+                .subscribe();
+    }
+
+    /**
+     * Interrompe a remoção periódica.
+     */
+    @PreDestroy
+    void stop() {
+        if (cleanup != null) {
+            cleanup.dispose();
+        }
+    }
+
+    /**
+     * Busca a resposta armazenada para a chave, primeiro em memória e depois no banco de dados.
+     *
+     * @param key chave de idempotência, já qualificada pelo método e caminho da requisição.
+     * @return Mono com a resposta armazenada, ou vazio se a chave ainda não foi utilizada ou expirou.
+     */
+    public Mono<StoredResponse> find(String key) {
+        StoredResponse cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+        return databaseClient.sql("SELECT status_code, content_type, body, request_hash FROM idempotency_keys " +
+                        "WHERE id = :id AND created_at > :notBefore")
+                .bind("id", key)
+                .bind("notBefore", notBefore())
+                .map((row, metadata) -> new StoredResponse(
+                        row.get("status_code", Integer.class),
+                        row.get("content_type", String.class),
+                        row.get("body", byte[].class),
+                        row.get("request_hash", String.class)))
+                .one()
+                .doOnNext(stored -> cache.put(key, stored));
+    }
+
+    /**
+     * Armazena a resposta concluída para a chave, substituindo uma resposta expirada que ainda esteja na tabela.
+     * Se outra instância já tiver armazenado uma resposta válida para a mesma chave, a resposta existente é
+     * preservada e não é colocada no cache.
+     *
+     * @param key      chave de idempotência, já qualificada pelo método e caminho da requisição.
+     * @param response resposta a ser armazenada.
+     * @return Mono que completa após a gravação.
+     */
+    public Mono<Void> save(String key, StoredResponse response) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql("""
+                        INSERT INTO idempotency_keys (id, status_code, content_type, body, request_hash)
+                        VALUES (:id, :statusCode, :contentType, :body, :requestHash)
+                        ON CONFLICT (id) DO UPDATE
+                        SET status_code = EXCLUDED.status_code,
+                            content_type = EXCLUDED.content_type,
+                            body = EXCLUDED.body,
+                            request_hash = EXCLUDED.request_hash,
+                            created_at = CURRENT_TIMESTAMP
+                        WHERE idempotency_keys.created_at <= :notBefore
+                        """)
+                .bind("id", key)
+                .bind("statusCode", response.statusCode())
+                .bind("body", response.body())
+                .bind("requestHash", response.requestHash())
+                .bind("notBefore", notBefore());
+        spec = response.contentType() != null
+                ? spec.bind("contentType", response.contentType())
+                : spec.bindNull("contentType", String.class);
+        return spec.fetch()
+                .rowsUpdated()
+                .doOnNext(stored -> {
+                    if (stored > 0) {
+                        cache.put(key, response);
+                    }
+                })
+                .doOnError(error -> log.error("Falha ao armazenar a resposta da chave de idempotência {}", key, error))
+                .then();
+    }
+
+    /**
+     * Remove da tabela as respostas expiradas. Nunca termina com erro: em caso de falha, as respostas são removidas
+     * na próxima execução.
+     */
+    private Mono<Long> deleteExpired() {
+        return databaseClient.sql("DELETE FROM idempotency_keys WHERE created_at <= :notBefore")
+                .bind("notBefore", notBefore())
+                .fetch()
+                .rowsUpdated()
+                .doOnNext(deleted -> {
+                    if (deleted > 0) {
+                        log.info("{} respostas de chaves de idempotência expiradas removidas", deleted);
+                    }
+                })
+                .onErrorResume(error -> {
+                    log.warn("Falha ao remover as respostas de chaves de idempotência expiradas: {}", error.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private LocalDateTime notBefore() {
+        return LocalDateTime.now().minus(properties.ttl());
+    }
+}
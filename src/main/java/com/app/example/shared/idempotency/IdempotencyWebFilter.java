@@ -0,0 +1,257 @@
+package com.app.example.shared.idempotency;
+
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Filtro que torna idempotentes as requisições {@code POST} que informam o cabeçalho {@code Idempotency-Key}.
+ * <p>
+ * Na primeira requisição com uma chave, a resposta produzida pelo fluxo normal é capturada e armazenada
+ * pelo {@link IdempotencyStore}. Repetições com a mesma chave, método e caminho recebem a resposta armazenada
+ * sem executar novamente o caso de uso, com o cabeçalho {@code Idempotent-Replayed: true}.
+ * </p>
+ * <p>
+ * A chave fica associada ao hash SHA-256 do corpo da primeira requisição. A reutilização da chave com outro corpo é
+ * rejeitada com {@code 422 Unprocessable Entity}, em vez de devolver a resposta de outra operação.
+ * </p>
+ * <p>
+ * Requisições duplicadas que chegam enquanto a primeira ainda está em andamento aguardam o resultado dela.
+ * Respostas com status 5xx não são armazenadas: nesse caso as requisições em espera são processadas normalmente.
+ * </p>
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class IdempotencyWebFilter implements WebFilter {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyStore store;
+    private final IdempotencyProperties properties;
+    private final List<PathPattern> patterns;
+    private final Map<String, Sinks.One<StoredResponse>> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyWebFilter(IdempotencyStore store, IdempotencyProperties properties) {
+        this.store = store;
+        this.properties = properties;
+        this.patterns = properties.paths().stream()
+                .map(PathPatternParser.defaultInstance::parse)
+                .toList();
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String idempotencyKey = exchange.getRequest().getHeaders().getFirst(IDEMPOTENCY_KEY_HEADER);
+        if (!properties.enabled()
+                || idempotencyKey == null
+                || idempotencyKey.isBlank()
+                || !HttpMethod.POST.equals(exchange.getRequest().getMethod())
+                || patterns.stream().noneMatch(pattern -> pattern.matches(exchange.getRequest().getPath().pathWithinApplication()))) {
+            return chain.filter(exchange);
+        }
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            exchange.getResponse().setStatusCode(HttpStatus.BAD_REQUEST);
+            return exchange.getResponse().setComplete();
+        }
+
+        String key = exchange.getRequest().getMethod().name() + " "
+                + exchange.getRequest().getPath().pathWithinApplication().value() + " "
+                + idempotencyKey;
+        return DataBufferUtils.join(exchange.getRequest().getBody())
+                .map(IdempotencyWebFilter::readAndRelease)
+                .defaultIfEmpty(new byte[0])
+                .flatMap(body -> {
+                    String requestHash = sha256(body);
+                    ServerWebExchange replayable = exchange.mutate().request(new CachedBodyRequest(exchange.getRequest(), body)).build();
+                    return find(key).flatMap(stored -> stored.isPresent()
+                            ? replay(replayable, stored.get(), requestHash)
+                            : executeOnce(key, requestHash, replayable, chain));
+                });
+    }
+
+    /**
+     * Executa a requisição uma única vez por chave. Se outra requisição com a mesma chave já estiver em
+     * andamento, aguarda o resultado dela.
+     *
+     * @param key         chave de idempotência qualificada.
+     * @param requestHash hash do corpo da requisição atual.
+     * @param exchange    troca HTTP atual, com o corpo da requisição já lido.
+     * @param chain       cadeia de filtros.
+     * @return Mono que completa após a escrita da resposta.
+     */
+    private Mono<Void> executeOnce(String key, String requestHash, ServerWebExchange exchange, WebFilterChain chain) {
+        Sinks.One<StoredResponse> mine = Sinks.one();
+        Sinks.One<StoredResponse> first = inFlight.putIfAbsent(key, mine);
+        if (first != null) {
+            log.debug("Requisição duplicada em andamento para a chave {}. Aguardando o resultado.", key);
+            return first.asMono()
+                    .map(Optional::of)
+                    .defaultIfEmpty(Optional.empty())
+                    .flatMap(stored -> stored.isPresent()
+                            ? replay(exchange, stored.get(), requestHash)
+                            : filter(exchange, chain));
+        }
+
+        CapturingResponse response = new CapturingResponse(exchange.getResponse());
+        // Nova consulta após registrar a chave, pois outra requisição pode ter concluído entre a busca e o registro
+        return find(key)
+                .flatMap(found -> {
+                    if (found.isPresent()) {
+                        mine.tryEmitValue(found.get());
+                        return replay(exchange, found.get(), requestHash);
+                    }
+                    return chain.filter(exchange.mutate().response(response).build())
+                            .then(Mono.defer(() -> {
+                                StoredResponse stored = response.toStoredResponse(requestHash);
+                                if (stored.statusCode() >= 500) {
+                                    return Mono.empty();
+                                }
+                                return store.save(key, stored)
+                                        .doOnSuccess(ignored -> mine.tryEmitValue(stored));
+                            }));
+                })
+                .doFinally(signal -> {
+                    inFlight.remove(key, mine);
+                    mine.tryEmitEmpty();
+                });
+    }
+
+    /**
+     * Busca a resposta armazenada para a chave. A ausência é emitida como {@link Optional#empty()}, para não ser
+     * confundida com a conclusão (vazia) da escrita de uma resposta.
+     */
+    private Mono<Optional<StoredResponse>> find(String key) {
+        return store.find(key)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty());
+    }
+
+    /**
+     * Escreve a resposta armazenada, sem executar o restante da cadeia. Se a chave tiver sido usada com outro corpo,
+     * responde {@code 422 Unprocessable Entity}.
+     *
+     * @param exchange    troca HTTP atual.
+     * @param stored      resposta armazenada.
+     * @param requestHash hash do corpo da requisição atual.
+     * @return Mono que completa após a escrita da resposta.
+     */
+    private Mono<Void> replay(ServerWebExchange exchange, StoredResponse stored, String requestHash) {
+        ServerHttpResponse response = exchange.getResponse();
+        if (stored.requestHash() != null && !stored.requestHash().equals(requestHash)) {
+            log.warn("Chave de idempotência reutilizada com outro corpo de requisição: {}",
+                    exchange.getRequest().getHeaders().getFirst(IDEMPOTENCY_KEY_HEADER));
+            response.setStatusCode(HttpStatus.UNPROCESSABLE_ENTITY);
+            return response.setComplete();
+        }
+        response.setStatusCode(HttpStatusCode.valueOf(stored.statusCode()));
+        if (stored.contentType() != null) {
+            response.getHeaders().setContentType(MediaType.parseMediaType(stored.contentType()));
+        }
+        response.getHeaders().set(IDEMPOTENT_REPLAYED_HEADER, "true");
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(stored.body())));
+    }
+
+    /**
+     * Decorador da resposta que mantém uma cópia do corpo escrito para armazenamento.
+     */
+    private static class CapturingResponse extends ServerHttpResponseDecorator {
+
+        private byte[] body = new byte[0];
+
+        CapturingResponse(ServerHttpResponse delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            return DataBufferUtils.join(Flux.from(body))
+                    .flatMap(buffer -> {
+                        byte[] bytes = new byte[buffer.readableByteCount()];
+                        buffer.read(bytes);
+                        DataBufferUtils.release(buffer);
+                        this.body = bytes;
+                        return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+                    });
+        }
+
+        @Override
+        public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+            return writeWith(Flux.from(body).flatMapSequential(Flux::from));
+        }
+
+        StoredResponse toStoredResponse(String requestHash) {
+            HttpStatusCode status = getStatusCode() != null ? getStatusCode() : HttpStatus.OK;
+            MediaType contentType = getHeaders().getContentType();
+            return new StoredResponse(status.value(), contentType != null ? contentType.toString() : null, body, requestHash);
+        }
+    }
+
+    /**
+     * Decorador da requisição que entrega novamente o corpo já lido para o cálculo do hash.
+     */
+    private static class CachedBodyRequest extends ServerHttpRequestDecorator {
+
+        private final byte[] body;
+
+        CachedBodyRequest(ServerHttpRequest delegate, byte[] body) {
+            super(delegate);
+            this.body = body;
+        }
+
+        @Override
+        public Flux<DataBuffer> getBody() {
+            return body.length == 0
+                    ? Flux.empty()
+                    : Flux.defer(() -> Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(body)));
+        }
+    }
+
+    private static byte[] readAndRelease(DataBuffer buffer) {
+        byte[] bytes = new byte[buffer.readableByteCount()];
+        buffer.read(bytes);
+        DataBufferUtils.release(buffer);
+        return bytes;
+    }
+
+    private static String sha256(byte[] body) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.app.example.shared.idempotency;
+
+/**
+ * Resposta HTTP armazenada para uma chave de idempotência.
+ *
+ * @param statusCode  código de status HTTP da resposta original
+ * @param contentType tipo de conteúdo da resposta original, se houver
+ * @param body        corpo da resposta original
+ * @param requestHash hash SHA-256, em hexadecimal, do corpo da requisição original
+ *
+ * @author <a href="mailto:agsn10@hotmail.com">Antonio Neto</a>
+ */
+public record StoredResponse(
+        int statusCode,
+        String contentType,
+        byte[] body,
+        String requestHash
+) {}
@@ -1,14 +1,21 @@
 package com.app.example;
 
+import com.app.example.order.domain.dto.BulkOrderStatusDTO;
 import com.app.example.order.domain.dto.CancelOrderDTO;
 import com.app.example.order.domain.dto.CreateOrderDTO;
+import com.app.example.order.domain.dto.FindOrderDetailDTO;
+import com.app.example.order.domain.dto.ListClientOrdersDTO;
 import com.app.example.order.domain.dto.MarkOrderAsPaidDTO;
 import com.app.example.order.domain.dto.ShipOrderDTO;
+import com.app.example.product.application.ppi.ProductPort;
+import com.app.example.product.domain.dto.ChangeStockDTO;
+import com.app.example.product.domain.dto.CreateProductDTO;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.test.web.reactive.server.WebTestClient;
 
 import java.math.BigDecimal;
@@ -19,7 +26,9 @@ import java.util.UUID;
 import static org.assertj.core.api.Assertions.assertThat;
 
 @Tag("integration") // Permite rodar testes com: mvn test -Dgroups=integration
-@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+// Sem a consolidação periódica, o pedido logo após uma reposição depende da consolidação feita pela própria reserva
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "app.product.ledger.compact-interval=1h")
 @AutoConfigureWebTestClient
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
 public class OrderApiTest {
@@ -27,6 +36,12 @@ public class OrderApiTest {
     @Autowired
     private WebTestClient webTestClient;
 
+    @Autowired
+    private ProductPort productPort;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
     private static final String BASE_URL = "/api/orders";
 
     @Test
@@ -107,4 +122,228 @@ public class OrderApiTest {
                     assertThat(response.message()).contains("enviado");
                 });*/
     }
+
+    @Test
+    @Order(5)
+    @Timeout(5) // Garante que o teste falhe se demorar mais que 5 segundos
+    @DisplayName("🛠️ Deve devolver a mesma resposta ao repetir a criação com a mesma Idempotency-Key")
+    void shouldReplayOrderCreationWithSameIdempotencyKey() {
+        CreateOrderDTO.Request request = new CreateOrderDTO.Request(
+                UUID.fromString("22222222-2222-2222-2222-222222222222"),
+                List.of(new CreateOrderDTO.Request.ProductQuantity(UUID.fromString("aaaaaaa3-aaaa-aaaa-aaaa-aaaaaaaaaaaa"), 1))
+        );
+        String idempotencyKey = UUID.randomUUID().toString();
+
+        CreateOrderDTO.Response first = webTestClient.post()
+                .uri(BASE_URL)
+                .header("Idempotency-Key", idempotencyKey)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(CreateOrderDTO.Response.class)
+                .returnResult()
+                .getResponseBody();
+
+        webTestClient.post()
+                .uri(BASE_URL)
+                .header("Idempotency-Key", idempotencyKey)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("Idempotent-Replayed", "true")
+                .expectBody(CreateOrderDTO.Response.class)
+                .value(response -> {
+                    assertThat(first).isNotNull();
+                    assertThat(response.id()).isEqualTo(first.id());
+                });
+    }
+
+    @Test
+    @Order(5)
+    @Timeout(5) // Garante que o teste falhe se demorar mais que 5 segundos
+    @DisplayName("🛠️ Deve rejeitar a reutilização da Idempotency-Key com outro corpo de requisição")
+    void shouldRejectIdempotencyKeyReusedWithDifferentBody() {
+        String idempotencyKey = UUID.randomUUID().toString();
+
+        webTestClient.post()
+                .uri(BASE_URL)
+                .header("Idempotency-Key", idempotencyKey)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new CreateOrderDTO.Request(
+                        UUID.fromString("22222222-2222-2222-2222-222222222222"),
+                        List.of(new CreateOrderDTO.Request.ProductQuantity(UUID.fromString("aaaaaaa3-aaaa-aaaa-aaaa-aaaaaaaaaaaa"), 1))))
+                .exchange()
+                .expectStatus().isOk();
+
+        webTestClient.post()
+                .uri(BASE_URL)
+                .header("Idempotency-Key", idempotencyKey)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new CreateOrderDTO.Request(
+                        UUID.fromString("22222222-2222-2222-2222-222222222222"),
+                        List.of(new CreateOrderDTO.Request.ProductQuantity(UUID.fromString("aaaaaaa3-aaaa-aaaa-aaaa-aaaaaaaaaaaa"), 2))))
+                .exchange()
+                .expectStatus().isEqualTo(422);
+    }
+
+    @Test
+    @Order(6)
+    @Timeout(5) // Garante que o teste falhe se demorar mais que 5 segundos
+    @DisplayName("🛠️ Deve informar o resultado de cada pedido no envio em lote")
+    void shouldReportOutcomePerOrderOnBulkShip() {
+        UUID pendingOrderId = UUID.fromString("ddddddd2-dddd-dddd-dddd-dddddddddddd");
+        UUID unknownOrderId = UUID.randomUUID();
+
+        webTestClient.post()
+                .uri(BASE_URL + "/bulk/ship")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .bodyValue(List.of(pendingOrderId, unknownOrderId))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(BulkOrderStatusDTO.Response.class)
+                .value(responses -> {
+                    assertThat(responses).hasSize(2);
+                    assertThat(responses.get(0).orderId()).isEqualTo(pendingOrderId);
+                    assertThat(responses.get(0).outcome()).isEqualTo("WRONG_STATE");
+                    assertThat(responses.get(0).status()).isEqualTo("PENDING");
+                    assertThat(responses.get(1).orderId()).isEqualTo(unknownOrderId);
+                    assertThat(responses.get(1).outcome()).isEqualTo("NOT_FOUND");
+                });
+    }
+
+    @Test
+    @Order(7)
+    @Timeout(5) // Garante que o teste falhe se demorar mais que 5 segundos
+    @DisplayName("🛠️ Deve listar o histórico de pedidos do cliente respeitando o tamanho da página")
+    void shouldListClientOrdersWithCursor() {
+        webTestClient.get()
+                .uri("/api/clients/11111111-1111-1111-1111-111111111111/orders?limit=1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(ListClientOrdersDTO.Response.class)
+                .value(responses -> {
+                    assertThat(responses).hasSize(1);
+                    assertThat(responses.get(0).cursor()).isNotBlank();
+                });
+    }
+
+    @Test
+    @Order(8)
+    @Timeout(5) // Garante que o teste falhe se demorar mais que 5 segundos
+    @DisplayName("🛠️ Deve consultar um pedido com os seus itens")
+    void shouldFindOrderDetailWithItems() {
+        UUID orderId = UUID.fromString("ddddddd1-dddd-dddd-dddd-dddddddddddd");
+
+        webTestClient.get()
+                .uri(BASE_URL + "/" + orderId)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(FindOrderDetailDTO.Response.class)
+                .value(response -> {
+                    assertThat(response.id()).isEqualTo(orderId);
+                    assertThat(response.items()).isNotEmpty();
+                    assertThat(response.items()).allSatisfy(item -> assertThat(item.productId()).isNotNull());
+                });
+    }
+
+    @Test
+    @Order(9)
+    @Timeout(5) // Garante que o teste falhe se demorar mais que 5 segundos
+    @DisplayName("🛠️ Deve responder 404 ao alterar o status de um pedido inexistente")
+    void shouldReturnNotFoundForUnknownOrder() {
+        webTestClient.patch()
+                .uri(BASE_URL + "/" + UUID.randomUUID() + "/ship")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.title").isEqualTo("Pedido não encontrado");
+    }
+
+    @Test
+    @Order(10)
+    @Timeout(5) // Garante que o teste falhe se demorar mais que 5 segundos
+    @DisplayName("🛠️ Deve responder 409 ao cancelar um pedido já cancelado")
+    void shouldReturnConflictWhenCancelingCanceledOrder() {
+        // Cancelado em shouldCancelOrder
+        String orderId = "ddddddd1-dddd-dddd-dddd-dddddddddddd";
+
+        webTestClient.post()
+                .uri(BASE_URL + "/" + orderId + "/cancel")
+                .exchange()
+                .expectStatus().isEqualTo(409)
+                .expectBody()
+                .jsonPath("$.title").isEqualTo("Transição de status inválida");
+    }
+
+    @Test
+    @Order(11)
+    @Timeout(5) // Garante que o teste falhe se demorar mais que 5 segundos
+    @DisplayName("🛠️ Deve recusar o envio de um pedido que ainda não foi pago")
+    void shouldRejectShippingUnpaidOrder() {
+        String orderId = "ddddddd2-dddd-dddd-dddd-dddddddddddd";
+
+        webTestClient.patch()
+                .uri(BASE_URL + "/" + orderId + "/ship")
+                .exchange()
+                .expectStatus().isEqualTo(409)
+                .expectBody()
+                .jsonPath("$.title").isEqualTo("Transição de status inválida");
+
+        webTestClient.get()
+                .uri(BASE_URL + "/" + orderId)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(FindOrderDetailDTO.Response.class)
+                .value(response -> assertThat(response.status()).isEqualTo("PENDING"));
+    }
+
+    @Test
+    @Order(12)
+    @Timeout(5) // Garante que o teste falhe se demorar mais que 5 segundos
+    @DisplayName("🛠️ Deve aceitar o pedido logo após a reposição de um produto esgotado")
+    void shouldCreateOrderRightAfterRestock() {
+        String productId = productPort.create(new CreateProductDTO.Request(
+                        "Produto Esgotado", "Reposto antes do pedido", BigDecimal.TEN, 0, "Reposição"))
+                .block()
+                .id();
+        ChangeStockDTO.Response restocked = productPort.changeStock(new ChangeStockDTO.Request(productId, -5)).block();
+        assertThat(restocked.newStock()).isEqualTo(5);
+
+        CreateOrderDTO.Request request = new CreateOrderDTO.Request(
+                UUID.fromString("11111111-1111-1111-1111-111111111111"),
+                List.of(new CreateOrderDTO.Request.ProductQuantity(UUID.fromString(productId), 5))
+        );
+        webTestClient.post()
+                .uri(BASE_URL)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(CreateOrderDTO.Response.class)
+                .value(response -> assertThat(response.id()).isNotNull());
+
+        // A reposição foi consolidada pela reserva e todo o saldo foi baixado
+        Long pending = databaseClient.sql("""
+                        SELECT count(*) AS pending FROM inventory_movements
+                        WHERE product_id = :productId AND compacted_at IS NULL
+                        """)
+                .bind("productId", UUID.fromString(productId))
+                .map(row -> row.get("pending", Long.class))
+                .one()
+                .block();
+        assertThat(pending).isZero();
+        webTestClient.post()
+                .uri(BASE_URL)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new CreateOrderDTO.Request(request.clientId(),
+                        List.of(new CreateOrderDTO.Request.ProductQuantity(UUID.fromString(productId), 1))))
+                .exchange()
+                .expectStatus().isEqualTo(409)
+                .expectBody()
+                .jsonPath("$.title").isEqualTo("Estoque insuficiente")
+                .jsonPath("$.detail").value(detail -> assertThat(detail.toString()).contains(productId));
+    }
 }
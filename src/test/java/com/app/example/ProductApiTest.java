@@ -1,15 +1,28 @@
 package com.app.example;
 
+import com.app.example.product.domain.dto.AdjustStockBatchDTO;
 import com.app.example.product.domain.dto.CreateProductDTO;
+import com.app.example.product.domain.dto.ImportProductsDTO;
 import com.app.example.product.domain.dto.ListByCategoryProductDTO;
+import com.app.example.product.domain.dto.ReserveStockDTO;
+import com.app.example.product.domain.dto.SearchProductDTO;
+import com.app.example.product.domain.dto.SplitStockDTO;
+import com.app.example.product.domain.dto.SuggestProductDTO;
+import com.app.example.product.application.ppi.ProductPort;
+import com.app.example.product.infra.repository.ProductRepository;
+import com.app.example.shared.exception.InsufficientStockException;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.test.StepVerifier;
 
 import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
 
 /**
  * Classe de testes para a API de produtos.
@@ -23,6 +36,15 @@ public class ProductApiTest {
     @Autowired
     private WebTestClient webTestClient;
 
+    @Autowired
+    private ProductPort productPort;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
     private static final String CATEGORY = "Tecnologia";
 
     /**
@@ -69,4 +91,260 @@ public class ProductApiTest {
                     Assertions.assertEquals(CATEGORY, products.get(0).category());
                 });
     }
-}
\ No newline at end of file
+
+    /**
+     * Testa a transmissão NDJSON dos produtos de uma categoria e a paginação por cursor: após o único produto da
+     * categoria, não há próxima página.
+     */
+    @Test
+    @Order(2)
+    @Timeout(5) // Garante que o teste falhe se demorar mais que 5 segundos
+    @DisplayName("🛠️ Deve transmitir produtos por categoria em NDJSON")
+    void deveTransmitirProdutosPorCategoria() {
+        ListByCategoryProductDTO.Response product = webTestClient.get()
+                .uri("/api/products/category/{category}/stream", CATEGORY)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBodyList(ListByCategoryProductDTO.Response.class)
+                .hasSize(1)
+                .returnResult()
+                .getResponseBody()
+                .get(0);
+
+        webTestClient.get()
+                .uri("/api/products/category/{category}?after={after}&limit=10", CATEGORY, product.id())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(ListByCategoryProductDTO.Response.class)
+                .hasSize(0);
+    }
+
+    /**
+     * Testa a busca textual de produtos: o termo no plural encontra o produto pela descrição, e o filtro de preço
+     * o exclui.
+     */
+    @Test
+    @Order(2)
+    @Timeout(5) // Garante que o teste falhe se demorar mais que 5 segundos
+    @DisplayName("🛠️ Deve buscar produtos pelo nome e pela descrição")
+    void deveBuscarProdutos() {
+        webTestClient.get()
+                .uri("/api/products/search?q={q}&category={category}&inStock=true", "notebook ultrafinos", CATEGORY)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(SearchProductDTO.Response.class)
+                .hasSize(1)
+                .value(products -> {
+                    Assertions.assertEquals("Notebook Dell XPS", products.get(0).name());
+                    Assertions.assertNotNull(products.get(0).cursor());
+                });
+
+        webTestClient.get()
+                .uri("/api/products/search?q={q}&maxPrice=1000", "notebook ultrafinos")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(SearchProductDTO.Response.class)
+                .hasSize(0);
+    }
+
+    /**
+     * Testa a sugestão de produtos pelo início de uma palavra do nome, ignorando maiúsculas.
+     */
+    @Test
+    @Order(2)
+    @Timeout(5) // Garante que o teste falhe se demorar mais que 5 segundos
+    @DisplayName("🛠️ Deve sugerir produtos pelo início de uma palavra do nome")
+    void deveSugerirProdutos() {
+        webTestClient.get()
+                .uri("/api/products/suggest?q={q}", "XP")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(SuggestProductDTO.Response.class)
+                .hasSize(1)
+                .value(products -> Assertions.assertEquals("Notebook Dell XPS", products.get(0).name()));
+    }
+
+    /**
+     * Testa a divisão do estoque de um produto em buckets: o estoque total é preservado.
+     */
+    @Test
+    @Order(3)
+    @Timeout(5) // Garante que o teste falhe se demorar mais que 5 segundos
+    @DisplayName("🛠️ Deve dividir o estoque de um produto em buckets")
+    void deveDividirEstoqueEmBuckets() {
+        ListByCategoryProductDTO.Response product = webTestClient.get()
+                .uri("/api/products/category/{category}", CATEGORY)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(ListByCategoryProductDTO.Response.class)
+                .returnResult()
+                .getResponseBody()
+                .get(0);
+
+        webTestClient.post()
+                .uri("/api/products/stock/buckets")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new SplitStockDTO.Request(product.id().toString(), 4))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(SplitStockDTO.Response.class)
+                .value(response -> {
+                    Assertions.assertEquals(50, response.totalStock());
+                    Assertions.assertEquals(4, response.buckets().size());
+                    Assertions.assertEquals(50, response.buckets().stream().mapToInt(SplitStockDTO.Response.Bucket::quantity).sum());
+                });
+    }
+
+    /**
+     * Testa a importação de produtos em lote: a linha válida é gravada e a inválida é rejeitada com o seu número.
+     */
+    @Test
+    @Order(4)
+    @Timeout(5) // Garante que o teste falhe se demorar mais que 5 segundos
+    @DisplayName("🛠️ Deve importar produtos em lote e rejeitar linhas inválidas")
+    void deveImportarProdutosEmLote() {
+        String body = """
+                {"name":"Monitor UltraWide","description":"Monitor 34 polegadas","price":2499.90,"stockQuantity":10,"category":"Importados"}
+                {"name":"","description":"Sem nome","price":10,"stockQuantity":1,"category":"Importados"}
+                """;
+
+        webTestClient.post()
+                .uri("/api/products/import")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .bodyValue(body)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(ImportProductsDTO.Response.class)
+                .value(report -> {
+                    Assertions.assertEquals(2, report.totalRows());
+                    Assertions.assertEquals(1, report.importedRows());
+                    Assertions.assertEquals(1, report.rejectedRows());
+                    Assertions.assertEquals(2, report.errors().get(0).line());
+                });
+    }
+
+    /**
+     * Testa o ajuste de estoque em lote: os ajustes do mesmo produto são somados, o produto inexistente é informado e
+     * o produto cuja soma das variações excede os limites do estoque é rejeitado.
+     * A reposição do produto dividido em buckets é somada aos buckets e pode ser reservada por inteiro.
+     */
+    @Test
+    @Order(5)
+    @Timeout(5) // Garante que o teste falhe se demorar mais que 5 segundos
+    @DisplayName("🛠️ Deve ajustar o estoque de vários produtos em lote")
+    void deveAjustarEstoqueEmLote() {
+        ListByCategoryProductDTO.Response product = webTestClient.get()
+                .uri("/api/products/category/{category}", CATEGORY)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(ListByCategoryProductDTO.Response.class)
+                .returnResult()
+                .getResponseBody()
+                .get(0);
+        UUID unknown = UUID.randomUUID();
+        UUID overflowing = UUID.randomUUID();
+        int rowBefore = rowStock(product.id());
+        int bucketsBefore = bucketsStock(product.id());
+
+        webTestClient.post()
+                .uri("/api/products/stock/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(List.of(
+                        new AdjustStockBatchDTO.Item(product.id(), 10),
+                        new AdjustStockBatchDTO.Item(product.id(), -4),
+                        new AdjustStockBatchDTO.Item(unknown, 5),
+                        new AdjustStockBatchDTO.Item(overflowing, Integer.MAX_VALUE),
+                        new AdjustStockBatchDTO.Item(overflowing, 1)))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(AdjustStockBatchDTO.Response.class)
+                .value(response -> {
+                    Assertions.assertEquals(5, response.totalItems());
+                    Assertions.assertEquals(1, response.adjustedProducts());
+                    Assertions.assertEquals(List.of(unknown), response.unknownProductIds());
+                    Assertions.assertEquals(List.of(overflowing), response.rejectedProductIds());
+                    Assertions.assertTrue(response.failedProductIds().isEmpty());
+                });
+
+        Assertions.assertEquals(rowBefore, rowStock(product.id()));
+        Assertions.assertEquals(bucketsBefore + 6, bucketsStock(product.id()));
+        StepVerifier.create(productPort.reserveStock(reservation(product.id(), rowBefore + bucketsBefore + 6)))
+                .expectNextCount(1)
+                .verifyComplete();
+    }
+
+    /**
+     * Testa as reservas de um produto dividido em buckets: do bucket escolhido, de outro bucket e da soma dos
+     * buckets com o saldo que chegou à linha do produto depois da divisão.
+     */
+    @Test
+    @Order(6)
+    @Timeout(5) // Garante que o teste falhe se demorar mais que 5 segundos
+    @DisplayName("🛠️ Deve reservar o estoque de um produto dividido em buckets")
+    void deveReservarEstoqueDeProdutoEmBuckets() {
+        UUID productId = bucketedProductId();
+        // Buckets com 2, 0, 0 e 20 unidades e 5 unidades gravadas na linha do produto após a divisão
+        databaseClient.sql("""
+                        UPDATE product_stock_buckets
+                        SET quantity = CASE bucket WHEN 0 THEN 2 WHEN 3 THEN 20 ELSE 0 END
+                        WHERE product_id = :productId
+                        """)
+                .bind("productId", productId)
+                .then()
+                .then(databaseClient.sql("UPDATE products SET stock_quantity = 5 WHERE id = :productId")
+                        .bind("productId", productId)
+                        .then())
+                .block();
+
+        // Outro bucket livre com saldo suficiente
+        StepVerifier.create(productRepository.reserveFromAnyBucket(productId, 15))
+                .expectNext(5)
+                .verifyComplete();
+        // Nenhum bucket isolado com saldo suficiente: soma a linha do produto (5) e os buckets (2 + 5)
+        StepVerifier.create(productRepository.reserveAcrossBuckets(productId, 10).collectList())
+                .assertNext(updated -> Assertions.assertFalse(updated.isEmpty()))
+                .verifyComplete();
+        Assertions.assertEquals(0, rowStock(productId));
+        Assertions.assertEquals(2, bucketsStock(productId));
+
+        // Pelo caso de uso: a reserva acima do saldo é rejeitada e a do saldo restante é aceita
+        StepVerifier.create(productPort.reserveStock(reservation(productId, 3)))
+                .verifyError(InsufficientStockException.class);
+        StepVerifier.create(productPort.reserveStock(reservation(productId, 2)))
+                .expectNextCount(1)
+                .verifyComplete();
+        Assertions.assertEquals(0, bucketsStock(productId));
+    }
+
+    /**
+     * Retorna o produto dividido em buckets por {@link #deveDividirEstoqueEmBuckets()}.
+     */
+    private UUID bucketedProductId() {
+        return databaseClient.sql("SELECT DISTINCT product_id FROM product_stock_buckets LIMIT 1")
+                .map(row -> row.get("product_id", UUID.class))
+                .one()
+                .block();
+    }
+
+    private int rowStock(UUID productId) {
+        return databaseClient.sql("SELECT stock_quantity FROM products WHERE id = :productId")
+                .bind("productId", productId)
+                .map(row -> row.get("stock_quantity", Integer.class))
+                .one()
+                .block();
+    }
+
+    private int bucketsStock(UUID productId) {
+        return databaseClient.sql("SELECT CAST(SUM(quantity) AS integer) AS total FROM product_stock_buckets WHERE product_id = :productId")
+                .bind("productId", productId)
+                .map(row -> row.get("total", Integer.class))
+                .one()
+                .block();
+    }
+
+    private static ReserveStockDTO.Request reservation(UUID productId, int quantity) {
+        return new ReserveStockDTO.Request(List.of(new ReserveStockDTO.Request.ProductQuantity(productId.toString(), quantity)));
+    }
+}
@@ -0,0 +1,128 @@
+package com.app.example.order.application.usecase;
+
+import com.app.example.order.application.command.CreateOrderCommand;
+import com.app.example.order.domain.po.OrderPO;
+import com.app.example.order.infra.config.OrderIntakeProperties;
+import com.app.example.order.infra.repository.OrderPersistenceAdapter;
+import com.app.example.product.application.ppi.ProductPort;
+import com.app.example.product.domain.dto.GetStocksDTO;
+import com.app.example.shared.usecase.IUseCase;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Testes do estágio de entrada de pedidos em lote, com o estoque e a gravação simulados.
+ */
+class OrderIntakeUseCaseTest {
+
+    private static final UUID PRODUCT_ID = UUID.randomUUID();
+
+    @SuppressWarnings("unchecked")
+    private final IUseCase<CreateOrderCommand.Input, Mono<CreateOrderCommand.Output>> createOrderUseCase = mock(IUseCase.class);
+    private final OrderPersistenceAdapter orderPersistenceAdapter = mock(OrderPersistenceAdapter.class);
+    private final ProductPort productPort = mock(ProductPort.class);
+    private final TransactionalOperator transactionalOperator = mock(TransactionalOperator.class);
+    private OrderIntakeUseCase intake;
+
+    @AfterEach
+    void stop() {
+        if (intake != null) {
+            intake.stop();
+        }
+    }
+
+    /**
+     * Pedidos enviados por várias threads ao mesmo tempo são todos criados, em lotes.
+     */
+    @Test
+    @Timeout(10)
+    @DisplayName("🛠️ Deve criar em lotes os pedidos enviados concorrentemente")
+    void deveCriarPedidosConcorrentesEmLotes() {
+        when(productPort.getStocks(any())).thenReturn(Flux.just(
+                new GetStocksDTO.Response(PRODUCT_ID.toString(), 1000, "Produto", "Descrição", BigDecimal.TEN, "Categoria")));
+        when(productPort.reserveStock(any())).thenReturn(Mono.empty());
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(orderPersistenceAdapter.insertWithItems(any(), any())).thenAnswer(invocation -> {
+            OrderPO order = invocation.getArgument(0);
+            order.setId(UUID.randomUUID());
+            return Mono.just(order);
+        });
+        intake = start(properties(16, Duration.ofSeconds(5), 2));
+
+        List<CreateOrderCommand.Output> outputs = Flux.range(0, 200)
+                .flatMap(i -> intake.execute(order()).subscribeOn(Schedulers.parallel()))
+                .collectList()
+                .block();
+
+        Set<UUID> ids = outputs.stream().map(CreateOrderCommand.Output::id).collect(Collectors.toSet());
+        Assertions.assertEquals(200, ids.size());
+        verify(orderPersistenceAdapter, times(200)).insertWithItems(any(), any());
+        verify(productPort, atMost(199)).getStocks(any());
+    }
+
+    /**
+     * Um pedido cujo lote não começa a tempo falha; o que já está em processamento continua aguardando, e falha ao
+     * encerrar a entrada.
+     */
+    @Test
+    @Timeout(10)
+    @DisplayName("🛠️ Deve falhar os pedidos expirados na fila e os pendentes ao encerrar")
+    void deveFalharPedidosExpiradosEPendentesAoEncerrar() {
+        when(productPort.getStocks(any())).thenReturn(Flux.never());
+        intake = start(properties(1, Duration.ofMillis(300), 1));
+
+        Mono<CreateOrderCommand.Output> processing = intake.execute(order()).cache();
+        processing.subscribe(output -> {}, error -> {});
+        StepVerifier.create(intake.execute(order()))
+                .expectErrorMessage("Tempo de espera na fila de entrada de pedidos esgotado")
+                .verify();
+
+        intake.stop();
+        StepVerifier.create(processing)
+                .expectErrorMessage("Entrada de pedidos encerrada")
+                .verify();
+        StepVerifier.create(intake.execute(order()))
+                .expectErrorMessage("Entrada de pedidos encerrada")
+                .verify();
+    }
+
+    private OrderIntakeUseCase start(OrderIntakeProperties properties) {
+        OrderIntakeUseCase useCase = new OrderIntakeUseCase(createOrderUseCase, orderPersistenceAdapter, productPort,
+                mock(ApplicationEventPublisher.class), transactionalOperator, properties, new SimpleMeterRegistry());
+        useCase.start();
+        return useCase;
+    }
+
+    private static OrderIntakeProperties properties(int maxBatchSize, Duration queueTimeout, int concurrency) {
+        return new OrderIntakeProperties(true, maxBatchSize, Duration.ofMillis(20), 4096, concurrency, queueTimeout);
+    }
+
+    private static CreateOrderCommand.Input order() {
+        return new CreateOrderCommand.Input(UUID.randomUUID(),
+                List.of(new CreateOrderCommand.Input.ProductQuantity(PRODUCT_ID, 1)));
+    }
+}
@@ -0,0 +1,232 @@
+package com.app.example.order.infra.cache;
+
+import com.app.example.order.application.command.CancelOrderCommand;
+import com.app.example.order.application.command.FindByIdCommand;
+import com.app.example.order.application.command.MarkOrderAsPaidCommand;
+import com.app.example.order.application.usecase.CancelOrderUseCase;
+import com.app.example.order.application.usecase.FindByIdUseCase;
+import com.app.example.order.application.usecase.MarkOrderAsPaidUseCase;
+import com.app.example.order.application.usecase.helper.OrderStatusTransitionEngine;
+import com.app.example.order.domain.enums.OrderStatusEnum;
+import com.app.example.order.domain.po.OrderPO;
+import com.app.example.order.infra.config.OrderCacheProperties;
+import com.app.example.order.infra.repository.OrderRepository;
+import com.app.example.order.mapper.FindByIdMapper;
+import com.app.example.order.mapper.FindByIdMapperImpl;
+import com.app.example.payment.application.ppi.PaymentPort;
+import com.app.example.payment.domain.dto.GetPaymentDTO;
+import com.app.example.payment.domain.enums.PaymentStatusEnum;
+import com.app.example.product.application.ppi.ProductPort;
+import com.app.example.product.domain.dto.RestoreStockDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.reactive.AbstractReactiveTransactionManager;
+import org.springframework.transaction.reactive.GenericReactiveTransaction;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Testes do cache de resumos de pedidos com as alterações de status, com o banco de dados simulado por um único
+ * pedido em memória e uma transação que guarda o pedido confirmado e o restaura no rollback.
+ */
+class OrderSummaryCacheTest {
+
+    private static final UUID ORDER_ID = UUID.randomUUID();
+
+    private final OrderRepository orderRepository = mock(OrderRepository.class);
+    private final PaymentPort paymentPort = mock(PaymentPort.class);
+    private final ProductPort productPort = mock(ProductPort.class);
+    private final FindByIdMapper findByIdMapper = new FindByIdMapperImpl();
+    private final OrderSummaryCache orderSummaryCache = new OrderSummaryCache(
+            new OrderCacheProperties(true, 100, Duration.ofMinutes(5)), new SimpleMeterRegistry());
+    private final OrderStatusTransitionEngine transitionEngine =
+            new OrderStatusTransitionEngine(orderRepository, orderSummaryCache, findByIdMapper);
+    private final FindByIdUseCase findByIdUseCase = new FindByIdUseCase(orderRepository, findByIdMapper, orderSummaryCache);
+
+    private final TransactionalOperator transactionalOperator = TransactionalOperator.create(new InMemoryTransactionManager());
+
+    private OrderPO stored;
+    private OrderPO committed;
+
+    @BeforeEach
+    void setUp() {
+        stored = order(OrderStatusEnum.PENDING);
+        committed = copy(stored);
+        when(orderRepository.findById(ORDER_ID)).thenAnswer(invocation -> Mono.just(copy(stored)));
+        when(orderRepository.transitionStatus(eq(ORDER_ID), any(), any())).thenAnswer(invocation -> {
+            String target = invocation.getArgument(1);
+            String[] allowedFrom = invocation.getArgument(2);
+            if (!Arrays.asList(allowedFrom).contains(stored.getStatus())) {
+                return Mono.empty();
+            }
+            stored.setStatus(target);
+            return Mono.just(copy(stored));
+        });
+    }
+
+    /**
+     * Depois do pagamento, a leitura devolve o status {@code PAID} sem voltar ao banco de dados.
+     */
+    @Test
+    @DisplayName("🛠️ Deve ler o status pago logo após o pagamento do pedido")
+    void deveLerStatusPagoAposPagamento() {
+        when(paymentPort.getPaymentByOrderId(any())).thenReturn(Mono.just(new GetPaymentDTO.Response(
+                UUID.randomUUID(), ORDER_ID, PaymentStatusEnum.APPROVED.name(), "PIX", BigDecimal.TEN, LocalDateTime.now())));
+        MarkOrderAsPaidUseCase markOrderAsPaidUseCase = new MarkOrderAsPaidUseCase(paymentPort, transitionEngine);
+
+        StepVerifier.create(findByIdUseCase.execute(new FindByIdCommand.Input(ORDER_ID)).map(FindByIdCommand.Output::status))
+                .expectNext(OrderStatusEnum.PENDING.name())
+                .verifyComplete();
+
+        StepVerifier.create(markOrderAsPaidUseCase.execute(new MarkOrderAsPaidCommand.Input(ORDER_ID.toString())))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        StepVerifier.create(findByIdUseCase.execute(new FindByIdCommand.Input(ORDER_ID)).map(FindByIdCommand.Output::status))
+                .expectNext(OrderStatusEnum.PAID.name())
+                .verifyComplete();
+        verify(orderRepository, times(1)).findById(ORDER_ID);
+    }
+
+    /**
+     * Depois do cancelamento, a leitura devolve o status {@code CANCELED} sem voltar ao banco de dados.
+     */
+    @Test
+    @DisplayName("🛠️ Deve ler o status cancelado logo após o cancelamento do pedido")
+    void deveLerStatusCanceladoAposCancelamento() {
+        when(productPort.restoreStock(any())).thenReturn(Mono.just(new RestoreStockDTO.Response(List.of(), "Estoque devolvido com sucesso")));
+        CancelOrderUseCase cancelOrderUseCase = new CancelOrderUseCase(transitionEngine, productPort);
+
+        StepVerifier.create(findByIdUseCase.execute(new FindByIdCommand.Input(ORDER_ID)).map(FindByIdCommand.Output::status))
+                .expectNext(OrderStatusEnum.PENDING.name())
+                .verifyComplete();
+
+        StepVerifier.create(cancelOrderUseCase.execute(new CancelOrderCommand.Input(ORDER_ID.toString())))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        StepVerifier.create(findByIdUseCase.execute(new FindByIdCommand.Input(ORDER_ID)).map(FindByIdCommand.Output::status))
+                .expectNext(OrderStatusEnum.CANCELED.name())
+                .verifyComplete();
+        verify(orderRepository, times(1)).findById(ORDER_ID);
+    }
+
+    /**
+     * Se a devolução do estoque falhar, o cancelamento é desfeito e o status cancelado nunca chega ao cache, de modo
+     * que a leitura seguinte não devolve o status que não foi confirmado.
+     */
+    @Test
+    @DisplayName("🛠️ Deve descartar o status cancelado quando o cancelamento falhar")
+    void deveDescartarStatusCanceladoQuandoCancelamentoFalhar() {
+        when(productPort.restoreStock(any())).thenReturn(Mono.error(new IllegalStateException("falha ao devolver o estoque")));
+        CancelOrderUseCase cancelOrderUseCase = new CancelOrderUseCase(transitionEngine, productPort);
+
+        StepVerifier.create(findByIdUseCase.execute(new FindByIdCommand.Input(ORDER_ID)).map(FindByIdCommand.Output::status))
+                .expectNext(OrderStatusEnum.PENDING.name())
+                .verifyComplete();
+
+        StepVerifier.create(cancelOrderUseCase.execute(new CancelOrderCommand.Input(ORDER_ID.toString()))
+                        .as(transactionalOperator::transactional))
+                .verifyError(IllegalStateException.class);
+
+        StepVerifier.create(findByIdUseCase.execute(new FindByIdCommand.Input(ORDER_ID)).map(FindByIdCommand.Output::status))
+                .expectNext(OrderStatusEnum.PENDING.name())
+                .verifyComplete();
+    }
+
+    /**
+     * Enquanto a transação do pagamento não é confirmada, a leitura continua devolvendo o status confirmado
+     * ({@code PENDING}); após a confirmação, devolve {@code PAID} sem voltar ao banco de dados.
+     */
+    @Test
+    @DisplayName("🛠️ Deve atualizar o cache somente após a confirmação da transação")
+    void deveAtualizarCacheSomenteAposConfirmacao() {
+        when(paymentPort.getPaymentByOrderId(any())).thenReturn(Mono.just(new GetPaymentDTO.Response(
+                UUID.randomUUID(), ORDER_ID, PaymentStatusEnum.APPROVED.name(), "PIX", BigDecimal.TEN, LocalDateTime.now())));
+        MarkOrderAsPaidUseCase markOrderAsPaidUseCase = new MarkOrderAsPaidUseCase(paymentPort, transitionEngine);
+
+        StepVerifier.create(findByIdUseCase.execute(new FindByIdCommand.Input(ORDER_ID)).map(FindByIdCommand.Output::status))
+                .expectNext(OrderStatusEnum.PENDING.name())
+                .verifyComplete();
+
+        StepVerifier.create(markOrderAsPaidUseCase.execute(new MarkOrderAsPaidCommand.Input(ORDER_ID.toString()))
+                        .then(findByIdUseCase.execute(new FindByIdCommand.Input(ORDER_ID)))
+                        .map(FindByIdCommand.Output::status)
+                        .as(transactionalOperator::transactional))
+                .expectNext(OrderStatusEnum.PENDING.name())
+                .verifyComplete();
+
+        StepVerifier.create(findByIdUseCase.execute(new FindByIdCommand.Input(ORDER_ID)).map(FindByIdCommand.Output::status))
+                .expectNext(OrderStatusEnum.PAID.name())
+                .verifyComplete();
+        verify(orderRepository, times(1)).findById(ORDER_ID);
+    }
+
+    private static OrderPO order(OrderStatusEnum status) {
+        OrderPO order = new OrderPO();
+        order.setId(ORDER_ID);
+        order.setClientId(UUID.randomUUID());
+        order.setTotalAmount(BigDecimal.TEN);
+        order.setStatus(status.name());
+        order.setCreatedAt(LocalDateTime.now());
+        return order;
+    }
+
+    private static OrderPO copy(OrderPO source) {
+        OrderPO order = new OrderPO();
+        order.setId(source.getId());
+        order.setClientId(source.getClientId());
+        order.setTotalAmount(source.getTotalAmount());
+        order.setStatus(source.getStatus());
+        order.setCreatedAt(source.getCreatedAt());
+        return order;
+    }
+
+    /**
+     * Gerenciador de transações do pedido em memória: a confirmação guarda o pedido e o rollback o restaura.
+     */
+    private class InMemoryTransactionManager extends AbstractReactiveTransactionManager {
+
+        @Override
+        protected Object doGetTransaction(TransactionSynchronizationManager synchronizationManager) {
+            return new Object();
+        }
+
+        @Override
+        protected Mono<Void> doBegin(TransactionSynchronizationManager synchronizationManager, Object transaction,
+                                     TransactionDefinition definition) {
+            return Mono.empty();
+        }
+
+        @Override
+        protected Mono<Void> doCommit(TransactionSynchronizationManager synchronizationManager,
+                                      GenericReactiveTransaction status) {
+            return Mono.fromRunnable(() -> committed = copy(stored));
+        }
+
+        @Override
+        protected Mono<Void> doRollback(TransactionSynchronizationManager synchronizationManager,
+                                        GenericReactiveTransaction status) {
+            return Mono.fromRunnable(() -> stored = copy(committed));
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.app.example.product.application.usecase.helper;
+
+import com.app.example.product.domain.po.ProductPO;
+import com.app.example.product.infra.config.FlashSaleProperties;
+import com.app.example.product.infra.flashsale.FlashSaleJournal;
+import com.app.example.product.infra.repository.ProductRepository;
+import com.app.example.shared.exception.InsufficientStockException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.reactive.AbstractReactiveTransactionManager;
+import org.springframework.transaction.reactive.GenericReactiveTransaction;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Testes do estoque em memória do modo flash sale, com o banco de dados simulado e o journal em um diretório
+ * temporário.
+ */
+class FlashSaleStockEngineTest {
+
+    private static final UUID PRODUCT_ID = UUID.fromString("aaaaaaa1-aaaa-aaaa-aaaa-aaaaaaaaaaaa");
+
+    @TempDir
+    private Path directory;
+
+    private final ProductRepository productRepository = mock(ProductRepository.class);
+    private final TransactionalOperator transactionalOperator = TransactionalOperator.create(new NoOpTransactionManager());
+    private FlashSaleStockEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        ProductPO product = new ProductPO();
+        product.setId(PRODUCT_ID);
+        product.setStockQuantity(10);
+        when(productRepository.findAllByIds(any())).thenReturn(Flux.just(product));
+        when(productRepository.updateStockQuantity(anyInt(), any())).thenReturn(Mono.just(1));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (engine != null) {
+            engine.stop();
+        }
+    }
+
+    /**
+     * As variações do journal posteriores ao último checkpoint são aplicadas ao banco na inicialização, e o journal
+     * recebe um checkpoint em seguida.
+     */
+    @Test
+    @DisplayName("🛠️ Deve aplicar ao banco as variações do journal na inicialização")
+    void deveAplicarVariacoesDoJournalNaInicializacao() throws IOException {
+        try (FlashSaleJournal journal = new FlashSaleJournal(journal(), 0, (sequence, deltas) -> {})) {
+            journal.append(Map.of(PRODUCT_ID, 3)).join();
+        }
+
+        engine = start();
+
+        verify(productRepository).updateStockQuantity(3, PRODUCT_ID);
+        assertThat(engine.available(PRODUCT_ID)).isEqualTo(10);
+        assertThat(FlashSaleJournal.recover(journal()).unflushed()).isEmpty();
+    }
+
+    /**
+     * As reservas baixam o saldo em memória, são recusadas sem saldo e são gravadas no banco na parada.
+     */
+    @Test
+    @DisplayName("🛠️ Deve gravar no banco as reservas feitas em memória")
+    void deveGravarReservasNoBanco() throws IOException {
+        engine = start();
+
+        StepVerifier.create(engine.reserve(Map.of(PRODUCT_ID, 4)))
+                .expectNext(Map.of(PRODUCT_ID, 6L))
+                .verifyComplete();
+        StepVerifier.create(engine.reserve(Map.of(PRODUCT_ID, 7)))
+                .verifyError(InsufficientStockException.class);
+        assertThat(engine.available(PRODUCT_ID)).isEqualTo(6);
+
+        engine.stop();
+        engine = null;
+
+        verify(productRepository).updateStockQuantity(4, PRODUCT_ID);
+        assertThat(FlashSaleJournal.recover(journal()).unflushed()).isEmpty();
+    }
+
+    /**
+     * Uma reserva feita em uma transação desfeita é devolvida ao saldo em memória, e a devolução fica no journal.
+     */
+    @Test
+    @DisplayName("🛠️ Deve devolver a reserva quando a transação for desfeita")
+    void deveDevolverReservaQuandoTransacaoForDesfeita() throws IOException {
+        engine = start();
+
+        StepVerifier.create(engine.reserve(Map.of(PRODUCT_ID, 4))
+                        .then(Mono.error(new IllegalStateException("falha na gravação do pedido")))
+                        .as(transactionalOperator::transactional))
+                .verifyError(IllegalStateException.class);
+
+        assertThat(engine.available(PRODUCT_ID)).isEqualTo(10);
+        assertThat(FlashSaleJournal.recover(journal()).unflushed()).isEmpty();
+    }
+
+    /**
+     * Uma reserva cuja etapa seguinte falha é devolvida uma única vez, mesmo dentro de uma transação desfeita.
+     */
+    @Test
+    @DisplayName("🛠️ Deve devolver a reserva uma única vez quando a etapa seguinte falhar")
+    void deveDevolverReservaUmaUnicaVez() throws IOException {
+        engine = start();
+
+        StepVerifier.create(engine.reserve(Map.of(PRODUCT_ID, 4),
+                                remaining -> Mono.error(new IllegalStateException("falha na gravação do pedido")))
+                        .as(transactionalOperator::transactional))
+                .verifyError(IllegalStateException.class);
+
+        assertThat(engine.available(PRODUCT_ID)).isEqualTo(10);
+        engine.stop();
+        engine = null;
+        verify(productRepository, never()).updateStockQuantity(anyInt(), any());
+    }
+
+    private FlashSaleStockEngine start() {
+        FlashSaleStockEngine started = new FlashSaleStockEngine(
+                new FlashSaleProperties(true, List.of(PRODUCT_ID), journal(), Duration.ofHours(1)),
+                productRepository, transactionalOperator);
+        started.start();
+        return started;
+    }
+
+    private Path journal() {
+        return directory.resolve("flash-sale.journal");
+    }
+
+    /**
+     * Gerenciador de transações sem recurso, apenas para acionar as sincronizações de confirmação e de rollback.
+     */
+    private static class NoOpTransactionManager extends AbstractReactiveTransactionManager {
+
+        @Override
+        protected Object doGetTransaction(TransactionSynchronizationManager synchronizationManager) {
+            return new Object();
+        }
+
+        @Override
+        protected Mono<Void> doBegin(TransactionSynchronizationManager synchronizationManager, Object transaction,
+                                     TransactionDefinition definition) {
+            return Mono.empty();
+        }
+
+        @Override
+        protected Mono<Void> doCommit(TransactionSynchronizationManager synchronizationManager,
+                                      GenericReactiveTransaction status) {
+            return Mono.empty();
+        }
+
+        @Override
+        protected Mono<Void> doRollback(TransactionSynchronizationManager synchronizationManager,
+                                        GenericReactiveTransaction status) {
+            return Mono.empty();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.app.example.product.application.usecase.helper;
+
+import com.app.example.product.infra.cache.StockBucketDirectory;
+import com.app.example.product.infra.repository.ProductRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Testes da ordem das tentativas de reserva de um produto com o estoque dividido em buckets, com o banco de dados
+ * simulado. As instruções em si são testadas em {@code ProductApiTest}.
+ */
+class StockBucketReservationTest {
+
+    private static final UUID PRODUCT_ID = UUID.randomUUID();
+
+    private final ProductRepository productRepository = mock(ProductRepository.class);
+    private final StockBucketReservation reservation =
+            new StockBucketReservation(productRepository, mock(StockBucketDirectory.class));
+
+    /**
+     * Com saldo no bucket escolhido, os demais buckets não são consultados.
+     */
+    @Test
+    @DisplayName("🛠️ Deve reservar do bucket escolhido por rodízio")
+    void deveReservarDoBucketEscolhido() {
+        when(productRepository.reserveFromBucket(eq(PRODUCT_ID), anyInt(), eq(3))).thenReturn(Mono.just(9));
+        when(productRepository.findEffectiveStock(PRODUCT_ID)).thenReturn(Mono.just(40));
+
+        StepVerifier.create(reservation.reserve(PRODUCT_ID, 3))
+                .expectNext(40)
+                .verifyComplete();
+        verify(productRepository, never()).reserveFromAnyBucket(PRODUCT_ID, 3);
+        verify(productRepository, never()).reserveAcrossBuckets(PRODUCT_ID, 3);
+    }
+
+    /**
+     * Sem saldo no bucket escolhido, a reserva usa outro bucket livre com saldo suficiente.
+     */
+    @Test
+    @DisplayName("🛠️ Deve reservar de outro bucket quando o escolhido não tiver saldo")
+    void deveReservarDeOutroBucket() {
+        when(productRepository.reserveFromBucket(eq(PRODUCT_ID), anyInt(), eq(3))).thenReturn(Mono.empty());
+        when(productRepository.reserveFromAnyBucket(PRODUCT_ID, 3)).thenReturn(Mono.just(5));
+        when(productRepository.findEffectiveStock(PRODUCT_ID)).thenReturn(Mono.just(20));
+
+        StepVerifier.create(reservation.reserve(PRODUCT_ID, 3))
+                .expectNext(20)
+                .verifyComplete();
+        verify(productRepository, never()).reserveAcrossBuckets(PRODUCT_ID, 3);
+    }
+
+    /**
+     * Sem um bucket isolado com saldo suficiente, a reserva soma os saldos; sem saldo na soma, termina vazia.
+     */
+    @Test
+    @DisplayName("🛠️ Deve somar os saldos quando nenhum bucket isolado for suficiente")
+    void deveSomarSaldosDosBuckets() {
+        when(productRepository.reserveFromBucket(eq(PRODUCT_ID), anyInt(), anyInt())).thenReturn(Mono.empty());
+        when(productRepository.reserveFromAnyBucket(eq(PRODUCT_ID), anyInt())).thenReturn(Mono.empty());
+        when(productRepository.reserveAcrossBuckets(PRODUCT_ID, 30)).thenReturn(Flux.just(0, 0, 4));
+        when(productRepository.reserveAcrossBuckets(PRODUCT_ID, 50)).thenReturn(Flux.empty());
+        when(productRepository.findEffectiveStock(PRODUCT_ID)).thenReturn(Mono.just(4));
+
+        StepVerifier.create(reservation.reserve(PRODUCT_ID, 30))
+                .expectNext(4)
+                .verifyComplete();
+        StepVerifier.create(reservation.reserve(PRODUCT_ID, 50))
+                .verifyComplete();
+    }
+}
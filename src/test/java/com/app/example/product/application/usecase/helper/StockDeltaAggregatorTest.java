@@ -0,0 +1,134 @@
+package com.app.example.product.application.usecase.helper;
+
+import com.app.example.product.domain.enums.InventoryMovementReasonEnum;
+import com.app.example.product.domain.po.StockAdjustmentPO;
+import com.app.example.product.infra.config.StockWriteBehindProperties;
+import com.app.example.product.infra.repository.ProductRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Testes da gravação agrupada de estoque, com o banco de dados e o registro de movimentações simulados.
+ */
+class StockDeltaAggregatorTest {
+
+    private static final UUID PRODUCT_ID = UUID.randomUUID();
+
+    private final ProductRepository productRepository = mock(ProductRepository.class);
+    private final InventoryLedger inventoryLedger = mock(InventoryLedger.class);
+    private final TransactionalOperator transactionalOperator = mock(TransactionalOperator.class);
+    private StockDeltaAggregator aggregator;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(productRepository.applyStockDeltas(any(), any())).thenAnswer(invocation -> {
+            UUID[] ids = invocation.getArgument(0);
+            Integer[] deltas = invocation.getArgument(1);
+            StockAdjustmentPO adjustment = new StockAdjustmentPO();
+            adjustment.setProductId(ids[0]);
+            adjustment.setQuantity(deltas[0]);
+            adjustment.setStockQuantity(100 - deltas[0]);
+            return Flux.just(adjustment);
+        });
+    }
+
+    @AfterEach
+    void stop() {
+        if (aggregator != null) {
+            aggregator.stop();
+        }
+    }
+
+    /**
+     * Alterações concorrentes do mesmo produto são gravadas com uma única instrução e registradas uma única vez,
+     * somadas, na transação do lote.
+     */
+    @Test
+    @Timeout(10)
+    @DisplayName("🛠️ Deve gravar e registrar em um único lote as alterações concorrentes")
+    void deveGravarAlteracoesConcorrentesEmLote() {
+        when(inventoryLedger.record(any(), any(), any())).thenReturn(Mono.empty());
+        aggregator = start(properties(64, Duration.ofMillis(200)));
+
+        List<Integer> stocks = Flux.range(0, 10)
+                .flatMap(i -> aggregator.submit(PRODUCT_ID, 2, InventoryMovementReasonEnum.ADJUSTMENT)
+                        .subscribeOn(Schedulers.parallel()))
+                .collectList()
+                .block();
+
+        assertThat(stocks).hasSize(10).containsOnly(80);
+        verify(productRepository, times(1)).applyStockDeltas(any(), any());
+        verify(inventoryLedger).record(eq(Map.of(PRODUCT_ID, -20)), eq(InventoryMovementReasonEnum.ADJUSTMENT), isNull());
+    }
+
+    /**
+     * Se o registro da movimentação falhar, a transação do lote é desfeita e o chamador recebe o erro, em vez de uma
+     * baixa confirmada sem registro.
+     */
+    @Test
+    @Timeout(10)
+    @DisplayName("🛠️ Deve entregar o erro ao chamador quando o registro da movimentação falhar")
+    void deveFalharQuandoRegistroFalhar() {
+        when(inventoryLedger.record(any(), any(), any())).thenReturn(Mono.error(new IllegalStateException("falha no registro")));
+        aggregator = start(properties(64, Duration.ofMillis(10)));
+
+        StepVerifier.create(aggregator.submit(PRODUCT_ID, 2, InventoryMovementReasonEnum.ADJUSTMENT))
+                .verifyErrorMessage("falha no registro");
+    }
+
+    /**
+     * Ao encerrar, as alterações ainda na fila recebem um erro em vez de aguardarem indefinidamente.
+     */
+    @Test
+    @Timeout(10)
+    @DisplayName("🛠️ Deve entregar um erro às alterações pendentes ao encerrar")
+    void deveFalharAlteracoesPendentesAoEncerrar() {
+        aggregator = start(properties(64, Duration.ofHours(1)));
+
+        Mono<Integer> pending = aggregator.submit(PRODUCT_ID, 2, InventoryMovementReasonEnum.ADJUSTMENT).cache();
+        pending.subscribe(stock -> {}, error -> {});
+        aggregator.stop();
+
+        StepVerifier.create(pending)
+                .verifyErrorMessage("Gravação agrupada de estoque encerrada");
+        StepVerifier.create(aggregator.submit(PRODUCT_ID, 2, InventoryMovementReasonEnum.ADJUSTMENT))
+                .verifyErrorMessage("Gravação agrupada de estoque encerrada");
+        verify(productRepository, never()).applyStockDeltas(any(), any());
+    }
+
+    private StockDeltaAggregator start(StockWriteBehindProperties properties) {
+        StockDeltaAggregator started = new StockDeltaAggregator(productRepository, inventoryLedger, transactionalOperator,
+                properties, new SimpleMeterRegistry());
+        started.start();
+        return started;
+    }
+
+    private static StockWriteBehindProperties properties(int maxBatchSize, Duration maxWait) {
+        return new StockWriteBehindProperties(true, maxBatchSize, maxWait, 1024);
+    }
+}
@@ -0,0 +1,101 @@
+package com.app.example.product.infra.cache;
+
+import com.app.example.product.domain.dto.ListByCategoryProductDTO;
+import com.app.example.product.infra.config.CategoryListingCacheProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes da remoção das páginas de produtos por categoria quando o estoque dos seus produtos é alterado.
+ */
+class CategoryListingResponseCacheTest {
+
+    private static final UUID PRODUCT_A = UUID.fromString("aaaaaaa1-aaaa-aaaa-aaaa-aaaaaaaaaaaa");
+    private static final UUID PRODUCT_B = UUID.fromString("aaaaaaa2-aaaa-aaaa-aaaa-aaaaaaaaaaaa");
+    private static final UUID PRODUCT_C = UUID.fromString("aaaaaaa3-aaaa-aaaa-aaaa-aaaaaaaaaaaa");
+    private static final ListByCategoryProductDTO.Request FIRST_PAGE = new ListByCategoryProductDTO.Request("Tecnologia", null, 2);
+    private static final ListByCategoryProductDTO.Request SECOND_PAGE = new ListByCategoryProductDTO.Request("Tecnologia", PRODUCT_B, 2);
+
+    private final CategoryListingResponseCache cache = new CategoryListingResponseCache(
+            new CategoryListingCacheProperties(true, DataSize.ofMegabytes(1), Duration.ofMinutes(10)),
+            new ObjectMapper(), new SimpleMeterRegistry());
+    private final Map<ListByCategoryProductDTO.Request, AtomicInteger> loads = new ConcurrentHashMap<>();
+
+    /**
+     * A alteração do estoque de um produto remove apenas as páginas que o contêm.
+     */
+    @Test
+    @DisplayName("🛠️ Deve remover apenas as páginas que contêm o produto alterado")
+    void deveRemoverApenasPaginasDoProduto() {
+        get(FIRST_PAGE, PRODUCT_A, PRODUCT_B);
+        get(SECOND_PAGE, PRODUCT_C);
+
+        cache.evictProducts(List.of(PRODUCT_A));
+        get(FIRST_PAGE, PRODUCT_A, PRODUCT_B);
+        get(SECOND_PAGE, PRODUCT_C);
+
+        assertThat(loads.get(FIRST_PAGE)).hasValue(2);
+        assertThat(loads.get(SECOND_PAGE)).hasValue(1);
+
+        cache.evictProducts(List.of(PRODUCT_C));
+        get(FIRST_PAGE, PRODUCT_A, PRODUCT_B);
+        get(SECOND_PAGE, PRODUCT_C);
+
+        assertThat(loads.get(FIRST_PAGE)).hasValue(2);
+        assertThat(loads.get(SECOND_PAGE)).hasValue(2);
+    }
+
+    /**
+     * Uma página ainda em carga durante a alteração pode ter lido o estoque anterior e não é mantida no cache.
+     */
+    @Test
+    @DisplayName("🛠️ Deve descartar a página que estava sendo carregada durante a alteração")
+    void deveDescartarPaginaEmCarga() {
+        Sinks.Many<ListByCategoryProductDTO.Response> stale = Sinks.many().unicast().onBackpressureBuffer();
+        StepVerifier.create(cache.get(FIRST_PAGE, key -> {
+                            loads.computeIfAbsent(key, ignored -> new AtomicInteger()).incrementAndGet();
+                            return stale.asFlux();
+                        }))
+                .then(() -> {
+                    cache.evictProducts(List.of(PRODUCT_A));
+                    stale.tryEmitNext(product(PRODUCT_A));
+                    stale.tryEmitComplete();
+                })
+                .expectNextCount(1)
+                .verifyComplete();
+
+        get(FIRST_PAGE, PRODUCT_A);
+
+        assertThat(loads.get(FIRST_PAGE)).hasValue(2);
+    }
+
+    private void get(ListByCategoryProductDTO.Request request, UUID... productIds) {
+        StepVerifier.create(cache.get(request, key -> {
+                            loads.computeIfAbsent(key, ignored -> new AtomicInteger()).incrementAndGet();
+                            return Flux.fromArray(productIds).map(CategoryListingResponseCacheTest::product);
+                        }))
+                .assertNext(json -> assertThat(new String(json, StandardCharsets.UTF_8)).contains(productIds[0].toString()))
+                .verifyComplete();
+    }
+
+    private static ListByCategoryProductDTO.Response product(UUID id) {
+        return new ListByCategoryProductDTO.Response(id, "Produto", "Descrição", BigDecimal.TEN, 5, "Tecnologia");
+    }
+}
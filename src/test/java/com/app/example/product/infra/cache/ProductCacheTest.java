@@ -0,0 +1,117 @@
+package com.app.example.product.infra.cache;
+
+import com.app.example.product.application.commnad.GetStocksCommand;
+import com.app.example.product.application.commnad.ReserveStockCommand;
+import com.app.example.product.application.usecase.GetStocksUseCase;
+import com.app.example.product.application.usecase.ReserveStockUseCase;
+import com.app.example.product.application.usecase.helper.FlashSaleStockEngine;
+import com.app.example.product.application.usecase.helper.InventoryLedger;
+import com.app.example.product.application.usecase.helper.StockBucketReservation;
+import com.app.example.product.domain.po.ProductPO;
+import com.app.example.product.infra.config.CategoryListingCacheProperties;
+import com.app.example.product.infra.config.ProductCacheProperties;
+import com.app.example.product.infra.repository.ProductRepository;
+import com.app.example.product.mapper.GetStocksMapperImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Testes do cache de estoque na consulta em lote usada pela validação dos pedidos, com o banco de dados simulado.
+ */
+class ProductCacheTest {
+
+    private static final UUID PRODUCT_ID = UUID.randomUUID();
+
+    private final ProductRepository productRepository = mock(ProductRepository.class);
+    private final FlashSaleStockEngine flashSaleStockEngine = mock(FlashSaleStockEngine.class);
+    private final StockBucketReservation stockBucketReservation = mock(StockBucketReservation.class);
+    private final InventoryLedger inventoryLedger = mock(InventoryLedger.class);
+    private final TransactionalOperator transactionalOperator = mock(TransactionalOperator.class);
+    private final ProductCache productCache = new ProductCache(
+            new ProductCacheProperties(true, 100, Duration.ofMinutes(10), Duration.ofMinutes(10)),
+            new CategoryListingResponseCache(new CategoryListingCacheProperties(true, DataSize.ofMegabytes(1), Duration.ofMinutes(10)),
+                    new ObjectMapper(), new SimpleMeterRegistry()),
+            new SimpleMeterRegistry());
+    private final GetStocksUseCase getStocksUseCase =
+            new GetStocksUseCase(productRepository, new GetStocksMapperImpl(), flashSaleStockEngine, productCache);
+    private final AtomicInteger stock = new AtomicInteger(10);
+
+    @BeforeEach
+    void setUp() {
+        when(flashSaleStockEngine.overlay(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(inventoryLedger.record(any(), any(), any())).thenReturn(Mono.empty());
+        when(productRepository.findAllByIds(any())).thenAnswer(invocation -> Flux.just(product(stock.get())));
+        when(productRepository.reserveStock(any(), any())).thenAnswer(invocation -> {
+            Integer[] quantities = invocation.getArgument(1);
+            return Flux.just(product(stock.addAndGet(-quantities[0])));
+        });
+    }
+
+    /**
+     * A consulta em lote é atendida pelo cache; a reserva de estoque de um pedido remove o estoque do cache, e a
+     * consulta seguinte já devolve o saldo após a reserva.
+     */
+    @Test
+    @DisplayName("🛠️ Deve devolver o estoque atualizado após a reserva de um pedido")
+    void deveRemoverEstoqueDoCacheNaReserva() {
+        StepVerifier.create(getStocks())
+                .expectNext(10)
+                .verifyComplete();
+        // Alteração feita por outra instância: só é vista após a expiração ou a remoção da entrada
+        stock.set(8);
+        StepVerifier.create(getStocks())
+                .expectNext(10)
+                .verifyComplete();
+        verify(productRepository, times(1)).findAllByIds(any());
+
+        ReserveStockUseCase reserveStockUseCase = new ReserveStockUseCase(productRepository, mock(ApplicationEventPublisher.class),
+                flashSaleStockEngine, stockBucketReservation, inventoryLedger, productCache, transactionalOperator);
+        StepVerifier.create(reserveStockUseCase.execute(new ReserveStockCommand.Input(
+                        List.of(new ReserveStockCommand.Input.ProductQuantity(PRODUCT_ID.toString(), 3)))))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        StepVerifier.create(getStocks())
+                .expectNext(5)
+                .verifyComplete();
+        verify(productRepository, times(2)).findAllByIds(any());
+    }
+
+    private Flux<Integer> getStocks() {
+        return getStocksUseCase.execute(new GetStocksCommand.Input(List.of(PRODUCT_ID.toString())))
+                .map(GetStocksCommand.Output::quantity);
+    }
+
+    private static ProductPO product(int stockQuantity) {
+        ProductPO product = new ProductPO();
+        product.setId(PRODUCT_ID);
+        product.setName("Produto");
+        product.setDescription("Descrição");
+        product.setPrice(BigDecimal.TEN);
+        product.setCategory("Categoria");
+        product.setStockQuantity(stockQuantity);
+        return product;
+    }
+}
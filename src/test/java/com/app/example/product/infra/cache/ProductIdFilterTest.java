@@ -0,0 +1,128 @@
+package com.app.example.product.infra.cache;
+
+import com.app.example.product.infra.config.ProductIdFilterProperties;
+import com.app.example.product.infra.repository.ProductRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Testes do filtro de Bloom dos IDs de produtos, com o banco de dados simulado.
+ */
+class ProductIdFilterTest {
+
+    private final ProductRepository productRepository = mock(ProductRepository.class);
+    private ProductIdFilter filter;
+
+    @AfterEach
+    void tearDown() {
+        if (filter != null) {
+            filter.stop();
+        }
+    }
+
+    /**
+     * Todos os IDs lidos do banco de dados e todos os incluídos por esta instância são respondidos como possivelmente
+     * existentes.
+     */
+    @Test
+    @DisplayName("🛠️ Não deve ter falsos negativos")
+    void naoDeveTerFalsosNegativos() {
+        List<UUID> stored = Stream.generate(UUID::randomUUID).limit(5_000).toList();
+        when(productRepository.findAllIds()).thenReturn(Flux.fromIterable(stored));
+        filter = start(properties(false, Duration.ofHours(1)));
+
+        List<UUID> created = Stream.generate(UUID::randomUUID).limit(1_000).toList();
+        created.forEach(filter::add);
+
+        assertThat(stored).allMatch(filter::mightContain);
+        assertThat(created).allMatch(filter::mightContain);
+    }
+
+    /**
+     * Um produto incluído enquanto o filtro é construído continua no filtro após a troca.
+     */
+    @Test
+    @DisplayName("🛠️ Deve manter o produto incluído durante a construção")
+    void deveManterProdutoIncluidoDuranteConstrucao() {
+        UUID stored = UUID.randomUUID();
+        UUID created = UUID.randomUUID();
+        Sinks.Many<UUID> ids = Sinks.many().unicast().onBackpressureBuffer();
+        when(productRepository.findAllIds()).thenReturn(ids.asFlux());
+        filter = start(properties(true, Duration.ofHours(1)));
+
+        filter.add(created);
+        assertThat(filter.isComplete()).isFalse();
+        ids.tryEmitNext(stored);
+        ids.tryEmitComplete();
+
+        assertThat(filter.isComplete()).isTrue();
+        assertThat(filter.mightContain(stored)).isTrue();
+        assertThat(filter.mightContain(created)).isTrue();
+    }
+
+    /**
+     * Com reconstruções seguidas, cada produto incluído é respondido como possivelmente existente logo após a inclusão,
+     * qualquer que seja o momento da troca do filtro.
+     */
+    @Test
+    @Timeout(30)
+    @DisplayName("🛠️ Não deve perder produtos incluídos durante as reconstruções")
+    void naoDevePerderProdutosIncluidosDuranteReconstrucoes() {
+        Set<UUID> stored = ConcurrentHashMap.newKeySet();
+        when(productRepository.findAllIds()).thenAnswer(invocation -> Flux.defer(() -> Flux.fromIterable(List.copyOf(stored))));
+        filter = start(properties(false, Duration.ofMillis(1)));
+
+        for (int i = 0; i < 5_000; i++) {
+            UUID created = UUID.randomUUID();
+            // A gravação no banco de dados precede a inclusão no filtro
+            stored.add(created);
+            filter.add(created);
+            assertThat(filter.mightContain(created)).isTrue();
+        }
+    }
+
+    /**
+     * Sem {@code authoritative}, a ausência no filtro não é definitiva; um produto encontrado no banco de dados é
+     * incluído no filtro.
+     */
+    @Test
+    @DisplayName("🛠️ Deve incluir no filtro o produto ausente encontrado no banco de dados")
+    void deveIncluirProdutoAusenteEncontradoNoBanco() {
+        when(productRepository.findAllIds()).thenReturn(Flux.empty());
+        filter = start(properties(false, Duration.ofHours(1)));
+        UUID createdElsewhere = UUID.randomUUID();
+
+        assertThat(filter.isComplete()).isFalse();
+        assertThat(filter.mightContain(createdElsewhere)).isFalse();
+
+        filter.recordAbsenceConfirmation(createdElsewhere, true);
+
+        assertThat(filter.mightContain(createdElsewhere)).isTrue();
+    }
+
+    private ProductIdFilter start(ProductIdFilterProperties properties) {
+        ProductIdFilter started = new ProductIdFilter(productRepository, properties, new SimpleMeterRegistry());
+        started.start();
+        return started;
+    }
+
+    private static ProductIdFilterProperties properties(boolean authoritative, Duration refreshInterval) {
+        return new ProductIdFilterProperties(true, 10_000, 0.01, refreshInterval, authoritative);
+    }
+}
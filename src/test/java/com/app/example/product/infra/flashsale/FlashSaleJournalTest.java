@@ -0,0 +1,129 @@
+package com.app.example.product.infra.flashsale;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes da gravação e da recuperação do journal de flash sale.
+ */
+class FlashSaleJournalTest {
+
+    private static final UUID PRODUCT_A = UUID.fromString("aaaaaaa1-aaaa-aaaa-aaaa-aaaaaaaaaaaa");
+    private static final UUID PRODUCT_B = UUID.fromString("aaaaaaa2-aaaa-aaaa-aaaa-aaaaaaaaaaaa");
+
+    @TempDir
+    private Path directory;
+
+    /**
+     * A recuperação soma, por produto, apenas as variações posteriores ao último checkpoint.
+     */
+    @Test
+    @DisplayName("🛠️ Deve recuperar as variações posteriores ao último checkpoint")
+    void deveRecuperarVariacoesPosterioresAoCheckpoint() throws IOException {
+        Path path = directory.resolve("flash-sale.journal");
+        try (FlashSaleJournal journal = new FlashSaleJournal(path, 0, (sequence, deltas) -> {})) {
+            assertThat(journal.append(Map.of(PRODUCT_A, 2, PRODUCT_B, 1)).join()).isEqualTo(1);
+            journal.checkpoint(1).join();
+            assertThat(journal.append(Map.of(PRODUCT_A, 3, PRODUCT_B, 4)).join()).isEqualTo(2);
+            assertThat(journal.append(Map.of(PRODUCT_A, -1, PRODUCT_B, -4)).join()).isEqualTo(3);
+        }
+
+        FlashSaleJournal.Recovery recovery = FlashSaleJournal.recover(path);
+
+        assertThat(recovery.lastSequence()).isEqualTo(3);
+        assertThat(recovery.unflushed()).containsExactly(Map.entry(PRODUCT_A, 2L));
+    }
+
+    /**
+     * Um checkpoint da última sequência reinicia o arquivo; um checkpoint anterior preserva as variações seguintes.
+     */
+    @Test
+    @DisplayName("🛠️ Deve reiniciar o arquivo apenas quando o checkpoint cobrir todas as variações")
+    void deveReiniciarArquivoNoCheckpointDaUltimaSequencia() throws IOException {
+        Path path = directory.resolve("flash-sale.journal");
+        try (FlashSaleJournal journal = new FlashSaleJournal(path, 0, (sequence, deltas) -> {})) {
+            journal.append(Map.of(PRODUCT_A, 1)).join();
+            journal.append(Map.of(PRODUCT_A, 2)).join();
+            journal.checkpoint(1).join();
+
+            assertThat(Files.readAllLines(path)).hasSize(3);
+            assertThat(FlashSaleJournal.recover(path).unflushed()).containsExactly(Map.entry(PRODUCT_A, 2L));
+
+            journal.checkpoint(2).join();
+        }
+
+        List<String> lines = Files.readAllLines(path);
+        assertThat(lines).hasSize(1);
+        assertThat(lines.get(0)).startsWith("C;2;");
+        FlashSaleJournal.Recovery recovery = FlashSaleJournal.recover(path);
+        assertThat(recovery.lastSequence()).isEqualTo(2);
+        assertThat(recovery.unflushed()).isEmpty();
+    }
+
+    /**
+     * Uma última linha cortada durante a escrita é descartada, mesmo que o trecho gravado ainda pareça um registro
+     * válido, e as gravações seguintes continuam legíveis.
+     */
+    @Test
+    @DisplayName("🛠️ Deve descartar a última linha cortada e continuar gravando em uma nova linha")
+    void deveDescartarUltimaLinhaCortada() throws IOException {
+        Path path = directory.resolve("flash-sale.journal");
+        try (FlashSaleJournal journal = new FlashSaleJournal(path, 0, (sequence, deltas) -> {})) {
+            journal.append(Map.of(PRODUCT_A, 12)).join();
+        }
+        // "R;2;<produto>=12;<crc>" cortado em "R;2;<produto>=1"
+        String record = reservationLine(2, PRODUCT_A, 12);
+        Files.writeString(path, record.substring(0, record.indexOf("=12") + 2), StandardOpenOption.APPEND);
+
+        FlashSaleJournal.Recovery recovery = FlashSaleJournal.recover(path);
+
+        assertThat(recovery.lastSequence()).isEqualTo(1);
+        assertThat(recovery.unflushed()).containsExactly(Map.entry(PRODUCT_A, 12L));
+
+        try (FlashSaleJournal journal = new FlashSaleJournal(path, recovery.lastSequence(), (sequence, deltas) -> {})) {
+            assertThat(journal.append(Map.of(PRODUCT_A, 5)).join()).isEqualTo(2);
+        }
+        recovery = FlashSaleJournal.recover(path);
+        assertThat(recovery.lastSequence()).isEqualTo(2);
+        assertThat(recovery.unflushed()).containsExactly(Map.entry(PRODUCT_A, 17L));
+    }
+
+    /**
+     * Uma linha completa com o CRC divergente é ignorada.
+     */
+    @Test
+    @DisplayName("🛠️ Deve ignorar o registro com CRC divergente")
+    void deveIgnorarRegistroComCrcDivergente() throws IOException {
+        Path path = directory.resolve("flash-sale.journal");
+        String record = reservationLine(1, PRODUCT_A, 3);
+        Files.writeString(path, record.replace("=3;", "=9;"), StandardCharsets.UTF_8);
+
+        FlashSaleJournal.Recovery recovery = FlashSaleJournal.recover(path);
+
+        assertThat(recovery.lastSequence()).isZero();
+        assertThat(recovery.unflushed()).isEmpty();
+    }
+
+    /**
+     * Grava uma reserva em um journal separado e devolve a linha correspondente.
+     */
+    private String reservationLine(long sequence, UUID productId, int delta) throws IOException {
+        Path path = directory.resolve("record-" + sequence + ".journal");
+        try (FlashSaleJournal journal = new FlashSaleJournal(path, sequence - 1, (current, deltas) -> {})) {
+            journal.append(Map.of(productId, delta)).join();
+        }
+        return Files.readString(path, StandardCharsets.UTF_8);
+    }
+}